@@ -0,0 +1,89 @@
+package org.example.jmh;
+
+import org.example.LargePojo;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * JMH deserialization and round-trip benchmarks for Jackson, Gson, MessagePack and Protobuf,
+ * all through the shared codecs of {@link SerializerState}.
+ * Decode benchmarks read payloads encoded once per trial with the same null-inclusion config;
+ * round-trip benchmarks encode and decode on every invocation. Protobuf decodes include the
+ * conversion back to POJOs.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+public class DeserializationBenchmark {
+
+    @State(Scope.Benchmark)
+    public static class Payloads {
+        byte[] jackson;
+        byte[] gson;
+        byte[] messagePack;
+        byte[] protobuf;
+
+        @Setup(Level.Trial)
+        public void setUp(SerializerState state) throws IOException {
+            jackson = state.jacksonCodec.encode(state.testData);
+            gson = state.gsonCodec.encode(state.testData);
+            messagePack = state.msgpackCodec.encode(state.testData);
+            protobuf = state.protobufCodec.encode(state.testData);
+        }
+    }
+
+    @Benchmark
+    public List<LargePojo> jacksonDecode(SerializerState state, Payloads payloads) throws IOException {
+        return state.jacksonCodec.decode(payloads.jackson);
+    }
+
+    @Benchmark
+    public List<LargePojo> gsonDecode(SerializerState state, Payloads payloads) throws IOException {
+        return state.gsonCodec.decode(payloads.gson);
+    }
+
+    @Benchmark
+    public List<LargePojo> messagePackDecode(SerializerState state, Payloads payloads) throws IOException {
+        return state.msgpackCodec.decode(payloads.messagePack);
+    }
+
+    @Benchmark
+    public List<LargePojo> protobufDecode(SerializerState state, Payloads payloads) throws IOException {
+        return state.protobufCodec.decode(payloads.protobuf);
+    }
+
+    @Benchmark
+    public List<LargePojo> jacksonRoundTrip(SerializerState state) throws IOException {
+        return state.jacksonCodec.decode(state.jacksonCodec.encode(state.testData));
+    }
+
+    @Benchmark
+    public List<LargePojo> gsonRoundTrip(SerializerState state) throws IOException {
+        return state.gsonCodec.decode(state.gsonCodec.encode(state.testData));
+    }
+
+    @Benchmark
+    public List<LargePojo> messagePackRoundTrip(SerializerState state) throws IOException {
+        return state.msgpackCodec.decode(state.msgpackCodec.encode(state.testData));
+    }
+
+    @Benchmark
+    public List<LargePojo> protobufRoundTrip(SerializerState state) throws IOException {
+        return state.protobufCodec.decode(state.protobufCodec.encode(state.testData));
+    }
+}
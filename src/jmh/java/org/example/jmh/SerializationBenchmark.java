@@ -0,0 +1,69 @@
+package org.example.jmh;
+
+import org.example.util.ProtobufDirectWriter;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * JMH serialization benchmarks for Jackson, Gson, MessagePack and Protobuf.
+ * <p>
+ * The per-format benchmarks encode through the shared codecs of {@link SerializerState};
+ * {@code protobuf} and {@code protobufDirect} are variants that skip the codec.
+ * <p>
+ * Each benchmark returns its result so JMH consumes it through a blackhole,
+ * which prevents dead-code elimination. Scores are reported as ops/s with the
+ * 99.9% confidence interval as score error.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+public class SerializationBenchmark {
+
+    @Benchmark
+    public byte[] jackson(SerializerState state) throws IOException {
+        return state.jacksonCodec.encode(state.testData);
+    }
+
+    @Benchmark
+    public byte[] gson(SerializerState state) throws IOException {
+        return state.gsonCodec.encode(state.testData);
+    }
+
+    @Benchmark
+    public byte[] messagePack(SerializerState state) throws IOException {
+        return state.msgpackCodec.encode(state.testData);
+    }
+
+    /**
+     * Protobuf from the pre-built message, without the POJO conversion. Protobuf has no
+     * null-inclusion switch (proto3 never writes default values), so both parameter values
+     * measure the same encoding.
+     */
+    @Benchmark
+    public byte[] protobuf(SerializerState state) {
+        return state.protobufData.toByteArray();
+    }
+
+    /**
+     * Protobuf starting from the POJOs, including the message conversion.
+     */
+    @Benchmark
+    public byte[] protobufEndToEnd(SerializerState state) throws IOException {
+        return state.protobufCodec.encode(state.testData);
+    }
+
+    @Benchmark
+    public byte[] protobufDirect(SerializerState state) {
+        return ProtobufDirectWriter.writeList(state.testData);
+    }
+}
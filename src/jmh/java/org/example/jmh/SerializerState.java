@@ -0,0 +1,58 @@
+package org.example.jmh;
+
+import org.example.LargePojo;
+import org.example.codec.Codec;
+import org.example.codec.CodecRegistry;
+import org.example.codec.Codecs;
+import org.example.proto.LargePojoProto;
+import org.example.util.ProtobufConverter;
+import org.example.util.TestDataFactory;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.List;
+
+/**
+ * Shared codecs and test data for the JMH benchmarks.
+ * The list codecs come from {@link CodecRegistry#standard(boolean)}, like the headline rows of
+ * {@code SerializationTest}, with the null-inclusion configuration exposed as a JMH parameter
+ * instead of separate test methods. {@link #protobufData} is the pre-built message for the
+ * variant that leaves out the POJO conversion.
+ */
+@State(Scope.Benchmark)
+public class SerializerState {
+
+    public enum NullInclusion {
+        WITH_NULLS,
+        WITHOUT_NULLS
+    }
+
+    @Param({"WITH_NULLS", "WITHOUT_NULLS"})
+    public NullInclusion inclusion;
+
+    @Param({"20"})
+    public int listSize;
+
+    public List<LargePojo> testData;
+    public LargePojoProto.LargePojoList protobufData;
+
+    public Codec<List<LargePojo>> jacksonCodec;
+    public Codec<List<LargePojo>> gsonCodec;
+    public Codec<List<LargePojo>> msgpackCodec;
+    public Codec<List<LargePojo>> protobufCodec;
+
+    @Setup
+    public void setUp() {
+        // Initialize test data
+        testData = TestDataFactory.createPojoList(listSize);
+        protobufData = ProtobufConverter.convertListToProto(testData);
+
+        final CodecRegistry registry = CodecRegistry.standard(inclusion == NullInclusion.WITH_NULLS);
+        jacksonCodec = registry.get(Codecs.JACKSON, Codecs.LARGE_POJO_LIST);
+        gsonCodec = registry.get(Codecs.GSON, Codecs.LARGE_POJO_LIST);
+        msgpackCodec = registry.get(Codecs.MESSAGE_PACK, Codecs.LARGE_POJO_LIST);
+        protobufCodec = registry.get(Codecs.PROTOBUF, Codecs.LARGE_POJO_LIST);
+    }
+}
@@ -0,0 +1,59 @@
+package org.example;
+
+import java.io.Externalizable;
+import java.io.IOException;
+import java.io.ObjectInput;
+import java.io.ObjectOutput;
+
+/**
+ * {@link DeepNestedPojo} with a hand-written {@link Externalizable} form: a presence byte followed by the
+ * non-null fields.
+ */
+public class ExternalizableDeepNestedPojo extends DeepNestedPojo implements Externalizable {
+
+    private static final long serialVersionUID = 1L;
+
+    public ExternalizableDeepNestedPojo() {
+    }
+
+    /**
+     * Shallow copy of {@code source}.
+     */
+    public ExternalizableDeepNestedPojo(DeepNestedPojo source) {
+        super(source.getData(), source.getBlob());
+    }
+
+    @Override
+    public void writeExternal(ObjectOutput out) throws IOException {
+        write(out, this);
+    }
+
+    @Override
+    public void readExternal(ObjectInput in) throws IOException {
+        readFields(in, this);
+    }
+
+    public static void write(ObjectOutput out, DeepNestedPojo pojo) throws IOException {
+        int presence = 0;
+        if (pojo.getData() != null) presence |= 1;
+        if (pojo.getBlob() != null) presence |= 1 << 1;
+
+        out.writeByte(presence);
+        if ((presence & 1) != 0) ExternalizableSupport.writeString(out, pojo.getData());
+        if ((presence & 1 << 1) != 0) ExternalizableSupport.writeBytes(out, pojo.getBlob());
+    }
+
+    /**
+     * Reads a value written by {@link #write} into a plain {@link DeepNestedPojo}.
+     */
+    public static DeepNestedPojo read(ObjectInput in) throws IOException {
+        return readFields(in, new DeepNestedPojo());
+    }
+
+    private static DeepNestedPojo readFields(ObjectInput in, DeepNestedPojo target) throws IOException {
+        final int presence = in.readUnsignedByte();
+        if ((presence & 1) != 0) target.setData(ExternalizableSupport.readString(in));
+        if ((presence & 1 << 1) != 0) target.setBlob(ExternalizableSupport.readBytes(in));
+        return target;
+    }
+}
@@ -0,0 +1,842 @@
+package org.example;
+
+import java.io.Externalizable;
+import java.io.IOException;
+import java.io.ObjectInput;
+import java.io.ObjectOutput;
+
+/**
+ * {@link LargePojo} with a hand-written {@link Externalizable} form: a 200-bit presence mask followed by
+ * the populated fields only, in declaration order.
+ * <p>
+ * Null references and zero or {@code false} primitives are left out, so they cost one bit each.
+ * Nested objects are written inline through {@link ExternalizableNestedPojo#write}, which keeps class
+ * descriptors and object handles out of the stream. Instances compare equal to a {@code LargePojo}
+ * with the same field values.
+ */
+public class ExternalizableLargePojo extends LargePojo implements Externalizable {
+
+    private static final long serialVersionUID = 1L;
+
+    public ExternalizableLargePojo() {
+    }
+
+    /**
+     * Shallow copy of {@code source}.
+     */
+    public ExternalizableLargePojo(LargePojo source) {
+        setRef1(source.getRef1());
+        setRef2(source.getRef2());
+        setRef3(source.getRef3());
+        setRef4(source.getRef4());
+        setRef5(source.getRef5());
+        setRef6(source.getRef6());
+        setRef7(source.getRef7());
+        setRef8(source.getRef8());
+        setRef9(source.getRef9());
+        setRef10(source.getRef10());
+        setRef11(source.getRef11());
+        setRef12(source.getRef12());
+        setRef13(source.getRef13());
+        setRef14(source.getRef14());
+        setRef15(source.getRef15());
+        setRef16(source.getRef16());
+        setRef17(source.getRef17());
+        setRef18(source.getRef18());
+        setRef19(source.getRef19());
+        setRef20(source.getRef20());
+        setField21(source.getField21());
+        setField22(source.getField22());
+        setField23(source.getField23());
+        setField24(source.getField24());
+        setField25(source.getField25());
+        setField26(source.getField26());
+        setField27(source.getField27());
+        setField28(source.getField28());
+        setField29(source.getField29());
+        setField30(source.getField30());
+        setField31(source.getField31());
+        setField32(source.getField32());
+        setField33(source.getField33());
+        setField34(source.getField34());
+        setField35(source.getField35());
+        setField36(source.getField36());
+        setField37(source.getField37());
+        setField38(source.getField38());
+        setField39(source.getField39());
+        setField40(source.getField40());
+        setField41(source.getField41());
+        setField42(source.getField42());
+        setField43(source.getField43());
+        setField44(source.getField44());
+        setField45(source.getField45());
+        setField46(source.getField46());
+        setField47(source.getField47());
+        setField48(source.getField48());
+        setField49(source.getField49());
+        setField50(source.getField50());
+        setField51(source.isField51());
+        setField52(source.isField52());
+        setField53(source.isField53());
+        setField54(source.isField54());
+        setField55(source.isField55());
+        setField56(source.isField56());
+        setField57(source.isField57());
+        setField58(source.isField58());
+        setField59(source.isField59());
+        setField60(source.isField60());
+        setField61(source.getField61());
+        setField62(source.getField62());
+        setField63(source.getField63());
+        setField64(source.getField64());
+        setField65(source.getField65());
+        setField66(source.getField66());
+        setField67(source.getField67());
+        setField68(source.getField68());
+        setField69(source.getField69());
+        setField70(source.getField70());
+        setField71(source.getField71());
+        setField72(source.getField72());
+        setField73(source.getField73());
+        setField74(source.getField74());
+        setField75(source.getField75());
+        setField76(source.getField76());
+        setField77(source.getField77());
+        setField78(source.getField78());
+        setField79(source.getField79());
+        setField80(source.getField80());
+        setField81(source.getField81());
+        setField82(source.getField82());
+        setField83(source.getField83());
+        setField84(source.getField84());
+        setField85(source.getField85());
+        setField86(source.getField86());
+        setField87(source.getField87());
+        setField88(source.getField88());
+        setField89(source.getField89());
+        setField90(source.getField90());
+        setField91(source.getField91());
+        setField92(source.getField92());
+        setField93(source.getField93());
+        setField94(source.getField94());
+        setField95(source.getField95());
+        setField96(source.getField96());
+        setField97(source.getField97());
+        setField98(source.getField98());
+        setField99(source.getField99());
+        setField100(source.getField100());
+        setField101(source.getField101());
+        setField102(source.getField102());
+        setField103(source.getField103());
+        setField104(source.getField104());
+        setField105(source.getField105());
+        setField106(source.getField106());
+        setField107(source.getField107());
+        setField108(source.getField108());
+        setField109(source.getField109());
+        setField110(source.getField110());
+        setField111(source.getField111());
+        setField112(source.getField112());
+        setField113(source.getField113());
+        setField114(source.getField114());
+        setField115(source.getField115());
+        setField116(source.getField116());
+        setField117(source.getField117());
+        setField118(source.getField118());
+        setField119(source.getField119());
+        setField120(source.getField120());
+        setField121(source.getField121());
+        setField122(source.getField122());
+        setField123(source.getField123());
+        setField124(source.getField124());
+        setField125(source.getField125());
+        setField126(source.getField126());
+        setField127(source.getField127());
+        setField128(source.getField128());
+        setField129(source.getField129());
+        setField130(source.getField130());
+        setField131(source.getField131());
+        setField132(source.getField132());
+        setField133(source.getField133());
+        setField134(source.getField134());
+        setField135(source.getField135());
+        setField136(source.getField136());
+        setField137(source.getField137());
+        setField138(source.getField138());
+        setField139(source.getField139());
+        setField140(source.getField140());
+        setField141(source.getField141());
+        setField142(source.getField142());
+        setField143(source.getField143());
+        setField144(source.getField144());
+        setField145(source.getField145());
+        setField146(source.getField146());
+        setField147(source.getField147());
+        setField148(source.getField148());
+        setField149(source.getField149());
+        setField150(source.getField150());
+        setField151(source.getField151());
+        setField152(source.getField152());
+        setField153(source.getField153());
+        setField154(source.getField154());
+        setField155(source.getField155());
+        setField156(source.getField156());
+        setField157(source.getField157());
+        setField158(source.getField158());
+        setField159(source.getField159());
+        setField160(source.getField160());
+        setField161(source.getField161());
+        setField162(source.getField162());
+        setField163(source.getField163());
+        setField164(source.getField164());
+        setField165(source.getField165());
+        setField166(source.getField166());
+        setField167(source.getField167());
+        setField168(source.getField168());
+        setField169(source.getField169());
+        setField170(source.getField170());
+        setField171(source.getField171());
+        setField172(source.getField172());
+        setField173(source.getField173());
+        setField174(source.getField174());
+        setField175(source.getField175());
+        setField176(source.getField176());
+        setField177(source.getField177());
+        setField178(source.getField178());
+        setField179(source.getField179());
+        setField180(source.getField180());
+        setField181(source.getField181());
+        setField182(source.getField182());
+        setField183(source.getField183());
+        setField184(source.getField184());
+        setField185(source.getField185());
+        setField186(source.getField186());
+        setField187(source.getField187());
+        setField188(source.getField188());
+        setField189(source.getField189());
+        setField190(source.getField190());
+        setField191(source.getField191());
+        setField192(source.getField192());
+        setField193(source.getField193());
+        setField194(source.getField194());
+        setField195(source.getField195());
+        setField196(source.getField196());
+        setField197(source.getField197());
+        setField198(source.getField198());
+        setField199(source.getField199());
+        setField200(source.getField200());
+    }
+
+    @Override
+    public void writeExternal(ObjectOutput out) throws IOException {
+        long p0 = 0;
+        long p1 = 0;
+        long p2 = 0;
+        long p3 = 0;
+        if (getRef1() != null) p0 |= 1L << 0;
+        if (getRef2() != null) p0 |= 1L << 1;
+        if (getRef3() != null) p0 |= 1L << 2;
+        if (getRef4() != null) p0 |= 1L << 3;
+        if (getRef5() != null) p0 |= 1L << 4;
+        if (getRef6() != null) p0 |= 1L << 5;
+        if (getRef7() != null) p0 |= 1L << 6;
+        if (getRef8() != null) p0 |= 1L << 7;
+        if (getRef9() != null) p0 |= 1L << 8;
+        if (getRef10() != null) p0 |= 1L << 9;
+        if (getRef11() != null) p0 |= 1L << 10;
+        if (getRef12() != null) p0 |= 1L << 11;
+        if (getRef13() != null) p0 |= 1L << 12;
+        if (getRef14() != null) p0 |= 1L << 13;
+        if (getRef15() != null) p0 |= 1L << 14;
+        if (getRef16() != null) p0 |= 1L << 15;
+        if (getRef17() != null) p0 |= 1L << 16;
+        if (getRef18() != null) p0 |= 1L << 17;
+        if (getRef19() != null) p0 |= 1L << 18;
+        if (getRef20() != null) p0 |= 1L << 19;
+        if (getField21() != 0) p0 |= 1L << 20;
+        if (getField22() != 0) p0 |= 1L << 21;
+        if (getField23() != 0) p0 |= 1L << 22;
+        if (getField24() != 0) p0 |= 1L << 23;
+        if (getField25() != 0) p0 |= 1L << 24;
+        if (getField26() != 0) p0 |= 1L << 25;
+        if (getField27() != 0) p0 |= 1L << 26;
+        if (getField28() != 0) p0 |= 1L << 27;
+        if (getField29() != 0) p0 |= 1L << 28;
+        if (getField30() != 0) p0 |= 1L << 29;
+        if (getField31() != 0) p0 |= 1L << 30;
+        if (getField32() != 0) p0 |= 1L << 31;
+        if (getField33() != 0) p0 |= 1L << 32;
+        if (getField34() != 0) p0 |= 1L << 33;
+        if (getField35() != 0) p0 |= 1L << 34;
+        if (getField36() != 0) p0 |= 1L << 35;
+        if (getField37() != 0) p0 |= 1L << 36;
+        if (getField38() != 0) p0 |= 1L << 37;
+        if (getField39() != 0) p0 |= 1L << 38;
+        if (getField40() != 0) p0 |= 1L << 39;
+        if (Double.doubleToRawLongBits(getField41()) != 0L) p0 |= 1L << 40;
+        if (Double.doubleToRawLongBits(getField42()) != 0L) p0 |= 1L << 41;
+        if (Double.doubleToRawLongBits(getField43()) != 0L) p0 |= 1L << 42;
+        if (Double.doubleToRawLongBits(getField44()) != 0L) p0 |= 1L << 43;
+        if (Double.doubleToRawLongBits(getField45()) != 0L) p0 |= 1L << 44;
+        if (Double.doubleToRawLongBits(getField46()) != 0L) p0 |= 1L << 45;
+        if (Double.doubleToRawLongBits(getField47()) != 0L) p0 |= 1L << 46;
+        if (Double.doubleToRawLongBits(getField48()) != 0L) p0 |= 1L << 47;
+        if (Double.doubleToRawLongBits(getField49()) != 0L) p0 |= 1L << 48;
+        if (Double.doubleToRawLongBits(getField50()) != 0L) p0 |= 1L << 49;
+        if (isField51()) p0 |= 1L << 50;
+        if (isField52()) p0 |= 1L << 51;
+        if (isField53()) p0 |= 1L << 52;
+        if (isField54()) p0 |= 1L << 53;
+        if (isField55()) p0 |= 1L << 54;
+        if (isField56()) p0 |= 1L << 55;
+        if (isField57()) p0 |= 1L << 56;
+        if (isField58()) p0 |= 1L << 57;
+        if (isField59()) p0 |= 1L << 58;
+        if (isField60()) p0 |= 1L << 59;
+        if (Float.floatToRawIntBits(getField61()) != 0) p0 |= 1L << 60;
+        if (Float.floatToRawIntBits(getField62()) != 0) p0 |= 1L << 61;
+        if (Float.floatToRawIntBits(getField63()) != 0) p0 |= 1L << 62;
+        if (Float.floatToRawIntBits(getField64()) != 0) p0 |= 1L << 63;
+        if (Float.floatToRawIntBits(getField65()) != 0) p1 |= 1L << 0;
+        if (Float.floatToRawIntBits(getField66()) != 0) p1 |= 1L << 1;
+        if (Float.floatToRawIntBits(getField67()) != 0) p1 |= 1L << 2;
+        if (Float.floatToRawIntBits(getField68()) != 0) p1 |= 1L << 3;
+        if (Float.floatToRawIntBits(getField69()) != 0) p1 |= 1L << 4;
+        if (Float.floatToRawIntBits(getField70()) != 0) p1 |= 1L << 5;
+        if (getField71() != 0) p1 |= 1L << 6;
+        if (getField72() != 0) p1 |= 1L << 7;
+        if (getField73() != 0) p1 |= 1L << 8;
+        if (getField74() != 0) p1 |= 1L << 9;
+        if (getField75() != 0) p1 |= 1L << 10;
+        if (getField76() != 0) p1 |= 1L << 11;
+        if (getField77() != 0) p1 |= 1L << 12;
+        if (getField78() != 0) p1 |= 1L << 13;
+        if (getField79() != 0) p1 |= 1L << 14;
+        if (getField80() != 0) p1 |= 1L << 15;
+        if (getField81() != 0) p1 |= 1L << 16;
+        if (getField82() != 0) p1 |= 1L << 17;
+        if (getField83() != 0) p1 |= 1L << 18;
+        if (getField84() != 0) p1 |= 1L << 19;
+        if (getField85() != 0) p1 |= 1L << 20;
+        if (getField86() != 0) p1 |= 1L << 21;
+        if (getField87() != 0) p1 |= 1L << 22;
+        if (getField88() != 0) p1 |= 1L << 23;
+        if (getField89() != 0) p1 |= 1L << 24;
+        if (getField90() != 0) p1 |= 1L << 25;
+        if (getField91() != 0) p1 |= 1L << 26;
+        if (getField92() != 0) p1 |= 1L << 27;
+        if (getField93() != 0) p1 |= 1L << 28;
+        if (getField94() != 0) p1 |= 1L << 29;
+        if (getField95() != 0) p1 |= 1L << 30;
+        if (getField96() != 0) p1 |= 1L << 31;
+        if (getField97() != 0) p1 |= 1L << 32;
+        if (getField98() != 0) p1 |= 1L << 33;
+        if (getField99() != 0) p1 |= 1L << 34;
+        if (getField100() != 0) p1 |= 1L << 35;
+        if (getField101() != null) p1 |= 1L << 36;
+        if (getField102() != null) p1 |= 1L << 37;
+        if (getField103() != null) p1 |= 1L << 38;
+        if (getField104() != null) p1 |= 1L << 39;
+        if (getField105() != null) p1 |= 1L << 40;
+        if (getField106() != null) p1 |= 1L << 41;
+        if (getField107() != null) p1 |= 1L << 42;
+        if (getField108() != null) p1 |= 1L << 43;
+        if (getField109() != null) p1 |= 1L << 44;
+        if (getField110() != null) p1 |= 1L << 45;
+        if (getField111() != null) p1 |= 1L << 46;
+        if (getField112() != null) p1 |= 1L << 47;
+        if (getField113() != null) p1 |= 1L << 48;
+        if (getField114() != null) p1 |= 1L << 49;
+        if (getField115() != null) p1 |= 1L << 50;
+        if (getField116() != null) p1 |= 1L << 51;
+        if (getField117() != null) p1 |= 1L << 52;
+        if (getField118() != null) p1 |= 1L << 53;
+        if (getField119() != null) p1 |= 1L << 54;
+        if (getField120() != null) p1 |= 1L << 55;
+        if (getField121() != null) p1 |= 1L << 56;
+        if (getField122() != null) p1 |= 1L << 57;
+        if (getField123() != null) p1 |= 1L << 58;
+        if (getField124() != null) p1 |= 1L << 59;
+        if (getField125() != null) p1 |= 1L << 60;
+        if (getField126() != null) p1 |= 1L << 61;
+        if (getField127() != null) p1 |= 1L << 62;
+        if (getField128() != null) p1 |= 1L << 63;
+        if (getField129() != null) p2 |= 1L << 0;
+        if (getField130() != null) p2 |= 1L << 1;
+        if (getField131() != null) p2 |= 1L << 2;
+        if (getField132() != null) p2 |= 1L << 3;
+        if (getField133() != null) p2 |= 1L << 4;
+        if (getField134() != null) p2 |= 1L << 5;
+        if (getField135() != null) p2 |= 1L << 6;
+        if (getField136() != null) p2 |= 1L << 7;
+        if (getField137() != null) p2 |= 1L << 8;
+        if (getField138() != null) p2 |= 1L << 9;
+        if (getField139() != null) p2 |= 1L << 10;
+        if (getField140() != null) p2 |= 1L << 11;
+        if (getField141() != null) p2 |= 1L << 12;
+        if (getField142() != null) p2 |= 1L << 13;
+        if (getField143() != null) p2 |= 1L << 14;
+        if (getField144() != null) p2 |= 1L << 15;
+        if (getField145() != null) p2 |= 1L << 16;
+        if (getField146() != null) p2 |= 1L << 17;
+        if (getField147() != null) p2 |= 1L << 18;
+        if (getField148() != null) p2 |= 1L << 19;
+        if (getField149() != null) p2 |= 1L << 20;
+        if (getField150() != null) p2 |= 1L << 21;
+        if (getField151() != null) p2 |= 1L << 22;
+        if (getField152() != null) p2 |= 1L << 23;
+        if (getField153() != null) p2 |= 1L << 24;
+        if (getField154() != null) p2 |= 1L << 25;
+        if (getField155() != null) p2 |= 1L << 26;
+        if (getField156() != null) p2 |= 1L << 27;
+        if (getField157() != null) p2 |= 1L << 28;
+        if (getField158() != null) p2 |= 1L << 29;
+        if (getField159() != null) p2 |= 1L << 30;
+        if (getField160() != null) p2 |= 1L << 31;
+        if (getField161() != null) p2 |= 1L << 32;
+        if (getField162() != null) p2 |= 1L << 33;
+        if (getField163() != null) p2 |= 1L << 34;
+        if (getField164() != null) p2 |= 1L << 35;
+        if (getField165() != null) p2 |= 1L << 36;
+        if (getField166() != null) p2 |= 1L << 37;
+        if (getField167() != null) p2 |= 1L << 38;
+        if (getField168() != null) p2 |= 1L << 39;
+        if (getField169() != null) p2 |= 1L << 40;
+        if (getField170() != null) p2 |= 1L << 41;
+        if (getField171() != null) p2 |= 1L << 42;
+        if (getField172() != null) p2 |= 1L << 43;
+        if (getField173() != null) p2 |= 1L << 44;
+        if (getField174() != null) p2 |= 1L << 45;
+        if (getField175() != null) p2 |= 1L << 46;
+        if (getField176() != null) p2 |= 1L << 47;
+        if (getField177() != null) p2 |= 1L << 48;
+        if (getField178() != null) p2 |= 1L << 49;
+        if (getField179() != null) p2 |= 1L << 50;
+        if (getField180() != null) p2 |= 1L << 51;
+        if (getField181() != null) p2 |= 1L << 52;
+        if (getField182() != null) p2 |= 1L << 53;
+        if (getField183() != null) p2 |= 1L << 54;
+        if (getField184() != null) p2 |= 1L << 55;
+        if (getField185() != null) p2 |= 1L << 56;
+        if (getField186() != null) p2 |= 1L << 57;
+        if (getField187() != null) p2 |= 1L << 58;
+        if (getField188() != null) p2 |= 1L << 59;
+        if (getField189() != null) p2 |= 1L << 60;
+        if (getField190() != null) p2 |= 1L << 61;
+        if (getField191() != null) p2 |= 1L << 62;
+        if (getField192() != null) p2 |= 1L << 63;
+        if (getField193() != null) p3 |= 1L << 0;
+        if (getField194() != null) p3 |= 1L << 1;
+        if (getField195() != null) p3 |= 1L << 2;
+        if (getField196() != null) p3 |= 1L << 3;
+        if (getField197() != null) p3 |= 1L << 4;
+        if (getField198() != null) p3 |= 1L << 5;
+        if (getField199() != null) p3 |= 1L << 6;
+        if (getField200() != null) p3 |= 1L << 7;
+
+        out.writeLong(p0);
+        out.writeLong(p1);
+        out.writeLong(p2);
+        out.writeLong(p3);
+
+        if ((p0 & 1L << 0) != 0) ExternalizableNestedPojo.write(out, getRef1());
+        if ((p0 & 1L << 1) != 0) ExternalizableNestedPojo.write(out, getRef2());
+        if ((p0 & 1L << 2) != 0) ExternalizableNestedPojo.write(out, getRef3());
+        if ((p0 & 1L << 3) != 0) ExternalizableNestedPojo.write(out, getRef4());
+        if ((p0 & 1L << 4) != 0) ExternalizableNestedPojo.write(out, getRef5());
+        if ((p0 & 1L << 5) != 0) ExternalizableNestedPojo.write(out, getRef6());
+        if ((p0 & 1L << 6) != 0) ExternalizableNestedPojo.write(out, getRef7());
+        if ((p0 & 1L << 7) != 0) ExternalizableNestedPojo.write(out, getRef8());
+        if ((p0 & 1L << 8) != 0) ExternalizableNestedPojo.write(out, getRef9());
+        if ((p0 & 1L << 9) != 0) ExternalizableNestedPojo.write(out, getRef10());
+        if ((p0 & 1L << 10) != 0) ExternalizableNestedPojo.write(out, getRef11());
+        if ((p0 & 1L << 11) != 0) ExternalizableNestedPojo.write(out, getRef12());
+        if ((p0 & 1L << 12) != 0) ExternalizableNestedPojo.write(out, getRef13());
+        if ((p0 & 1L << 13) != 0) ExternalizableNestedPojo.write(out, getRef14());
+        if ((p0 & 1L << 14) != 0) ExternalizableNestedPojo.write(out, getRef15());
+        if ((p0 & 1L << 15) != 0) ExternalizableNestedPojo.write(out, getRef16());
+        if ((p0 & 1L << 16) != 0) ExternalizableNestedPojo.write(out, getRef17());
+        if ((p0 & 1L << 17) != 0) ExternalizableNestedPojo.write(out, getRef18());
+        if ((p0 & 1L << 18) != 0) ExternalizableNestedPojo.write(out, getRef19());
+        if ((p0 & 1L << 19) != 0) ExternalizableNestedPojo.write(out, getRef20());
+        if ((p0 & 1L << 20) != 0) out.writeInt(getField21());
+        if ((p0 & 1L << 21) != 0) out.writeInt(getField22());
+        if ((p0 & 1L << 22) != 0) out.writeInt(getField23());
+        if ((p0 & 1L << 23) != 0) out.writeInt(getField24());
+        if ((p0 & 1L << 24) != 0) out.writeInt(getField25());
+        if ((p0 & 1L << 25) != 0) out.writeInt(getField26());
+        if ((p0 & 1L << 26) != 0) out.writeInt(getField27());
+        if ((p0 & 1L << 27) != 0) out.writeInt(getField28());
+        if ((p0 & 1L << 28) != 0) out.writeInt(getField29());
+        if ((p0 & 1L << 29) != 0) out.writeInt(getField30());
+        if ((p0 & 1L << 30) != 0) out.writeLong(getField31());
+        if ((p0 & 1L << 31) != 0) out.writeLong(getField32());
+        if ((p0 & 1L << 32) != 0) out.writeLong(getField33());
+        if ((p0 & 1L << 33) != 0) out.writeLong(getField34());
+        if ((p0 & 1L << 34) != 0) out.writeLong(getField35());
+        if ((p0 & 1L << 35) != 0) out.writeLong(getField36());
+        if ((p0 & 1L << 36) != 0) out.writeLong(getField37());
+        if ((p0 & 1L << 37) != 0) out.writeLong(getField38());
+        if ((p0 & 1L << 38) != 0) out.writeLong(getField39());
+        if ((p0 & 1L << 39) != 0) out.writeLong(getField40());
+        if ((p0 & 1L << 40) != 0) out.writeDouble(getField41());
+        if ((p0 & 1L << 41) != 0) out.writeDouble(getField42());
+        if ((p0 & 1L << 42) != 0) out.writeDouble(getField43());
+        if ((p0 & 1L << 43) != 0) out.writeDouble(getField44());
+        if ((p0 & 1L << 44) != 0) out.writeDouble(getField45());
+        if ((p0 & 1L << 45) != 0) out.writeDouble(getField46());
+        if ((p0 & 1L << 46) != 0) out.writeDouble(getField47());
+        if ((p0 & 1L << 47) != 0) out.writeDouble(getField48());
+        if ((p0 & 1L << 48) != 0) out.writeDouble(getField49());
+        if ((p0 & 1L << 49) != 0) out.writeDouble(getField50());
+        if ((p0 & 1L << 60) != 0) out.writeFloat(getField61());
+        if ((p0 & 1L << 61) != 0) out.writeFloat(getField62());
+        if ((p0 & 1L << 62) != 0) out.writeFloat(getField63());
+        if ((p0 & 1L << 63) != 0) out.writeFloat(getField64());
+        if ((p1 & 1L << 0) != 0) out.writeFloat(getField65());
+        if ((p1 & 1L << 1) != 0) out.writeFloat(getField66());
+        if ((p1 & 1L << 2) != 0) out.writeFloat(getField67());
+        if ((p1 & 1L << 3) != 0) out.writeFloat(getField68());
+        if ((p1 & 1L << 4) != 0) out.writeFloat(getField69());
+        if ((p1 & 1L << 5) != 0) out.writeFloat(getField70());
+        if ((p1 & 1L << 6) != 0) out.writeShort(getField71());
+        if ((p1 & 1L << 7) != 0) out.writeShort(getField72());
+        if ((p1 & 1L << 8) != 0) out.writeShort(getField73());
+        if ((p1 & 1L << 9) != 0) out.writeShort(getField74());
+        if ((p1 & 1L << 10) != 0) out.writeShort(getField75());
+        if ((p1 & 1L << 11) != 0) out.writeShort(getField76());
+        if ((p1 & 1L << 12) != 0) out.writeShort(getField77());
+        if ((p1 & 1L << 13) != 0) out.writeShort(getField78());
+        if ((p1 & 1L << 14) != 0) out.writeShort(getField79());
+        if ((p1 & 1L << 15) != 0) out.writeShort(getField80());
+        if ((p1 & 1L << 16) != 0) out.writeByte(getField81());
+        if ((p1 & 1L << 17) != 0) out.writeByte(getField82());
+        if ((p1 & 1L << 18) != 0) out.writeByte(getField83());
+        if ((p1 & 1L << 19) != 0) out.writeByte(getField84());
+        if ((p1 & 1L << 20) != 0) out.writeByte(getField85());
+        if ((p1 & 1L << 21) != 0) out.writeByte(getField86());
+        if ((p1 & 1L << 22) != 0) out.writeByte(getField87());
+        if ((p1 & 1L << 23) != 0) out.writeByte(getField88());
+        if ((p1 & 1L << 24) != 0) out.writeByte(getField89());
+        if ((p1 & 1L << 25) != 0) out.writeByte(getField90());
+        if ((p1 & 1L << 26) != 0) out.writeChar(getField91());
+        if ((p1 & 1L << 27) != 0) out.writeChar(getField92());
+        if ((p1 & 1L << 28) != 0) out.writeChar(getField93());
+        if ((p1 & 1L << 29) != 0) out.writeChar(getField94());
+        if ((p1 & 1L << 30) != 0) out.writeChar(getField95());
+        if ((p1 & 1L << 31) != 0) out.writeChar(getField96());
+        if ((p1 & 1L << 32) != 0) out.writeChar(getField97());
+        if ((p1 & 1L << 33) != 0) out.writeChar(getField98());
+        if ((p1 & 1L << 34) != 0) out.writeChar(getField99());
+        if ((p1 & 1L << 35) != 0) out.writeChar(getField100());
+        if ((p1 & 1L << 36) != 0) out.writeInt(getField101());
+        if ((p1 & 1L << 37) != 0) out.writeInt(getField102());
+        if ((p1 & 1L << 38) != 0) out.writeInt(getField103());
+        if ((p1 & 1L << 39) != 0) out.writeInt(getField104());
+        if ((p1 & 1L << 40) != 0) out.writeInt(getField105());
+        if ((p1 & 1L << 41) != 0) out.writeLong(getField106());
+        if ((p1 & 1L << 42) != 0) out.writeLong(getField107());
+        if ((p1 & 1L << 43) != 0) out.writeLong(getField108());
+        if ((p1 & 1L << 44) != 0) out.writeDouble(getField109());
+        if ((p1 & 1L << 45) != 0) out.writeDouble(getField110());
+        if ((p1 & 1L << 46) != 0) out.writeBoolean(getField111());
+        if ((p1 & 1L << 47) != 0) out.writeBoolean(getField112());
+        if ((p1 & 1L << 48) != 0) ExternalizableSupport.writeStringList(out, getField113());
+        if ((p1 & 1L << 49) != 0) ExternalizableSupport.writeIntList(out, getField114());
+        if ((p1 & 1L << 50) != 0) ExternalizableSupport.writeStringMap(out, getField115());
+        if ((p1 & 1L << 51) != 0) ExternalizableSupport.writeString(out, getField116());
+        if ((p1 & 1L << 52) != 0) ExternalizableSupport.writeString(out, getField117());
+        if ((p1 & 1L << 53) != 0) ExternalizableSupport.writeString(out, getField118());
+        if ((p1 & 1L << 54) != 0) ExternalizableSupport.writeString(out, getField119());
+        if ((p1 & 1L << 55) != 0) ExternalizableSupport.writeString(out, getField120());
+        if ((p1 & 1L << 56) != 0) ExternalizableSupport.writeString(out, getField121());
+        if ((p1 & 1L << 57) != 0) ExternalizableSupport.writeString(out, getField122());
+        if ((p1 & 1L << 58) != 0) ExternalizableSupport.writeString(out, getField123());
+        if ((p1 & 1L << 59) != 0) ExternalizableSupport.writeString(out, getField124());
+        if ((p1 & 1L << 60) != 0) ExternalizableSupport.writeString(out, getField125());
+        if ((p1 & 1L << 61) != 0) ExternalizableSupport.writeString(out, getField126());
+        if ((p1 & 1L << 62) != 0) ExternalizableSupport.writeString(out, getField127());
+        if ((p1 & 1L << 63) != 0) ExternalizableSupport.writeString(out, getField128());
+        if ((p2 & 1L << 0) != 0) ExternalizableSupport.writeString(out, getField129());
+        if ((p2 & 1L << 1) != 0) ExternalizableSupport.writeString(out, getField130());
+        if ((p2 & 1L << 2) != 0) ExternalizableSupport.writeString(out, getField131());
+        if ((p2 & 1L << 3) != 0) ExternalizableSupport.writeString(out, getField132());
+        if ((p2 & 1L << 4) != 0) ExternalizableSupport.writeString(out, getField133());
+        if ((p2 & 1L << 5) != 0) ExternalizableSupport.writeString(out, getField134());
+        if ((p2 & 1L << 6) != 0) ExternalizableSupport.writeString(out, getField135());
+        if ((p2 & 1L << 7) != 0) ExternalizableSupport.writeString(out, getField136());
+        if ((p2 & 1L << 8) != 0) ExternalizableSupport.writeString(out, getField137());
+        if ((p2 & 1L << 9) != 0) ExternalizableSupport.writeString(out, getField138());
+        if ((p2 & 1L << 10) != 0) ExternalizableSupport.writeString(out, getField139());
+        if ((p2 & 1L << 11) != 0) ExternalizableSupport.writeString(out, getField140());
+        if ((p2 & 1L << 12) != 0) ExternalizableSupport.writeString(out, getField141());
+        if ((p2 & 1L << 13) != 0) ExternalizableSupport.writeString(out, getField142());
+        if ((p2 & 1L << 14) != 0) ExternalizableSupport.writeString(out, getField143());
+        if ((p2 & 1L << 15) != 0) ExternalizableSupport.writeString(out, getField144());
+        if ((p2 & 1L << 16) != 0) ExternalizableSupport.writeString(out, getField145());
+        if ((p2 & 1L << 17) != 0) ExternalizableSupport.writeString(out, getField146());
+        if ((p2 & 1L << 18) != 0) ExternalizableSupport.writeString(out, getField147());
+        if ((p2 & 1L << 19) != 0) ExternalizableSupport.writeString(out, getField148());
+        if ((p2 & 1L << 20) != 0) ExternalizableSupport.writeString(out, getField149());
+        if ((p2 & 1L << 21) != 0) ExternalizableSupport.writeString(out, getField150());
+        if ((p2 & 1L << 22) != 0) ExternalizableSupport.writeString(out, getField151());
+        if ((p2 & 1L << 23) != 0) ExternalizableSupport.writeString(out, getField152());
+        if ((p2 & 1L << 24) != 0) ExternalizableSupport.writeString(out, getField153());
+        if ((p2 & 1L << 25) != 0) ExternalizableSupport.writeString(out, getField154());
+        if ((p2 & 1L << 26) != 0) ExternalizableSupport.writeString(out, getField155());
+        if ((p2 & 1L << 27) != 0) ExternalizableSupport.writeString(out, getField156());
+        if ((p2 & 1L << 28) != 0) ExternalizableSupport.writeString(out, getField157());
+        if ((p2 & 1L << 29) != 0) ExternalizableSupport.writeString(out, getField158());
+        if ((p2 & 1L << 30) != 0) ExternalizableSupport.writeString(out, getField159());
+        if ((p2 & 1L << 31) != 0) ExternalizableSupport.writeString(out, getField160());
+        if ((p2 & 1L << 32) != 0) ExternalizableSupport.writeString(out, getField161());
+        if ((p2 & 1L << 33) != 0) ExternalizableSupport.writeString(out, getField162());
+        if ((p2 & 1L << 34) != 0) ExternalizableSupport.writeString(out, getField163());
+        if ((p2 & 1L << 35) != 0) ExternalizableSupport.writeString(out, getField164());
+        if ((p2 & 1L << 36) != 0) ExternalizableSupport.writeString(out, getField165());
+        if ((p2 & 1L << 37) != 0) ExternalizableSupport.writeString(out, getField166());
+        if ((p2 & 1L << 38) != 0) ExternalizableSupport.writeString(out, getField167());
+        if ((p2 & 1L << 39) != 0) ExternalizableSupport.writeString(out, getField168());
+        if ((p2 & 1L << 40) != 0) ExternalizableSupport.writeString(out, getField169());
+        if ((p2 & 1L << 41) != 0) ExternalizableSupport.writeString(out, getField170());
+        if ((p2 & 1L << 42) != 0) ExternalizableSupport.writeString(out, getField171());
+        if ((p2 & 1L << 43) != 0) ExternalizableSupport.writeString(out, getField172());
+        if ((p2 & 1L << 44) != 0) ExternalizableSupport.writeString(out, getField173());
+        if ((p2 & 1L << 45) != 0) ExternalizableSupport.writeString(out, getField174());
+        if ((p2 & 1L << 46) != 0) ExternalizableSupport.writeString(out, getField175());
+        if ((p2 & 1L << 47) != 0) ExternalizableSupport.writeString(out, getField176());
+        if ((p2 & 1L << 48) != 0) ExternalizableSupport.writeString(out, getField177());
+        if ((p2 & 1L << 49) != 0) ExternalizableSupport.writeString(out, getField178());
+        if ((p2 & 1L << 50) != 0) ExternalizableSupport.writeString(out, getField179());
+        if ((p2 & 1L << 51) != 0) ExternalizableSupport.writeString(out, getField180());
+        if ((p2 & 1L << 52) != 0) ExternalizableSupport.writeString(out, getField181());
+        if ((p2 & 1L << 53) != 0) ExternalizableSupport.writeString(out, getField182());
+        if ((p2 & 1L << 54) != 0) ExternalizableSupport.writeString(out, getField183());
+        if ((p2 & 1L << 55) != 0) ExternalizableSupport.writeString(out, getField184());
+        if ((p2 & 1L << 56) != 0) ExternalizableSupport.writeString(out, getField185());
+        if ((p2 & 1L << 57) != 0) ExternalizableSupport.writeString(out, getField186());
+        if ((p2 & 1L << 58) != 0) ExternalizableSupport.writeString(out, getField187());
+        if ((p2 & 1L << 59) != 0) ExternalizableSupport.writeString(out, getField188());
+        if ((p2 & 1L << 60) != 0) ExternalizableSupport.writeString(out, getField189());
+        if ((p2 & 1L << 61) != 0) ExternalizableSupport.writeString(out, getField190());
+        if ((p2 & 1L << 62) != 0) ExternalizableSupport.writeString(out, getField191());
+        if ((p2 & 1L << 63) != 0) ExternalizableSupport.writeString(out, getField192());
+        if ((p3 & 1L << 0) != 0) ExternalizableSupport.writeString(out, getField193());
+        if ((p3 & 1L << 1) != 0) ExternalizableSupport.writeString(out, getField194());
+        if ((p3 & 1L << 2) != 0) ExternalizableSupport.writeString(out, getField195());
+        if ((p3 & 1L << 3) != 0) ExternalizableSupport.writeString(out, getField196());
+        if ((p3 & 1L << 4) != 0) ExternalizableSupport.writeString(out, getField197());
+        if ((p3 & 1L << 5) != 0) ExternalizableSupport.writeString(out, getField198());
+        if ((p3 & 1L << 6) != 0) ExternalizableSupport.writeString(out, getField199());
+        if ((p3 & 1L << 7) != 0) ExternalizableSupport.writeString(out, getField200());
+    }
+
+    @Override
+    public void readExternal(ObjectInput in) throws IOException {
+        final long p0 = in.readLong();
+        final long p1 = in.readLong();
+        final long p2 = in.readLong();
+        final long p3 = in.readLong();
+
+        if ((p0 & 1L << 0) != 0) setRef1(ExternalizableNestedPojo.read(in));
+        if ((p0 & 1L << 1) != 0) setRef2(ExternalizableNestedPojo.read(in));
+        if ((p0 & 1L << 2) != 0) setRef3(ExternalizableNestedPojo.read(in));
+        if ((p0 & 1L << 3) != 0) setRef4(ExternalizableNestedPojo.read(in));
+        if ((p0 & 1L << 4) != 0) setRef5(ExternalizableNestedPojo.read(in));
+        if ((p0 & 1L << 5) != 0) setRef6(ExternalizableNestedPojo.read(in));
+        if ((p0 & 1L << 6) != 0) setRef7(ExternalizableNestedPojo.read(in));
+        if ((p0 & 1L << 7) != 0) setRef8(ExternalizableNestedPojo.read(in));
+        if ((p0 & 1L << 8) != 0) setRef9(ExternalizableNestedPojo.read(in));
+        if ((p0 & 1L << 9) != 0) setRef10(ExternalizableNestedPojo.read(in));
+        if ((p0 & 1L << 10) != 0) setRef11(ExternalizableNestedPojo.read(in));
+        if ((p0 & 1L << 11) != 0) setRef12(ExternalizableNestedPojo.read(in));
+        if ((p0 & 1L << 12) != 0) setRef13(ExternalizableNestedPojo.read(in));
+        if ((p0 & 1L << 13) != 0) setRef14(ExternalizableNestedPojo.read(in));
+        if ((p0 & 1L << 14) != 0) setRef15(ExternalizableNestedPojo.read(in));
+        if ((p0 & 1L << 15) != 0) setRef16(ExternalizableNestedPojo.read(in));
+        if ((p0 & 1L << 16) != 0) setRef17(ExternalizableNestedPojo.read(in));
+        if ((p0 & 1L << 17) != 0) setRef18(ExternalizableNestedPojo.read(in));
+        if ((p0 & 1L << 18) != 0) setRef19(ExternalizableNestedPojo.read(in));
+        if ((p0 & 1L << 19) != 0) setRef20(ExternalizableNestedPojo.read(in));
+        if ((p0 & 1L << 20) != 0) setField21(in.readInt());
+        if ((p0 & 1L << 21) != 0) setField22(in.readInt());
+        if ((p0 & 1L << 22) != 0) setField23(in.readInt());
+        if ((p0 & 1L << 23) != 0) setField24(in.readInt());
+        if ((p0 & 1L << 24) != 0) setField25(in.readInt());
+        if ((p0 & 1L << 25) != 0) setField26(in.readInt());
+        if ((p0 & 1L << 26) != 0) setField27(in.readInt());
+        if ((p0 & 1L << 27) != 0) setField28(in.readInt());
+        if ((p0 & 1L << 28) != 0) setField29(in.readInt());
+        if ((p0 & 1L << 29) != 0) setField30(in.readInt());
+        if ((p0 & 1L << 30) != 0) setField31(in.readLong());
+        if ((p0 & 1L << 31) != 0) setField32(in.readLong());
+        if ((p0 & 1L << 32) != 0) setField33(in.readLong());
+        if ((p0 & 1L << 33) != 0) setField34(in.readLong());
+        if ((p0 & 1L << 34) != 0) setField35(in.readLong());
+        if ((p0 & 1L << 35) != 0) setField36(in.readLong());
+        if ((p0 & 1L << 36) != 0) setField37(in.readLong());
+        if ((p0 & 1L << 37) != 0) setField38(in.readLong());
+        if ((p0 & 1L << 38) != 0) setField39(in.readLong());
+        if ((p0 & 1L << 39) != 0) setField40(in.readLong());
+        if ((p0 & 1L << 40) != 0) setField41(in.readDouble());
+        if ((p0 & 1L << 41) != 0) setField42(in.readDouble());
+        if ((p0 & 1L << 42) != 0) setField43(in.readDouble());
+        if ((p0 & 1L << 43) != 0) setField44(in.readDouble());
+        if ((p0 & 1L << 44) != 0) setField45(in.readDouble());
+        if ((p0 & 1L << 45) != 0) setField46(in.readDouble());
+        if ((p0 & 1L << 46) != 0) setField47(in.readDouble());
+        if ((p0 & 1L << 47) != 0) setField48(in.readDouble());
+        if ((p0 & 1L << 48) != 0) setField49(in.readDouble());
+        if ((p0 & 1L << 49) != 0) setField50(in.readDouble());
+        if ((p0 & 1L << 50) != 0) setField51(true);
+        if ((p0 & 1L << 51) != 0) setField52(true);
+        if ((p0 & 1L << 52) != 0) setField53(true);
+        if ((p0 & 1L << 53) != 0) setField54(true);
+        if ((p0 & 1L << 54) != 0) setField55(true);
+        if ((p0 & 1L << 55) != 0) setField56(true);
+        if ((p0 & 1L << 56) != 0) setField57(true);
+        if ((p0 & 1L << 57) != 0) setField58(true);
+        if ((p0 & 1L << 58) != 0) setField59(true);
+        if ((p0 & 1L << 59) != 0) setField60(true);
+        if ((p0 & 1L << 60) != 0) setField61(in.readFloat());
+        if ((p0 & 1L << 61) != 0) setField62(in.readFloat());
+        if ((p0 & 1L << 62) != 0) setField63(in.readFloat());
+        if ((p0 & 1L << 63) != 0) setField64(in.readFloat());
+        if ((p1 & 1L << 0) != 0) setField65(in.readFloat());
+        if ((p1 & 1L << 1) != 0) setField66(in.readFloat());
+        if ((p1 & 1L << 2) != 0) setField67(in.readFloat());
+        if ((p1 & 1L << 3) != 0) setField68(in.readFloat());
+        if ((p1 & 1L << 4) != 0) setField69(in.readFloat());
+        if ((p1 & 1L << 5) != 0) setField70(in.readFloat());
+        if ((p1 & 1L << 6) != 0) setField71(in.readShort());
+        if ((p1 & 1L << 7) != 0) setField72(in.readShort());
+        if ((p1 & 1L << 8) != 0) setField73(in.readShort());
+        if ((p1 & 1L << 9) != 0) setField74(in.readShort());
+        if ((p1 & 1L << 10) != 0) setField75(in.readShort());
+        if ((p1 & 1L << 11) != 0) setField76(in.readShort());
+        if ((p1 & 1L << 12) != 0) setField77(in.readShort());
+        if ((p1 & 1L << 13) != 0) setField78(in.readShort());
+        if ((p1 & 1L << 14) != 0) setField79(in.readShort());
+        if ((p1 & 1L << 15) != 0) setField80(in.readShort());
+        if ((p1 & 1L << 16) != 0) setField81(in.readByte());
+        if ((p1 & 1L << 17) != 0) setField82(in.readByte());
+        if ((p1 & 1L << 18) != 0) setField83(in.readByte());
+        if ((p1 & 1L << 19) != 0) setField84(in.readByte());
+        if ((p1 & 1L << 20) != 0) setField85(in.readByte());
+        if ((p1 & 1L << 21) != 0) setField86(in.readByte());
+        if ((p1 & 1L << 22) != 0) setField87(in.readByte());
+        if ((p1 & 1L << 23) != 0) setField88(in.readByte());
+        if ((p1 & 1L << 24) != 0) setField89(in.readByte());
+        if ((p1 & 1L << 25) != 0) setField90(in.readByte());
+        if ((p1 & 1L << 26) != 0) setField91(in.readChar());
+        if ((p1 & 1L << 27) != 0) setField92(in.readChar());
+        if ((p1 & 1L << 28) != 0) setField93(in.readChar());
+        if ((p1 & 1L << 29) != 0) setField94(in.readChar());
+        if ((p1 & 1L << 30) != 0) setField95(in.readChar());
+        if ((p1 & 1L << 31) != 0) setField96(in.readChar());
+        if ((p1 & 1L << 32) != 0) setField97(in.readChar());
+        if ((p1 & 1L << 33) != 0) setField98(in.readChar());
+        if ((p1 & 1L << 34) != 0) setField99(in.readChar());
+        if ((p1 & 1L << 35) != 0) setField100(in.readChar());
+        if ((p1 & 1L << 36) != 0) setField101(in.readInt());
+        if ((p1 & 1L << 37) != 0) setField102(in.readInt());
+        if ((p1 & 1L << 38) != 0) setField103(in.readInt());
+        if ((p1 & 1L << 39) != 0) setField104(in.readInt());
+        if ((p1 & 1L << 40) != 0) setField105(in.readInt());
+        if ((p1 & 1L << 41) != 0) setField106(in.readLong());
+        if ((p1 & 1L << 42) != 0) setField107(in.readLong());
+        if ((p1 & 1L << 43) != 0) setField108(in.readLong());
+        if ((p1 & 1L << 44) != 0) setField109(in.readDouble());
+        if ((p1 & 1L << 45) != 0) setField110(in.readDouble());
+        if ((p1 & 1L << 46) != 0) setField111(in.readBoolean());
+        if ((p1 & 1L << 47) != 0) setField112(in.readBoolean());
+        if ((p1 & 1L << 48) != 0) setField113(ExternalizableSupport.readStringList(in));
+        if ((p1 & 1L << 49) != 0) setField114(ExternalizableSupport.readIntList(in));
+        if ((p1 & 1L << 50) != 0) setField115(ExternalizableSupport.readStringMap(in));
+        if ((p1 & 1L << 51) != 0) setField116(ExternalizableSupport.readString(in));
+        if ((p1 & 1L << 52) != 0) setField117(ExternalizableSupport.readString(in));
+        if ((p1 & 1L << 53) != 0) setField118(ExternalizableSupport.readString(in));
+        if ((p1 & 1L << 54) != 0) setField119(ExternalizableSupport.readString(in));
+        if ((p1 & 1L << 55) != 0) setField120(ExternalizableSupport.readString(in));
+        if ((p1 & 1L << 56) != 0) setField121(ExternalizableSupport.readString(in));
+        if ((p1 & 1L << 57) != 0) setField122(ExternalizableSupport.readString(in));
+        if ((p1 & 1L << 58) != 0) setField123(ExternalizableSupport.readString(in));
+        if ((p1 & 1L << 59) != 0) setField124(ExternalizableSupport.readString(in));
+        if ((p1 & 1L << 60) != 0) setField125(ExternalizableSupport.readString(in));
+        if ((p1 & 1L << 61) != 0) setField126(ExternalizableSupport.readString(in));
+        if ((p1 & 1L << 62) != 0) setField127(ExternalizableSupport.readString(in));
+        if ((p1 & 1L << 63) != 0) setField128(ExternalizableSupport.readString(in));
+        if ((p2 & 1L << 0) != 0) setField129(ExternalizableSupport.readString(in));
+        if ((p2 & 1L << 1) != 0) setField130(ExternalizableSupport.readString(in));
+        if ((p2 & 1L << 2) != 0) setField131(ExternalizableSupport.readString(in));
+        if ((p2 & 1L << 3) != 0) setField132(ExternalizableSupport.readString(in));
+        if ((p2 & 1L << 4) != 0) setField133(ExternalizableSupport.readString(in));
+        if ((p2 & 1L << 5) != 0) setField134(ExternalizableSupport.readString(in));
+        if ((p2 & 1L << 6) != 0) setField135(ExternalizableSupport.readString(in));
+        if ((p2 & 1L << 7) != 0) setField136(ExternalizableSupport.readString(in));
+        if ((p2 & 1L << 8) != 0) setField137(ExternalizableSupport.readString(in));
+        if ((p2 & 1L << 9) != 0) setField138(ExternalizableSupport.readString(in));
+        if ((p2 & 1L << 10) != 0) setField139(ExternalizableSupport.readString(in));
+        if ((p2 & 1L << 11) != 0) setField140(ExternalizableSupport.readString(in));
+        if ((p2 & 1L << 12) != 0) setField141(ExternalizableSupport.readString(in));
+        if ((p2 & 1L << 13) != 0) setField142(ExternalizableSupport.readString(in));
+        if ((p2 & 1L << 14) != 0) setField143(ExternalizableSupport.readString(in));
+        if ((p2 & 1L << 15) != 0) setField144(ExternalizableSupport.readString(in));
+        if ((p2 & 1L << 16) != 0) setField145(ExternalizableSupport.readString(in));
+        if ((p2 & 1L << 17) != 0) setField146(ExternalizableSupport.readString(in));
+        if ((p2 & 1L << 18) != 0) setField147(ExternalizableSupport.readString(in));
+        if ((p2 & 1L << 19) != 0) setField148(ExternalizableSupport.readString(in));
+        if ((p2 & 1L << 20) != 0) setField149(ExternalizableSupport.readString(in));
+        if ((p2 & 1L << 21) != 0) setField150(ExternalizableSupport.readString(in));
+        if ((p2 & 1L << 22) != 0) setField151(ExternalizableSupport.readString(in));
+        if ((p2 & 1L << 23) != 0) setField152(ExternalizableSupport.readString(in));
+        if ((p2 & 1L << 24) != 0) setField153(ExternalizableSupport.readString(in));
+        if ((p2 & 1L << 25) != 0) setField154(ExternalizableSupport.readString(in));
+        if ((p2 & 1L << 26) != 0) setField155(ExternalizableSupport.readString(in));
+        if ((p2 & 1L << 27) != 0) setField156(ExternalizableSupport.readString(in));
+        if ((p2 & 1L << 28) != 0) setField157(ExternalizableSupport.readString(in));
+        if ((p2 & 1L << 29) != 0) setField158(ExternalizableSupport.readString(in));
+        if ((p2 & 1L << 30) != 0) setField159(ExternalizableSupport.readString(in));
+        if ((p2 & 1L << 31) != 0) setField160(ExternalizableSupport.readString(in));
+        if ((p2 & 1L << 32) != 0) setField161(ExternalizableSupport.readString(in));
+        if ((p2 & 1L << 33) != 0) setField162(ExternalizableSupport.readString(in));
+        if ((p2 & 1L << 34) != 0) setField163(ExternalizableSupport.readString(in));
+        if ((p2 & 1L << 35) != 0) setField164(ExternalizableSupport.readString(in));
+        if ((p2 & 1L << 36) != 0) setField165(ExternalizableSupport.readString(in));
+        if ((p2 & 1L << 37) != 0) setField166(ExternalizableSupport.readString(in));
+        if ((p2 & 1L << 38) != 0) setField167(ExternalizableSupport.readString(in));
+        if ((p2 & 1L << 39) != 0) setField168(ExternalizableSupport.readString(in));
+        if ((p2 & 1L << 40) != 0) setField169(ExternalizableSupport.readString(in));
+        if ((p2 & 1L << 41) != 0) setField170(ExternalizableSupport.readString(in));
+        if ((p2 & 1L << 42) != 0) setField171(ExternalizableSupport.readString(in));
+        if ((p2 & 1L << 43) != 0) setField172(ExternalizableSupport.readString(in));
+        if ((p2 & 1L << 44) != 0) setField173(ExternalizableSupport.readString(in));
+        if ((p2 & 1L << 45) != 0) setField174(ExternalizableSupport.readString(in));
+        if ((p2 & 1L << 46) != 0) setField175(ExternalizableSupport.readString(in));
+        if ((p2 & 1L << 47) != 0) setField176(ExternalizableSupport.readString(in));
+        if ((p2 & 1L << 48) != 0) setField177(ExternalizableSupport.readString(in));
+        if ((p2 & 1L << 49) != 0) setField178(ExternalizableSupport.readString(in));
+        if ((p2 & 1L << 50) != 0) setField179(ExternalizableSupport.readString(in));
+        if ((p2 & 1L << 51) != 0) setField180(ExternalizableSupport.readString(in));
+        if ((p2 & 1L << 52) != 0) setField181(ExternalizableSupport.readString(in));
+        if ((p2 & 1L << 53) != 0) setField182(ExternalizableSupport.readString(in));
+        if ((p2 & 1L << 54) != 0) setField183(ExternalizableSupport.readString(in));
+        if ((p2 & 1L << 55) != 0) setField184(ExternalizableSupport.readString(in));
+        if ((p2 & 1L << 56) != 0) setField185(ExternalizableSupport.readString(in));
+        if ((p2 & 1L << 57) != 0) setField186(ExternalizableSupport.readString(in));
+        if ((p2 & 1L << 58) != 0) setField187(ExternalizableSupport.readString(in));
+        if ((p2 & 1L << 59) != 0) setField188(ExternalizableSupport.readString(in));
+        if ((p2 & 1L << 60) != 0) setField189(ExternalizableSupport.readString(in));
+        if ((p2 & 1L << 61) != 0) setField190(ExternalizableSupport.readString(in));
+        if ((p2 & 1L << 62) != 0) setField191(ExternalizableSupport.readString(in));
+        if ((p2 & 1L << 63) != 0) setField192(ExternalizableSupport.readString(in));
+        if ((p3 & 1L << 0) != 0) setField193(ExternalizableSupport.readString(in));
+        if ((p3 & 1L << 1) != 0) setField194(ExternalizableSupport.readString(in));
+        if ((p3 & 1L << 2) != 0) setField195(ExternalizableSupport.readString(in));
+        if ((p3 & 1L << 3) != 0) setField196(ExternalizableSupport.readString(in));
+        if ((p3 & 1L << 4) != 0) setField197(ExternalizableSupport.readString(in));
+        if ((p3 & 1L << 5) != 0) setField198(ExternalizableSupport.readString(in));
+        if ((p3 & 1L << 6) != 0) setField199(ExternalizableSupport.readString(in));
+        if ((p3 & 1L << 7) != 0) setField200(ExternalizableSupport.readString(in));
+    }
+}
@@ -0,0 +1,82 @@
+package org.example;
+
+import java.io.Externalizable;
+import java.io.IOException;
+import java.io.ObjectInput;
+import java.io.ObjectOutput;
+
+/**
+ * {@link NestedPojo} with a hand-written {@link Externalizable} form: a 9-bit presence mask followed by the
+ * non-null fields. {@link #write} and {@link #read} are used directly by {@link ExternalizableLargePojo}, so
+ * nested instances are inlined without their own class descriptor or object handle.
+ */
+public class ExternalizableNestedPojo extends NestedPojo implements Externalizable {
+
+    private static final long serialVersionUID = 1L;
+
+    public ExternalizableNestedPojo() {
+    }
+
+    /**
+     * Shallow copy of {@code source}.
+     */
+    public ExternalizableNestedPojo(NestedPojo source) {
+        super(source.getField1(), source.getField2(), source.getField3(), source.getField4(), source.getField5(),
+            source.getLongField1(), source.getIntField1(), source.getDoubleField1(), source.getDeepNested());
+    }
+
+    @Override
+    public void writeExternal(ObjectOutput out) throws IOException {
+        write(out, this);
+    }
+
+    @Override
+    public void readExternal(ObjectInput in) throws IOException {
+        readFields(in, this);
+    }
+
+    public static void write(ObjectOutput out, NestedPojo pojo) throws IOException {
+        int presence = 0;
+        if (pojo.getField1() != null) presence |= 1;
+        if (pojo.getField2() != null) presence |= 1 << 1;
+        if (pojo.getField3() != null) presence |= 1 << 2;
+        if (pojo.getField4() != null) presence |= 1 << 3;
+        if (pojo.getField5() != null) presence |= 1 << 4;
+        if (pojo.getLongField1() != null) presence |= 1 << 5;
+        if (pojo.getIntField1() != null) presence |= 1 << 6;
+        if (pojo.getDoubleField1() != null) presence |= 1 << 7;
+        if (pojo.getDeepNested() != null) presence |= 1 << 8;
+
+        out.writeShort(presence);
+        if ((presence & 1) != 0) ExternalizableSupport.writeString(out, pojo.getField1());
+        if ((presence & 1 << 1) != 0) ExternalizableSupport.writeString(out, pojo.getField2());
+        if ((presence & 1 << 2) != 0) ExternalizableSupport.writeString(out, pojo.getField3());
+        if ((presence & 1 << 3) != 0) ExternalizableSupport.writeString(out, pojo.getField4());
+        if ((presence & 1 << 4) != 0) ExternalizableSupport.writeString(out, pojo.getField5());
+        if ((presence & 1 << 5) != 0) out.writeLong(pojo.getLongField1());
+        if ((presence & 1 << 6) != 0) out.writeInt(pojo.getIntField1());
+        if ((presence & 1 << 7) != 0) out.writeDouble(pojo.getDoubleField1());
+        if ((presence & 1 << 8) != 0) ExternalizableDeepNestedPojo.write(out, pojo.getDeepNested());
+    }
+
+    /**
+     * Reads a value written by {@link #write} into a plain {@link NestedPojo}.
+     */
+    public static NestedPojo read(ObjectInput in) throws IOException {
+        return readFields(in, new NestedPojo());
+    }
+
+    private static NestedPojo readFields(ObjectInput in, NestedPojo target) throws IOException {
+        final int presence = in.readUnsignedShort();
+        if ((presence & 1) != 0) target.setField1(ExternalizableSupport.readString(in));
+        if ((presence & 1 << 1) != 0) target.setField2(ExternalizableSupport.readString(in));
+        if ((presence & 1 << 2) != 0) target.setField3(ExternalizableSupport.readString(in));
+        if ((presence & 1 << 3) != 0) target.setField4(ExternalizableSupport.readString(in));
+        if ((presence & 1 << 4) != 0) target.setField5(ExternalizableSupport.readString(in));
+        if ((presence & 1 << 5) != 0) target.setLongField1(in.readLong());
+        if ((presence & 1 << 6) != 0) target.setIntField1(in.readInt());
+        if ((presence & 1 << 7) != 0) target.setDoubleField1(in.readDouble());
+        if ((presence & 1 << 8) != 0) target.setDeepNested(ExternalizableDeepNestedPojo.read(in));
+        return target;
+    }
+}
@@ -0,0 +1,97 @@
+package org.example;
+
+import java.io.IOException;
+import java.io.ObjectInput;
+import java.io.ObjectOutput;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Value encodings shared by the {@code Externalizable*Pojo} classes. Strings are length-prefixed UTF-8
+ * rather than {@code writeUTF}, which is limited to 64 KiB and uses modified UTF-8.
+ */
+final class ExternalizableSupport {
+
+    private ExternalizableSupport() {
+    }
+
+    static void writeString(ObjectOutput out, String value) throws IOException {
+        writeBytes(out, value.getBytes(StandardCharsets.UTF_8));
+    }
+
+    static String readString(ObjectInput in) throws IOException {
+        return new String(readBytes(in), StandardCharsets.UTF_8);
+    }
+
+    static void writeBytes(ObjectOutput out, byte[] value) throws IOException {
+        out.writeInt(value.length);
+        out.write(value);
+    }
+
+    static byte[] readBytes(ObjectInput in) throws IOException {
+        final byte[] value = new byte[in.readInt()];
+        in.readFully(value);
+        return value;
+    }
+
+    /**
+     * Writes a list of non-null strings.
+     */
+    static void writeStringList(ObjectOutput out, List<String> values) throws IOException {
+        out.writeInt(values.size());
+        for (String value : values) {
+            writeString(out, value);
+        }
+    }
+
+    static List<String> readStringList(ObjectInput in) throws IOException {
+        final int size = in.readInt();
+        final List<String> values = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            values.add(readString(in));
+        }
+        return values;
+    }
+
+    /**
+     * Writes a list of non-null integers.
+     */
+    static void writeIntList(ObjectOutput out, List<Integer> values) throws IOException {
+        out.writeInt(values.size());
+        for (Integer value : values) {
+            out.writeInt(value);
+        }
+    }
+
+    static List<Integer> readIntList(ObjectInput in) throws IOException {
+        final int size = in.readInt();
+        final List<Integer> values = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            values.add(in.readInt());
+        }
+        return values;
+    }
+
+    /**
+     * Writes a map with non-null keys and values; iteration order is kept on read.
+     */
+    static void writeStringMap(ObjectOutput out, Map<String, String> values) throws IOException {
+        out.writeInt(values.size());
+        for (Map.Entry<String, String> entry : values.entrySet()) {
+            writeString(out, entry.getKey());
+            writeString(out, entry.getValue());
+        }
+    }
+
+    static Map<String, String> readStringMap(ObjectInput in) throws IOException {
+        final int size = in.readInt();
+        final Map<String, String> values = new LinkedHashMap<>(Math.max(4, (int) (size / 0.75f) + 1));
+        for (int i = 0; i < size; i++) {
+            values.put(readString(in), readString(in));
+        }
+        return values;
+    }
+}
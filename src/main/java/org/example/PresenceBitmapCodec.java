@@ -0,0 +1,1266 @@
+package org.example;
+
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Compact binary codec for sparse {@link LargePojo} graphs: a fixed-size presence bitmap followed by the
+ * present values only, in declaration order, with no field names or tags.
+ * <p>
+ * Layout of one {@code LargePojo}:
+ * <ul>
+ *   <li>25 bytes of presence bits, one per field (three {@code long}s and a byte). A field is present when it
+ *       is non-null, or for primitives when it is non-zero; primitive {@code boolean}s are carried by their
+ *       bit alone.</li>
+ *   <li>{@code int}, {@code short}, {@code long} and their boxed forms as zigzag varints, {@code char} as an
+ *       unsigned varint, {@code byte} and {@code Boolean} as one byte, {@code float}/{@code double} as
+ *       fixed-width IEEE 754.</li>
+ *   <li>Strings and blobs as a varint length plus UTF-8 or raw bytes; lists and maps as a varint count plus
+ *       elements. Collections must not contain nulls.</li>
+ *   <li>{@code NestedPojo} and {@code DeepNestedPojo} inline with their own 2-byte and 1-byte bitmaps. The
+ *       bitmap makes every record self-delimiting, so no length prefixes are needed.</li>
+ * </ul>
+ * A list is a varint element count followed by the records. Fixed-width values use the buffer's byte order,
+ * big-endian unless changed, so encoder and decoder must agree on it. Sizes are computed up front, which
+ * lets {@link #encodeList(List)} allocate the result exactly once.
+ */
+public final class PresenceBitmapCodec {
+
+    private static final int PRESENCE_BYTES = 25;
+    private static final int NESTED_PRESENCE_BYTES = 2;
+    private static final int DEEP_NESTED_PRESENCE_BYTES = 1;
+
+    private PresenceBitmapCodec() {
+    }
+
+    public static byte[] encodeList(List<? extends LargePojo> pojos) {
+        final byte[] result = new byte[computeListSize(pojos)];
+        final ByteBuffer buffer = ByteBuffer.wrap(result);
+        encodeList(pojos, buffer);
+        if (buffer.hasRemaining()) {
+            throw new IllegalStateException("Computed size " + result.length + " but wrote " + buffer.position());
+        }
+        return result;
+    }
+
+    /**
+     * Writes the list at the buffer's position.
+     *
+     * @throws java.nio.BufferOverflowException if fewer than {@link #computeListSize} bytes remain
+     */
+    public static void encodeList(List<? extends LargePojo> pojos, ByteBuffer buffer) {
+        putVarint(buffer, pojos.size());
+        for (LargePojo pojo : pojos) {
+            encode(pojo, buffer);
+        }
+    }
+
+    public static int computeListSize(List<? extends LargePojo> pojos) {
+        int size = varintSize(pojos.size());
+        for (LargePojo pojo : pojos) {
+            size += computeSize(pojo);
+        }
+        return size;
+    }
+
+    public static List<LargePojo> decodeList(byte[] payload) {
+        return decodeList(ByteBuffer.wrap(payload));
+    }
+
+    /**
+     * Reads a list from the buffer's position, leaving the position just after it.
+     *
+     * @throws BufferUnderflowException if the buffer ends inside the list
+     * @throws IllegalArgumentException if a varint or length is malformed
+     */
+    public static List<LargePojo> decodeList(ByteBuffer buffer) {
+        final int count = getLength(buffer);
+        final List<LargePojo> pojos = new ArrayList<>(Math.min(count, buffer.remaining() / PRESENCE_BYTES));
+        for (int i = 0; i < count; i++) {
+            pojos.add(decode(buffer));
+        }
+        return pojos;
+    }
+
+    public static int computeSize(LargePojo pojo) {
+        int size = PRESENCE_BYTES;
+
+        if (pojo.getRef1() != null) size += computeNestedSize(pojo.getRef1());
+        if (pojo.getRef2() != null) size += computeNestedSize(pojo.getRef2());
+        if (pojo.getRef3() != null) size += computeNestedSize(pojo.getRef3());
+        if (pojo.getRef4() != null) size += computeNestedSize(pojo.getRef4());
+        if (pojo.getRef5() != null) size += computeNestedSize(pojo.getRef5());
+        if (pojo.getRef6() != null) size += computeNestedSize(pojo.getRef6());
+        if (pojo.getRef7() != null) size += computeNestedSize(pojo.getRef7());
+        if (pojo.getRef8() != null) size += computeNestedSize(pojo.getRef8());
+        if (pojo.getRef9() != null) size += computeNestedSize(pojo.getRef9());
+        if (pojo.getRef10() != null) size += computeNestedSize(pojo.getRef10());
+        if (pojo.getRef11() != null) size += computeNestedSize(pojo.getRef11());
+        if (pojo.getRef12() != null) size += computeNestedSize(pojo.getRef12());
+        if (pojo.getRef13() != null) size += computeNestedSize(pojo.getRef13());
+        if (pojo.getRef14() != null) size += computeNestedSize(pojo.getRef14());
+        if (pojo.getRef15() != null) size += computeNestedSize(pojo.getRef15());
+        if (pojo.getRef16() != null) size += computeNestedSize(pojo.getRef16());
+        if (pojo.getRef17() != null) size += computeNestedSize(pojo.getRef17());
+        if (pojo.getRef18() != null) size += computeNestedSize(pojo.getRef18());
+        if (pojo.getRef19() != null) size += computeNestedSize(pojo.getRef19());
+        if (pojo.getRef20() != null) size += computeNestedSize(pojo.getRef20());
+
+        if (pojo.getField21() != 0) size += varintSize(zigZag(pojo.getField21()));
+        if (pojo.getField22() != 0) size += varintSize(zigZag(pojo.getField22()));
+        if (pojo.getField23() != 0) size += varintSize(zigZag(pojo.getField23()));
+        if (pojo.getField24() != 0) size += varintSize(zigZag(pojo.getField24()));
+        if (pojo.getField25() != 0) size += varintSize(zigZag(pojo.getField25()));
+        if (pojo.getField26() != 0) size += varintSize(zigZag(pojo.getField26()));
+        if (pojo.getField27() != 0) size += varintSize(zigZag(pojo.getField27()));
+        if (pojo.getField28() != 0) size += varintSize(zigZag(pojo.getField28()));
+        if (pojo.getField29() != 0) size += varintSize(zigZag(pojo.getField29()));
+        if (pojo.getField30() != 0) size += varintSize(zigZag(pojo.getField30()));
+
+        if (pojo.getField31() != 0) size += varintSize(zigZag(pojo.getField31()));
+        if (pojo.getField32() != 0) size += varintSize(zigZag(pojo.getField32()));
+        if (pojo.getField33() != 0) size += varintSize(zigZag(pojo.getField33()));
+        if (pojo.getField34() != 0) size += varintSize(zigZag(pojo.getField34()));
+        if (pojo.getField35() != 0) size += varintSize(zigZag(pojo.getField35()));
+        if (pojo.getField36() != 0) size += varintSize(zigZag(pojo.getField36()));
+        if (pojo.getField37() != 0) size += varintSize(zigZag(pojo.getField37()));
+        if (pojo.getField38() != 0) size += varintSize(zigZag(pojo.getField38()));
+        if (pojo.getField39() != 0) size += varintSize(zigZag(pojo.getField39()));
+        if (pojo.getField40() != 0) size += varintSize(zigZag(pojo.getField40()));
+
+        if (Double.doubleToRawLongBits(pojo.getField41()) != 0L) size += Double.BYTES;
+        if (Double.doubleToRawLongBits(pojo.getField42()) != 0L) size += Double.BYTES;
+        if (Double.doubleToRawLongBits(pojo.getField43()) != 0L) size += Double.BYTES;
+        if (Double.doubleToRawLongBits(pojo.getField44()) != 0L) size += Double.BYTES;
+        if (Double.doubleToRawLongBits(pojo.getField45()) != 0L) size += Double.BYTES;
+        if (Double.doubleToRawLongBits(pojo.getField46()) != 0L) size += Double.BYTES;
+        if (Double.doubleToRawLongBits(pojo.getField47()) != 0L) size += Double.BYTES;
+        if (Double.doubleToRawLongBits(pojo.getField48()) != 0L) size += Double.BYTES;
+        if (Double.doubleToRawLongBits(pojo.getField49()) != 0L) size += Double.BYTES;
+        if (Double.doubleToRawLongBits(pojo.getField50()) != 0L) size += Double.BYTES;
+
+        if (Float.floatToRawIntBits(pojo.getField61()) != 0) size += Float.BYTES;
+        if (Float.floatToRawIntBits(pojo.getField62()) != 0) size += Float.BYTES;
+        if (Float.floatToRawIntBits(pojo.getField63()) != 0) size += Float.BYTES;
+        if (Float.floatToRawIntBits(pojo.getField64()) != 0) size += Float.BYTES;
+        if (Float.floatToRawIntBits(pojo.getField65()) != 0) size += Float.BYTES;
+        if (Float.floatToRawIntBits(pojo.getField66()) != 0) size += Float.BYTES;
+        if (Float.floatToRawIntBits(pojo.getField67()) != 0) size += Float.BYTES;
+        if (Float.floatToRawIntBits(pojo.getField68()) != 0) size += Float.BYTES;
+        if (Float.floatToRawIntBits(pojo.getField69()) != 0) size += Float.BYTES;
+        if (Float.floatToRawIntBits(pojo.getField70()) != 0) size += Float.BYTES;
+
+        if (pojo.getField71() != 0) size += varintSize(zigZag(pojo.getField71()));
+        if (pojo.getField72() != 0) size += varintSize(zigZag(pojo.getField72()));
+        if (pojo.getField73() != 0) size += varintSize(zigZag(pojo.getField73()));
+        if (pojo.getField74() != 0) size += varintSize(zigZag(pojo.getField74()));
+        if (pojo.getField75() != 0) size += varintSize(zigZag(pojo.getField75()));
+        if (pojo.getField76() != 0) size += varintSize(zigZag(pojo.getField76()));
+        if (pojo.getField77() != 0) size += varintSize(zigZag(pojo.getField77()));
+        if (pojo.getField78() != 0) size += varintSize(zigZag(pojo.getField78()));
+        if (pojo.getField79() != 0) size += varintSize(zigZag(pojo.getField79()));
+        if (pojo.getField80() != 0) size += varintSize(zigZag(pojo.getField80()));
+
+        if (pojo.getField81() != 0) size += 1;
+        if (pojo.getField82() != 0) size += 1;
+        if (pojo.getField83() != 0) size += 1;
+        if (pojo.getField84() != 0) size += 1;
+        if (pojo.getField85() != 0) size += 1;
+        if (pojo.getField86() != 0) size += 1;
+        if (pojo.getField87() != 0) size += 1;
+        if (pojo.getField88() != 0) size += 1;
+        if (pojo.getField89() != 0) size += 1;
+        if (pojo.getField90() != 0) size += 1;
+
+        if (pojo.getField91() != 0) size += varintSize(pojo.getField91());
+        if (pojo.getField92() != 0) size += varintSize(pojo.getField92());
+        if (pojo.getField93() != 0) size += varintSize(pojo.getField93());
+        if (pojo.getField94() != 0) size += varintSize(pojo.getField94());
+        if (pojo.getField95() != 0) size += varintSize(pojo.getField95());
+        if (pojo.getField96() != 0) size += varintSize(pojo.getField96());
+        if (pojo.getField97() != 0) size += varintSize(pojo.getField97());
+        if (pojo.getField98() != 0) size += varintSize(pojo.getField98());
+        if (pojo.getField99() != 0) size += varintSize(pojo.getField99());
+        if (pojo.getField100() != 0) size += varintSize(pojo.getField100());
+
+        if (pojo.getField101() != null) size += varintSize(zigZag(pojo.getField101()));
+        if (pojo.getField102() != null) size += varintSize(zigZag(pojo.getField102()));
+        if (pojo.getField103() != null) size += varintSize(zigZag(pojo.getField103()));
+        if (pojo.getField104() != null) size += varintSize(zigZag(pojo.getField104()));
+        if (pojo.getField105() != null) size += varintSize(zigZag(pojo.getField105()));
+
+        if (pojo.getField106() != null) size += varintSize(zigZag(pojo.getField106()));
+        if (pojo.getField107() != null) size += varintSize(zigZag(pojo.getField107()));
+        if (pojo.getField108() != null) size += varintSize(zigZag(pojo.getField108()));
+
+        if (pojo.getField109() != null) size += Double.BYTES;
+        if (pojo.getField110() != null) size += Double.BYTES;
+
+        if (pojo.getField111() != null) size += 1;
+        if (pojo.getField112() != null) size += 1;
+
+        if (pojo.getField113() != null) size += stringListSize(pojo.getField113());
+
+        if (pojo.getField114() != null) size += intListSize(pojo.getField114());
+
+        if (pojo.getField115() != null) size += stringMapSize(pojo.getField115());
+
+        if (pojo.getField116() != null) size += stringSize(pojo.getField116());
+        if (pojo.getField117() != null) size += stringSize(pojo.getField117());
+        if (pojo.getField118() != null) size += stringSize(pojo.getField118());
+        if (pojo.getField119() != null) size += stringSize(pojo.getField119());
+        if (pojo.getField120() != null) size += stringSize(pojo.getField120());
+        if (pojo.getField121() != null) size += stringSize(pojo.getField121());
+        if (pojo.getField122() != null) size += stringSize(pojo.getField122());
+        if (pojo.getField123() != null) size += stringSize(pojo.getField123());
+        if (pojo.getField124() != null) size += stringSize(pojo.getField124());
+        if (pojo.getField125() != null) size += stringSize(pojo.getField125());
+        if (pojo.getField126() != null) size += stringSize(pojo.getField126());
+        if (pojo.getField127() != null) size += stringSize(pojo.getField127());
+        if (pojo.getField128() != null) size += stringSize(pojo.getField128());
+        if (pojo.getField129() != null) size += stringSize(pojo.getField129());
+        if (pojo.getField130() != null) size += stringSize(pojo.getField130());
+        if (pojo.getField131() != null) size += stringSize(pojo.getField131());
+        if (pojo.getField132() != null) size += stringSize(pojo.getField132());
+        if (pojo.getField133() != null) size += stringSize(pojo.getField133());
+        if (pojo.getField134() != null) size += stringSize(pojo.getField134());
+        if (pojo.getField135() != null) size += stringSize(pojo.getField135());
+        if (pojo.getField136() != null) size += stringSize(pojo.getField136());
+        if (pojo.getField137() != null) size += stringSize(pojo.getField137());
+        if (pojo.getField138() != null) size += stringSize(pojo.getField138());
+        if (pojo.getField139() != null) size += stringSize(pojo.getField139());
+        if (pojo.getField140() != null) size += stringSize(pojo.getField140());
+        if (pojo.getField141() != null) size += stringSize(pojo.getField141());
+        if (pojo.getField142() != null) size += stringSize(pojo.getField142());
+        if (pojo.getField143() != null) size += stringSize(pojo.getField143());
+        if (pojo.getField144() != null) size += stringSize(pojo.getField144());
+        if (pojo.getField145() != null) size += stringSize(pojo.getField145());
+        if (pojo.getField146() != null) size += stringSize(pojo.getField146());
+        if (pojo.getField147() != null) size += stringSize(pojo.getField147());
+        if (pojo.getField148() != null) size += stringSize(pojo.getField148());
+        if (pojo.getField149() != null) size += stringSize(pojo.getField149());
+        if (pojo.getField150() != null) size += stringSize(pojo.getField150());
+        if (pojo.getField151() != null) size += stringSize(pojo.getField151());
+        if (pojo.getField152() != null) size += stringSize(pojo.getField152());
+        if (pojo.getField153() != null) size += stringSize(pojo.getField153());
+        if (pojo.getField154() != null) size += stringSize(pojo.getField154());
+        if (pojo.getField155() != null) size += stringSize(pojo.getField155());
+        if (pojo.getField156() != null) size += stringSize(pojo.getField156());
+        if (pojo.getField157() != null) size += stringSize(pojo.getField157());
+        if (pojo.getField158() != null) size += stringSize(pojo.getField158());
+        if (pojo.getField159() != null) size += stringSize(pojo.getField159());
+        if (pojo.getField160() != null) size += stringSize(pojo.getField160());
+        if (pojo.getField161() != null) size += stringSize(pojo.getField161());
+        if (pojo.getField162() != null) size += stringSize(pojo.getField162());
+        if (pojo.getField163() != null) size += stringSize(pojo.getField163());
+        if (pojo.getField164() != null) size += stringSize(pojo.getField164());
+        if (pojo.getField165() != null) size += stringSize(pojo.getField165());
+        if (pojo.getField166() != null) size += stringSize(pojo.getField166());
+        if (pojo.getField167() != null) size += stringSize(pojo.getField167());
+        if (pojo.getField168() != null) size += stringSize(pojo.getField168());
+        if (pojo.getField169() != null) size += stringSize(pojo.getField169());
+        if (pojo.getField170() != null) size += stringSize(pojo.getField170());
+        if (pojo.getField171() != null) size += stringSize(pojo.getField171());
+        if (pojo.getField172() != null) size += stringSize(pojo.getField172());
+        if (pojo.getField173() != null) size += stringSize(pojo.getField173());
+        if (pojo.getField174() != null) size += stringSize(pojo.getField174());
+        if (pojo.getField175() != null) size += stringSize(pojo.getField175());
+        if (pojo.getField176() != null) size += stringSize(pojo.getField176());
+        if (pojo.getField177() != null) size += stringSize(pojo.getField177());
+        if (pojo.getField178() != null) size += stringSize(pojo.getField178());
+        if (pojo.getField179() != null) size += stringSize(pojo.getField179());
+        if (pojo.getField180() != null) size += stringSize(pojo.getField180());
+        if (pojo.getField181() != null) size += stringSize(pojo.getField181());
+        if (pojo.getField182() != null) size += stringSize(pojo.getField182());
+        if (pojo.getField183() != null) size += stringSize(pojo.getField183());
+        if (pojo.getField184() != null) size += stringSize(pojo.getField184());
+        if (pojo.getField185() != null) size += stringSize(pojo.getField185());
+        if (pojo.getField186() != null) size += stringSize(pojo.getField186());
+        if (pojo.getField187() != null) size += stringSize(pojo.getField187());
+        if (pojo.getField188() != null) size += stringSize(pojo.getField188());
+        if (pojo.getField189() != null) size += stringSize(pojo.getField189());
+        if (pojo.getField190() != null) size += stringSize(pojo.getField190());
+        if (pojo.getField191() != null) size += stringSize(pojo.getField191());
+        if (pojo.getField192() != null) size += stringSize(pojo.getField192());
+        if (pojo.getField193() != null) size += stringSize(pojo.getField193());
+        if (pojo.getField194() != null) size += stringSize(pojo.getField194());
+        if (pojo.getField195() != null) size += stringSize(pojo.getField195());
+        if (pojo.getField196() != null) size += stringSize(pojo.getField196());
+        if (pojo.getField197() != null) size += stringSize(pojo.getField197());
+        if (pojo.getField198() != null) size += stringSize(pojo.getField198());
+        if (pojo.getField199() != null) size += stringSize(pojo.getField199());
+        if (pojo.getField200() != null) size += stringSize(pojo.getField200());
+        return size;
+    }
+
+    public static void encode(LargePojo pojo, ByteBuffer buffer) {
+        long p0 = 0;
+        long p1 = 0;
+        long p2 = 0;
+        long p3 = 0;
+        if (pojo.getRef1() != null) p0 |= 1L << 0;
+        if (pojo.getRef2() != null) p0 |= 1L << 1;
+        if (pojo.getRef3() != null) p0 |= 1L << 2;
+        if (pojo.getRef4() != null) p0 |= 1L << 3;
+        if (pojo.getRef5() != null) p0 |= 1L << 4;
+        if (pojo.getRef6() != null) p0 |= 1L << 5;
+        if (pojo.getRef7() != null) p0 |= 1L << 6;
+        if (pojo.getRef8() != null) p0 |= 1L << 7;
+        if (pojo.getRef9() != null) p0 |= 1L << 8;
+        if (pojo.getRef10() != null) p0 |= 1L << 9;
+        if (pojo.getRef11() != null) p0 |= 1L << 10;
+        if (pojo.getRef12() != null) p0 |= 1L << 11;
+        if (pojo.getRef13() != null) p0 |= 1L << 12;
+        if (pojo.getRef14() != null) p0 |= 1L << 13;
+        if (pojo.getRef15() != null) p0 |= 1L << 14;
+        if (pojo.getRef16() != null) p0 |= 1L << 15;
+        if (pojo.getRef17() != null) p0 |= 1L << 16;
+        if (pojo.getRef18() != null) p0 |= 1L << 17;
+        if (pojo.getRef19() != null) p0 |= 1L << 18;
+        if (pojo.getRef20() != null) p0 |= 1L << 19;
+
+        if (pojo.getField21() != 0) p0 |= 1L << 20;
+        if (pojo.getField22() != 0) p0 |= 1L << 21;
+        if (pojo.getField23() != 0) p0 |= 1L << 22;
+        if (pojo.getField24() != 0) p0 |= 1L << 23;
+        if (pojo.getField25() != 0) p0 |= 1L << 24;
+        if (pojo.getField26() != 0) p0 |= 1L << 25;
+        if (pojo.getField27() != 0) p0 |= 1L << 26;
+        if (pojo.getField28() != 0) p0 |= 1L << 27;
+        if (pojo.getField29() != 0) p0 |= 1L << 28;
+        if (pojo.getField30() != 0) p0 |= 1L << 29;
+
+        if (pojo.getField31() != 0) p0 |= 1L << 30;
+        if (pojo.getField32() != 0) p0 |= 1L << 31;
+        if (pojo.getField33() != 0) p0 |= 1L << 32;
+        if (pojo.getField34() != 0) p0 |= 1L << 33;
+        if (pojo.getField35() != 0) p0 |= 1L << 34;
+        if (pojo.getField36() != 0) p0 |= 1L << 35;
+        if (pojo.getField37() != 0) p0 |= 1L << 36;
+        if (pojo.getField38() != 0) p0 |= 1L << 37;
+        if (pojo.getField39() != 0) p0 |= 1L << 38;
+        if (pojo.getField40() != 0) p0 |= 1L << 39;
+
+        if (Double.doubleToRawLongBits(pojo.getField41()) != 0L) p0 |= 1L << 40;
+        if (Double.doubleToRawLongBits(pojo.getField42()) != 0L) p0 |= 1L << 41;
+        if (Double.doubleToRawLongBits(pojo.getField43()) != 0L) p0 |= 1L << 42;
+        if (Double.doubleToRawLongBits(pojo.getField44()) != 0L) p0 |= 1L << 43;
+        if (Double.doubleToRawLongBits(pojo.getField45()) != 0L) p0 |= 1L << 44;
+        if (Double.doubleToRawLongBits(pojo.getField46()) != 0L) p0 |= 1L << 45;
+        if (Double.doubleToRawLongBits(pojo.getField47()) != 0L) p0 |= 1L << 46;
+        if (Double.doubleToRawLongBits(pojo.getField48()) != 0L) p0 |= 1L << 47;
+        if (Double.doubleToRawLongBits(pojo.getField49()) != 0L) p0 |= 1L << 48;
+        if (Double.doubleToRawLongBits(pojo.getField50()) != 0L) p0 |= 1L << 49;
+
+        if (pojo.isField51()) p0 |= 1L << 50;
+        if (pojo.isField52()) p0 |= 1L << 51;
+        if (pojo.isField53()) p0 |= 1L << 52;
+        if (pojo.isField54()) p0 |= 1L << 53;
+        if (pojo.isField55()) p0 |= 1L << 54;
+        if (pojo.isField56()) p0 |= 1L << 55;
+        if (pojo.isField57()) p0 |= 1L << 56;
+        if (pojo.isField58()) p0 |= 1L << 57;
+        if (pojo.isField59()) p0 |= 1L << 58;
+        if (pojo.isField60()) p0 |= 1L << 59;
+
+        if (Float.floatToRawIntBits(pojo.getField61()) != 0) p0 |= 1L << 60;
+        if (Float.floatToRawIntBits(pojo.getField62()) != 0) p0 |= 1L << 61;
+        if (Float.floatToRawIntBits(pojo.getField63()) != 0) p0 |= 1L << 62;
+        if (Float.floatToRawIntBits(pojo.getField64()) != 0) p0 |= 1L << 63;
+        if (Float.floatToRawIntBits(pojo.getField65()) != 0) p1 |= 1L << 0;
+        if (Float.floatToRawIntBits(pojo.getField66()) != 0) p1 |= 1L << 1;
+        if (Float.floatToRawIntBits(pojo.getField67()) != 0) p1 |= 1L << 2;
+        if (Float.floatToRawIntBits(pojo.getField68()) != 0) p1 |= 1L << 3;
+        if (Float.floatToRawIntBits(pojo.getField69()) != 0) p1 |= 1L << 4;
+        if (Float.floatToRawIntBits(pojo.getField70()) != 0) p1 |= 1L << 5;
+
+        if (pojo.getField71() != 0) p1 |= 1L << 6;
+        if (pojo.getField72() != 0) p1 |= 1L << 7;
+        if (pojo.getField73() != 0) p1 |= 1L << 8;
+        if (pojo.getField74() != 0) p1 |= 1L << 9;
+        if (pojo.getField75() != 0) p1 |= 1L << 10;
+        if (pojo.getField76() != 0) p1 |= 1L << 11;
+        if (pojo.getField77() != 0) p1 |= 1L << 12;
+        if (pojo.getField78() != 0) p1 |= 1L << 13;
+        if (pojo.getField79() != 0) p1 |= 1L << 14;
+        if (pojo.getField80() != 0) p1 |= 1L << 15;
+
+        if (pojo.getField81() != 0) p1 |= 1L << 16;
+        if (pojo.getField82() != 0) p1 |= 1L << 17;
+        if (pojo.getField83() != 0) p1 |= 1L << 18;
+        if (pojo.getField84() != 0) p1 |= 1L << 19;
+        if (pojo.getField85() != 0) p1 |= 1L << 20;
+        if (pojo.getField86() != 0) p1 |= 1L << 21;
+        if (pojo.getField87() != 0) p1 |= 1L << 22;
+        if (pojo.getField88() != 0) p1 |= 1L << 23;
+        if (pojo.getField89() != 0) p1 |= 1L << 24;
+        if (pojo.getField90() != 0) p1 |= 1L << 25;
+
+        if (pojo.getField91() != 0) p1 |= 1L << 26;
+        if (pojo.getField92() != 0) p1 |= 1L << 27;
+        if (pojo.getField93() != 0) p1 |= 1L << 28;
+        if (pojo.getField94() != 0) p1 |= 1L << 29;
+        if (pojo.getField95() != 0) p1 |= 1L << 30;
+        if (pojo.getField96() != 0) p1 |= 1L << 31;
+        if (pojo.getField97() != 0) p1 |= 1L << 32;
+        if (pojo.getField98() != 0) p1 |= 1L << 33;
+        if (pojo.getField99() != 0) p1 |= 1L << 34;
+        if (pojo.getField100() != 0) p1 |= 1L << 35;
+
+        if (pojo.getField101() != null) p1 |= 1L << 36;
+        if (pojo.getField102() != null) p1 |= 1L << 37;
+        if (pojo.getField103() != null) p1 |= 1L << 38;
+        if (pojo.getField104() != null) p1 |= 1L << 39;
+        if (pojo.getField105() != null) p1 |= 1L << 40;
+
+        if (pojo.getField106() != null) p1 |= 1L << 41;
+        if (pojo.getField107() != null) p1 |= 1L << 42;
+        if (pojo.getField108() != null) p1 |= 1L << 43;
+
+        if (pojo.getField109() != null) p1 |= 1L << 44;
+        if (pojo.getField110() != null) p1 |= 1L << 45;
+
+        if (pojo.getField111() != null) p1 |= 1L << 46;
+        if (pojo.getField112() != null) p1 |= 1L << 47;
+
+        if (pojo.getField113() != null) p1 |= 1L << 48;
+
+        if (pojo.getField114() != null) p1 |= 1L << 49;
+
+        if (pojo.getField115() != null) p1 |= 1L << 50;
+
+        if (pojo.getField116() != null) p1 |= 1L << 51;
+        if (pojo.getField117() != null) p1 |= 1L << 52;
+        if (pojo.getField118() != null) p1 |= 1L << 53;
+        if (pojo.getField119() != null) p1 |= 1L << 54;
+        if (pojo.getField120() != null) p1 |= 1L << 55;
+        if (pojo.getField121() != null) p1 |= 1L << 56;
+        if (pojo.getField122() != null) p1 |= 1L << 57;
+        if (pojo.getField123() != null) p1 |= 1L << 58;
+        if (pojo.getField124() != null) p1 |= 1L << 59;
+        if (pojo.getField125() != null) p1 |= 1L << 60;
+        if (pojo.getField126() != null) p1 |= 1L << 61;
+        if (pojo.getField127() != null) p1 |= 1L << 62;
+        if (pojo.getField128() != null) p1 |= 1L << 63;
+        if (pojo.getField129() != null) p2 |= 1L << 0;
+        if (pojo.getField130() != null) p2 |= 1L << 1;
+        if (pojo.getField131() != null) p2 |= 1L << 2;
+        if (pojo.getField132() != null) p2 |= 1L << 3;
+        if (pojo.getField133() != null) p2 |= 1L << 4;
+        if (pojo.getField134() != null) p2 |= 1L << 5;
+        if (pojo.getField135() != null) p2 |= 1L << 6;
+        if (pojo.getField136() != null) p2 |= 1L << 7;
+        if (pojo.getField137() != null) p2 |= 1L << 8;
+        if (pojo.getField138() != null) p2 |= 1L << 9;
+        if (pojo.getField139() != null) p2 |= 1L << 10;
+        if (pojo.getField140() != null) p2 |= 1L << 11;
+        if (pojo.getField141() != null) p2 |= 1L << 12;
+        if (pojo.getField142() != null) p2 |= 1L << 13;
+        if (pojo.getField143() != null) p2 |= 1L << 14;
+        if (pojo.getField144() != null) p2 |= 1L << 15;
+        if (pojo.getField145() != null) p2 |= 1L << 16;
+        if (pojo.getField146() != null) p2 |= 1L << 17;
+        if (pojo.getField147() != null) p2 |= 1L << 18;
+        if (pojo.getField148() != null) p2 |= 1L << 19;
+        if (pojo.getField149() != null) p2 |= 1L << 20;
+        if (pojo.getField150() != null) p2 |= 1L << 21;
+        if (pojo.getField151() != null) p2 |= 1L << 22;
+        if (pojo.getField152() != null) p2 |= 1L << 23;
+        if (pojo.getField153() != null) p2 |= 1L << 24;
+        if (pojo.getField154() != null) p2 |= 1L << 25;
+        if (pojo.getField155() != null) p2 |= 1L << 26;
+        if (pojo.getField156() != null) p2 |= 1L << 27;
+        if (pojo.getField157() != null) p2 |= 1L << 28;
+        if (pojo.getField158() != null) p2 |= 1L << 29;
+        if (pojo.getField159() != null) p2 |= 1L << 30;
+        if (pojo.getField160() != null) p2 |= 1L << 31;
+        if (pojo.getField161() != null) p2 |= 1L << 32;
+        if (pojo.getField162() != null) p2 |= 1L << 33;
+        if (pojo.getField163() != null) p2 |= 1L << 34;
+        if (pojo.getField164() != null) p2 |= 1L << 35;
+        if (pojo.getField165() != null) p2 |= 1L << 36;
+        if (pojo.getField166() != null) p2 |= 1L << 37;
+        if (pojo.getField167() != null) p2 |= 1L << 38;
+        if (pojo.getField168() != null) p2 |= 1L << 39;
+        if (pojo.getField169() != null) p2 |= 1L << 40;
+        if (pojo.getField170() != null) p2 |= 1L << 41;
+        if (pojo.getField171() != null) p2 |= 1L << 42;
+        if (pojo.getField172() != null) p2 |= 1L << 43;
+        if (pojo.getField173() != null) p2 |= 1L << 44;
+        if (pojo.getField174() != null) p2 |= 1L << 45;
+        if (pojo.getField175() != null) p2 |= 1L << 46;
+        if (pojo.getField176() != null) p2 |= 1L << 47;
+        if (pojo.getField177() != null) p2 |= 1L << 48;
+        if (pojo.getField178() != null) p2 |= 1L << 49;
+        if (pojo.getField179() != null) p2 |= 1L << 50;
+        if (pojo.getField180() != null) p2 |= 1L << 51;
+        if (pojo.getField181() != null) p2 |= 1L << 52;
+        if (pojo.getField182() != null) p2 |= 1L << 53;
+        if (pojo.getField183() != null) p2 |= 1L << 54;
+        if (pojo.getField184() != null) p2 |= 1L << 55;
+        if (pojo.getField185() != null) p2 |= 1L << 56;
+        if (pojo.getField186() != null) p2 |= 1L << 57;
+        if (pojo.getField187() != null) p2 |= 1L << 58;
+        if (pojo.getField188() != null) p2 |= 1L << 59;
+        if (pojo.getField189() != null) p2 |= 1L << 60;
+        if (pojo.getField190() != null) p2 |= 1L << 61;
+        if (pojo.getField191() != null) p2 |= 1L << 62;
+        if (pojo.getField192() != null) p2 |= 1L << 63;
+        if (pojo.getField193() != null) p3 |= 1L << 0;
+        if (pojo.getField194() != null) p3 |= 1L << 1;
+        if (pojo.getField195() != null) p3 |= 1L << 2;
+        if (pojo.getField196() != null) p3 |= 1L << 3;
+        if (pojo.getField197() != null) p3 |= 1L << 4;
+        if (pojo.getField198() != null) p3 |= 1L << 5;
+        if (pojo.getField199() != null) p3 |= 1L << 6;
+        if (pojo.getField200() != null) p3 |= 1L << 7;
+
+        buffer.putLong(p0);
+        buffer.putLong(p1);
+        buffer.putLong(p2);
+        buffer.put((byte) p3);
+
+        if ((p0 & 1L << 0) != 0) encodeNested(pojo.getRef1(), buffer);
+        if ((p0 & 1L << 1) != 0) encodeNested(pojo.getRef2(), buffer);
+        if ((p0 & 1L << 2) != 0) encodeNested(pojo.getRef3(), buffer);
+        if ((p0 & 1L << 3) != 0) encodeNested(pojo.getRef4(), buffer);
+        if ((p0 & 1L << 4) != 0) encodeNested(pojo.getRef5(), buffer);
+        if ((p0 & 1L << 5) != 0) encodeNested(pojo.getRef6(), buffer);
+        if ((p0 & 1L << 6) != 0) encodeNested(pojo.getRef7(), buffer);
+        if ((p0 & 1L << 7) != 0) encodeNested(pojo.getRef8(), buffer);
+        if ((p0 & 1L << 8) != 0) encodeNested(pojo.getRef9(), buffer);
+        if ((p0 & 1L << 9) != 0) encodeNested(pojo.getRef10(), buffer);
+        if ((p0 & 1L << 10) != 0) encodeNested(pojo.getRef11(), buffer);
+        if ((p0 & 1L << 11) != 0) encodeNested(pojo.getRef12(), buffer);
+        if ((p0 & 1L << 12) != 0) encodeNested(pojo.getRef13(), buffer);
+        if ((p0 & 1L << 13) != 0) encodeNested(pojo.getRef14(), buffer);
+        if ((p0 & 1L << 14) != 0) encodeNested(pojo.getRef15(), buffer);
+        if ((p0 & 1L << 15) != 0) encodeNested(pojo.getRef16(), buffer);
+        if ((p0 & 1L << 16) != 0) encodeNested(pojo.getRef17(), buffer);
+        if ((p0 & 1L << 17) != 0) encodeNested(pojo.getRef18(), buffer);
+        if ((p0 & 1L << 18) != 0) encodeNested(pojo.getRef19(), buffer);
+        if ((p0 & 1L << 19) != 0) encodeNested(pojo.getRef20(), buffer);
+
+        if ((p0 & 1L << 20) != 0) putVarint(buffer, zigZag(pojo.getField21()));
+        if ((p0 & 1L << 21) != 0) putVarint(buffer, zigZag(pojo.getField22()));
+        if ((p0 & 1L << 22) != 0) putVarint(buffer, zigZag(pojo.getField23()));
+        if ((p0 & 1L << 23) != 0) putVarint(buffer, zigZag(pojo.getField24()));
+        if ((p0 & 1L << 24) != 0) putVarint(buffer, zigZag(pojo.getField25()));
+        if ((p0 & 1L << 25) != 0) putVarint(buffer, zigZag(pojo.getField26()));
+        if ((p0 & 1L << 26) != 0) putVarint(buffer, zigZag(pojo.getField27()));
+        if ((p0 & 1L << 27) != 0) putVarint(buffer, zigZag(pojo.getField28()));
+        if ((p0 & 1L << 28) != 0) putVarint(buffer, zigZag(pojo.getField29()));
+        if ((p0 & 1L << 29) != 0) putVarint(buffer, zigZag(pojo.getField30()));
+
+        if ((p0 & 1L << 30) != 0) putVarint(buffer, zigZag(pojo.getField31()));
+        if ((p0 & 1L << 31) != 0) putVarint(buffer, zigZag(pojo.getField32()));
+        if ((p0 & 1L << 32) != 0) putVarint(buffer, zigZag(pojo.getField33()));
+        if ((p0 & 1L << 33) != 0) putVarint(buffer, zigZag(pojo.getField34()));
+        if ((p0 & 1L << 34) != 0) putVarint(buffer, zigZag(pojo.getField35()));
+        if ((p0 & 1L << 35) != 0) putVarint(buffer, zigZag(pojo.getField36()));
+        if ((p0 & 1L << 36) != 0) putVarint(buffer, zigZag(pojo.getField37()));
+        if ((p0 & 1L << 37) != 0) putVarint(buffer, zigZag(pojo.getField38()));
+        if ((p0 & 1L << 38) != 0) putVarint(buffer, zigZag(pojo.getField39()));
+        if ((p0 & 1L << 39) != 0) putVarint(buffer, zigZag(pojo.getField40()));
+
+        if ((p0 & 1L << 40) != 0) buffer.putDouble(pojo.getField41());
+        if ((p0 & 1L << 41) != 0) buffer.putDouble(pojo.getField42());
+        if ((p0 & 1L << 42) != 0) buffer.putDouble(pojo.getField43());
+        if ((p0 & 1L << 43) != 0) buffer.putDouble(pojo.getField44());
+        if ((p0 & 1L << 44) != 0) buffer.putDouble(pojo.getField45());
+        if ((p0 & 1L << 45) != 0) buffer.putDouble(pojo.getField46());
+        if ((p0 & 1L << 46) != 0) buffer.putDouble(pojo.getField47());
+        if ((p0 & 1L << 47) != 0) buffer.putDouble(pojo.getField48());
+        if ((p0 & 1L << 48) != 0) buffer.putDouble(pojo.getField49());
+        if ((p0 & 1L << 49) != 0) buffer.putDouble(pojo.getField50());
+
+        if ((p0 & 1L << 60) != 0) buffer.putFloat(pojo.getField61());
+        if ((p0 & 1L << 61) != 0) buffer.putFloat(pojo.getField62());
+        if ((p0 & 1L << 62) != 0) buffer.putFloat(pojo.getField63());
+        if ((p0 & 1L << 63) != 0) buffer.putFloat(pojo.getField64());
+        if ((p1 & 1L << 0) != 0) buffer.putFloat(pojo.getField65());
+        if ((p1 & 1L << 1) != 0) buffer.putFloat(pojo.getField66());
+        if ((p1 & 1L << 2) != 0) buffer.putFloat(pojo.getField67());
+        if ((p1 & 1L << 3) != 0) buffer.putFloat(pojo.getField68());
+        if ((p1 & 1L << 4) != 0) buffer.putFloat(pojo.getField69());
+        if ((p1 & 1L << 5) != 0) buffer.putFloat(pojo.getField70());
+
+        if ((p1 & 1L << 6) != 0) putVarint(buffer, zigZag(pojo.getField71()));
+        if ((p1 & 1L << 7) != 0) putVarint(buffer, zigZag(pojo.getField72()));
+        if ((p1 & 1L << 8) != 0) putVarint(buffer, zigZag(pojo.getField73()));
+        if ((p1 & 1L << 9) != 0) putVarint(buffer, zigZag(pojo.getField74()));
+        if ((p1 & 1L << 10) != 0) putVarint(buffer, zigZag(pojo.getField75()));
+        if ((p1 & 1L << 11) != 0) putVarint(buffer, zigZag(pojo.getField76()));
+        if ((p1 & 1L << 12) != 0) putVarint(buffer, zigZag(pojo.getField77()));
+        if ((p1 & 1L << 13) != 0) putVarint(buffer, zigZag(pojo.getField78()));
+        if ((p1 & 1L << 14) != 0) putVarint(buffer, zigZag(pojo.getField79()));
+        if ((p1 & 1L << 15) != 0) putVarint(buffer, zigZag(pojo.getField80()));
+
+        if ((p1 & 1L << 16) != 0) buffer.put(pojo.getField81());
+        if ((p1 & 1L << 17) != 0) buffer.put(pojo.getField82());
+        if ((p1 & 1L << 18) != 0) buffer.put(pojo.getField83());
+        if ((p1 & 1L << 19) != 0) buffer.put(pojo.getField84());
+        if ((p1 & 1L << 20) != 0) buffer.put(pojo.getField85());
+        if ((p1 & 1L << 21) != 0) buffer.put(pojo.getField86());
+        if ((p1 & 1L << 22) != 0) buffer.put(pojo.getField87());
+        if ((p1 & 1L << 23) != 0) buffer.put(pojo.getField88());
+        if ((p1 & 1L << 24) != 0) buffer.put(pojo.getField89());
+        if ((p1 & 1L << 25) != 0) buffer.put(pojo.getField90());
+
+        if ((p1 & 1L << 26) != 0) putVarint(buffer, pojo.getField91());
+        if ((p1 & 1L << 27) != 0) putVarint(buffer, pojo.getField92());
+        if ((p1 & 1L << 28) != 0) putVarint(buffer, pojo.getField93());
+        if ((p1 & 1L << 29) != 0) putVarint(buffer, pojo.getField94());
+        if ((p1 & 1L << 30) != 0) putVarint(buffer, pojo.getField95());
+        if ((p1 & 1L << 31) != 0) putVarint(buffer, pojo.getField96());
+        if ((p1 & 1L << 32) != 0) putVarint(buffer, pojo.getField97());
+        if ((p1 & 1L << 33) != 0) putVarint(buffer, pojo.getField98());
+        if ((p1 & 1L << 34) != 0) putVarint(buffer, pojo.getField99());
+        if ((p1 & 1L << 35) != 0) putVarint(buffer, pojo.getField100());
+
+        if ((p1 & 1L << 36) != 0) putVarint(buffer, zigZag(pojo.getField101()));
+        if ((p1 & 1L << 37) != 0) putVarint(buffer, zigZag(pojo.getField102()));
+        if ((p1 & 1L << 38) != 0) putVarint(buffer, zigZag(pojo.getField103()));
+        if ((p1 & 1L << 39) != 0) putVarint(buffer, zigZag(pojo.getField104()));
+        if ((p1 & 1L << 40) != 0) putVarint(buffer, zigZag(pojo.getField105()));
+
+        if ((p1 & 1L << 41) != 0) putVarint(buffer, zigZag(pojo.getField106()));
+        if ((p1 & 1L << 42) != 0) putVarint(buffer, zigZag(pojo.getField107()));
+        if ((p1 & 1L << 43) != 0) putVarint(buffer, zigZag(pojo.getField108()));
+
+        if ((p1 & 1L << 44) != 0) buffer.putDouble(pojo.getField109());
+        if ((p1 & 1L << 45) != 0) buffer.putDouble(pojo.getField110());
+
+        if ((p1 & 1L << 46) != 0) buffer.put((byte) (pojo.getField111() ? 1 : 0));
+        if ((p1 & 1L << 47) != 0) buffer.put((byte) (pojo.getField112() ? 1 : 0));
+
+        if ((p1 & 1L << 48) != 0) putStringList(buffer, pojo.getField113());
+
+        if ((p1 & 1L << 49) != 0) putIntList(buffer, pojo.getField114());
+
+        if ((p1 & 1L << 50) != 0) putStringMap(buffer, pojo.getField115());
+
+        if ((p1 & 1L << 51) != 0) putString(buffer, pojo.getField116());
+        if ((p1 & 1L << 52) != 0) putString(buffer, pojo.getField117());
+        if ((p1 & 1L << 53) != 0) putString(buffer, pojo.getField118());
+        if ((p1 & 1L << 54) != 0) putString(buffer, pojo.getField119());
+        if ((p1 & 1L << 55) != 0) putString(buffer, pojo.getField120());
+        if ((p1 & 1L << 56) != 0) putString(buffer, pojo.getField121());
+        if ((p1 & 1L << 57) != 0) putString(buffer, pojo.getField122());
+        if ((p1 & 1L << 58) != 0) putString(buffer, pojo.getField123());
+        if ((p1 & 1L << 59) != 0) putString(buffer, pojo.getField124());
+        if ((p1 & 1L << 60) != 0) putString(buffer, pojo.getField125());
+        if ((p1 & 1L << 61) != 0) putString(buffer, pojo.getField126());
+        if ((p1 & 1L << 62) != 0) putString(buffer, pojo.getField127());
+        if ((p1 & 1L << 63) != 0) putString(buffer, pojo.getField128());
+        if ((p2 & 1L << 0) != 0) putString(buffer, pojo.getField129());
+        if ((p2 & 1L << 1) != 0) putString(buffer, pojo.getField130());
+        if ((p2 & 1L << 2) != 0) putString(buffer, pojo.getField131());
+        if ((p2 & 1L << 3) != 0) putString(buffer, pojo.getField132());
+        if ((p2 & 1L << 4) != 0) putString(buffer, pojo.getField133());
+        if ((p2 & 1L << 5) != 0) putString(buffer, pojo.getField134());
+        if ((p2 & 1L << 6) != 0) putString(buffer, pojo.getField135());
+        if ((p2 & 1L << 7) != 0) putString(buffer, pojo.getField136());
+        if ((p2 & 1L << 8) != 0) putString(buffer, pojo.getField137());
+        if ((p2 & 1L << 9) != 0) putString(buffer, pojo.getField138());
+        if ((p2 & 1L << 10) != 0) putString(buffer, pojo.getField139());
+        if ((p2 & 1L << 11) != 0) putString(buffer, pojo.getField140());
+        if ((p2 & 1L << 12) != 0) putString(buffer, pojo.getField141());
+        if ((p2 & 1L << 13) != 0) putString(buffer, pojo.getField142());
+        if ((p2 & 1L << 14) != 0) putString(buffer, pojo.getField143());
+        if ((p2 & 1L << 15) != 0) putString(buffer, pojo.getField144());
+        if ((p2 & 1L << 16) != 0) putString(buffer, pojo.getField145());
+        if ((p2 & 1L << 17) != 0) putString(buffer, pojo.getField146());
+        if ((p2 & 1L << 18) != 0) putString(buffer, pojo.getField147());
+        if ((p2 & 1L << 19) != 0) putString(buffer, pojo.getField148());
+        if ((p2 & 1L << 20) != 0) putString(buffer, pojo.getField149());
+        if ((p2 & 1L << 21) != 0) putString(buffer, pojo.getField150());
+        if ((p2 & 1L << 22) != 0) putString(buffer, pojo.getField151());
+        if ((p2 & 1L << 23) != 0) putString(buffer, pojo.getField152());
+        if ((p2 & 1L << 24) != 0) putString(buffer, pojo.getField153());
+        if ((p2 & 1L << 25) != 0) putString(buffer, pojo.getField154());
+        if ((p2 & 1L << 26) != 0) putString(buffer, pojo.getField155());
+        if ((p2 & 1L << 27) != 0) putString(buffer, pojo.getField156());
+        if ((p2 & 1L << 28) != 0) putString(buffer, pojo.getField157());
+        if ((p2 & 1L << 29) != 0) putString(buffer, pojo.getField158());
+        if ((p2 & 1L << 30) != 0) putString(buffer, pojo.getField159());
+        if ((p2 & 1L << 31) != 0) putString(buffer, pojo.getField160());
+        if ((p2 & 1L << 32) != 0) putString(buffer, pojo.getField161());
+        if ((p2 & 1L << 33) != 0) putString(buffer, pojo.getField162());
+        if ((p2 & 1L << 34) != 0) putString(buffer, pojo.getField163());
+        if ((p2 & 1L << 35) != 0) putString(buffer, pojo.getField164());
+        if ((p2 & 1L << 36) != 0) putString(buffer, pojo.getField165());
+        if ((p2 & 1L << 37) != 0) putString(buffer, pojo.getField166());
+        if ((p2 & 1L << 38) != 0) putString(buffer, pojo.getField167());
+        if ((p2 & 1L << 39) != 0) putString(buffer, pojo.getField168());
+        if ((p2 & 1L << 40) != 0) putString(buffer, pojo.getField169());
+        if ((p2 & 1L << 41) != 0) putString(buffer, pojo.getField170());
+        if ((p2 & 1L << 42) != 0) putString(buffer, pojo.getField171());
+        if ((p2 & 1L << 43) != 0) putString(buffer, pojo.getField172());
+        if ((p2 & 1L << 44) != 0) putString(buffer, pojo.getField173());
+        if ((p2 & 1L << 45) != 0) putString(buffer, pojo.getField174());
+        if ((p2 & 1L << 46) != 0) putString(buffer, pojo.getField175());
+        if ((p2 & 1L << 47) != 0) putString(buffer, pojo.getField176());
+        if ((p2 & 1L << 48) != 0) putString(buffer, pojo.getField177());
+        if ((p2 & 1L << 49) != 0) putString(buffer, pojo.getField178());
+        if ((p2 & 1L << 50) != 0) putString(buffer, pojo.getField179());
+        if ((p2 & 1L << 51) != 0) putString(buffer, pojo.getField180());
+        if ((p2 & 1L << 52) != 0) putString(buffer, pojo.getField181());
+        if ((p2 & 1L << 53) != 0) putString(buffer, pojo.getField182());
+        if ((p2 & 1L << 54) != 0) putString(buffer, pojo.getField183());
+        if ((p2 & 1L << 55) != 0) putString(buffer, pojo.getField184());
+        if ((p2 & 1L << 56) != 0) putString(buffer, pojo.getField185());
+        if ((p2 & 1L << 57) != 0) putString(buffer, pojo.getField186());
+        if ((p2 & 1L << 58) != 0) putString(buffer, pojo.getField187());
+        if ((p2 & 1L << 59) != 0) putString(buffer, pojo.getField188());
+        if ((p2 & 1L << 60) != 0) putString(buffer, pojo.getField189());
+        if ((p2 & 1L << 61) != 0) putString(buffer, pojo.getField190());
+        if ((p2 & 1L << 62) != 0) putString(buffer, pojo.getField191());
+        if ((p2 & 1L << 63) != 0) putString(buffer, pojo.getField192());
+        if ((p3 & 1L << 0) != 0) putString(buffer, pojo.getField193());
+        if ((p3 & 1L << 1) != 0) putString(buffer, pojo.getField194());
+        if ((p3 & 1L << 2) != 0) putString(buffer, pojo.getField195());
+        if ((p3 & 1L << 3) != 0) putString(buffer, pojo.getField196());
+        if ((p3 & 1L << 4) != 0) putString(buffer, pojo.getField197());
+        if ((p3 & 1L << 5) != 0) putString(buffer, pojo.getField198());
+        if ((p3 & 1L << 6) != 0) putString(buffer, pojo.getField199());
+        if ((p3 & 1L << 7) != 0) putString(buffer, pojo.getField200());
+    }
+
+    public static LargePojo decode(ByteBuffer buffer) {
+        final long p0 = buffer.getLong();
+        final long p1 = buffer.getLong();
+        final long p2 = buffer.getLong();
+        final long p3 = buffer.get() & 0xFFL;
+
+        final LargePojo pojo = new LargePojo();
+        if ((p0 & 1L << 0) != 0) pojo.setRef1(decodeNested(buffer));
+        if ((p0 & 1L << 1) != 0) pojo.setRef2(decodeNested(buffer));
+        if ((p0 & 1L << 2) != 0) pojo.setRef3(decodeNested(buffer));
+        if ((p0 & 1L << 3) != 0) pojo.setRef4(decodeNested(buffer));
+        if ((p0 & 1L << 4) != 0) pojo.setRef5(decodeNested(buffer));
+        if ((p0 & 1L << 5) != 0) pojo.setRef6(decodeNested(buffer));
+        if ((p0 & 1L << 6) != 0) pojo.setRef7(decodeNested(buffer));
+        if ((p0 & 1L << 7) != 0) pojo.setRef8(decodeNested(buffer));
+        if ((p0 & 1L << 8) != 0) pojo.setRef9(decodeNested(buffer));
+        if ((p0 & 1L << 9) != 0) pojo.setRef10(decodeNested(buffer));
+        if ((p0 & 1L << 10) != 0) pojo.setRef11(decodeNested(buffer));
+        if ((p0 & 1L << 11) != 0) pojo.setRef12(decodeNested(buffer));
+        if ((p0 & 1L << 12) != 0) pojo.setRef13(decodeNested(buffer));
+        if ((p0 & 1L << 13) != 0) pojo.setRef14(decodeNested(buffer));
+        if ((p0 & 1L << 14) != 0) pojo.setRef15(decodeNested(buffer));
+        if ((p0 & 1L << 15) != 0) pojo.setRef16(decodeNested(buffer));
+        if ((p0 & 1L << 16) != 0) pojo.setRef17(decodeNested(buffer));
+        if ((p0 & 1L << 17) != 0) pojo.setRef18(decodeNested(buffer));
+        if ((p0 & 1L << 18) != 0) pojo.setRef19(decodeNested(buffer));
+        if ((p0 & 1L << 19) != 0) pojo.setRef20(decodeNested(buffer));
+
+        if ((p0 & 1L << 20) != 0) pojo.setField21(unZigZag(getVarint32(buffer)));
+        if ((p0 & 1L << 21) != 0) pojo.setField22(unZigZag(getVarint32(buffer)));
+        if ((p0 & 1L << 22) != 0) pojo.setField23(unZigZag(getVarint32(buffer)));
+        if ((p0 & 1L << 23) != 0) pojo.setField24(unZigZag(getVarint32(buffer)));
+        if ((p0 & 1L << 24) != 0) pojo.setField25(unZigZag(getVarint32(buffer)));
+        if ((p0 & 1L << 25) != 0) pojo.setField26(unZigZag(getVarint32(buffer)));
+        if ((p0 & 1L << 26) != 0) pojo.setField27(unZigZag(getVarint32(buffer)));
+        if ((p0 & 1L << 27) != 0) pojo.setField28(unZigZag(getVarint32(buffer)));
+        if ((p0 & 1L << 28) != 0) pojo.setField29(unZigZag(getVarint32(buffer)));
+        if ((p0 & 1L << 29) != 0) pojo.setField30(unZigZag(getVarint32(buffer)));
+
+        if ((p0 & 1L << 30) != 0) pojo.setField31(unZigZag(getVarint64(buffer)));
+        if ((p0 & 1L << 31) != 0) pojo.setField32(unZigZag(getVarint64(buffer)));
+        if ((p0 & 1L << 32) != 0) pojo.setField33(unZigZag(getVarint64(buffer)));
+        if ((p0 & 1L << 33) != 0) pojo.setField34(unZigZag(getVarint64(buffer)));
+        if ((p0 & 1L << 34) != 0) pojo.setField35(unZigZag(getVarint64(buffer)));
+        if ((p0 & 1L << 35) != 0) pojo.setField36(unZigZag(getVarint64(buffer)));
+        if ((p0 & 1L << 36) != 0) pojo.setField37(unZigZag(getVarint64(buffer)));
+        if ((p0 & 1L << 37) != 0) pojo.setField38(unZigZag(getVarint64(buffer)));
+        if ((p0 & 1L << 38) != 0) pojo.setField39(unZigZag(getVarint64(buffer)));
+        if ((p0 & 1L << 39) != 0) pojo.setField40(unZigZag(getVarint64(buffer)));
+
+        if ((p0 & 1L << 40) != 0) pojo.setField41(buffer.getDouble());
+        if ((p0 & 1L << 41) != 0) pojo.setField42(buffer.getDouble());
+        if ((p0 & 1L << 42) != 0) pojo.setField43(buffer.getDouble());
+        if ((p0 & 1L << 43) != 0) pojo.setField44(buffer.getDouble());
+        if ((p0 & 1L << 44) != 0) pojo.setField45(buffer.getDouble());
+        if ((p0 & 1L << 45) != 0) pojo.setField46(buffer.getDouble());
+        if ((p0 & 1L << 46) != 0) pojo.setField47(buffer.getDouble());
+        if ((p0 & 1L << 47) != 0) pojo.setField48(buffer.getDouble());
+        if ((p0 & 1L << 48) != 0) pojo.setField49(buffer.getDouble());
+        if ((p0 & 1L << 49) != 0) pojo.setField50(buffer.getDouble());
+
+        if ((p0 & 1L << 50) != 0) pojo.setField51(true);
+        if ((p0 & 1L << 51) != 0) pojo.setField52(true);
+        if ((p0 & 1L << 52) != 0) pojo.setField53(true);
+        if ((p0 & 1L << 53) != 0) pojo.setField54(true);
+        if ((p0 & 1L << 54) != 0) pojo.setField55(true);
+        if ((p0 & 1L << 55) != 0) pojo.setField56(true);
+        if ((p0 & 1L << 56) != 0) pojo.setField57(true);
+        if ((p0 & 1L << 57) != 0) pojo.setField58(true);
+        if ((p0 & 1L << 58) != 0) pojo.setField59(true);
+        if ((p0 & 1L << 59) != 0) pojo.setField60(true);
+
+        if ((p0 & 1L << 60) != 0) pojo.setField61(buffer.getFloat());
+        if ((p0 & 1L << 61) != 0) pojo.setField62(buffer.getFloat());
+        if ((p0 & 1L << 62) != 0) pojo.setField63(buffer.getFloat());
+        if ((p0 & 1L << 63) != 0) pojo.setField64(buffer.getFloat());
+        if ((p1 & 1L << 0) != 0) pojo.setField65(buffer.getFloat());
+        if ((p1 & 1L << 1) != 0) pojo.setField66(buffer.getFloat());
+        if ((p1 & 1L << 2) != 0) pojo.setField67(buffer.getFloat());
+        if ((p1 & 1L << 3) != 0) pojo.setField68(buffer.getFloat());
+        if ((p1 & 1L << 4) != 0) pojo.setField69(buffer.getFloat());
+        if ((p1 & 1L << 5) != 0) pojo.setField70(buffer.getFloat());
+
+        if ((p1 & 1L << 6) != 0) pojo.setField71((short) unZigZag(getVarint32(buffer)));
+        if ((p1 & 1L << 7) != 0) pojo.setField72((short) unZigZag(getVarint32(buffer)));
+        if ((p1 & 1L << 8) != 0) pojo.setField73((short) unZigZag(getVarint32(buffer)));
+        if ((p1 & 1L << 9) != 0) pojo.setField74((short) unZigZag(getVarint32(buffer)));
+        if ((p1 & 1L << 10) != 0) pojo.setField75((short) unZigZag(getVarint32(buffer)));
+        if ((p1 & 1L << 11) != 0) pojo.setField76((short) unZigZag(getVarint32(buffer)));
+        if ((p1 & 1L << 12) != 0) pojo.setField77((short) unZigZag(getVarint32(buffer)));
+        if ((p1 & 1L << 13) != 0) pojo.setField78((short) unZigZag(getVarint32(buffer)));
+        if ((p1 & 1L << 14) != 0) pojo.setField79((short) unZigZag(getVarint32(buffer)));
+        if ((p1 & 1L << 15) != 0) pojo.setField80((short) unZigZag(getVarint32(buffer)));
+
+        if ((p1 & 1L << 16) != 0) pojo.setField81(buffer.get());
+        if ((p1 & 1L << 17) != 0) pojo.setField82(buffer.get());
+        if ((p1 & 1L << 18) != 0) pojo.setField83(buffer.get());
+        if ((p1 & 1L << 19) != 0) pojo.setField84(buffer.get());
+        if ((p1 & 1L << 20) != 0) pojo.setField85(buffer.get());
+        if ((p1 & 1L << 21) != 0) pojo.setField86(buffer.get());
+        if ((p1 & 1L << 22) != 0) pojo.setField87(buffer.get());
+        if ((p1 & 1L << 23) != 0) pojo.setField88(buffer.get());
+        if ((p1 & 1L << 24) != 0) pojo.setField89(buffer.get());
+        if ((p1 & 1L << 25) != 0) pojo.setField90(buffer.get());
+
+        if ((p1 & 1L << 26) != 0) pojo.setField91((char) getVarint32(buffer));
+        if ((p1 & 1L << 27) != 0) pojo.setField92((char) getVarint32(buffer));
+        if ((p1 & 1L << 28) != 0) pojo.setField93((char) getVarint32(buffer));
+        if ((p1 & 1L << 29) != 0) pojo.setField94((char) getVarint32(buffer));
+        if ((p1 & 1L << 30) != 0) pojo.setField95((char) getVarint32(buffer));
+        if ((p1 & 1L << 31) != 0) pojo.setField96((char) getVarint32(buffer));
+        if ((p1 & 1L << 32) != 0) pojo.setField97((char) getVarint32(buffer));
+        if ((p1 & 1L << 33) != 0) pojo.setField98((char) getVarint32(buffer));
+        if ((p1 & 1L << 34) != 0) pojo.setField99((char) getVarint32(buffer));
+        if ((p1 & 1L << 35) != 0) pojo.setField100((char) getVarint32(buffer));
+
+        if ((p1 & 1L << 36) != 0) pojo.setField101(unZigZag(getVarint32(buffer)));
+        if ((p1 & 1L << 37) != 0) pojo.setField102(unZigZag(getVarint32(buffer)));
+        if ((p1 & 1L << 38) != 0) pojo.setField103(unZigZag(getVarint32(buffer)));
+        if ((p1 & 1L << 39) != 0) pojo.setField104(unZigZag(getVarint32(buffer)));
+        if ((p1 & 1L << 40) != 0) pojo.setField105(unZigZag(getVarint32(buffer)));
+
+        if ((p1 & 1L << 41) != 0) pojo.setField106(unZigZag(getVarint64(buffer)));
+        if ((p1 & 1L << 42) != 0) pojo.setField107(unZigZag(getVarint64(buffer)));
+        if ((p1 & 1L << 43) != 0) pojo.setField108(unZigZag(getVarint64(buffer)));
+
+        if ((p1 & 1L << 44) != 0) pojo.setField109(buffer.getDouble());
+        if ((p1 & 1L << 45) != 0) pojo.setField110(buffer.getDouble());
+
+        if ((p1 & 1L << 46) != 0) pojo.setField111(buffer.get() != 0);
+        if ((p1 & 1L << 47) != 0) pojo.setField112(buffer.get() != 0);
+
+        if ((p1 & 1L << 48) != 0) pojo.setField113(getStringList(buffer));
+
+        if ((p1 & 1L << 49) != 0) pojo.setField114(getIntList(buffer));
+
+        if ((p1 & 1L << 50) != 0) pojo.setField115(getStringMap(buffer));
+
+        if ((p1 & 1L << 51) != 0) pojo.setField116(getString(buffer));
+        if ((p1 & 1L << 52) != 0) pojo.setField117(getString(buffer));
+        if ((p1 & 1L << 53) != 0) pojo.setField118(getString(buffer));
+        if ((p1 & 1L << 54) != 0) pojo.setField119(getString(buffer));
+        if ((p1 & 1L << 55) != 0) pojo.setField120(getString(buffer));
+        if ((p1 & 1L << 56) != 0) pojo.setField121(getString(buffer));
+        if ((p1 & 1L << 57) != 0) pojo.setField122(getString(buffer));
+        if ((p1 & 1L << 58) != 0) pojo.setField123(getString(buffer));
+        if ((p1 & 1L << 59) != 0) pojo.setField124(getString(buffer));
+        if ((p1 & 1L << 60) != 0) pojo.setField125(getString(buffer));
+        if ((p1 & 1L << 61) != 0) pojo.setField126(getString(buffer));
+        if ((p1 & 1L << 62) != 0) pojo.setField127(getString(buffer));
+        if ((p1 & 1L << 63) != 0) pojo.setField128(getString(buffer));
+        if ((p2 & 1L << 0) != 0) pojo.setField129(getString(buffer));
+        if ((p2 & 1L << 1) != 0) pojo.setField130(getString(buffer));
+        if ((p2 & 1L << 2) != 0) pojo.setField131(getString(buffer));
+        if ((p2 & 1L << 3) != 0) pojo.setField132(getString(buffer));
+        if ((p2 & 1L << 4) != 0) pojo.setField133(getString(buffer));
+        if ((p2 & 1L << 5) != 0) pojo.setField134(getString(buffer));
+        if ((p2 & 1L << 6) != 0) pojo.setField135(getString(buffer));
+        if ((p2 & 1L << 7) != 0) pojo.setField136(getString(buffer));
+        if ((p2 & 1L << 8) != 0) pojo.setField137(getString(buffer));
+        if ((p2 & 1L << 9) != 0) pojo.setField138(getString(buffer));
+        if ((p2 & 1L << 10) != 0) pojo.setField139(getString(buffer));
+        if ((p2 & 1L << 11) != 0) pojo.setField140(getString(buffer));
+        if ((p2 & 1L << 12) != 0) pojo.setField141(getString(buffer));
+        if ((p2 & 1L << 13) != 0) pojo.setField142(getString(buffer));
+        if ((p2 & 1L << 14) != 0) pojo.setField143(getString(buffer));
+        if ((p2 & 1L << 15) != 0) pojo.setField144(getString(buffer));
+        if ((p2 & 1L << 16) != 0) pojo.setField145(getString(buffer));
+        if ((p2 & 1L << 17) != 0) pojo.setField146(getString(buffer));
+        if ((p2 & 1L << 18) != 0) pojo.setField147(getString(buffer));
+        if ((p2 & 1L << 19) != 0) pojo.setField148(getString(buffer));
+        if ((p2 & 1L << 20) != 0) pojo.setField149(getString(buffer));
+        if ((p2 & 1L << 21) != 0) pojo.setField150(getString(buffer));
+        if ((p2 & 1L << 22) != 0) pojo.setField151(getString(buffer));
+        if ((p2 & 1L << 23) != 0) pojo.setField152(getString(buffer));
+        if ((p2 & 1L << 24) != 0) pojo.setField153(getString(buffer));
+        if ((p2 & 1L << 25) != 0) pojo.setField154(getString(buffer));
+        if ((p2 & 1L << 26) != 0) pojo.setField155(getString(buffer));
+        if ((p2 & 1L << 27) != 0) pojo.setField156(getString(buffer));
+        if ((p2 & 1L << 28) != 0) pojo.setField157(getString(buffer));
+        if ((p2 & 1L << 29) != 0) pojo.setField158(getString(buffer));
+        if ((p2 & 1L << 30) != 0) pojo.setField159(getString(buffer));
+        if ((p2 & 1L << 31) != 0) pojo.setField160(getString(buffer));
+        if ((p2 & 1L << 32) != 0) pojo.setField161(getString(buffer));
+        if ((p2 & 1L << 33) != 0) pojo.setField162(getString(buffer));
+        if ((p2 & 1L << 34) != 0) pojo.setField163(getString(buffer));
+        if ((p2 & 1L << 35) != 0) pojo.setField164(getString(buffer));
+        if ((p2 & 1L << 36) != 0) pojo.setField165(getString(buffer));
+        if ((p2 & 1L << 37) != 0) pojo.setField166(getString(buffer));
+        if ((p2 & 1L << 38) != 0) pojo.setField167(getString(buffer));
+        if ((p2 & 1L << 39) != 0) pojo.setField168(getString(buffer));
+        if ((p2 & 1L << 40) != 0) pojo.setField169(getString(buffer));
+        if ((p2 & 1L << 41) != 0) pojo.setField170(getString(buffer));
+        if ((p2 & 1L << 42) != 0) pojo.setField171(getString(buffer));
+        if ((p2 & 1L << 43) != 0) pojo.setField172(getString(buffer));
+        if ((p2 & 1L << 44) != 0) pojo.setField173(getString(buffer));
+        if ((p2 & 1L << 45) != 0) pojo.setField174(getString(buffer));
+        if ((p2 & 1L << 46) != 0) pojo.setField175(getString(buffer));
+        if ((p2 & 1L << 47) != 0) pojo.setField176(getString(buffer));
+        if ((p2 & 1L << 48) != 0) pojo.setField177(getString(buffer));
+        if ((p2 & 1L << 49) != 0) pojo.setField178(getString(buffer));
+        if ((p2 & 1L << 50) != 0) pojo.setField179(getString(buffer));
+        if ((p2 & 1L << 51) != 0) pojo.setField180(getString(buffer));
+        if ((p2 & 1L << 52) != 0) pojo.setField181(getString(buffer));
+        if ((p2 & 1L << 53) != 0) pojo.setField182(getString(buffer));
+        if ((p2 & 1L << 54) != 0) pojo.setField183(getString(buffer));
+        if ((p2 & 1L << 55) != 0) pojo.setField184(getString(buffer));
+        if ((p2 & 1L << 56) != 0) pojo.setField185(getString(buffer));
+        if ((p2 & 1L << 57) != 0) pojo.setField186(getString(buffer));
+        if ((p2 & 1L << 58) != 0) pojo.setField187(getString(buffer));
+        if ((p2 & 1L << 59) != 0) pojo.setField188(getString(buffer));
+        if ((p2 & 1L << 60) != 0) pojo.setField189(getString(buffer));
+        if ((p2 & 1L << 61) != 0) pojo.setField190(getString(buffer));
+        if ((p2 & 1L << 62) != 0) pojo.setField191(getString(buffer));
+        if ((p2 & 1L << 63) != 0) pojo.setField192(getString(buffer));
+        if ((p3 & 1L << 0) != 0) pojo.setField193(getString(buffer));
+        if ((p3 & 1L << 1) != 0) pojo.setField194(getString(buffer));
+        if ((p3 & 1L << 2) != 0) pojo.setField195(getString(buffer));
+        if ((p3 & 1L << 3) != 0) pojo.setField196(getString(buffer));
+        if ((p3 & 1L << 4) != 0) pojo.setField197(getString(buffer));
+        if ((p3 & 1L << 5) != 0) pojo.setField198(getString(buffer));
+        if ((p3 & 1L << 6) != 0) pojo.setField199(getString(buffer));
+        if ((p3 & 1L << 7) != 0) pojo.setField200(getString(buffer));
+        return pojo;
+    }
+
+    private static int computeNestedSize(NestedPojo pojo) {
+        int size = NESTED_PRESENCE_BYTES;
+        if (pojo.getField1() != null) size += stringSize(pojo.getField1());
+        if (pojo.getField2() != null) size += stringSize(pojo.getField2());
+        if (pojo.getField3() != null) size += stringSize(pojo.getField3());
+        if (pojo.getField4() != null) size += stringSize(pojo.getField4());
+        if (pojo.getField5() != null) size += stringSize(pojo.getField5());
+        if (pojo.getLongField1() != null) size += varintSize(zigZag(pojo.getLongField1()));
+        if (pojo.getIntField1() != null) size += varintSize(zigZag(pojo.getIntField1()));
+        if (pojo.getDoubleField1() != null) size += Double.BYTES;
+        if (pojo.getDeepNested() != null) size += computeDeepNestedSize(pojo.getDeepNested());
+        return size;
+    }
+
+    private static void encodeNested(NestedPojo pojo, ByteBuffer buffer) {
+        int presence = 0;
+        if (pojo.getField1() != null) presence |= 1;
+        if (pojo.getField2() != null) presence |= 1 << 1;
+        if (pojo.getField3() != null) presence |= 1 << 2;
+        if (pojo.getField4() != null) presence |= 1 << 3;
+        if (pojo.getField5() != null) presence |= 1 << 4;
+        if (pojo.getLongField1() != null) presence |= 1 << 5;
+        if (pojo.getIntField1() != null) presence |= 1 << 6;
+        if (pojo.getDoubleField1() != null) presence |= 1 << 7;
+        if (pojo.getDeepNested() != null) presence |= 1 << 8;
+
+        buffer.putShort((short) presence);
+        if ((presence & 1) != 0) putString(buffer, pojo.getField1());
+        if ((presence & 1 << 1) != 0) putString(buffer, pojo.getField2());
+        if ((presence & 1 << 2) != 0) putString(buffer, pojo.getField3());
+        if ((presence & 1 << 3) != 0) putString(buffer, pojo.getField4());
+        if ((presence & 1 << 4) != 0) putString(buffer, pojo.getField5());
+        if ((presence & 1 << 5) != 0) putVarint(buffer, zigZag(pojo.getLongField1()));
+        if ((presence & 1 << 6) != 0) putVarint(buffer, zigZag(pojo.getIntField1()));
+        if ((presence & 1 << 7) != 0) buffer.putDouble(pojo.getDoubleField1());
+        if ((presence & 1 << 8) != 0) encodeDeepNested(pojo.getDeepNested(), buffer);
+    }
+
+    private static NestedPojo decodeNested(ByteBuffer buffer) {
+        final int presence = buffer.getShort() & 0xFFFF;
+        final NestedPojo pojo = new NestedPojo();
+        if ((presence & 1) != 0) pojo.setField1(getString(buffer));
+        if ((presence & 1 << 1) != 0) pojo.setField2(getString(buffer));
+        if ((presence & 1 << 2) != 0) pojo.setField3(getString(buffer));
+        if ((presence & 1 << 3) != 0) pojo.setField4(getString(buffer));
+        if ((presence & 1 << 4) != 0) pojo.setField5(getString(buffer));
+        if ((presence & 1 << 5) != 0) pojo.setLongField1(unZigZag(getVarint64(buffer)));
+        if ((presence & 1 << 6) != 0) pojo.setIntField1(unZigZag(getVarint32(buffer)));
+        if ((presence & 1 << 7) != 0) pojo.setDoubleField1(buffer.getDouble());
+        if ((presence & 1 << 8) != 0) pojo.setDeepNested(decodeDeepNested(buffer));
+        return pojo;
+    }
+
+    private static int computeDeepNestedSize(DeepNestedPojo pojo) {
+        int size = DEEP_NESTED_PRESENCE_BYTES;
+        if (pojo.getData() != null) size += stringSize(pojo.getData());
+        if (pojo.getBlob() != null) size += varintSize(pojo.getBlob().length) + pojo.getBlob().length;
+        return size;
+    }
+
+    private static void encodeDeepNested(DeepNestedPojo pojo, ByteBuffer buffer) {
+        int presence = 0;
+        if (pojo.getData() != null) presence |= 1;
+        if (pojo.getBlob() != null) presence |= 1 << 1;
+
+        buffer.put((byte) presence);
+        if ((presence & 1) != 0) putString(buffer, pojo.getData());
+        if ((presence & 1 << 1) != 0) {
+            putVarint(buffer, pojo.getBlob().length);
+            buffer.put(pojo.getBlob());
+        }
+    }
+
+    private static DeepNestedPojo decodeDeepNested(ByteBuffer buffer) {
+        final int presence = buffer.get();
+        final DeepNestedPojo pojo = new DeepNestedPojo();
+        if ((presence & 1) != 0) pojo.setData(getString(buffer));
+        if ((presence & 1 << 1) != 0) {
+            final byte[] blob = new byte[getLength(buffer)];
+            buffer.get(blob);
+            pojo.setBlob(blob);
+        }
+        return pojo;
+    }
+
+    // Collections
+
+    private static int stringListSize(List<String> values) {
+        int size = varintSize(values.size());
+        for (String value : values) {
+            size += stringSize(value);
+        }
+        return size;
+    }
+
+    private static void putStringList(ByteBuffer buffer, List<String> values) {
+        putVarint(buffer, values.size());
+        for (String value : values) {
+            putString(buffer, value);
+        }
+    }
+
+    private static List<String> getStringList(ByteBuffer buffer) {
+        final int count = getLength(buffer);
+        final List<String> values = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            values.add(getString(buffer));
+        }
+        return values;
+    }
+
+    private static int intListSize(List<Integer> values) {
+        int size = varintSize(values.size());
+        for (Integer value : values) {
+            size += varintSize(zigZag(value));
+        }
+        return size;
+    }
+
+    private static void putIntList(ByteBuffer buffer, List<Integer> values) {
+        putVarint(buffer, values.size());
+        for (Integer value : values) {
+            putVarint(buffer, zigZag(value));
+        }
+    }
+
+    private static List<Integer> getIntList(ByteBuffer buffer) {
+        final int count = getLength(buffer);
+        final List<Integer> values = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            values.add(unZigZag(getVarint32(buffer)));
+        }
+        return values;
+    }
+
+    private static int stringMapSize(Map<String, String> values) {
+        int size = varintSize(values.size());
+        for (Map.Entry<String, String> entry : values.entrySet()) {
+            size += stringSize(entry.getKey()) + stringSize(entry.getValue());
+        }
+        return size;
+    }
+
+    private static void putStringMap(ByteBuffer buffer, Map<String, String> values) {
+        putVarint(buffer, values.size());
+        for (Map.Entry<String, String> entry : values.entrySet()) {
+            putString(buffer, entry.getKey());
+            putString(buffer, entry.getValue());
+        }
+    }
+
+    private static Map<String, String> getStringMap(ByteBuffer buffer) {
+        final int count = getLength(buffer);
+        final Map<String, String> values = new LinkedHashMap<>(Math.max(4, (int) (count / 0.75f) + 1));
+        for (int i = 0; i < count; i++) {
+            values.put(getString(buffer), getString(buffer));
+        }
+        return values;
+    }
+
+    // Strings: varint byte length, then UTF-8 encoded straight into the buffer
+
+    private static int stringSize(String value) {
+        final int length = utf8Length(value);
+        return varintSize(length) + length;
+    }
+
+    /**
+     * UTF-8 length as produced by {@link #putString}; an unpaired surrogate is written as {@code '?'},
+     * matching {@code String.getBytes(UTF_8)}.
+     */
+    private static int utf8Length(String value) {
+        final int chars = value.length();
+        int length = chars;
+        for (int i = 0; i < chars; i++) {
+            final char c = value.charAt(i);
+            if (c < 0x80) {
+                continue;
+            }
+            if (c < 0x800) {
+                length += 1;
+            } else if (!Character.isSurrogate(c)) {
+                length += 2;
+            } else if (Character.isHighSurrogate(c) && i + 1 < chars && Character.isLowSurrogate(value.charAt(i + 1))) {
+                length += 2;
+                i++;
+            }
+        }
+        return length;
+    }
+
+    private static void putString(ByteBuffer buffer, String value) {
+        putVarint(buffer, utf8Length(value));
+        final int chars = value.length();
+        for (int i = 0; i < chars; i++) {
+            final char c = value.charAt(i);
+            if (c < 0x80) {
+                buffer.put((byte) c);
+            } else if (c < 0x800) {
+                buffer.put((byte) (0xC0 | c >>> 6));
+                buffer.put((byte) (0x80 | c & 0x3F));
+            } else if (!Character.isSurrogate(c)) {
+                buffer.put((byte) (0xE0 | c >>> 12));
+                buffer.put((byte) (0x80 | c >>> 6 & 0x3F));
+                buffer.put((byte) (0x80 | c & 0x3F));
+            } else if (Character.isHighSurrogate(c) && i + 1 < chars && Character.isLowSurrogate(value.charAt(i + 1))) {
+                final int codePoint = Character.toCodePoint(c, value.charAt(++i));
+                buffer.put((byte) (0xF0 | codePoint >>> 18));
+                buffer.put((byte) (0x80 | codePoint >>> 12 & 0x3F));
+                buffer.put((byte) (0x80 | codePoint >>> 6 & 0x3F));
+                buffer.put((byte) (0x80 | codePoint & 0x3F));
+            } else {
+                buffer.put((byte) '?');
+            }
+        }
+    }
+
+    private static String getString(ByteBuffer buffer) {
+        final int length = getLength(buffer);
+        if (length > buffer.remaining()) {
+            throw new BufferUnderflowException();
+        }
+        if (buffer.hasArray()) {
+            final int position = buffer.position();
+            buffer.position(position + length);
+            return new String(buffer.array(), buffer.arrayOffset() + position, length, StandardCharsets.UTF_8);
+        }
+        final byte[] bytes = new byte[length];
+        buffer.get(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    // Varints: 7 bits per byte, least significant group first, high bit set on all but the last byte
+
+    private static int zigZag(int value) {
+        return (value << 1) ^ (value >> 31);
+    }
+
+    private static long zigZag(long value) {
+        return (value << 1) ^ (value >> 63);
+    }
+
+    private static int unZigZag(int value) {
+        return (value >>> 1) ^ -(value & 1);
+    }
+
+    private static long unZigZag(long value) {
+        return (value >>> 1) ^ -(value & 1);
+    }
+
+    private static int varintSize(int value) {
+        return (31 - Integer.numberOfLeadingZeros(value | 1)) / 7 + 1;
+    }
+
+    private static int varintSize(long value) {
+        return (63 - Long.numberOfLeadingZeros(value | 1)) / 7 + 1;
+    }
+
+    private static void putVarint(ByteBuffer buffer, int value) {
+        while ((value & ~0x7F) != 0) {
+            buffer.put((byte) (value & 0x7F | 0x80));
+            value >>>= 7;
+        }
+        buffer.put((byte) value);
+    }
+
+    private static void putVarint(ByteBuffer buffer, long value) {
+        while ((value & ~0x7FL) != 0) {
+            buffer.put((byte) (value & 0x7F | 0x80));
+            value >>>= 7;
+        }
+        buffer.put((byte) value);
+    }
+
+    private static int getVarint32(ByteBuffer buffer) {
+        int result = 0;
+        for (int shift = 0; shift < 35; shift += 7) {
+            final byte b = buffer.get();
+            result |= (b & 0x7F) << shift;
+            if (b >= 0) {
+                return result;
+            }
+        }
+        throw new IllegalArgumentException("Malformed varint at position " + buffer.position());
+    }
+
+    private static long getVarint64(ByteBuffer buffer) {
+        long result = 0;
+        for (int shift = 0; shift < 70; shift += 7) {
+            final byte b = buffer.get();
+            result |= (long) (b & 0x7F) << shift;
+            if (b >= 0) {
+                return result;
+            }
+        }
+        throw new IllegalArgumentException("Malformed varint at position " + buffer.position());
+    }
+
+    private static int getLength(ByteBuffer buffer) {
+        final int length = getVarint32(buffer);
+        if (length < 0) {
+            throw new IllegalArgumentException("Negative length " + length + " at position " + buffer.position());
+        }
+        return length;
+    }
+}
@@ -0,0 +1,56 @@
+package org.example.codec;
+
+/**
+ * A list encoded by {@link ParallelListCodec}, with the index of the chunks it was stitched from.
+ * <p>
+ * {@link #getPayload()} is a plain encoding of the whole list that the format's ordinary codec decodes. The
+ * index gives each chunk's element count and the length of its elements section; sections follow one another
+ * after the list header, separated by the format's separator. {@link ParallelListCodec#decode} uses it to
+ * decode the chunks in parallel.
+ */
+public final class ChunkedPayload {
+
+    private final byte[] payload;
+    private final int[] offsets;
+    private final int[] lengths;
+    private final int[] counts;
+
+    ChunkedPayload(byte[] payload, int[] offsets, int[] lengths, int[] counts) {
+        this.payload = payload;
+        this.offsets = offsets;
+        this.lengths = lengths;
+        this.counts = counts;
+    }
+
+    /**
+     * The encoded list; not copied, so do not modify it.
+     */
+    public byte[] getPayload() {
+        return payload;
+    }
+
+    public int getChunkCount() {
+        return counts.length;
+    }
+
+    /**
+     * Start of chunk {@code chunk}'s elements section in the payload.
+     */
+    public int getOffset(int chunk) {
+        return offsets[chunk];
+    }
+
+    /**
+     * Length in bytes of chunk {@code chunk}'s elements section.
+     */
+    public int getLength(int chunk) {
+        return lengths[chunk];
+    }
+
+    /**
+     * Number of elements in chunk {@code chunk}.
+     */
+    public int getCount(int chunk) {
+        return counts[chunk];
+    }
+}
@@ -0,0 +1,73 @@
+package org.example.codec;
+
+import org.example.util.ByteBufferInputStream;
+import org.example.util.ByteBufferOutputStream;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.BufferOverflowException;
+import java.nio.ByteBuffer;
+
+/**
+ * Encodes values of one type to bytes in one format, and back.
+ * <p>
+ * Implementations are thread-safe and meant to be shared: get them from a {@link CodecRegistry} rather than
+ * building a mapper per call. Streams are neither closed nor wrapped in anything the caller has to flush.
+ *
+ * @param <T> type of the values encoded
+ */
+public interface Codec<T> {
+
+    /**
+     * Format name the codec is registered under, e.g. {@link Codecs#JACKSON}.
+     */
+    String format();
+
+    void encode(T value, OutputStream out) throws IOException;
+
+    /**
+     * Writes {@code value} at the buffer's position and advances it past the encoded bytes.
+     *
+     * @throws BufferOverflowException if the encoded value does not fit in the remaining bytes; the buffer may
+     *                                 then hold part of it
+     */
+    default void encode(T value, ByteBuffer buffer) throws IOException {
+        try {
+            encode(value, new ByteBufferOutputStream(buffer));
+        } catch (IOException e) {
+            // Jackson wraps exceptions thrown by the stream mid-value; report an overflow as an overflow
+            for (Throwable cause = e.getCause(); cause != null; cause = cause.getCause()) {
+                if (cause instanceof BufferOverflowException) {
+                    throw (BufferOverflowException) cause;
+                }
+            }
+            throw e;
+        }
+    }
+
+    default byte[] encode(T value) throws IOException {
+        final ByteArrayOutputStream out = new ByteArrayOutputStream();
+        encode(value, out);
+        return out.toByteArray();
+    }
+
+    /**
+     * Reads one value; the stream should hold nothing after it.
+     */
+    T decode(InputStream in) throws IOException;
+
+    /**
+     * Reads one value from the buffer's remaining bytes, leaving the position at the limit.
+     */
+    default T decode(ByteBuffer buffer) throws IOException {
+        final T value = decode(new ByteBufferInputStream(buffer));
+        buffer.position(buffer.limit());
+        return value;
+    }
+
+    default T decode(byte[] payload) throws IOException {
+        return decode(ByteBuffer.wrap(payload));
+    }
+}
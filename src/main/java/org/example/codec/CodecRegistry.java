@@ -0,0 +1,166 @@
+package org.example.codec;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.google.gson.Gson;
+import com.google.gson.GsonBuilder;
+import lombok.Value;
+import org.example.DeepNestedPojo;
+import org.example.LargePojo;
+import org.example.NestedPojo;
+import org.example.proto.LargePojoProto;
+import org.example.util.ProtobufConverter;
+import org.msgpack.jackson.dataformat.MessagePackFactory;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.lang.reflect.Type;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Looks up shared {@link Codec}s by format name and value type.
+ * <p>
+ * Lookups are lock-free reads of an immutable map that {@link #register} replaces, since codecs are
+ * registered once at start-up and looked up on every message. {@link #standard(boolean)} returns the
+ * built-in Jackson, Gson, MessagePack and Protobuf codecs for {@code LargePojo} and
+ * {@link Codecs#LARGE_POJO_LIST}, already warmed up.
+ */
+public final class CodecRegistry {
+
+    /** Round trips per codec in {@link #warmUp}: enough to load classes and fill serializer caches. */
+    public static final int WARMUP_ROUNDS = 100;
+
+    private volatile Map<Key, Codec<?>> codecs = Collections.emptyMap();
+
+    /**
+     * Shared registry of the built-in codecs. One mapper and one {@link Gson} per format back every value type.
+     *
+     * @param serializeNulls whether the JSON and MessagePack codecs write null fields; Protobuf never does
+     */
+    public static CodecRegistry standard(boolean serializeNulls) {
+        return serializeNulls ? StandardHolder.WITH_NULLS : StandardHolder.WITHOUT_NULLS;
+    }
+
+    /**
+     * @throws IllegalStateException if a codec of the same format is already registered for {@code valueType}
+     */
+    public synchronized <T> CodecRegistry register(Type valueType, Codec<T> codec) {
+        final Key key = new Key(codec.format(), valueType);
+        if (codecs.containsKey(key)) {
+            throw new IllegalStateException("A " + codec.format() + " codec is already registered for " + valueType);
+        }
+        final Map<Key, Codec<?>> updated = new LinkedHashMap<>(codecs);
+        updated.put(key, codec);
+        codecs = Collections.unmodifiableMap(updated);
+        return this;
+    }
+
+    /**
+     * @throws IllegalArgumentException if no codec of that format is registered for {@code valueType}
+     */
+    @SuppressWarnings("unchecked")
+    public <T> Codec<T> get(String format, Type valueType) {
+        final Codec<?> codec = codecs.get(new Key(format, valueType));
+        if (codec == null) {
+            throw new IllegalArgumentException("No " + format + " codec registered for " + valueType
+                + "; formats for that type: " + formats(valueType));
+        }
+        return (Codec<T>) codec;
+    }
+
+    /**
+     * @return every codec registered for {@code valueType}, in registration order
+     */
+    @SuppressWarnings("unchecked")
+    public <T> List<Codec<T>> getAll(Type valueType) {
+        final List<Codec<T>> matching = new ArrayList<>();
+        codecs.forEach((key, codec) -> {
+            if (key.getValueType().equals(valueType)) {
+                matching.add((Codec<T>) codec);
+            }
+        });
+        return matching;
+    }
+
+    public List<String> formats(Type valueType) {
+        final List<String> formats = new ArrayList<>();
+        for (Codec<?> codec : getAll(valueType)) {
+            formats.add(codec.format());
+        }
+        return formats;
+    }
+
+    /**
+     * Encodes and decodes {@code sample} {@code rounds} times with every codec registered for
+     * {@code valueType}, so the first real message does not pay for class loading and serializer lookup.
+     *
+     * @throws UncheckedIOException if a codec fails on the sample
+     */
+    public <T> void warmUp(Type valueType, T sample, int rounds) {
+        for (Codec<T> codec : this.<T>getAll(valueType)) {
+            try {
+                for (int i = 0; i < rounds; i++) {
+                    codec.decode(codec.encode(sample));
+                }
+            } catch (IOException e) {
+                throw new UncheckedIOException(codec.format() + " codec failed to warm up", e);
+            }
+        }
+    }
+
+    private static CodecRegistry createStandard(boolean serializeNulls) {
+        final ObjectMapper jsonMapper = new ObjectMapper();
+        final ObjectMapper msgpackMapper = new ObjectMapper(new MessagePackFactory());
+        final Gson gson;
+        if (serializeNulls) {
+            gson = new GsonBuilder().serializeNulls().create();
+        } else {
+            jsonMapper.setSerializationInclusion(JsonInclude.Include.NON_NULL);
+            msgpackMapper.setSerializationInclusion(JsonInclude.Include.NON_NULL);
+            gson = new Gson();
+        }
+
+        final CodecRegistry registry = new CodecRegistry();
+        for (Type valueType : List.of(LargePojo.class, Codecs.LARGE_POJO_LIST)) {
+            registry.register(valueType, Codecs.jackson(Codecs.JACKSON, jsonMapper, valueType));
+            registry.register(valueType, Codecs.gson(gson, valueType));
+            registry.register(valueType, Codecs.jackson(Codecs.MESSAGE_PACK, msgpackMapper, valueType));
+        }
+        registry.register(LargePojo.class, Codecs.protobuf(LargePojoProto.LargePojo.parser(),
+            ProtobufConverter::convertToProto, ProtobufConverter::convertFromProto));
+        registry.register(Codecs.LARGE_POJO_LIST, Codecs.<List<LargePojo>, LargePojoProto.LargePojoList>protobuf(
+            LargePojoProto.LargePojoList.parser(), ProtobufConverter::convertListToProto,
+            ProtobufConverter::convertListFromProto));
+
+        final LargePojo sample = warmUpSample();
+        registry.warmUp(LargePojo.class, sample, WARMUP_ROUNDS);
+        registry.warmUp(Codecs.LARGE_POJO_LIST, List.of(sample), WARMUP_ROUNDS);
+        return registry;
+    }
+
+    /**
+     * A record with a nested and deep-nested object, so serializers for all three classes get resolved.
+     */
+    private static LargePojo warmUpSample() {
+        final NestedPojo nested = new NestedPojo();
+        nested.setDeepNested(new DeepNestedPojo());
+        final LargePojo sample = new LargePojo();
+        sample.setRef1(nested);
+        return sample;
+    }
+
+    private static final class StandardHolder {
+        private static final CodecRegistry WITH_NULLS = createStandard(true);
+        private static final CodecRegistry WITHOUT_NULLS = createStandard(false);
+    }
+
+    @Value
+    private static class Key {
+        String format;
+        Type valueType;
+    }
+}
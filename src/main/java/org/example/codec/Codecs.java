@@ -0,0 +1,54 @@
+package org.example.codec;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.google.gson.Gson;
+import com.google.gson.reflect.TypeToken;
+import com.google.protobuf.MessageLite;
+import com.google.protobuf.Parser;
+import org.example.LargePojo;
+
+import java.lang.reflect.Type;
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * Format names and factories for the built-in {@link Codec}s.
+ * <p>
+ * Codecs keep the mapper or {@link Gson} they are given, so codecs for several value types built from one
+ * instance share its serializer caches.
+ */
+public final class Codecs {
+
+    public static final String JACKSON = "Jackson";
+    public static final String GSON = "Gson";
+    public static final String MESSAGE_PACK = "MessagePack";
+    public static final String PROTOBUF = "Protobuf";
+
+    /** {@code List<LargePojo>}, the value type of the benchmarked payloads. */
+    public static final Type LARGE_POJO_LIST = TypeToken.getParameterized(List.class, LargePojo.class).getType();
+
+    private Codecs() {
+    }
+
+    /**
+     * @param format name to register the codec under, e.g. {@link #JACKSON} for a JSON mapper or
+     *               {@link #MESSAGE_PACK} for one built on a {@code MessagePackFactory}
+     */
+    public static <T> Codec<T> jackson(String format, ObjectMapper mapper, Type valueType) {
+        return new JacksonCodec<>(format, mapper, valueType);
+    }
+
+    public static <T> Codec<T> gson(Gson gson, Type valueType) {
+        return new GsonCodec<>(gson, valueType);
+    }
+
+    /**
+     * @param parser      the generated message's {@code parser()}
+     * @param toMessage   POJO to message conversion, applied on every encode
+     * @param fromMessage message to POJO conversion, applied on every decode
+     */
+    public static <T, M extends MessageLite> Codec<T> protobuf(Parser<M> parser, Function<? super T, M> toMessage,
+                                                               Function<? super M, T> fromMessage) {
+        return new ProtobufCodec<>(parser, toMessage, fromMessage);
+    }
+}
@@ -0,0 +1,66 @@
+package org.example.codec;
+
+import com.google.gson.Gson;
+import com.google.gson.JsonIOException;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.lang.reflect.Type;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Gson codec writing and reading UTF-8 JSON. {@link Gson} is thread-safe and caches its type adapters.
+ */
+final class GsonCodec<T> implements Codec<T> {
+
+    private final Gson gson;
+    private final Type valueType;
+
+    GsonCodec(Gson gson, Type valueType) {
+        this.gson = gson;
+        this.valueType = valueType;
+    }
+
+    @Override
+    public String format() {
+        return Codecs.GSON;
+    }
+
+    @Override
+    public void encode(T value, OutputStream out) throws IOException {
+        // OutputStreamWriter.write(String) copies every string into a new char[] unless buffered
+        final Writer writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8));
+        try {
+            gson.toJson(value, valueType, writer);
+        } catch (JsonIOException e) {
+            throw unwrap(e);
+        }
+        writer.flush();
+    }
+
+    @Override
+    public byte[] encode(T value) {
+        return gson.toJson(value, valueType).getBytes(StandardCharsets.UTF_8);
+    }
+
+    @Override
+    public T decode(InputStream in) throws IOException {
+        try {
+            return gson.fromJson(new InputStreamReader(in, StandardCharsets.UTF_8), valueType);
+        } catch (JsonIOException e) {
+            throw unwrap(e);
+        }
+    }
+
+    /**
+     * Gson reports stream failures as the unchecked {@link JsonIOException}.
+     */
+    private static IOException unwrap(JsonIOException e) {
+        return e.getCause() instanceof IOException ? (IOException) e.getCause() : new IOException(e);
+    }
+}
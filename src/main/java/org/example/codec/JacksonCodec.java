@@ -0,0 +1,70 @@
+package org.example.codec;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.lang.reflect.Type;
+import java.nio.ByteBuffer;
+
+/**
+ * Jackson codec for any data format the mapper's factory writes: JSON, or MessagePack with a
+ * {@code MessagePackFactory}. The reader and writer are resolved once for the value type; both are immutable.
+ */
+final class JacksonCodec<T> implements Codec<T> {
+
+    private final String format;
+    private final ObjectWriter writer;
+    private final ObjectReader reader;
+
+    JacksonCodec(String format, ObjectMapper mapper, Type valueType) {
+        final JavaType javaType = mapper.getTypeFactory().constructType(valueType);
+        this.format = format;
+        this.writer = mapper.writerFor(javaType).without(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+        this.reader = mapper.readerFor(javaType).without(JsonParser.Feature.AUTO_CLOSE_SOURCE);
+    }
+
+    @Override
+    public String format() {
+        return format;
+    }
+
+    @Override
+    public void encode(T value, OutputStream out) throws IOException {
+        writer.writeValue(out, value);
+    }
+
+    @Override
+    public byte[] encode(T value) throws IOException {
+        return writer.writeValueAsBytes(value);
+    }
+
+    @Override
+    public T decode(InputStream in) throws IOException {
+        return reader.readValue(in);
+    }
+
+    /**
+     * Heap buffers are parsed from their backing array without copying.
+     */
+    @Override
+    public T decode(ByteBuffer buffer) throws IOException {
+        if (!buffer.hasArray()) {
+            return Codec.super.decode(buffer);
+        }
+        final T value = reader.readValue(buffer.array(), buffer.arrayOffset() + buffer.position(), buffer.remaining());
+        buffer.position(buffer.limit());
+        return value;
+    }
+
+    @Override
+    public T decode(byte[] payload) throws IOException {
+        return reader.readValue(payload);
+    }
+}
@@ -0,0 +1,111 @@
+package org.example.codec;
+
+/**
+ * How separately encoded chunks of a list join into the encoding of the whole list, for
+ * {@link ParallelListCodec}.
+ * <p>
+ * A chunk is the list codec's output for a sub-list. Its elements section is what is left after dropping the
+ * chunk's own array header and trailer; the whole list is one new header for the total count, the elements
+ * sections in order with a separator between them, and the trailer.
+ */
+enum ListStitching {
+    /** {@code [a,b]}: elements sections joined with commas inside one pair of brackets. */
+    JSON_ARRAY,
+    /** A MessagePack array header with the element count, then the elements back to back. */
+    MESSAGE_PACK_ARRAY,
+    /**
+     * No framing: a list message whose only field is the repeated element field is its elements back to back,
+     * so Protobuf merges concatenated messages into one list.
+     */
+    PROTOBUF_REPEATED;
+
+    private static final int FIXARRAY_MAX = 15;
+    private static final int ARRAY16_MAX = 0xFFFF;
+    private static final int FIXARRAY_PREFIX = 0x90;
+    private static final int ARRAY16 = 0xDC;
+    private static final int ARRAY32 = 0xDD;
+    private static final byte[] EMPTY = {};
+    private static final byte[] JSON_SEPARATOR = {','};
+    private static final byte[] JSON_TRAILER = {']'};
+
+    /**
+     * @throws IllegalArgumentException for formats whose lists cannot be stitched
+     */
+    static ListStitching forFormat(String format) {
+        switch (format) {
+            case Codecs.JACKSON:
+            case Codecs.GSON:
+                return JSON_ARRAY;
+            case Codecs.MESSAGE_PACK:
+                return MESSAGE_PACK_ARRAY;
+            case Codecs.PROTOBUF:
+                return PROTOBUF_REPEATED;
+            default:
+                throw new IllegalArgumentException("No list stitching for format " + format);
+        }
+    }
+
+    /**
+     * Bytes in front of the elements section of an encoded chunk.
+     */
+    int headerLength(byte[] chunk) {
+        switch (this) {
+            case JSON_ARRAY:
+                return 1;
+            case MESSAGE_PACK_ARRAY: {
+                final int first = chunk[0] & 0xFF;
+                if ((first & 0xF0) == FIXARRAY_PREFIX) {
+                    return 1;
+                }
+                if (first == ARRAY16) {
+                    return 3;
+                }
+                if (first == ARRAY32) {
+                    return 5;
+                }
+                throw new IllegalArgumentException("Chunk does not start with a MessagePack array header: " + first);
+            }
+            default:
+                return 0;
+        }
+    }
+
+    /**
+     * Bytes after the elements section of an encoded chunk.
+     */
+    int trailerLength() {
+        return trailer().length;
+    }
+
+    /**
+     * The start of a list of {@code count} elements.
+     */
+    byte[] header(int count) {
+        switch (this) {
+            case JSON_ARRAY:
+                return new byte[]{'['};
+            case MESSAGE_PACK_ARRAY:
+                if (count <= FIXARRAY_MAX) {
+                    return new byte[]{(byte) (FIXARRAY_PREFIX | count)};
+                }
+                if (count <= ARRAY16_MAX) {
+                    return new byte[]{(byte) ARRAY16, (byte) (count >>> 8), (byte) count};
+                }
+                return new byte[]{(byte) ARRAY32, (byte) (count >>> 24), (byte) (count >>> 16), (byte) (count >>> 8),
+                    (byte) count};
+            default:
+                return EMPTY;
+        }
+    }
+
+    /**
+     * Bytes between two elements sections.
+     */
+    byte[] separator() {
+        return this == JSON_ARRAY ? JSON_SEPARATOR : EMPTY;
+    }
+
+    byte[] trailer() {
+        return this == JSON_ARRAY ? JSON_TRAILER : EMPTY;
+    }
+}
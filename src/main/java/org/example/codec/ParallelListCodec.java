@@ -0,0 +1,188 @@
+package org.example.codec;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * Encodes and decodes large lists on a {@link ForkJoinPool} by splitting them into chunks of up to
+ * {@code chunkSize} elements, each handled by the format's ordinary list codec.
+ * <p>
+ * Encoded chunks are stitched into one payload that is byte for byte what the list codec writes for the whole
+ * list (see {@link ListStitching}), so any reader of the format can decode it. The {@link ChunkedPayload}
+ * keeps each chunk's length and count, which lets {@link #decode} hand each chunk back to the list codec in
+ * parallel after restoring its header and trailer.
+ * <p>
+ * Splitting costs a copy of every encoded byte plus a task per chunk, so small lists are faster with the
+ * plain codec. Supports the JSON, MessagePack and Protobuf list codecs of {@link Codecs}.
+ *
+ * @param <E> element type
+ */
+public final class ParallelListCodec<E> {
+
+    private final Codec<List<E>> codec;
+    private final ListStitching stitching;
+    private final ForkJoinPool pool;
+    private final int chunkSize;
+
+    /**
+     * @param codec     list codec of a format in {@link Codecs}
+     * @param chunkSize most elements encoded or decoded by one task
+     * @throws IllegalArgumentException if the format is not supported or {@code chunkSize} is not positive
+     */
+    public ParallelListCodec(Codec<List<E>> codec, ForkJoinPool pool, int chunkSize) {
+        if (chunkSize < 1) {
+            throw new IllegalArgumentException("chunkSize must be positive: " + chunkSize);
+        }
+        this.codec = codec;
+        this.stitching = ListStitching.forFormat(codec.format());
+        this.pool = pool;
+        this.chunkSize = chunkSize;
+    }
+
+    public String format() {
+        return codec.format();
+    }
+
+    /**
+     * @throws IOException if any chunk fails to encode
+     */
+    public ChunkedPayload encode(List<E> values) throws IOException {
+        final int chunks = Math.max(1, (values.size() + chunkSize - 1) / chunkSize);
+        final byte[][] encoded = new byte[chunks][];
+        invoke(chunks, chunk -> {
+            final int from = chunk * chunkSize;
+            encoded[chunk] = codec.encode(values.subList(from, Math.min(values.size(), from + chunkSize)));
+        });
+        return stitch(values.size(), encoded);
+    }
+
+    /**
+     * Decodes the chunks of {@code payload} in parallel.
+     *
+     * @throws IOException if any chunk fails to decode
+     */
+    public List<E> decode(ChunkedPayload payload) throws IOException {
+        final int chunks = payload.getChunkCount();
+        final List<E>[] decoded = newListArray(chunks);
+        invoke(chunks, chunk -> decoded[chunk] = codec.decode(restore(payload, chunk)));
+
+        final List<E> values = new ArrayList<>(totalCount(payload));
+        for (List<E> chunk : decoded) {
+            values.addAll(chunk);
+        }
+        return values;
+    }
+
+    /**
+     * Lays the elements sections out after one header for {@code count} elements, indexing each.
+     */
+    private ChunkedPayload stitch(int count, byte[][] encoded) {
+        final int chunks = encoded.length;
+        final byte[] header = stitching.header(count);
+        final byte[] separator = stitching.separator();
+        final byte[] trailer = stitching.trailer();
+        final int[] starts = new int[chunks];
+        final int[] lengths = new int[chunks];
+        final int[] counts = new int[chunks];
+
+        int size = header.length + trailer.length + separator.length * (chunks - 1);
+        for (int i = 0; i < chunks; i++) {
+            starts[i] = stitching.headerLength(encoded[i]);
+            lengths[i] = encoded[i].length - starts[i] - stitching.trailerLength();
+            counts[i] = Math.min(chunkSize, count - i * chunkSize);
+            size += lengths[i];
+        }
+
+        final byte[] payload = new byte[size];
+        final int[] offsets = new int[chunks];
+        System.arraycopy(header, 0, payload, 0, header.length);
+        int position = header.length;
+        for (int i = 0; i < chunks; i++) {
+            if (i > 0) {
+                System.arraycopy(separator, 0, payload, position, separator.length);
+                position += separator.length;
+            }
+            offsets[i] = position;
+            System.arraycopy(encoded[i], starts[i], payload, position, lengths[i]);
+            position += lengths[i];
+        }
+        System.arraycopy(trailer, 0, payload, position, trailer.length);
+        return new ChunkedPayload(payload, offsets, lengths, counts);
+    }
+
+    /**
+     * Chunk {@code chunk} as the list codec would have encoded it alone.
+     */
+    private byte[] restore(ChunkedPayload payload, int chunk) {
+        final byte[] header = stitching.header(payload.getCount(chunk));
+        final byte[] trailer = stitching.trailer();
+        final int length = payload.getLength(chunk);
+        final byte[] restored = new byte[header.length + length + trailer.length];
+        System.arraycopy(header, 0, restored, 0, header.length);
+        System.arraycopy(payload.getPayload(), payload.getOffset(chunk), restored, header.length, length);
+        System.arraycopy(trailer, 0, restored, header.length + length, trailer.length);
+        return restored;
+    }
+
+    private static int totalCount(ChunkedPayload payload) {
+        int count = 0;
+        for (int i = 0; i < payload.getChunkCount(); i++) {
+            count += payload.getCount(i);
+        }
+        return count;
+    }
+
+    @SuppressWarnings("unchecked")
+    private List<E>[] newListArray(int length) {
+        return (List<E>[]) new List<?>[length];
+    }
+
+    /**
+     * Runs {@code action} on chunks {@code 0} to {@code chunks - 1} in the pool and waits for all of them.
+     */
+    private void invoke(int chunks, ChunkAction action) throws IOException {
+        try {
+            pool.invoke(new ChunkTask(action, 0, chunks));
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+    }
+
+    @FunctionalInterface
+    private interface ChunkAction {
+        void run(int chunk) throws IOException;
+    }
+
+    /**
+     * Splits a range of chunk indexes in half until one chunk is left, and runs the action on it.
+     */
+    private static final class ChunkTask extends RecursiveAction {
+        private final transient ChunkAction action;
+        private final int from;
+        private final int to;
+
+        ChunkTask(ChunkAction action, int from, int to) {
+            this.action = action;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from == 1) {
+                try {
+                    action.run(from);
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+                return;
+            }
+            final int middle = (from + to) >>> 1;
+            invokeAll(new ChunkTask(action, from, middle), new ChunkTask(action, middle, to));
+        }
+    }
+}
@@ -0,0 +1,77 @@
+package org.example.codec;
+
+import com.google.protobuf.CodedInputStream;
+import com.google.protobuf.CodedOutputStream;
+import com.google.protobuf.MessageLite;
+import com.google.protobuf.Parser;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.BufferOverflowException;
+import java.nio.ByteBuffer;
+import java.util.function.Function;
+
+/**
+ * Protobuf codec for a POJO type, converting to and from the generated message on every call so callers
+ * work with the same type as the other codecs.
+ * <p>
+ * A message knows its size before it is written, so buffers are written and read in place through
+ * {@code CodedOutputStream}/{@code CodedInputStream.newInstance(ByteBuffer)}, heap or direct.
+ */
+final class ProtobufCodec<T, M extends MessageLite> implements Codec<T> {
+
+    private final Parser<M> parser;
+    private final Function<? super T, M> toMessage;
+    private final Function<? super M, T> fromMessage;
+
+    ProtobufCodec(Parser<M> parser, Function<? super T, M> toMessage, Function<? super M, T> fromMessage) {
+        this.parser = parser;
+        this.toMessage = toMessage;
+        this.fromMessage = fromMessage;
+    }
+
+    @Override
+    public String format() {
+        return Codecs.PROTOBUF;
+    }
+
+    @Override
+    public void encode(T value, OutputStream out) throws IOException {
+        toMessage.apply(value).writeTo(out);
+    }
+
+    @Override
+    public void encode(T value, ByteBuffer buffer) throws IOException {
+        final M message = toMessage.apply(value);
+        if (buffer.remaining() < message.getSerializedSize()) {
+            throw new BufferOverflowException();
+        }
+        final CodedOutputStream output = CodedOutputStream.newInstance(buffer);
+        message.writeTo(output);
+        // Moves the buffer's position past the message
+        output.flush();
+    }
+
+    @Override
+    public byte[] encode(T value) {
+        return toMessage.apply(value).toByteArray();
+    }
+
+    @Override
+    public T decode(InputStream in) throws IOException {
+        return fromMessage.apply(parser.parseFrom(in));
+    }
+
+    @Override
+    public T decode(ByteBuffer buffer) throws IOException {
+        final M message = parser.parseFrom(CodedInputStream.newInstance(buffer));
+        buffer.position(buffer.limit());
+        return fromMessage.apply(message);
+    }
+
+    @Override
+    public T decode(byte[] payload) throws IOException {
+        return fromMessage.apply(parser.parseFrom(payload));
+    }
+}
@@ -0,0 +1,216 @@
+package org.example.pipeline;
+
+import org.example.codec.Codec;
+
+import java.io.IOException;
+import java.nio.BufferOverflowException;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Moves encoding off the producer's thread: producers put values into a bounded queue, and worker threads
+ * take them out in batches of up to {@code batchSize}, encode each batch with one {@link Codec} call into a
+ * length-prefixed frame, and hand the frame to a {@link FrameSink}.
+ * <p>
+ * The queue is an {@link ArrayBlockingQueue}, a fixed ring buffer. When it is full, {@link #submit} blocks
+ * and {@link #offer} returns {@code false}, so a sink that cannot keep up slows producers down instead of
+ * letting memory grow. A worker takes whatever is queued, up to the batch size, without waiting for a batch
+ * to fill, so batches stay small under light load.
+ * <p>
+ * Frames are written into a direct buffer per worker, which doubles when a batch does not fit. Stop
+ * producers before {@link #close()}: it writes everything already queued and stops the workers.
+ *
+ * @param <T> type of the values; the codec encodes a list of them
+ */
+public class BatchingPipeline<T> implements AutoCloseable {
+
+    /** Size of the big-endian payload length in front of every frame. */
+    public static final int LENGTH_PREFIX_BYTES = 4;
+
+    private static final int INITIAL_FRAME_CAPACITY = 64 * 1024;
+    private static final long POLL_TIMEOUT_MS = 10;
+
+    private final Codec<List<T>> codec;
+    private final FrameSink sink;
+    private final int batchSize;
+    private final BlockingQueue<T> queue;
+    private final List<Thread> workers = new ArrayList<>();
+    private volatile boolean closed;
+
+    private final LongAdder frames = new LongAdder();
+    private final LongAdder messages = new LongAdder();
+    private final LongAdder bytes = new LongAdder();
+    private final LongAdder failedFrames = new LongAdder();
+    private final LongAdder rejected = new LongAdder();
+    private final AtomicReference<Exception> firstFailure = new AtomicReference<>();
+
+    private BatchingPipeline(Codec<List<T>> codec, FrameSink sink, int queueCapacity, int batchSize) {
+        this.codec = codec;
+        this.sink = sink;
+        this.batchSize = batchSize;
+        this.queue = new ArrayBlockingQueue<>(queueCapacity);
+    }
+
+    /**
+     * Creates a pipeline and starts its worker threads, which are daemon threads named after the format.
+     *
+     * @throws IllegalArgumentException if {@code queueCapacity}, {@code batchSize} or {@code workers} is not
+     *                                  positive
+     */
+    public static <T> BatchingPipeline<T> start(Codec<List<T>> codec, FrameSink sink, int queueCapacity,
+                                                int batchSize, int workers) {
+        if (queueCapacity < 1 || batchSize < 1 || workers < 1) {
+            throw new IllegalArgumentException("queueCapacity, batchSize and workers must be positive: "
+                + queueCapacity + ", " + batchSize + ", " + workers);
+        }
+        final BatchingPipeline<T> pipeline = new BatchingPipeline<>(codec, sink, queueCapacity, batchSize);
+        for (int i = 0; i < workers; i++) {
+            final Thread worker = new Thread(pipeline::drain, "batching-pipeline-" + codec.format() + "-" + i);
+            worker.setDaemon(true);
+            pipeline.workers.add(worker);
+            worker.start();
+        }
+        return pipeline;
+    }
+
+    /**
+     * Enqueues {@code value}, waiting for space while the queue is full.
+     *
+     * @throws IllegalStateException if the pipeline is closed
+     */
+    public void submit(T value) throws InterruptedException {
+        checkOpen();
+        queue.put(value);
+    }
+
+    /**
+     * Enqueues {@code value} only if there is space right now.
+     *
+     * @return {@code false}, counted in {@link #getRejectedCount()}, if the queue is full
+     * @throws IllegalStateException if the pipeline is closed
+     */
+    public boolean offer(T value) {
+        checkOpen();
+        if (queue.offer(value)) {
+            return true;
+        }
+        rejected.increment();
+        return false;
+    }
+
+    /**
+     * Writes every queued value and waits for the workers to finish.
+     *
+     * @throws IOException if any frame failed to encode or reach the sink: the first failure, with the
+     *                     number of failed frames
+     */
+    @Override
+    public void close() throws IOException {
+        closed = true;
+        try {
+            for (Thread worker : workers) {
+                worker.join();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        final Exception failure = firstFailure.get();
+        if (failure != null) {
+            throw new IOException(failedFrames.sum() + " frame(s) failed, first: " + failure, failure);
+        }
+    }
+
+    public long getFrameCount() {
+        return frames.sum();
+    }
+
+    public long getMessageCount() {
+        return messages.sum();
+    }
+
+    /**
+     * Bytes handed to the sink, length prefixes included.
+     */
+    public long getByteCount() {
+        return bytes.sum();
+    }
+
+    public long getFailedFrameCount() {
+        return failedFrames.sum();
+    }
+
+    public long getRejectedCount() {
+        return rejected.sum();
+    }
+
+    public int getQueueSize() {
+        return queue.size();
+    }
+
+    private void checkOpen() {
+        if (closed) {
+            throw new IllegalStateException("Pipeline is closed");
+        }
+    }
+
+    /**
+     * Worker loop: runs until the pipeline is closed and the queue is empty.
+     */
+    private void drain() {
+        final List<T> batch = new ArrayList<>(batchSize);
+        ByteBuffer frame = ByteBuffer.allocateDirect(INITIAL_FRAME_CAPACITY);
+        while (true) {
+            final T first;
+            try {
+                first = queue.poll(POLL_TIMEOUT_MS, TimeUnit.MILLISECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+            if (first == null) {
+                if (closed) {
+                    return;
+                }
+                continue;
+            }
+            batch.add(first);
+            queue.drainTo(batch, batchSize - 1);
+            frame = writeFrame(batch, frame);
+            batch.clear();
+        }
+    }
+
+    /**
+     * @return the frame buffer to reuse, grown if the batch did not fit
+     */
+    private ByteBuffer writeFrame(List<T> batch, ByteBuffer frame) {
+        try {
+            while (true) {
+                frame.clear().position(LENGTH_PREFIX_BYTES);
+                try {
+                    codec.encode(batch, frame);
+                    break;
+                } catch (BufferOverflowException e) {
+                    frame = ByteBuffer.allocateDirect(frame.capacity() * 2);
+                }
+            }
+            frame.putInt(0, frame.position() - LENGTH_PREFIX_BYTES).flip();
+            final int frameBytes = frame.remaining();
+            sink.accept(frame, batch.size());
+            frames.increment();
+            messages.add(batch.size());
+            bytes.add(frameBytes);
+        } catch (IOException | RuntimeException e) {
+            // Keep the worker alive; the failure is reported by close()
+            failedFrames.increment();
+            firstFailure.compareAndSet(null, e);
+        }
+        return frame;
+    }
+}
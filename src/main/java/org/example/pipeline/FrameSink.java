@@ -0,0 +1,24 @@
+package org.example.pipeline;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+
+/**
+ * Receives the frames a {@link BatchingPipeline} writes: a 4-byte big-endian payload length followed by one
+ * encoded batch.
+ * <p>
+ * Called from the pipeline's worker threads, possibly concurrently, so implementations must be thread-safe.
+ * A slow sink holds up its worker, which lets the queue fill up and producers block: that is the pipeline's
+ * backpressure.
+ */
+@FunctionalInterface
+public interface FrameSink {
+
+    /**
+     * @param frame    the whole frame from position to limit; the buffer is reused once this method returns,
+     *                 so copy out anything kept
+     * @param messages number of values in the batch
+     * @throws IOException to report the frame as failed; the worker goes on with the next batch
+     */
+    void accept(ByteBuffer frame, int messages) throws IOException;
+}
@@ -0,0 +1,31 @@
+package org.example.util;
+
+import java.io.OutputStream;
+import java.nio.BufferOverflowException;
+import java.nio.ByteBuffer;
+
+/**
+ * {@link OutputStream} writing at the position of a heap or direct {@link ByteBuffer}, so stream-based encoders
+ * such as Jackson can write straight into the buffer a channel or network layer hands out.
+ * <p>
+ * Writing advances the buffer's position. The buffer does not grow: a write that does not fit throws
+ * {@link BufferOverflowException}, after the bytes of earlier writes.
+ */
+public class ByteBufferOutputStream extends OutputStream {
+
+    private final ByteBuffer buffer;
+
+    public ByteBufferOutputStream(ByteBuffer buffer) {
+        this.buffer = buffer;
+    }
+
+    @Override
+    public void write(int b) {
+        buffer.put((byte) b);
+    }
+
+    @Override
+    public void write(byte[] b, int off, int len) {
+        buffer.put(b, off, len);
+    }
+}
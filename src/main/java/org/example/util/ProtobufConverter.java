@@ -8,6 +8,8 @@ import org.example.proto.DeepNestedProto;
 import org.example.proto.LargePojoProto;
 import org.example.proto.NestedProto;
 
+import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
 
 public class ProtobufConverter {
@@ -45,6 +47,14 @@ public class ProtobufConverter {
         if (pojo.getRef19() != null) builder.setRef19(convertNestedToProto(pojo.getRef19()));
         if (pojo.getRef20() != null) builder.setRef20(convertNestedToProto(pojo.getRef20()));
 
+        return convertFieldsToProto(pojo, builder).build();
+    }
+
+    /**
+     * Copies every field except the {@code ref} objects into {@code builder}.
+     */
+    static LargePojoProto.LargePojo.Builder convertFieldsToProto(LargePojo pojo,
+                                                                 LargePojoProto.LargePojo.Builder builder) {
         // Primitive fields (proto3 automatically handles defaults)
         builder.setField21(pojo.getField21());
         builder.setField22(pojo.getField22());
@@ -240,10 +250,10 @@ public class ProtobufConverter {
         if (pojo.getField199() != null) builder.setField199(pojo.getField199());
         if (pojo.getField200() != null) builder.setField200(pojo.getField200());
 
-        return builder.build();
+        return builder;
     }
 
-    private static NestedProto.Nested convertNestedToProto(NestedPojo nested) {
+    static NestedProto.Nested convertNestedToProto(NestedPojo nested) {
         NestedProto.Nested.Builder builder = NestedProto.Nested.newBuilder();
 
         if (nested.getField1() != null) builder.setField1(nested.getField1());
@@ -267,4 +277,287 @@ public class ProtobufConverter {
 
         return builder.build();
     }
+
+    public static List<LargePojo> convertListFromProto(LargePojoProto.LargePojoList protoList) {
+        List<LargePojo> pojos = new ArrayList<>(protoList.getItemsCount());
+        for (LargePojoProto.LargePojo proto : protoList.getItemsList()) {
+            pojos.add(convertFromProto(proto));
+        }
+        return pojos;
+    }
+
+    public static LargePojo convertFromProto(LargePojoProto.LargePojo proto) {
+        LargePojo pojo = new LargePojo();
+
+        // Convert nested objects
+        if (proto.hasRef1()) pojo.setRef1(convertNestedFromProto(proto.getRef1()));
+        if (proto.hasRef2()) pojo.setRef2(convertNestedFromProto(proto.getRef2()));
+        if (proto.hasRef3()) pojo.setRef3(convertNestedFromProto(proto.getRef3()));
+        if (proto.hasRef4()) pojo.setRef4(convertNestedFromProto(proto.getRef4()));
+        if (proto.hasRef5()) pojo.setRef5(convertNestedFromProto(proto.getRef5()));
+        if (proto.hasRef6()) pojo.setRef6(convertNestedFromProto(proto.getRef6()));
+        if (proto.hasRef7()) pojo.setRef7(convertNestedFromProto(proto.getRef7()));
+        if (proto.hasRef8()) pojo.setRef8(convertNestedFromProto(proto.getRef8()));
+        if (proto.hasRef9()) pojo.setRef9(convertNestedFromProto(proto.getRef9()));
+        if (proto.hasRef10()) pojo.setRef10(convertNestedFromProto(proto.getRef10()));
+        if (proto.hasRef11()) pojo.setRef11(convertNestedFromProto(proto.getRef11()));
+        if (proto.hasRef12()) pojo.setRef12(convertNestedFromProto(proto.getRef12()));
+        if (proto.hasRef13()) pojo.setRef13(convertNestedFromProto(proto.getRef13()));
+        if (proto.hasRef14()) pojo.setRef14(convertNestedFromProto(proto.getRef14()));
+        if (proto.hasRef15()) pojo.setRef15(convertNestedFromProto(proto.getRef15()));
+        if (proto.hasRef16()) pojo.setRef16(convertNestedFromProto(proto.getRef16()));
+        if (proto.hasRef17()) pojo.setRef17(convertNestedFromProto(proto.getRef17()));
+        if (proto.hasRef18()) pojo.setRef18(convertNestedFromProto(proto.getRef18()));
+        if (proto.hasRef19()) pojo.setRef19(convertNestedFromProto(proto.getRef19()));
+        if (proto.hasRef20()) pojo.setRef20(convertNestedFromProto(proto.getRef20()));
+
+        return convertFieldsFromProto(proto, pojo);
+    }
+
+    /**
+     * Copies every field except the {@code ref} objects into {@code pojo}.
+     */
+    static LargePojo convertFieldsFromProto(LargePojoProto.LargePojo proto, LargePojo pojo) {
+        // Primitive fields
+        pojo.setField21(proto.getField21());
+        pojo.setField22(proto.getField22());
+        pojo.setField23(proto.getField23());
+        pojo.setField24(proto.getField24());
+        pojo.setField25(proto.getField25());
+        pojo.setField26(proto.getField26());
+        pojo.setField27(proto.getField27());
+        pojo.setField28(proto.getField28());
+        pojo.setField29(proto.getField29());
+        pojo.setField30(proto.getField30());
+
+        pojo.setField31(proto.getField31());
+        pojo.setField32(proto.getField32());
+        pojo.setField33(proto.getField33());
+        pojo.setField34(proto.getField34());
+        pojo.setField35(proto.getField35());
+        pojo.setField36(proto.getField36());
+        pojo.setField37(proto.getField37());
+        pojo.setField38(proto.getField38());
+        pojo.setField39(proto.getField39());
+        pojo.setField40(proto.getField40());
+
+        pojo.setField41(proto.getField41());
+        pojo.setField42(proto.getField42());
+        pojo.setField43(proto.getField43());
+        pojo.setField44(proto.getField44());
+        pojo.setField45(proto.getField45());
+        pojo.setField46(proto.getField46());
+        pojo.setField47(proto.getField47());
+        pojo.setField48(proto.getField48());
+        pojo.setField49(proto.getField49());
+        pojo.setField50(proto.getField50());
+
+        pojo.setField51(proto.getField51());
+        pojo.setField52(proto.getField52());
+        pojo.setField53(proto.getField53());
+        pojo.setField54(proto.getField54());
+        pojo.setField55(proto.getField55());
+        pojo.setField56(proto.getField56());
+        pojo.setField57(proto.getField57());
+        pojo.setField58(proto.getField58());
+        pojo.setField59(proto.getField59());
+        pojo.setField60(proto.getField60());
+
+        pojo.setField61(proto.getField61());
+        pojo.setField62(proto.getField62());
+        pojo.setField63(proto.getField63());
+        pojo.setField64(proto.getField64());
+        pojo.setField65(proto.getField65());
+        pojo.setField66(proto.getField66());
+        pojo.setField67(proto.getField67());
+        pojo.setField68(proto.getField68());
+        pojo.setField69(proto.getField69());
+        pojo.setField70(proto.getField70());
+
+        pojo.setField71((short) proto.getField71());
+        pojo.setField72((short) proto.getField72());
+        pojo.setField73((short) proto.getField73());
+        pojo.setField74((short) proto.getField74());
+        pojo.setField75((short) proto.getField75());
+        pojo.setField76((short) proto.getField76());
+        pojo.setField77((short) proto.getField77());
+        pojo.setField78((short) proto.getField78());
+        pojo.setField79((short) proto.getField79());
+        pojo.setField80((short) proto.getField80());
+
+        pojo.setField81((byte) proto.getField81());
+        pojo.setField82((byte) proto.getField82());
+        pojo.setField83((byte) proto.getField83());
+        pojo.setField84((byte) proto.getField84());
+        pojo.setField85((byte) proto.getField85());
+        pojo.setField86((byte) proto.getField86());
+        pojo.setField87((byte) proto.getField87());
+        pojo.setField88((byte) proto.getField88());
+        pojo.setField89((byte) proto.getField89());
+        pojo.setField90((byte) proto.getField90());
+
+        pojo.setField91((char) proto.getField91());
+        pojo.setField92((char) proto.getField92());
+        pojo.setField93((char) proto.getField93());
+        pojo.setField94((char) proto.getField94());
+        pojo.setField95((char) proto.getField95());
+        pojo.setField96((char) proto.getField96());
+        pojo.setField97((char) proto.getField97());
+        pojo.setField98((char) proto.getField98());
+        pojo.setField99((char) proto.getField99());
+        pojo.setField100((char) proto.getField100());
+
+        // Boxed types (proto3 scalars have no presence, so defaults map back to null)
+        pojo.setField101(nullIfDefault(proto.getField101()));
+        pojo.setField102(nullIfDefault(proto.getField102()));
+        pojo.setField103(nullIfDefault(proto.getField103()));
+        pojo.setField104(nullIfDefault(proto.getField104()));
+        pojo.setField105(nullIfDefault(proto.getField105()));
+        pojo.setField106(nullIfDefault(proto.getField106()));
+        pojo.setField107(nullIfDefault(proto.getField107()));
+        pojo.setField108(nullIfDefault(proto.getField108()));
+        pojo.setField109(nullIfDefault(proto.getField109()));
+        pojo.setField110(nullIfDefault(proto.getField110()));
+        pojo.setField111(nullIfDefault(proto.getField111()));
+        pojo.setField112(nullIfDefault(proto.getField112()));
+
+        // Collections
+        if (proto.getField113Count() > 0) pojo.setField113(new ArrayList<>(proto.getField113List()));
+        if (proto.getField114Count() > 0) pojo.setField114(new ArrayList<>(proto.getField114List()));
+        if (proto.getField115Count() > 0) pojo.setField115(new HashMap<>(proto.getField115Map()));
+
+        // String fields
+        pojo.setField116(nullIfDefault(proto.getField116()));
+        pojo.setField117(nullIfDefault(proto.getField117()));
+        pojo.setField118(nullIfDefault(proto.getField118()));
+        pojo.setField119(nullIfDefault(proto.getField119()));
+        pojo.setField120(nullIfDefault(proto.getField120()));
+        pojo.setField121(nullIfDefault(proto.getField121()));
+        pojo.setField122(nullIfDefault(proto.getField122()));
+        pojo.setField123(nullIfDefault(proto.getField123()));
+        pojo.setField124(nullIfDefault(proto.getField124()));
+        pojo.setField125(nullIfDefault(proto.getField125()));
+        pojo.setField126(nullIfDefault(proto.getField126()));
+        pojo.setField127(nullIfDefault(proto.getField127()));
+        pojo.setField128(nullIfDefault(proto.getField128()));
+        pojo.setField129(nullIfDefault(proto.getField129()));
+        pojo.setField130(nullIfDefault(proto.getField130()));
+        pojo.setField131(nullIfDefault(proto.getField131()));
+        pojo.setField132(nullIfDefault(proto.getField132()));
+        pojo.setField133(nullIfDefault(proto.getField133()));
+        pojo.setField134(nullIfDefault(proto.getField134()));
+        pojo.setField135(nullIfDefault(proto.getField135()));
+        pojo.setField136(nullIfDefault(proto.getField136()));
+        pojo.setField137(nullIfDefault(proto.getField137()));
+        pojo.setField138(nullIfDefault(proto.getField138()));
+        pojo.setField139(nullIfDefault(proto.getField139()));
+        pojo.setField140(nullIfDefault(proto.getField140()));
+        pojo.setField141(nullIfDefault(proto.getField141()));
+        pojo.setField142(nullIfDefault(proto.getField142()));
+        pojo.setField143(nullIfDefault(proto.getField143()));
+        pojo.setField144(nullIfDefault(proto.getField144()));
+        pojo.setField145(nullIfDefault(proto.getField145()));
+        pojo.setField146(nullIfDefault(proto.getField146()));
+        pojo.setField147(nullIfDefault(proto.getField147()));
+        pojo.setField148(nullIfDefault(proto.getField148()));
+        pojo.setField149(nullIfDefault(proto.getField149()));
+        pojo.setField150(nullIfDefault(proto.getField150()));
+        pojo.setField151(nullIfDefault(proto.getField151()));
+        pojo.setField152(nullIfDefault(proto.getField152()));
+        pojo.setField153(nullIfDefault(proto.getField153()));
+        pojo.setField154(nullIfDefault(proto.getField154()));
+        pojo.setField155(nullIfDefault(proto.getField155()));
+        pojo.setField156(nullIfDefault(proto.getField156()));
+        pojo.setField157(nullIfDefault(proto.getField157()));
+        pojo.setField158(nullIfDefault(proto.getField158()));
+        pojo.setField159(nullIfDefault(proto.getField159()));
+        pojo.setField160(nullIfDefault(proto.getField160()));
+        pojo.setField161(nullIfDefault(proto.getField161()));
+        pojo.setField162(nullIfDefault(proto.getField162()));
+        pojo.setField163(nullIfDefault(proto.getField163()));
+        pojo.setField164(nullIfDefault(proto.getField164()));
+        pojo.setField165(nullIfDefault(proto.getField165()));
+        pojo.setField166(nullIfDefault(proto.getField166()));
+        pojo.setField167(nullIfDefault(proto.getField167()));
+        pojo.setField168(nullIfDefault(proto.getField168()));
+        pojo.setField169(nullIfDefault(proto.getField169()));
+        pojo.setField170(nullIfDefault(proto.getField170()));
+        pojo.setField171(nullIfDefault(proto.getField171()));
+        pojo.setField172(nullIfDefault(proto.getField172()));
+        pojo.setField173(nullIfDefault(proto.getField173()));
+        pojo.setField174(nullIfDefault(proto.getField174()));
+        pojo.setField175(nullIfDefault(proto.getField175()));
+        pojo.setField176(nullIfDefault(proto.getField176()));
+        pojo.setField177(nullIfDefault(proto.getField177()));
+        pojo.setField178(nullIfDefault(proto.getField178()));
+        pojo.setField179(nullIfDefault(proto.getField179()));
+        pojo.setField180(nullIfDefault(proto.getField180()));
+        pojo.setField181(nullIfDefault(proto.getField181()));
+        pojo.setField182(nullIfDefault(proto.getField182()));
+        pojo.setField183(nullIfDefault(proto.getField183()));
+        pojo.setField184(nullIfDefault(proto.getField184()));
+        pojo.setField185(nullIfDefault(proto.getField185()));
+        pojo.setField186(nullIfDefault(proto.getField186()));
+        pojo.setField187(nullIfDefault(proto.getField187()));
+        pojo.setField188(nullIfDefault(proto.getField188()));
+        pojo.setField189(nullIfDefault(proto.getField189()));
+        pojo.setField190(nullIfDefault(proto.getField190()));
+        pojo.setField191(nullIfDefault(proto.getField191()));
+        pojo.setField192(nullIfDefault(proto.getField192()));
+        pojo.setField193(nullIfDefault(proto.getField193()));
+        pojo.setField194(nullIfDefault(proto.getField194()));
+        pojo.setField195(nullIfDefault(proto.getField195()));
+        pojo.setField196(nullIfDefault(proto.getField196()));
+        pojo.setField197(nullIfDefault(proto.getField197()));
+        pojo.setField198(nullIfDefault(proto.getField198()));
+        pojo.setField199(nullIfDefault(proto.getField199()));
+        pojo.setField200(nullIfDefault(proto.getField200()));
+
+        return pojo;
+    }
+
+    static NestedPojo convertNestedFromProto(NestedProto.Nested proto) {
+        NestedPojo nested = new NestedPojo();
+
+        nested.setField1(nullIfDefault(proto.getField1()));
+        nested.setField2(nullIfDefault(proto.getField2()));
+        nested.setField3(nullIfDefault(proto.getField3()));
+        nested.setField4(nullIfDefault(proto.getField4()));
+        nested.setField5(nullIfDefault(proto.getField5()));
+        nested.setLongField1(nullIfDefault(proto.getLongField1()));
+        nested.setIntField1(nullIfDefault(proto.getIntField1()));
+        nested.setDoubleField1(nullIfDefault(proto.getDoubleField1()));
+        if (proto.hasDeepNested()) nested.setDeepNested(convertDeepNestedFromProto(proto.getDeepNested()));
+
+        return nested;
+    }
+
+    private static DeepNestedPojo convertDeepNestedFromProto(DeepNestedProto.DeepNested proto) {
+        DeepNestedPojo deep = new DeepNestedPojo();
+
+        deep.setData(nullIfDefault(proto.getData()));
+        if (!proto.getBlob().isEmpty()) deep.setBlob(proto.getBlob().toByteArray());
+
+        return deep;
+    }
+
+    private static Integer nullIfDefault(int value) {
+        return value != 0 ? value : null;
+    }
+
+    private static Long nullIfDefault(long value) {
+        return value != 0L ? value : null;
+    }
+
+    private static Double nullIfDefault(double value) {
+        return value != 0.0 ? value : null;
+    }
+
+    private static Boolean nullIfDefault(boolean value) {
+        return value ? Boolean.TRUE : null;
+    }
+
+    private static String nullIfDefault(String value) {
+        return value.isEmpty() ? null : value;
+    }
 }
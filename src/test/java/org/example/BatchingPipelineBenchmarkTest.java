@@ -0,0 +1,274 @@
+package org.example;
+
+import org.example.codec.Codec;
+import org.example.codec.CodecRegistry;
+import org.example.codec.Codecs;
+import org.example.pipeline.BatchingPipeline;
+import org.example.pipeline.FrameSink;
+import org.example.util.LatencyHistogram;
+import org.example.util.TestDataFactory;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Measures {@link BatchingPipeline}: producer threads enqueue single {@code LargePojo}s, and workers encode
+ * them in batches into length-prefixed frames. Every codec of {@link CodecRegistry#standard(boolean)} runs
+ * across a sweep of batch sizes and worker counts, reporting end-to-end throughput and the latency of the
+ * enqueue call, which is what a producer actually waits for.
+ * <p>
+ * A second table repeats one configuration against a sink that sleeps on every frame, to show
+ * backpressure: the queue fills, offers fail and producers block instead of memory growing. Before the
+ * sweep, every codec's frames are decoded and checked against what was submitted.
+ * <p>
+ * Override the defaults with {@code -Dpipeline.messages}, {@code -Dpipeline.producers},
+ * {@code -Dpipeline.queueCapacity} and {@code -Dpipeline.slowSinkMicros}.
+ */
+@DisplayName("Batching Pipeline Benchmarks")
+class BatchingPipelineBenchmarkTest {
+
+    private static final int LIST_SIZE = 20;
+    private static final int MESSAGES = Integer.getInteger("pipeline.messages", 2_000);
+    private static final int WARMUP_MESSAGES = Integer.getInteger("pipeline.warmupMessages", 2_000);
+    private static final int PRODUCERS = Integer.getInteger("pipeline.producers", 2);
+    private static final int QUEUE_CAPACITY = Integer.getInteger("pipeline.queueCapacity", 256);
+    private static final long SLOW_SINK_MICROS = Long.getLong("pipeline.slowSinkMicros", 2_000);
+    private static final int[] BATCH_SIZES = {1, 8, 32, 128};
+    private static final int[] WORKER_COUNTS = {1, 2, 4};
+    private static final int BACKPRESSURE_BATCH_SIZE = 32;
+
+    // Table formatting constants
+    private static final String TABLE_TOP = "┌─────────────────┬───────┬─────────┬─────────────┬──────────┬────────────┬────────────┬─────────────┬──────────┐";
+    private static final String TABLE_HEADER = "│ Serializer      │ Batch │ Workers │   Msgs/s    │   MB/s   │  p50 (µs)  │  p99 (µs)  │ p99.9 (µs)  │ Blocked  │";
+    private static final String TABLE_SEPARATOR = "├─────────────────┼───────┼─────────┼─────────────┼──────────┼────────────┼────────────┼─────────────┼──────────┤";
+    private static final String TABLE_BOTTOM = "└─────────────────┴───────┴─────────┴─────────────┴──────────┴────────────┴────────────┴─────────────┴──────────┘";
+
+    private static final String BACKPRESSURE_TOP = "┌─────────────────┬───────────┬─────────────┬────────────┬────────────┬──────────┬──────────────┐";
+    private static final String BACKPRESSURE_HEADER = "│ Serializer      │ Sink      │   Msgs/s    │  p50 (µs)  │  p99 (µs)  │ Blocked  │ Frames       │";
+    private static final String BACKPRESSURE_SEPARATOR = "├─────────────────┼───────────┼─────────────┼────────────┼────────────┼──────────┼──────────────┤";
+    private static final String BACKPRESSURE_BOTTOM = "└─────────────────┴───────────┴─────────────┴────────────┴────────────┴──────────┴──────────────┘";
+
+    private static List<LargePojo> testData;
+
+    @BeforeAll
+    static void setUp() {
+        // Initialize test data
+        testData = TestDataFactory.createPojoList(LIST_SIZE);
+    }
+
+    @Test
+    @DisplayName("Batching pipeline with null fields serialized")
+    void batchingPipelineWithNullFieldsSerialized() throws Exception {
+        runPipelineSuite("WITH NULLS", CodecRegistry.standard(true));
+    }
+
+    @Test
+    @DisplayName("Batching pipeline with null fields excluded")
+    void batchingPipelineWithNullFieldsExcluded() throws Exception {
+        runPipelineSuite("WITHOUT NULLS", CodecRegistry.standard(false));
+    }
+
+    private void runPipelineSuite(String suiteName, CodecRegistry registry) throws Exception {
+        final List<Codec<List<LargePojo>>> codecs = registry.getAll(Codecs.LARGE_POJO_LIST);
+        for (Codec<List<LargePojo>> codec : codecs) {
+            verifyFrames(codec);
+        }
+
+        final ExecutorService producers = Executors.newFixedThreadPool(PRODUCERS);
+        try {
+            printBenchmarkHeader("Batching Pipeline - " + suiteName,
+                MESSAGES + " messages from " + PRODUCERS + " producers, queue of " + QUEUE_CAPACITY);
+            System.out.println(TABLE_TOP);
+            System.out.println(TABLE_HEADER);
+            System.out.println(TABLE_SEPARATOR);
+            for (Codec<List<LargePojo>> codec : codecs) {
+                // Warm up at the largest batch and worker count so every configuration runs compiled code
+                runPipeline(producers, codec, (frame, messages) -> { }, BATCH_SIZES[BATCH_SIZES.length - 1],
+                    WORKER_COUNTS[WORKER_COUNTS.length - 1], WARMUP_MESSAGES);
+                for (int batchSize : BATCH_SIZES) {
+                    for (int workers : WORKER_COUNTS) {
+                        final RunResult result = runPipeline(producers, codec, (frame, messages) -> { },
+                            batchSize, workers, MESSAGES);
+                        System.out.printf("│ %-15s │ %5d │ %7d │ %,11.0f │ %8.2f │ %10.2f │ %10.2f │ %11.2f │ %7.1f%% │%n",
+                            codec.format(), batchSize, workers, result.messagesPerSecond(),
+                            result.megabytesPerSecond(), result.enqueueMicros(50), result.enqueueMicros(99),
+                            result.enqueueMicros(99.9), result.blockedPercent());
+                    }
+                }
+            }
+            System.out.println(TABLE_BOTTOM);
+            System.out.println("  Latency is the producer's enqueue call; Blocked is the share of offers that"
+                + " found the queue full");
+            System.out.println("\n========================================\n");
+
+            printBenchmarkHeader("Batching Pipeline Backpressure - " + suiteName,
+                "batch " + BACKPRESSURE_BATCH_SIZE + ", 1 worker, slow sink sleeps " + SLOW_SINK_MICROS
+                    + " µs per frame");
+            System.out.println(BACKPRESSURE_TOP);
+            System.out.println(BACKPRESSURE_HEADER);
+            System.out.println(BACKPRESSURE_SEPARATOR);
+            final FrameSink slowSink = (frame, messages) ->
+                LockSupport.parkNanos(TimeUnit.MICROSECONDS.toNanos(SLOW_SINK_MICROS));
+            for (Codec<List<LargePojo>> codec : codecs) {
+                printBackpressureRow(codec.format(), "fast",
+                    runPipeline(producers, codec, (frame, messages) -> { }, BACKPRESSURE_BATCH_SIZE, 1, MESSAGES));
+                printBackpressureRow(codec.format(), "slow",
+                    runPipeline(producers, codec, slowSink, BACKPRESSURE_BATCH_SIZE, 1, MESSAGES));
+            }
+            System.out.println(BACKPRESSURE_BOTTOM);
+            System.out.println("\n========================================\n");
+        } finally {
+            producers.shutdown();
+            producers.awaitTermination(10, TimeUnit.SECONDS);
+        }
+    }
+
+    private static void printBackpressureRow(String format, String sinkName, RunResult result) {
+        System.out.printf("│ %-15s │ %-9s │ %,11.0f │ %10.2f │ %10.2f │ %7.1f%% │ %,12d │%n",
+            format, sinkName, result.messagesPerSecond(), result.enqueueMicros(50), result.enqueueMicros(99),
+            result.blockedPercent(), result.frames);
+    }
+
+    /**
+     * Pushes a batch-sized multiple of messages through the pipeline and checks that every frame decodes
+     * to the values submitted, whichever producer and worker handled them.
+     */
+    private void verifyFrames(Codec<List<LargePojo>> codec) throws Exception {
+        final List<byte[]> frames = new ArrayList<>();
+        final FrameSink collectingSink = (frame, messages) -> {
+            final byte[] copy = new byte[frame.remaining()];
+            frame.get(copy);
+            synchronized (frames) {
+                frames.add(copy);
+            }
+        };
+
+        final Map<LargePojo, Integer> expected = new HashMap<>();
+        try (BatchingPipeline<LargePojo> pipeline = BatchingPipeline.start(codec, collectingSink, QUEUE_CAPACITY,
+            BACKPRESSURE_BATCH_SIZE, 2)) {
+            for (int i = 0; i < LIST_SIZE * 10; i++) {
+                final LargePojo pojo = testData.get(i % LIST_SIZE);
+                pipeline.submit(pojo);
+                expected.merge(pojo, 1, Integer::sum);
+            }
+        }
+
+        final Map<LargePojo, Integer> decoded = new HashMap<>();
+        for (byte[] frame : frames) {
+            final ByteBuffer buffer = ByteBuffer.wrap(frame);
+            final int length = buffer.getInt();
+            assertEquals(frame.length - BatchingPipeline.LENGTH_PREFIX_BYTES, length,
+                codec.format() + " frame length prefix should match the payload");
+            for (LargePojo pojo : codec.decode(buffer)) {
+                decoded.merge(pojo, 1, Integer::sum);
+            }
+        }
+        assertEquals(expected, decoded, codec.format() + " frames should decode to the submitted messages");
+    }
+
+    /**
+     * Starts a pipeline, lets every producer enqueue its share of {@code messages} through
+     * {@link BatchingPipeline#offer}, falling back to a blocking {@link BatchingPipeline#submit} when the
+     * queue is full, and times from the first enqueue until the pipeline has drained.
+     */
+    private static RunResult runPipeline(ExecutorService producers, Codec<List<LargePojo>> codec, FrameSink sink,
+                                         int batchSize, int workers, int messages)
+        throws InterruptedException, ExecutionException, IOException {
+        final BatchingPipeline<LargePojo> pipeline = BatchingPipeline.start(codec, sink, QUEUE_CAPACITY, batchSize,
+            workers);
+
+        final CountDownLatch ready = new CountDownLatch(PRODUCERS);
+        final CountDownLatch start = new CountDownLatch(1);
+        final List<Future<LatencyHistogram>> results = new ArrayList<>(PRODUCERS);
+        for (int p = 0; p < PRODUCERS; p++) {
+            final int share = messages / PRODUCERS + (p < messages % PRODUCERS ? 1 : 0);
+            final int offset = p;
+            results.add(producers.submit(() -> {
+                final LatencyHistogram histogram = new LatencyHistogram();
+                ready.countDown();
+                start.await();
+                for (int i = 0; i < share; i++) {
+                    final LargePojo pojo = testData.get((offset + i) % LIST_SIZE);
+                    final long begin = System.nanoTime();
+                    if (!pipeline.offer(pojo)) {
+                        pipeline.submit(pojo);
+                    }
+                    histogram.recordValue(System.nanoTime() - begin);
+                }
+                return histogram;
+            }));
+        }
+
+        ready.await();
+        final long startTime = System.nanoTime();
+        start.countDown();
+        final LatencyHistogram enqueueLatency = new LatencyHistogram();
+        for (Future<LatencyHistogram> result : results) {
+            enqueueLatency.add(result.get());
+        }
+        pipeline.close();
+        final long elapsed = System.nanoTime() - startTime;
+
+        assertEquals(messages, pipeline.getMessageCount(), codec.format() + " should deliver every message");
+        return new RunResult(elapsed, pipeline.getMessageCount(), pipeline.getByteCount(), pipeline.getFrameCount(),
+            pipeline.getRejectedCount(), enqueueLatency);
+    }
+
+    private void printBenchmarkHeader(String title, String detail) {
+        System.out.println("\n========================================");
+        System.out.println("  " + title);
+        System.out.println("  (" + detail + ")");
+        System.out.println("========================================\n");
+    }
+
+    private static final class RunResult {
+        private final long elapsedNanos;
+        private final long messages;
+        private final long bytes;
+        private final long frames;
+        private final long rejected;
+        private final LatencyHistogram enqueueLatency;
+
+        RunResult(long elapsedNanos, long messages, long bytes, long frames, long rejected,
+                  LatencyHistogram enqueueLatency) {
+            this.elapsedNanos = elapsedNanos;
+            this.messages = messages;
+            this.bytes = bytes;
+            this.frames = frames;
+            this.rejected = rejected;
+            this.enqueueLatency = enqueueLatency;
+        }
+
+        double messagesPerSecond() {
+            return messages / (elapsedNanos / 1_000_000_000.0);
+        }
+
+        double megabytesPerSecond() {
+            return bytes / (1024.0 * 1024.0) / (elapsedNanos / 1_000_000_000.0);
+        }
+
+        double enqueueMicros(double percentile) {
+            return enqueueLatency.getValueAtPercentile(percentile) / 1_000.0;
+        }
+
+        double blockedPercent() {
+            return rejected * 100.0 / messages;
+        }
+    }
+}
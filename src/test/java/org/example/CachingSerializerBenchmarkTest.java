@@ -0,0 +1,387 @@
+package org.example;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.google.gson.Gson;
+import com.google.gson.GsonBuilder;
+import org.example.util.ProtobufConverter;
+import org.example.util.SerializedBytesCache;
+import org.example.util.TestDataFactory;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.msgpack.jackson.dataformat.MessagePackFactory;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.function.IntSupplier;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Compares sending records through a {@link SerializedBytesCache} against serializing them on every send, at
+ * several hit ratios and thread counts, to find the hit ratio below which the cache costs more than it saves.
+ * <p>
+ * Each operation sends one of {@value #HOT_SET_SIZE} records picked at random. With probability
+ * {@code 1 - hitRatio} the record is treated as changed: its version stamp is bumped, so the cache misses and
+ * serializes it again. Concurrent bumps can turn a planned hit into a miss, so the measured hit ratio is shown
+ * next to the target. Both sides pay for the random choice.
+ * <p>
+ * At a 0% hit ratio the cache only adds its lookup and insert to every send, so that row shows its pure
+ * overhead and never counts as a crossover. The crossover is taken from the lowest non-zero hit ratio from
+ * which every speedup exceeds 1 by more than the noise margin ({@code -Dcache.noiseMargin}, default 0.05),
+ * interpolated back to where the speedup crosses 1 when the ratio below it loses. Since one
+ * {@code LargePojo} takes tens of microseconds to serialize, it usually sits at a few percent.
+ * <p>
+ * Thread counts run 1, 2, 4 … N, with N defaulting to twice the available processors; override with
+ * {@code -Dcache.maxThreads}. The measurement window is set with {@code -Dcache.durationMs}.
+ */
+@DisplayName("Serialized Bytes Cache Benchmarks")
+class CachingSerializerBenchmarkTest {
+
+    private static final int HOT_SET_SIZE = 16;
+    private static final double[] HIT_RATIOS = {0.0, 0.05, 0.1, 0.25, 0.5, 0.9, 1.0};
+    private static final long CACHE_BUDGET_BYTES = 16L * 1024 * 1024;
+    private static final int MAX_THREADS = Integer.getInteger("cache.maxThreads",
+        Runtime.getRuntime().availableProcessors() * 2);
+    private static final long WARMUP_MS = Long.getLong("cache.warmupMs", 1000);
+    private static final long SETTLE_MS = 50;
+    private static final long DURATION_MS = Long.getLong("cache.durationMs", 200);
+    private static final double NOISE_MARGIN = Double.parseDouble(System.getProperty("cache.noiseMargin", "0.05"));
+
+    // Table formatting constants
+    private static final String TABLE_TOP = "┌─────────────────┬─────────┬──────────┬──────────┬─────────────────┬─────────────────┬───────────┐";
+    private static final String TABLE_HEADER = "│ Serializer      │ Threads │ Hit goal │ Hit rate │ Cached (ops/s)  │ Direct (ops/s)  │  Speedup  │";
+    private static final String TABLE_SEPARATOR = "├─────────────────┼─────────┼──────────┼──────────┼─────────────────┼─────────────────┼───────────┤";
+    private static final String TABLE_BOTTOM = "└─────────────────┴─────────┴──────────┴──────────┴─────────────────┴─────────────────┴───────────┘";
+
+    private static List<LargePojo> hotSet;
+
+    private static ObjectMapper jacksonMapper;
+    private static ObjectMapper jacksonMapperNoNulls;
+    private static ObjectMapper msgpackMapper;
+    private static ObjectMapper msgpackMapperNoNulls;
+    private static Gson gsonWithNulls;
+    private static Gson gsonWithoutNulls;
+
+    @BeforeAll
+    static void setUp() {
+        hotSet = TestDataFactory.createPojoList(HOT_SET_SIZE);
+
+        jacksonMapper = new ObjectMapper();
+        jacksonMapperNoNulls = new ObjectMapper()
+                .setSerializationInclusion(JsonInclude.Include.NON_NULL);
+
+        msgpackMapper = new ObjectMapper(new MessagePackFactory());
+        msgpackMapperNoNulls = new ObjectMapper(new MessagePackFactory())
+                .setSerializationInclusion(JsonInclude.Include.NON_NULL);
+
+        gsonWithNulls = new GsonBuilder().serializeNulls().create();
+        gsonWithoutNulls = new Gson();
+    }
+
+    @Test
+    @DisplayName("Cache serialized bytes with null fields serialized")
+    void cacheWithNullFieldsSerialized() throws Exception {
+        runCacheSuite("WITH NULLS", jacksonMapper, gsonWithNulls, msgpackMapper);
+    }
+
+    @Test
+    @DisplayName("Cache serialized bytes with null fields excluded")
+    void cacheWithNullFieldsExcluded() throws Exception {
+        runCacheSuite("WITHOUT NULLS", jacksonMapperNoNulls, gsonWithoutNulls, msgpackMapperNoNulls);
+    }
+
+    private void runCacheSuite(String suiteName, ObjectMapper jacksonMapper, Gson gson,
+                               ObjectMapper msgpackMapper) throws Exception {
+        final Map<String, SerializedBytesCache.Serializer<LargePojo>> serializers = new LinkedHashMap<>();
+        serializers.put("Jackson", jacksonMapper::writeValueAsBytes);
+        serializers.put("Gson", pojo -> gson.toJson(pojo).getBytes(StandardCharsets.UTF_8));
+        serializers.put("MessagePack", msgpackMapper::writeValueAsBytes);
+        serializers.put("Protobuf", pojo -> ProtobufConverter.convertToProto(pojo).toByteArray());
+
+        printBenchmarkHeader(suiteName);
+        System.out.println(TABLE_TOP);
+        System.out.println(TABLE_HEADER);
+
+        final List<String> crossovers = new ArrayList<>();
+        for (Map.Entry<String, SerializedBytesCache.Serializer<LargePojo>> serializer : serializers.entrySet()) {
+            System.out.println(TABLE_SEPARATOR);
+            crossovers.addAll(runSerializer(serializer.getKey(), serializer.getValue()));
+        }
+
+        System.out.println(TABLE_BOTTOM);
+        System.out.println();
+        crossovers.forEach(System.out::println);
+        System.out.println("\n========================================\n");
+    }
+
+    /**
+     * Prints one row per thread count and hit ratio, and returns the crossover and LRU summary lines.
+     */
+    private List<String> runSerializer(String name, SerializedBytesCache.Serializer<LargePojo> serializer)
+            throws Exception {
+        final SerializedBytesCache<LargePojo> cache = new SerializedBytesCache<>(serializer, CACHE_BUDGET_BYTES);
+        final AtomicLongArray versions = new AtomicLongArray(HOT_SET_SIZE);
+        for (LargePojo pojo : hotSet) {
+            assertArrayEquals(serializer.serialize(pojo), cache.get(pojo, 0),
+                name + " cache should return the serializer's bytes on a miss");
+            assertArrayEquals(serializer.serialize(pojo), cache.get(pojo, 0),
+                name + " cache should return the serializer's bytes on a hit");
+        }
+
+        final IntSupplier direct = () -> {
+            final int index = ThreadLocalRandom.current().nextInt(HOT_SET_SIZE);
+            // Draw the same random number the cached path uses to decide between a hit and a change
+            ThreadLocalRandom.current().nextDouble();
+            return serialize(serializer, hotSet.get(index)).length;
+        };
+
+        // Warm up both paths at the highest thread count so every row runs compiled code
+        final ExecutorService warmupExecutor = Executors.newFixedThreadPool(MAX_THREADS);
+        try {
+            measureThroughput(warmupExecutor, MAX_THREADS, direct, WARMUP_MS);
+            measureThroughput(warmupExecutor, MAX_THREADS, send(cache, versions, 0.5), WARMUP_MS);
+        } finally {
+            warmupExecutor.shutdown();
+            warmupExecutor.awaitTermination(10, TimeUnit.SECONDS);
+        }
+
+        final List<String> summary = new ArrayList<>();
+        for (int threads : threadCounts()) {
+            final ExecutorService executor = Executors.newFixedThreadPool(threads);
+            try {
+                final double[] speedups = new double[HIT_RATIOS.length];
+                for (int i = 0; i < HIT_RATIOS.length; i++) {
+                    final double hitRatio = HIT_RATIOS[i];
+                    // Measure the direct baseline next to each cached run so drift affects both alike
+                    final double directOpsPerSecond = measure(executor, threads, direct, null);
+                    final double cachedOpsPerSecond = measure(executor, threads, send(cache, versions, hitRatio), cache);
+                    final double actualHitRatio = (double) cache.getHitCount()
+                        / (cache.getHitCount() + cache.getMissCount());
+                    assertHitRatio(name, threads, hitRatio, actualHitRatio);
+
+                    final double speedup = cachedOpsPerSecond / directOpsPerSecond;
+                    speedups[i] = speedup;
+                    System.out.printf("│ %-15s │ %7d │ %7.0f%% │ %7.1f%% │ %,15.0f │ %,15.0f │ %8.2fx │%n",
+                        name, threads, hitRatio * 100, actualHitRatio * 100, cachedOpsPerSecond,
+                        directOpsPerSecond, speedup);
+                }
+                summary.add(String.format("  %-12s %d thread(s): %.2fx at 0%% hits (pure overhead), %s", name,
+                    threads, speedups[0], describeCrossover(speedups)));
+            } finally {
+                executor.shutdown();
+                executor.awaitTermination(10, TimeUnit.SECONDS);
+            }
+        }
+        assertTrue(cache.getWeight() <= CACHE_BUDGET_BYTES, name + " cache should stay within its budget");
+
+        summary.add(runUndersizedLru(name, serializer));
+        assertReleasesCollectedRecords(name, serializer);
+        return summary;
+    }
+
+    /**
+     * Caches records nothing else refers to and checks that their entries go once the records are collected.
+     */
+    private static void assertReleasesCollectedRecords(String name,
+                                                       SerializedBytesCache.Serializer<LargePojo> serializer)
+            throws IOException, InterruptedException {
+        final SerializedBytesCache<LargePojo> cache = new SerializedBytesCache<>(serializer, CACHE_BUDGET_BYTES, 1);
+        cacheUnreferencedRecords(cache);
+        for (int attempt = 0; attempt < 50 && cache.size() > 0; attempt++) {
+            System.gc();
+            Thread.sleep(20);
+        }
+        assertEquals(0, cache.size(), name + " cache should drop entries whose records were collected");
+        assertEquals(0, cache.getWeight(), name + " cache should stop charging for collected records");
+    }
+
+    /**
+     * A separate frame, so no local variable keeps the records reachable afterwards.
+     */
+    private static void cacheUnreferencedRecords(SerializedBytesCache<LargePojo> cache) throws IOException {
+        for (LargePojo pojo : TestDataFactory.createPojoList(HOT_SET_SIZE)) {
+            cache.get(pojo);
+        }
+        assertEquals(HOT_SET_SIZE, cache.size(), "cache should hold every record it was sent");
+    }
+
+    /**
+     * Finds the lowest non-zero hit ratio from which every speedup beats 1 by more than {@link #NOISE_MARGIN},
+     * and if the non-zero ratio below it is a loss, interpolates linearly to where the speedup crosses 1. The
+     * 0% row is only overhead, so a crossover is never placed below the lowest non-zero ratio.
+     */
+    private static String describeCrossover(double[] speedups) {
+        int first = speedups.length;
+        while (first > 1 && speedups[first - 1] > 1.0 + NOISE_MARGIN) {
+            first--;
+        }
+        if (first == speedups.length) {
+            return String.format("cache never beats serializing again by more than %.0f%%", NOISE_MARGIN * 100);
+        }
+        if (first == 1) {
+            return String.format("cache pays off from the lowest hit ratio measured, %.0f%%", HIT_RATIOS[1] * 100);
+        }
+        final double below = speedups[first - 1];
+        if (below >= 1.0) {
+            return String.format("cache is not clearly ahead at a %.0f%% hit ratio and pays off from %.0f%%",
+                HIT_RATIOS[first - 1] * 100, HIT_RATIOS[first] * 100);
+        }
+        final double crossover = HIT_RATIOS[first - 1] + (1.0 - below) / (speedups[first] - below)
+            * (HIT_RATIOS[first] - HIT_RATIOS[first - 1]);
+        return String.format("cache pays off from about a %.0f%% hit ratio, clearly from %.0f%%",
+            crossover * 100, HIT_RATIOS[first] * 100);
+    }
+
+    /**
+     * Sends only unchanged records through a cache whose budget holds about half the hot set, so hits depend on
+     * the LRU order alone.
+     */
+    private String runUndersizedLru(String name, SerializedBytesCache.Serializer<LargePojo> serializer)
+            throws IOException {
+        long hotSetWeight = 0;
+        for (LargePojo pojo : hotSet) {
+            hotSetWeight += serializer.serialize(pojo).length + SerializedBytesCache.ENTRY_OVERHEAD;
+        }
+        final long budget = hotSetWeight / 2;
+        final SerializedBytesCache<LargePojo> cache = new SerializedBytesCache<>(serializer, budget, 1);
+        final ThreadLocalRandom random = ThreadLocalRandom.current();
+        final int sends = HOT_SET_SIZE * 1_000;
+        for (int i = 0; i < sends; i++) {
+            cache.get(hotSet.get(random.nextInt(HOT_SET_SIZE)));
+        }
+
+        assertEquals(sends, cache.getHitCount() + cache.getMissCount(), name + " should count every send");
+        assertTrue(cache.getEvictionCount() > 0, name + " cache should evict when the hot set exceeds its budget");
+        assertTrue(cache.getWeight() <= budget, name + " cache should stay within its budget");
+        return String.format("  %-12s LRU at half the hot set: %d entries, %.1f%% hits, %,d evictions", name,
+            cache.size(), cache.getHitCount() * 100.0 / sends, cache.getEvictionCount());
+    }
+
+    /**
+     * With no concurrent bumps the measured ratio follows the target closely; extra threads only add misses.
+     */
+    private static void assertHitRatio(String name, int threads, double target, double actual) {
+        if (target == 0.0) {
+            assertEquals(0.0, actual, name + " should miss on every changed record");
+        } else if (threads == 1) {
+            assertEquals(target, actual, 0.05, name + " hit ratio on one thread");
+        }
+    }
+
+    /**
+     * Sends one random hot-set record, bumping its version first with probability {@code 1 - hitRatio}.
+     */
+    private static IntSupplier send(SerializedBytesCache<LargePojo> cache, AtomicLongArray versions,
+                                    double hitRatio) {
+        return () -> {
+            final int index = ThreadLocalRandom.current().nextInt(HOT_SET_SIZE);
+            final long version = ThreadLocalRandom.current().nextDouble() < hitRatio
+                ? versions.get(index) : versions.incrementAndGet(index);
+            return cachedBytes(cache, hotSet.get(index), version).length;
+        };
+    }
+
+    /**
+     * Lets the pool spin up its threads, resets the cache counters if a cache is given, and returns the
+     * aggregate operations per second of the measured window.
+     */
+    private static double measure(ExecutorService executor, int threads, IntSupplier operation,
+                                  SerializedBytesCache<?> cache) throws InterruptedException, ExecutionException {
+        measureThroughput(executor, threads, operation, SETTLE_MS);
+        if (cache != null) {
+            cache.resetCounters();
+        }
+        return measureThroughput(executor, threads, operation, DURATION_MS);
+    }
+
+    /**
+     * Runs {@code threads} concurrent loops of {@code operation} for {@code durationMs} and returns the
+     * aggregate operations per second.
+     */
+    private static double measureThroughput(ExecutorService executor, int threads, IntSupplier operation,
+                                            long durationMs) throws InterruptedException, ExecutionException {
+        final CountDownLatch ready = new CountDownLatch(threads);
+        final CountDownLatch start = new CountDownLatch(1);
+        final AtomicLong deadline = new AtomicLong();
+        final List<Future<Long>> workers = new ArrayList<>(threads);
+
+        for (int t = 0; t < threads; t++) {
+            workers.add(executor.submit(() -> {
+                ready.countDown();
+                start.await();
+                final long end = deadline.get();
+                long operations = 0;
+                long bytes = 0;
+                while (System.nanoTime() < end) {
+                    bytes += operation.getAsInt();
+                    operations++;
+                }
+                // Consume the output so the loop cannot be optimized away
+                return bytes > 0 ? operations : 0L;
+            }));
+        }
+
+        ready.await();
+        final long startTime = System.nanoTime();
+        deadline.set(startTime + TimeUnit.MILLISECONDS.toNanos(durationMs));
+        start.countDown();
+
+        long totalOperations = 0;
+        for (Future<Long> worker : workers) {
+            totalOperations += worker.get();
+        }
+        final long elapsed = System.nanoTime() - startTime;
+        return totalOperations / (elapsed / 1_000_000_000.0);
+    }
+
+    private static List<Integer> threadCounts() {
+        final List<Integer> counts = new ArrayList<>();
+        for (int threads = 1; threads < MAX_THREADS; threads *= 2) {
+            counts.add(threads);
+        }
+        counts.add(MAX_THREADS);
+        return counts;
+    }
+
+    private static byte[] serialize(SerializedBytesCache.Serializer<LargePojo> serializer, LargePojo pojo) {
+        try {
+            return serializer.serialize(pojo);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static byte[] cachedBytes(SerializedBytesCache<LargePojo> cache, LargePojo pojo, long version) {
+        try {
+            return cache.get(pojo, version);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private void printBenchmarkHeader(String suiteName) {
+        System.out.println("\n========================================");
+        System.out.println("  Serialized Bytes Cache - " + suiteName);
+        System.out.println("  (Single LargePojo sends over a hot set of " + HOT_SET_SIZE + ", up to "
+            + MAX_THREADS + " threads)");
+        System.out.println("========================================\n");
+    }
+}
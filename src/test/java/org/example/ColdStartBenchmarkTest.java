@@ -0,0 +1,237 @@
+package org.example;
+
+import org.example.util.ColdStartProbe;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.net.URISyntaxException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.jar.JarEntry;
+import java.util.jar.JarOutputStream;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+
+/**
+ * Measures what a short-lived JVM pays before each serializer is fast: everything the other benchmarks hide
+ * behind {@code @BeforeAll} and warmup loops.
+ * <p>
+ * Every run forks a fresh JVM with {@link ColdStartProbe} for one format. That JVM reports the time from JVM
+ * start to {@code main}, the time to construct the serializer ({@code ObjectMapper}, {@code Gson}, the
+ * MessagePack factory, or the Protobuf descriptors), and each of the first {@value ColdStartProbe#CALLS} round
+ * trips over the test list. Each format runs under three class-data sharing setups:
+ * <ul>
+ *   <li>{@code Off}: {@code -Xshare:off}, every class is loaded and verified from its jar</li>
+ *   <li>{@code JDK CDS}: the JDK's default archive of its own classes</li>
+ *   <li>{@code AppCDS}: a dynamic archive of the JDK, library and project classes, dumped by a training run
+ *       of the same format with {@code -XX:ArchiveClassesAtExit}</li>
+ * </ul>
+ * CDS only archives classes loaded from jars, so the project's class directories are first packed into one
+ * jar and every fork uses that classpath. Each cell is the median of {@code -Dcoldstart.forks} runs
+ * (default 3).
+ */
+@DisplayName("Cold Start Benchmarks")
+class ColdStartBenchmarkTest {
+
+    private static final int LIST_SIZE = 20;
+    private static final int FORKS = Integer.getInteger("coldstart.forks", 3);
+    private static final long FORK_TIMEOUT_SECONDS = 120;
+    private static final List<String> FORMATS = List.of("Jackson", "Gson", "MessagePack", "Protobuf");
+
+    // Table formatting constants
+    private static final String TABLE_TOP = "┌─────────────────┬─────────┬────────────┬────────────┬────────────┬────────────┬────────────┬────────────┬────────────┐";
+    private static final String TABLE_HEADER = "│ Format          │ CDS     │ To main    │ Construct  │ Call 1     │ Call 2     │ Call 10    │ Calls 2-10 │ Wall (ms)  │";
+    private static final String TABLE_SEPARATOR = "├─────────────────┼─────────┼────────────┼────────────┼────────────┼────────────┼────────────┼────────────┼────────────┤";
+    private static final String TABLE_BOTTOM = "└─────────────────┴─────────┴────────────┴────────────┴────────────┴────────────┴────────────┴────────────┴────────────┘";
+
+    private static Path workDir;
+    private static String classpath;
+    private static String javaExecutable;
+
+    @BeforeAll
+    static void setUp() throws IOException, URISyntaxException {
+        final Path mainClasses = Paths.get(LargePojo.class.getProtectionDomain().getCodeSource().getLocation().toURI());
+        final Path testClasses = Paths.get(ColdStartProbe.class.getProtectionDomain().getCodeSource().getLocation().toURI());
+        workDir = Files.createDirectories(testClasses.getParent().resolve("coldstart"));
+
+        final Path appJar = workDir.resolve("app.jar");
+        writeJar(appJar, mainClasses, testClasses);
+
+        final List<String> entries = new ArrayList<>();
+        entries.add(appJar.toString());
+        for (String entry : System.getProperty("java.class.path").split(File.pathSeparator)) {
+            final Path path = Paths.get(entry);
+            if (entry.endsWith(".jar") && Files.isRegularFile(path)) {
+                entries.add(entry);
+            }
+        }
+        classpath = String.join(File.pathSeparator, entries);
+        javaExecutable = Paths.get(System.getProperty("java.home"), "bin", "java").toString();
+    }
+
+    @Test
+    @DisplayName("Measure cold-start cost per format with and without CDS")
+    void measureColdStart() throws Exception {
+        printBenchmarkHeader();
+        System.out.println(TABLE_TOP);
+        System.out.println(TABLE_HEADER);
+
+        for (String format : FORMATS) {
+            System.out.println(TABLE_SEPARATOR);
+            runForks(format, "Off", List.of("-Xshare:off"));
+            runForks(format, "JDK CDS", List.of());
+
+            final Path archive = workDir.resolve(format + ".jsa");
+            Files.deleteIfExists(archive);
+            final ForkResult training = fork(format, List.of("-XX:ArchiveClassesAtExit=" + archive));
+            if (training.exitCode == 0 && Files.isRegularFile(archive)) {
+                runForks(format, "AppCDS", List.of("-XX:SharedArchiveFile=" + archive));
+            } else {
+                System.out.printf("│ %-15s │ %-7s │ %-88s │%n", format, "AppCDS",
+                    "archive dump failed, exit code " + training.exitCode);
+            }
+        }
+
+        System.out.println(TABLE_BOTTOM);
+        System.out.println("  Times in ms, median of " + FORKS + " forks; To main = JVM start to main(), calls are"
+            + " round trips (serialize + deserialize)");
+        System.out.println("\n========================================\n");
+    }
+
+    private void runForks(String format, String cdsLabel, List<String> jvmOptions) throws Exception {
+        final List<long[]> samples = new ArrayList<>(FORKS);
+        final long[] wall = new long[FORKS];
+        for (int i = 0; i < FORKS; i++) {
+            final ForkResult result = fork(format, jvmOptions);
+            assertEquals(0, result.exitCode, format + " (" + cdsLabel + ") probe should exit cleanly:\n" + result.output);
+            assertNotNull(result.values, format + " (" + cdsLabel + ") probe should print its result:\n" + result.output);
+            samples.add(result.values);
+            wall[i] = result.wallNanos;
+        }
+
+        final long[] calls2to10 = new long[FORKS];
+        for (int i = 0; i < FORKS; i++) {
+            // values: to-main, construct, then one entry per call
+            calls2to10[i] = Arrays.stream(samples.get(i), 3, 2 + ColdStartProbe.CALLS).sum()
+                / (ColdStartProbe.CALLS - 1);
+        }
+        System.out.printf("│ %-15s │ %-7s │ %10.1f │ %10.2f │ %10.2f │ %10.2f │ %10.2f │ %10.2f │ %10.0f │%n",
+            format, cdsLabel, millis(median(samples, 0)), millis(median(samples, 1)), millis(median(samples, 2)),
+            millis(median(samples, 3)), millis(median(samples, 1 + ColdStartProbe.CALLS)), millis(median(calls2to10)),
+            millis(median(wall)));
+    }
+
+    private static ForkResult fork(String format, List<String> jvmOptions) throws IOException, InterruptedException {
+        final List<String> command = new ArrayList<>();
+        command.add(javaExecutable);
+        command.addAll(jvmOptions);
+        command.add("-cp");
+        command.add(classpath);
+        command.add(ColdStartProbe.class.getName());
+        command.add(format);
+        command.add(String.valueOf(LIST_SIZE));
+
+        // Output goes to a file rather than a pipe, so a probe that hangs cannot block the read and the
+        // timeout below still applies
+        final Path log = workDir.resolve(format + ".log");
+        final long start = System.nanoTime();
+        final Process process = new ProcessBuilder(command).redirectErrorStream(true)
+            .redirectOutput(log.toFile()).start();
+        if (!process.waitFor(FORK_TIMEOUT_SECONDS, TimeUnit.SECONDS)) {
+            process.destroyForcibly().waitFor();
+            throw new IllegalStateException(format + " probe did not finish in " + FORK_TIMEOUT_SECONDS + " s:\n"
+                + Files.readString(log, StandardCharsets.UTF_8));
+        }
+        final long wallNanos = System.nanoTime() - start;
+        final String output = Files.readString(log, StandardCharsets.UTF_8);
+
+        long[] values = null;
+        for (String line : output.split("\\R")) {
+            if (line.startsWith(ColdStartProbe.RESULT_PREFIX + " ")) {
+                values = Arrays.stream(line.substring(ColdStartProbe.RESULT_PREFIX.length() + 1).split(" "))
+                    .mapToLong(Long::parseLong)
+                    .toArray();
+            }
+        }
+        return new ForkResult(process.exitValue(), output, values, wallNanos);
+    }
+
+    /**
+     * Packs the class directories into one jar, since CDS does not archive classes loaded from directories.
+     * A file present in more than one directory is taken from the first, as on the classpath.
+     */
+    private static void writeJar(Path jar, Path... directories) throws IOException {
+        try (OutputStream out = Files.newOutputStream(jar);
+             JarOutputStream jarOut = new JarOutputStream(out)) {
+            final Set<String> written = new HashSet<>();
+            for (Path directory : directories) {
+                final List<Path> files;
+                try (Stream<Path> walk = Files.walk(directory)) {
+                    files = walk.filter(Files::isRegularFile).sorted().collect(Collectors.toList());
+                }
+                for (Path file : files) {
+                    final String name = directory.relativize(file).toString().replace(File.separatorChar, '/');
+                    if (!written.add(name)) {
+                        continue;
+                    }
+                    jarOut.putNextEntry(new JarEntry(name));
+                    Files.copy(file, jarOut);
+                    jarOut.closeEntry();
+                }
+            }
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+    }
+
+    private static long median(List<long[]> samples, int index) {
+        return median(samples.stream().mapToLong(sample -> sample[index]).toArray());
+    }
+
+    private static long median(long[] values) {
+        final long[] sorted = values.clone();
+        Arrays.sort(sorted);
+        return sorted[sorted.length / 2];
+    }
+
+    private static double millis(long nanos) {
+        return nanos / 1_000_000.0;
+    }
+
+    private static final class ForkResult {
+        private final int exitCode;
+        private final String output;
+        private final long[] values;
+        private final long wallNanos;
+
+        ForkResult(int exitCode, String output, long[] values, long wallNanos) {
+            this.exitCode = exitCode;
+            this.output = output;
+            this.values = values;
+            this.wallNanos = wallNanos;
+        }
+    }
+
+    private void printBenchmarkHeader() {
+        System.out.println("\n========================================");
+        System.out.println("  Cold Start - fresh JVM per run");
+        System.out.println("  (List of " + LIST_SIZE + " LargePojo objects, Java " + Runtime.version() + ")");
+        System.out.println("========================================\n");
+    }
+}
@@ -0,0 +1,193 @@
+package org.example;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.google.gson.Gson;
+import com.google.gson.GsonBuilder;
+import com.google.gson.reflect.TypeToken;
+import org.example.proto.LargePojoProto;
+import org.example.util.CompressionCodec;
+import org.example.util.DataProfile;
+import org.example.util.ProtobufConverter;
+import org.example.util.TestDataFactory;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.msgpack.jackson.dataformat.MessagePackFactory;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.lang.reflect.Type;
+import java.nio.charset.StandardCharsets;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Adds a {@link CompressionCodec} stage after each serializer and reports the size-versus-CPU trade-off:
+ * compressed bytes, ratio against the raw payload, and the combined serialize+compress and
+ * decompress+deserialize times.
+ * <p>
+ * The fixed default data compresses unrealistically well, so unless {@code -Dtestdata.profile} is given this
+ * benchmark uses the seeded generator. Protobuf runs end to end from the POJOs, conversion included.
+ */
+@DisplayName("Compression Stage Benchmarks")
+class CompressionBenchmarkTest {
+
+    private static final int LIST_SIZE = 20;
+    private static final long WARMUP_MS = Long.getLong("compression.warmupMs", 50);
+    private static final long MEASURE_MS = Long.getLong("compression.measureMs", 200);
+    private static final long SERIALIZER_WARMUP_MS = 500;
+    private static final int MIN_ITERATIONS = 5;
+
+    private static final TypeReference<List<LargePojo>> POJO_LIST_TYPE = new TypeReference<>() {};
+    private static final Type GSON_POJO_LIST_TYPE = new TypeToken<List<LargePojo>>() {}.getType();
+
+    // Table formatting constants
+    private static final String TABLE_TOP = "┌─────────────────┬───────────┬─────────────────┬──────────┬──────────────────┬──────────────────┐";
+    private static final String TABLE_HEADER = "│ Serializer      │ Codec     │  Size (bytes)   │  Ratio   │ Ser+Comp (ms)    │ Decomp+Deser (ms)│";
+    private static final String TABLE_SEPARATOR = "├─────────────────┼───────────┼─────────────────┼──────────┼──────────────────┼──────────────────┤";
+    private static final String TABLE_BOTTOM = "└─────────────────┴───────────┴─────────────────┴──────────┴──────────────────┴──────────────────┘";
+
+    private static List<LargePojo> testData;
+
+    private static ObjectMapper jacksonMapper;
+    private static ObjectMapper jacksonMapperNoNulls;
+    private static ObjectMapper msgpackMapper;
+    private static ObjectMapper msgpackMapperNoNulls;
+    private static Gson gsonWithNulls;
+    private static Gson gsonWithoutNulls;
+
+    @BeforeAll
+    static void setUp() {
+        if (System.getProperty("testdata.profile") == null) {
+            // Default to the seeded profile: the fixed data compresses unrealistically well
+            testData = TestDataFactory.createPojoList(LIST_SIZE, DataProfile.fromSystemProperties());
+        } else {
+            testData = TestDataFactory.createPojoList(LIST_SIZE);
+        }
+
+        jacksonMapper = new ObjectMapper();
+        jacksonMapperNoNulls = new ObjectMapper()
+                .setSerializationInclusion(JsonInclude.Include.NON_NULL);
+
+        msgpackMapper = new ObjectMapper(new MessagePackFactory());
+        msgpackMapperNoNulls = new ObjectMapper(new MessagePackFactory())
+                .setSerializationInclusion(JsonInclude.Include.NON_NULL);
+
+        gsonWithNulls = new GsonBuilder().serializeNulls().create();
+        gsonWithoutNulls = new Gson();
+    }
+
+    @Test
+    @DisplayName("Compress serializer output with null fields serialized")
+    void compressWithNullFieldsSerialized() {
+        runCompressionSuite("WITH NULLS", jacksonMapper, gsonWithNulls, msgpackMapper);
+    }
+
+    @Test
+    @DisplayName("Compress serializer output with null fields excluded")
+    void compressWithNullFieldsExcluded() {
+        runCompressionSuite("WITHOUT NULLS", jacksonMapperNoNulls, gsonWithoutNulls, msgpackMapperNoNulls);
+    }
+
+    private void runCompressionSuite(String suiteName, ObjectMapper jacksonMapper, Gson gson,
+                                     ObjectMapper msgpackMapper) {
+        final Map<String, Function<List<LargePojo>, byte[]>> encoders = new LinkedHashMap<>();
+        final Map<String, Function<byte[], List<LargePojo>>> decoders = new LinkedHashMap<>();
+        encoders.put("Jackson", data -> writeBytes(jacksonMapper, data));
+        decoders.put("Jackson", bytes -> readList(jacksonMapper, bytes));
+        encoders.put("Gson", data -> gson.toJson(data).getBytes(StandardCharsets.UTF_8));
+        decoders.put("Gson", bytes -> gson.fromJson(new String(bytes, StandardCharsets.UTF_8), GSON_POJO_LIST_TYPE));
+        encoders.put("MessagePack", data -> writeBytes(msgpackMapper, data));
+        decoders.put("MessagePack", bytes -> readList(msgpackMapper, bytes));
+        encoders.put("Protobuf", data -> ProtobufConverter.convertListToProto(data).toByteArray());
+        decoders.put("Protobuf", CompressionBenchmarkTest::parseProtobuf);
+
+        printBenchmarkHeader(suiteName);
+        System.out.println(TABLE_TOP);
+        System.out.println(TABLE_HEADER);
+        System.out.println(TABLE_SEPARATOR);
+
+        for (Map.Entry<String, Function<List<LargePojo>, byte[]>> encoder : encoders.entrySet()) {
+            final String name = encoder.getKey();
+            final Function<byte[], List<LargePojo>> decoder = decoders.get(name);
+            final int rawSize = encoder.getValue().apply(testData).length;
+
+            // Warm up the serializer itself so the first codec row is not measured on cold code
+            measureMillis(SERIALIZER_WARMUP_MS, () -> decoder.apply(encoder.getValue().apply(testData)));
+
+            for (CompressionCodec codec : CompressionCodec.values()) {
+                final byte[] compressed = codec.compress(encoder.getValue().apply(testData));
+                assertEquals(testData, decoder.apply(codec.decompress(compressed)),
+                    name + " with " + codec.getLabel() + " should decode back to the original data");
+
+                final double encodeMs = measureMillis(WARMUP_MS, () -> codec.compress(encoder.getValue().apply(testData)));
+                final double decodeMs = measureMillis(WARMUP_MS, () -> decoder.apply(codec.decompress(compressed)));
+                System.out.printf("│ %-15s │ %-9s │ %,15d │ %7.2fx │ %16.4f │ %16.4f │%n",
+                    name, codec.getLabel(), compressed.length, rawSize / (double) compressed.length, encodeMs, decodeMs);
+            }
+        }
+
+        System.out.println(TABLE_BOTTOM);
+        System.out.println("\n========================================\n");
+    }
+
+    /**
+     * Average milliseconds per call after a {@code warmupMs} warmup, over at least {@code MEASURE_MS}
+     * and {@code MIN_ITERATIONS} calls.
+     */
+    private static double measureMillis(long warmupMs, Runnable operation) {
+        final long warmupEnd = System.nanoTime() + warmupMs * 1_000_000L;
+        do {
+            operation.run();
+        } while (System.nanoTime() < warmupEnd);
+
+        final long start = System.nanoTime();
+        long elapsed;
+        int iterations = 0;
+        do {
+            operation.run();
+            iterations++;
+            elapsed = System.nanoTime() - start;
+        } while (iterations < MIN_ITERATIONS || elapsed < MEASURE_MS * 1_000_000L);
+        return elapsed / 1_000_000.0 / iterations;
+    }
+
+    private static byte[] writeBytes(ObjectMapper mapper, List<LargePojo> data) {
+        try {
+            return mapper.writeValueAsBytes(data);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static List<LargePojo> readList(ObjectMapper mapper, byte[] payload) {
+        try {
+            return mapper.readValue(payload, POJO_LIST_TYPE);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static List<LargePojo> parseProtobuf(byte[] payload) {
+        try {
+            return ProtobufConverter.convertListFromProto(LargePojoProto.LargePojoList.parseFrom(payload));
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private void printBenchmarkHeader(String suiteName) {
+        System.out.println("\n========================================");
+        System.out.println("  Compression Stage - " + suiteName);
+        System.out.println("  (List of " + LIST_SIZE + " LargePojo objects, "
+            + (System.getProperty("testdata.profile") != null ? "testdata.profile=" + System.getProperty("testdata.profile")
+            : "seeded data") + ")");
+        System.out.println("========================================\n");
+    }
+}
@@ -0,0 +1,326 @@
+package org.example;
+
+import org.example.codec.Codec;
+import org.example.codec.CodecRegistry;
+import org.example.codec.Codecs;
+import org.example.util.ByteBufferInputStream;
+import org.example.util.ByteBufferOutputStream;
+import org.example.util.GcMonitor;
+import org.example.util.TestDataFactory;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.lang.management.ManagementFactory;
+import java.nio.BufferOverflowException;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Encodes {@code List<LargePojo>} into, and decodes it from, the direct {@link ByteBuffer}s a network layer
+ * hands out, for every serializer, and compares three ways of getting there:
+ * <ul>
+ *   <li>{@code byte[] + copy}: {@link Codec#encode(Object)} produces a heap {@code byte[]}, which is then copied
+ *       into the direct buffer; decoding copies the direct buffer into a new {@code byte[]} first</li>
+ *   <li>{@code Heap buffer}: the codec writes into and reads from a reused heap {@code ByteBuffer}, which a
+ *       channel would still copy into a temporary direct buffer on write</li>
+ *   <li>{@code Direct buffer}: the codec writes into and reads from a reused direct {@code ByteBuffer}</li>
+ * </ul>
+ * Jackson, Gson, MessagePack and Protobuf are the shipped codecs from {@link CodecRegistry#standard(boolean)}.
+ * Protobuf writes and reads buffers in place through {@code CodedOutputStream}/{@code CodedInputStream}, and
+ * converts from and to POJOs on every call; the stream-based codecs go through {@link ByteBufferOutputStream}
+ * and {@link ByteBufferInputStream}, still staging through their own small internal buffers. Externalizable and
+ * {@link PresenceBitmapCodec} are plugged in here as codecs of their own.
+ */
+@DisplayName("Direct ByteBuffer Benchmarks")
+class DirectBufferBenchmarkTest {
+
+    private static final int LIST_SIZE = 20;
+    private static final long WARMUP_MS = Long.getLong("direct.warmupMs", 500);
+    private static final long MEASURE_MS = Long.getLong("direct.measureMs", 500);
+    private static final int MIN_ITERATIONS = 5;
+    private static final int BUFFER_SIZE = 4 * 1024 * 1024;
+
+    private static final com.sun.management.ThreadMXBean THREAD_MX_BEAN =
+        (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+
+    // Table formatting constants
+    private static final String TABLE_TOP = "┌─────────────────┬───────────────┬──────────────┬────────────┬─────────────────┬─────────────┬──────────────┐";
+    private static final String TABLE_HEADER = "│ Serializer      │ Target        │ Avg Time (µs)│ vs copy    │ Alloc/op (bytes)│ Alloc saved │ GC ms/1k ops │";
+    private static final String TABLE_SEPARATOR = "├─────────────────┼───────────────┼──────────────┼────────────┼─────────────────┼─────────────┼──────────────┤";
+    private static final String TABLE_BOTTOM = "└─────────────────┴───────────────┴──────────────┴────────────┴─────────────────┴─────────────┴──────────────┘";
+
+    private static List<LargePojo> testData;
+    private static List<LargePojo> externalizableData;
+
+    @BeforeAll
+    static void setUp() {
+        testData = TestDataFactory.createPojoList(LIST_SIZE);
+        externalizableData = new ArrayList<>(testData.size());
+        for (LargePojo pojo : testData) {
+            externalizableData.add(new ExternalizableLargePojo(pojo));
+        }
+    }
+
+    @Test
+    @DisplayName("Heap vs direct buffers with null fields serialized")
+    void directBuffersWithNullFieldsSerialized() throws IOException {
+        runDirectBufferSuite("WITH NULLS", CodecRegistry.standard(true));
+    }
+
+    @Test
+    @DisplayName("Heap vs direct buffers with null fields excluded")
+    void directBuffersWithNullFieldsExcluded() throws IOException {
+        runDirectBufferSuite("WITHOUT NULLS", CodecRegistry.standard(false));
+    }
+
+    private void runDirectBufferSuite(String suiteName, CodecRegistry registry) throws IOException {
+        final List<Codec<List<LargePojo>>> codecs = new ArrayList<>(registry.getAll(Codecs.LARGE_POJO_LIST));
+        codecs.add(new ExternalizableCodec());
+        codecs.add(new PresenceBitmapListCodec());
+
+        // Reused for the whole suite, like a connection's buffers; network is where byte[] results are copied
+        final ByteBuffer heapBuffer = ByteBuffer.allocate(BUFFER_SIZE);
+        final ByteBuffer directBuffer = ByteBuffer.allocateDirect(BUFFER_SIZE);
+        final ByteBuffer network = ByteBuffer.allocateDirect(BUFFER_SIZE);
+
+        final List<double[][]> encodeResults = new ArrayList<>();
+        final List<double[][]> decodeResults = new ArrayList<>();
+        for (Codec<List<LargePojo>> codec : codecs) {
+            final List<LargePojo> value = codec instanceof ExternalizableCodec ? externalizableData : testData;
+            final byte[] expected = codec.encode(value);
+            for (Target target : Target.values()) {
+                final ByteBuffer written = encode(codec, value, target, network, heapBuffer, directBuffer);
+                assertEquals(ByteBuffer.wrap(expected), written,
+                    codec.format() + " should write the same bytes through " + target.label);
+            }
+            final ByteBuffer heapPayload = ByteBuffer.allocate(expected.length).put(expected).flip();
+            final ByteBuffer directPayload = ByteBuffer.allocateDirect(expected.length).put(expected).flip();
+            for (Target target : Target.values()) {
+                assertEquals(testData, decode(codec, target, heapPayload, directPayload),
+                    codec.format() + " should decode the original data through " + target.label);
+            }
+
+            // Warm every path together first, so whichever is measured first is not still being compiled
+            final long warmupEnd = System.nanoTime() + WARMUP_MS * 1_000_000L;
+            do {
+                for (Target target : Target.values()) {
+                    encode(codec, value, target, network, heapBuffer, directBuffer);
+                    decode(codec, target, heapPayload, directPayload);
+                }
+            } while (System.nanoTime() < warmupEnd);
+
+            final double[][] encodes = new double[Target.values().length][];
+            final double[][] decodes = new double[Target.values().length][];
+            for (Target target : Target.values()) {
+                encodes[target.ordinal()] =
+                    measure(() -> encode(codec, value, target, network, heapBuffer, directBuffer));
+                decodes[target.ordinal()] = measure(() -> decode(codec, target, heapPayload, directPayload));
+            }
+            encodeResults.add(encodes);
+            decodeResults.add(decodes);
+        }
+
+        printResults("Direct Buffer Encode", suiteName, codecs, encodeResults);
+        printResults("Direct Buffer Decode", suiteName, codecs, decodeResults);
+    }
+
+    /**
+     * @return the target buffer holding the encoded bytes, flipped
+     */
+    private static ByteBuffer encode(Codec<List<LargePojo>> codec, List<LargePojo> value, Target target,
+                                     ByteBuffer network, ByteBuffer heapBuffer, ByteBuffer directBuffer)
+            throws IOException {
+        switch (target) {
+            case COPY:
+                final byte[] bytes = codec.encode(value);
+                network.clear();
+                network.put(bytes);
+                return network.flip();
+            case HEAP:
+                heapBuffer.clear();
+                codec.encode(value, heapBuffer);
+                return heapBuffer.flip();
+            case DIRECT:
+                directBuffer.clear();
+                codec.encode(value, directBuffer);
+                return directBuffer.flip();
+            default:
+                throw new IllegalArgumentException("Unknown target: " + target);
+        }
+    }
+
+    private static List<LargePojo> decode(Codec<List<LargePojo>> codec, Target target, ByteBuffer heapPayload,
+                                          ByteBuffer directPayload) throws IOException {
+        switch (target) {
+            case COPY:
+                final ByteBuffer received = directPayload.duplicate();
+                final byte[] bytes = new byte[received.remaining()];
+                received.get(bytes);
+                return codec.decode(bytes);
+            case HEAP:
+                return codec.decode(heapPayload.duplicate());
+            case DIRECT:
+                return codec.decode(directPayload.duplicate());
+            default:
+                throw new IllegalArgumentException("Unknown target: " + target);
+        }
+    }
+
+    private void printResults(String title, String suiteName, List<Codec<List<LargePojo>>> codecs, List<double[][]> results) {
+        printBenchmarkHeader(title, suiteName);
+        System.out.println(TABLE_TOP);
+        System.out.println(TABLE_HEADER);
+        for (int i = 0; i < codecs.size(); i++) {
+            System.out.println(TABLE_SEPARATOR);
+            final double[] copy = results.get(i)[Target.COPY.ordinal()];
+            for (Target target : Target.values()) {
+                final double[] metrics = results.get(i)[target.ordinal()];
+                System.out.printf("│ %-15s │ %-13s │ %12.2f │ %9.1f%% │ %,15.0f │ %,11.0f │ %12.3f │%n",
+                    codecs.get(i).format(), target.label, metrics[0], (metrics[0] - copy[0]) / copy[0] * 100,
+                    metrics[1], copy[1] - metrics[1], metrics[2]);
+            }
+        }
+        System.out.println(TABLE_BOTTOM);
+        System.out.println("  vs copy: time change against byte[] + copy; Alloc saved: bytes per call not allocated");
+        System.out.println("\n========================================\n");
+    }
+
+    /**
+     * @return average microseconds, bytes allocated per call and GC pause ms per 1000 calls, after a
+     *         {@code WARMUP_MS} warmup and over at least {@code MEASURE_MS} and {@code MIN_ITERATIONS} calls
+     */
+    private static double[] measure(Callable<?> operation) {
+        final long warmupEnd = System.nanoTime() + WARMUP_MS * 1_000_000L;
+        do {
+            call(operation);
+        } while (System.nanoTime() < warmupEnd);
+
+        final GcMonitor.Snapshot startGc = GcMonitor.getInstance().snapshot();
+        final long startAllocatedBytes = THREAD_MX_BEAN.getCurrentThreadAllocatedBytes();
+        final long start = System.nanoTime();
+        long elapsed;
+        int iterations = 0;
+        do {
+            call(operation);
+            iterations++;
+            elapsed = System.nanoTime() - start;
+        } while (iterations < MIN_ITERATIONS || elapsed < MEASURE_MS * 1_000_000L);
+        final long allocatedBytes = THREAD_MX_BEAN.getCurrentThreadAllocatedBytes() - startAllocatedBytes;
+        final GcMonitor.Snapshot gc = GcMonitor.getInstance().snapshot().since(startGc);
+        return new double[]{elapsed / 1_000.0 / iterations, (double) allocatedBytes / iterations,
+            gc.getTimeMs() * 1000.0 / iterations};
+    }
+
+    private static <T> T call(Callable<T> operation) {
+        try {
+            return operation.call();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        } catch (Exception e) {
+            throw new RuntimeException(e);
+        }
+    }
+
+    private enum Target {
+        COPY("byte[] + copy"),
+        HEAP("Heap buffer"),
+        DIRECT("Direct buffer");
+
+        private final String label;
+
+        Target(String label) {
+            this.label = label;
+        }
+    }
+
+    /**
+     * Java serialization of a list of {@link ExternalizableLargePojo}s, relying on the {@link Codec} defaults
+     * for buffers.
+     */
+    private static final class ExternalizableCodec implements Codec<List<LargePojo>> {
+
+        @Override
+        public String format() {
+            return "Externalizable";
+        }
+
+        @Override
+        public void encode(List<LargePojo> value, OutputStream out) throws IOException {
+            final ObjectOutputStream objectOut = new ObjectOutputStream(out);
+            objectOut.writeObject(value);
+            objectOut.flush();
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public List<LargePojo> decode(InputStream in) throws IOException {
+            try {
+                return (List<LargePojo>) new ObjectInputStream(in).readObject();
+            } catch (ClassNotFoundException e) {
+                throw new IOException(e);
+            }
+        }
+    }
+
+    /**
+     * {@link PresenceBitmapCodec} sizes its output up front and reads and writes any {@code ByteBuffer} in place.
+     */
+    private static final class PresenceBitmapListCodec implements Codec<List<LargePojo>> {
+
+        @Override
+        public String format() {
+            return "PresenceBitmap";
+        }
+
+        @Override
+        public void encode(List<LargePojo> value, OutputStream out) throws IOException {
+            out.write(PresenceBitmapCodec.encodeList(value));
+        }
+
+        @Override
+        public void encode(List<LargePojo> value, ByteBuffer buffer) {
+            if (buffer.remaining() < PresenceBitmapCodec.computeListSize(value)) {
+                throw new BufferOverflowException();
+            }
+            PresenceBitmapCodec.encodeList(value, buffer);
+        }
+
+        @Override
+        public byte[] encode(List<LargePojo> value) {
+            return PresenceBitmapCodec.encodeList(value);
+        }
+
+        @Override
+        public List<LargePojo> decode(InputStream in) throws IOException {
+            return PresenceBitmapCodec.decodeList(in.readAllBytes());
+        }
+
+        @Override
+        public List<LargePojo> decode(ByteBuffer buffer) {
+            return PresenceBitmapCodec.decodeList(buffer);
+        }
+
+        @Override
+        public List<LargePojo> decode(byte[] payload) {
+            return PresenceBitmapCodec.decodeList(payload);
+        }
+    }
+
+    private void printBenchmarkHeader(String title, String suiteName) {
+        System.out.println("\n========================================");
+        System.out.println("  " + title + " - " + suiteName);
+        System.out.println("  (List of " + LIST_SIZE + " LargePojo objects)");
+        System.out.println("========================================\n");
+    }
+}
@@ -0,0 +1,236 @@
+package org.example;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.google.protobuf.Descriptors.Descriptor;
+import com.google.protobuf.Descriptors.FieldDescriptor;
+import org.example.proto.LargePojoProto;
+import org.example.util.FieldProjection;
+import org.example.util.ProtobufConverter;
+import org.example.util.TestDataFactory;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.msgpack.jackson.dataformat.MessagePackFactory;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.lang.management.ManagementFactory;
+import java.util.List;
+import java.util.concurrent.Callable;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Compares pulling a few fields out of a serialized list with {@link FieldProjection} against decoding the
+ * whole list, for Jackson, MessagePack and Protobuf, as the number of projected fields grows.
+ * <p>
+ * The full decode is {@code readValue} into {@code LargePojo}s for the Jackson formats and {@code parseFrom}
+ * into Protobuf messages, without converting them to POJOs. Speedup and allocation saved are relative to
+ * that full decode.
+ * <p>
+ * Before timing, every projection is checked against the source records, plus one record whose projected
+ * numbers are zero, whose string is empty and whose nested message is absent: values Protobuf does not put on
+ * the wire.
+ */
+@DisplayName("Field Projection Benchmarks")
+class FieldProjectionBenchmarkTest {
+
+    private static final int LIST_SIZE = 20;
+    private static final long WARMUP_MS = Long.getLong("projection.warmupMs", 500);
+    private static final long MEASURE_MS = Long.getLong("projection.measureMs", 300);
+    private static final int MIN_ITERATIONS = 5;
+    private static final int[] PROJECTION_SIZES = {1, 2, 4, 8, 16};
+
+    /**
+     * Fields populated by the default test data, in the order they are added to a projection: the routing
+     * fields first, then a mix of top-level and nested strings and numbers from across the record.
+     */
+    private static final List<String> PROJECTABLE_PATHS = List.of(
+        "field116", "ref1.field1", "field21", "field106",
+        "ref20.deepNested.data", "field200", "field31", "ref5.longField1",
+        "field109", "field150", "ref10.field2", "field101",
+        "field170", "ref15.intField1", "field41", "field130");
+
+    private static final TypeReference<List<LargePojo>> POJO_LIST_TYPE = new TypeReference<>() {};
+
+    private static final com.sun.management.ThreadMXBean THREAD_MX_BEAN =
+        (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+
+    // Table formatting constants
+    private static final String TABLE_TOP = "┌─────────────────┬────────┬───────────────┬───────────────┬──────────┬─────────────────┬─────────────┐";
+    private static final String TABLE_HEADER = "│ Format          │ Fields │ Project (µs)  │ Full (µs)     │ Speedup  │ Alloc/op (bytes)│ Alloc saved │";
+    private static final String TABLE_SEPARATOR = "├─────────────────┼────────┼───────────────┼───────────────┼──────────┼─────────────────┼─────────────┤";
+    private static final String TABLE_BOTTOM = "└─────────────────┴────────┴───────────────┴───────────────┴──────────┴─────────────────┴─────────────┘";
+
+    private static List<LargePojo> testData;
+    private static List<LargePojo> defaultsData;
+
+    private static ObjectMapper jacksonMapper;
+    private static ObjectMapper jacksonMapperNoNulls;
+    private static ObjectMapper msgpackMapper;
+    private static ObjectMapper msgpackMapperNoNulls;
+
+    @BeforeAll
+    static void setUp() {
+        testData = TestDataFactory.createPojoList(LIST_SIZE);
+        final LargePojo defaults = TestDataFactory.createPojoList(1).get(0);
+        defaults.setField21(0);
+        defaults.setField106(0L);
+        defaults.setField109(0.0);
+        defaults.setField116("");
+        defaults.setRef5(null);
+        defaultsData = List.of(defaults);
+
+        jacksonMapper = new ObjectMapper();
+        jacksonMapperNoNulls = new ObjectMapper()
+                .setSerializationInclusion(JsonInclude.Include.NON_NULL);
+
+        msgpackMapper = new ObjectMapper(new MessagePackFactory());
+        msgpackMapperNoNulls = new ObjectMapper(new MessagePackFactory())
+                .setSerializationInclusion(JsonInclude.Include.NON_NULL);
+    }
+
+    @Test
+    @DisplayName("Project fields with null fields serialized")
+    void projectWithNullFieldsSerialized() throws IOException {
+        runProjectionSuite("WITH NULLS", jacksonMapper, msgpackMapper);
+    }
+
+    @Test
+    @DisplayName("Project fields with null fields excluded")
+    void projectWithNullFieldsExcluded() throws IOException {
+        runProjectionSuite("WITHOUT NULLS", jacksonMapperNoNulls, msgpackMapperNoNulls);
+    }
+
+    private void runProjectionSuite(String suiteName, ObjectMapper jacksonMapper, ObjectMapper msgpackMapper)
+            throws IOException {
+        final byte[] jsonPayload = jacksonMapper.writeValueAsBytes(testData);
+        final byte[] msgpackPayload = msgpackMapper.writeValueAsBytes(testData);
+        final byte[] protobufPayload = ProtobufConverter.convertListToProto(testData).toByteArray();
+
+        final FieldProjection all = FieldProjection.of(PROJECTABLE_PATHS);
+        assertProjected("Jackson", all, defaultsData,
+            all.readJackson(jacksonMapper, jacksonMapper.writeValueAsBytes(defaultsData)), false);
+        assertProjected("MessagePack", all, defaultsData,
+            all.readJackson(msgpackMapper, msgpackMapper.writeValueAsBytes(defaultsData)), false);
+        assertProjected("Protobuf", all, defaultsData,
+            all.readProtobuf(ProtobufConverter.convertListToProto(defaultsData).toByteArray()), true);
+
+        printBenchmarkHeader(suiteName);
+        System.out.println(TABLE_TOP);
+        System.out.println(TABLE_HEADER);
+        System.out.println(TABLE_SEPARATOR);
+
+        runFormat("Jackson", () -> jacksonMapper.readValue(jsonPayload, POJO_LIST_TYPE),
+            projection -> projection.readJackson(jacksonMapper, jsonPayload), false);
+        System.out.println(TABLE_SEPARATOR);
+        runFormat("MessagePack", () -> msgpackMapper.readValue(msgpackPayload, POJO_LIST_TYPE),
+            projection -> projection.readJackson(msgpackMapper, msgpackPayload), false);
+        System.out.println(TABLE_SEPARATOR);
+        runFormat("Protobuf", () -> LargePojoProto.LargePojoList.parseFrom(protobufPayload),
+            projection -> projection.readProtobuf(protobufPayload), true);
+
+        System.out.println(TABLE_BOTTOM);
+        System.out.println("\n========================================\n");
+    }
+
+    private void runFormat(String format, Callable<?> fullDecode, Projector projector, boolean protobuf) {
+        final double[] full = measure(fullDecode);
+
+        for (int fields : PROJECTION_SIZES) {
+            final FieldProjection projection = FieldProjection.of(PROJECTABLE_PATHS.subList(0, fields));
+            assertProjected(format, projection, testData, call(() -> projector.project(projection)), protobuf);
+
+            final double[] projected = measure(() -> projector.project(projection));
+            System.out.printf("│ %-15s │ %6d │ %13.2f │ %13.2f │ %7.2fx │ %,15.0f │ %10.1f%% │%n",
+                format, fields, projected[0], full[0], full[0] / projected[0], projected[1],
+                (full[1] - projected[1]) / full[1] * 100);
+        }
+    }
+
+    /**
+     * Every projected value must match the source POJO field; numbers are compared by their text form
+     * because each format decodes them to a different boxed type. Protobuf cannot write a null scalar, so
+     * there a null field under a present message is expected as the field's default.
+     */
+    private void assertProjected(String format, FieldProjection projection, List<LargePojo> records,
+                                 List<Object[]> rows, boolean protobuf) {
+        assertEquals(records.size(), rows.size(), format + " projection should return one row per record");
+        for (int i = 0; i < rows.size(); i++) {
+            final JsonNode expected = jacksonMapper.valueToTree(records.get(i));
+            for (int slot = 0; slot < projection.getPaths().size(); slot++) {
+                final String path = projection.getPaths().get(slot);
+                final String pointer = "/" + path.replace('.', '/');
+                final JsonNode node = expected.at(pointer);
+                String expectedText = node.isMissingNode() || node.isNull() ? null : node.asText();
+                if (expectedText == null && protobuf) {
+                    final JsonNode parent = expected.at(pointer.substring(0, pointer.lastIndexOf('/')));
+                    if (!parent.isMissingNode() && !parent.isNull()) {
+                        expectedText = String.valueOf(protobufField(path).getDefaultValue());
+                    }
+                }
+                final Object value = rows.get(i)[slot];
+                assertEquals(expectedText, value == null ? null : String.valueOf(value),
+                    format + " projection of " + path + " in record " + i);
+            }
+        }
+    }
+
+    private static FieldDescriptor protobufField(String path) {
+        final String[] segments = path.split("\\.");
+        Descriptor descriptor = LargePojoProto.LargePojo.getDescriptor();
+        for (int i = 0; i < segments.length - 1; i++) {
+            descriptor = descriptor.findFieldByName(segments[i]).getMessageType();
+        }
+        return descriptor.findFieldByName(segments[segments.length - 1]);
+    }
+
+    /**
+     * @return average microseconds and bytes allocated per call, after a {@code WARMUP_MS} warmup and over at
+     *         least {@code MEASURE_MS} and {@code MIN_ITERATIONS} calls
+     */
+    private static double[] measure(Callable<?> operation) {
+        final long warmupEnd = System.nanoTime() + WARMUP_MS * 1_000_000L;
+        do {
+            call(operation);
+        } while (System.nanoTime() < warmupEnd);
+
+        final long startAllocatedBytes = THREAD_MX_BEAN.getCurrentThreadAllocatedBytes();
+        final long start = System.nanoTime();
+        long elapsed;
+        int iterations = 0;
+        do {
+            call(operation);
+            iterations++;
+            elapsed = System.nanoTime() - start;
+        } while (iterations < MIN_ITERATIONS || elapsed < MEASURE_MS * 1_000_000L);
+        final long allocatedBytes = THREAD_MX_BEAN.getCurrentThreadAllocatedBytes() - startAllocatedBytes;
+        return new double[]{elapsed / 1_000.0 / iterations, (double) allocatedBytes / iterations};
+    }
+
+    private static <T> T call(Callable<T> operation) {
+        try {
+            return operation.call();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        } catch (Exception e) {
+            throw new RuntimeException(e);
+        }
+    }
+
+    @FunctionalInterface
+    private interface Projector {
+        List<Object[]> project(FieldProjection projection) throws IOException;
+    }
+
+    private void printBenchmarkHeader(String suiteName) {
+        System.out.println("\n========================================");
+        System.out.println("  Field Projection - " + suiteName);
+        System.out.println("  (List of " + LIST_SIZE + " LargePojo objects; fields added in order: "
+            + String.join(", ", PROJECTABLE_PATHS) + ")");
+        System.out.println("========================================\n");
+    }
+}
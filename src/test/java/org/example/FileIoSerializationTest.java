@@ -0,0 +1,403 @@
+package org.example;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.google.gson.Gson;
+import com.google.gson.GsonBuilder;
+import com.google.gson.reflect.TypeToken;
+import com.google.protobuf.CodedInputStream;
+import com.google.protobuf.CodedOutputStream;
+import org.example.proto.LargePojoProto;
+import org.example.util.ByteBufferInputStream;
+import org.example.util.ProtobufConverter;
+import org.example.util.ReusableOutputBuffer;
+import org.example.util.TestDataFactory;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.msgpack.jackson.dataformat.MessagePackFactory;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.lang.reflect.Type;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Writes the serialized {@code LargePojo} list to a temp file and reads it back through three I/O
+ * strategies, reporting MB/s for each format:
+ * <ul>
+ *   <li>Stream: {@link BufferedOutputStream}/{@link BufferedInputStream} over the file</li>
+ *   <li>Channel: {@link FileChannel} reads and writes through a reused direct {@link ByteBuffer}</li>
+ *   <li>Mapped: a {@link MappedByteBuffer} region, decoded in place without copying to the heap</li>
+ * </ul>
+ * Writes land in the page cache; pass {@code -Dfileio.fsync=true} to force each file to the device.
+ * <p>
+ * Java cannot unmap a {@link MappedByteBuffer}; the mapping lives until the buffer is garbage collected. Mapped
+ * writes therefore go to a new file every iteration, sized once by the mapping, instead of truncating a file
+ * that may still be mapped, and mapped reads only map files that are no longer written. Windows refuses to
+ * truncate or delete a mapped file, which would also break the {@link TempDir} cleanup, so the mapped strategy
+ * is skipped there.
+ */
+@DisplayName("File I/O Serialization Benchmarks")
+class FileIoSerializationTest {
+
+    private static final int WARMUP_ITERATIONS = 20;
+    private static final int BENCHMARK_ITERATIONS = 100;
+    private static final int LIST_SIZE = 20;
+    private static final int STREAM_BUFFER_SIZE = 64 * 1024;
+    private static final boolean FSYNC = Boolean.getBoolean("fileio.fsync");
+    private static final boolean CAN_DELETE_MAPPED_FILES = !System.getProperty("os.name").startsWith("Windows");
+
+    private static final TypeReference<List<LargePojo>> POJO_LIST_TYPE = new TypeReference<>() {};
+    private static final Type GSON_POJO_LIST_TYPE = new TypeToken<List<LargePojo>>() {}.getType();
+
+    // Table formatting constants
+    private static final String TABLE_TOP = "┌─────────────────┬──────────┬─────────────────┬─────────────┬─────────────┐";
+    private static final String TABLE_HEADER = "│ Serializer      │ I/O      │  Size (bytes)   │ Write MB/s  │  Read MB/s  │";
+    private static final String TABLE_SEPARATOR = "├─────────────────┼──────────┼─────────────────┼─────────────┼─────────────┤";
+    private static final String TABLE_BOTTOM = "└─────────────────┴──────────┴─────────────────┴─────────────┴─────────────┘";
+
+    @TempDir
+    static Path tempDir;
+
+    private static List<LargePojo> testData;
+    private static LargePojoProto.LargePojoList protobufData;
+    private static ByteBuffer directBuffer = ByteBuffer.allocateDirect(STREAM_BUFFER_SIZE);
+
+    private static ObjectMapper jacksonMapper;
+    private static ObjectMapper jacksonMapperNoNulls;
+    private static ObjectMapper msgpackMapper;
+    private static ObjectMapper msgpackMapperNoNulls;
+    private static Gson gsonWithNulls;
+    private static Gson gsonWithoutNulls;
+
+    /**
+     * How the file is written and read.
+     */
+    private enum IoStrategy {
+        STREAM("Stream"),
+        CHANNEL("Channel"),
+        MAPPED("Mapped");
+
+        private final String label;
+
+        IoStrategy(String label) {
+            this.label = label;
+        }
+    }
+
+    @BeforeAll
+    static void setUp() {
+        testData = TestDataFactory.createPojoList(LIST_SIZE);
+        protobufData = ProtobufConverter.convertListToProto(testData);
+
+        jacksonMapper = new ObjectMapper();
+        jacksonMapperNoNulls = new ObjectMapper()
+                .setSerializationInclusion(JsonInclude.Include.NON_NULL);
+
+        msgpackMapper = new ObjectMapper(new MessagePackFactory());
+        msgpackMapperNoNulls = new ObjectMapper(new MessagePackFactory())
+                .setSerializationInclusion(JsonInclude.Include.NON_NULL);
+
+        gsonWithNulls = new GsonBuilder().serializeNulls().create();
+        gsonWithoutNulls = new Gson();
+    }
+
+    @Test
+    @DisplayName("Benchmark file I/O with null fields serialized")
+    void benchmarkFileIoWithNullFieldsSerialized() throws IOException {
+        runFileIoSuite("WITH NULLS", jacksonMapper, gsonWithNulls, msgpackMapper);
+    }
+
+    @Test
+    @DisplayName("Benchmark file I/O with null fields excluded")
+    void benchmarkFileIoWithNullFieldsExcluded() throws IOException {
+        runFileIoSuite("WITHOUT NULLS", jacksonMapperNoNulls, gsonWithoutNulls, msgpackMapperNoNulls);
+    }
+
+    private void runFileIoSuite(String suiteName, ObjectMapper jacksonMapper, Gson gson,
+                                ObjectMapper msgpackMapper) throws IOException {
+        final List<Format> formats = List.of(
+            Format.streaming("Jackson",
+                out -> jacksonMapper.writeValue(out, testData),
+                in -> jacksonMapper.readValue(in, POJO_LIST_TYPE)),
+            Format.streaming("Gson",
+                out -> {
+                    final Writer writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8));
+                    gson.toJson(testData, writer);
+                    writer.flush();
+                },
+                in -> gson.fromJson(new InputStreamReader(in, StandardCharsets.UTF_8), GSON_POJO_LIST_TYPE)),
+            Format.streaming("MessagePack",
+                out -> msgpackMapper.writeValue(out, testData),
+                in -> msgpackMapper.readValue(in, POJO_LIST_TYPE)),
+            Format.protobuf());
+
+        printBenchmarkHeader(suiteName);
+        System.out.println(TABLE_TOP);
+        System.out.println(TABLE_HEADER);
+        System.out.println(TABLE_SEPARATOR);
+
+        for (Format format : formats) {
+            for (IoStrategy strategy : IoStrategy.values()) {
+                if (strategy == IoStrategy.MAPPED && !CAN_DELETE_MAPPED_FILES) {
+                    continue;
+                }
+                final String prefix = suiteName.replace(' ', '_') + "-" + format.name + "-" + strategy.label;
+                Path file = null;
+
+                for (int i = 0; i < WARMUP_ITERATIONS; i++) {
+                    file = write(format, strategy, prefix, i);
+                }
+                long start = System.nanoTime();
+                for (int i = 0; i < BENCHMARK_ITERATIONS; i++) {
+                    file = write(format, strategy, prefix, WARMUP_ITERATIONS + i);
+                }
+                final long writeNanos = System.nanoTime() - start;
+                final long size = Files.size(file);
+
+                for (int i = 0; i < WARMUP_ITERATIONS; i++) {
+                    read(format, strategy, file);
+                }
+                List<LargePojo> decoded = null;
+                start = System.nanoTime();
+                for (int i = 0; i < BENCHMARK_ITERATIONS; i++) {
+                    decoded = read(format, strategy, file);
+                }
+                final long readNanos = System.nanoTime() - start;
+
+                assertEquals(testData, decoded,
+                    format.name + " should decode the original data through " + strategy.label);
+                System.out.printf("│ %-15s │ %-8s │ %,15d │ %11.1f │ %11.1f │%n",
+                    format.name, strategy.label, size, megabytesPerSecond(size, writeNanos),
+                    megabytesPerSecond(size, readNanos));
+            }
+        }
+
+        System.out.println(TABLE_BOTTOM);
+        System.out.println("\n========================================\n");
+    }
+
+    /**
+     * Writes the payload to the strategy's file for {@code iteration}: one file per strategy, rewritten each
+     * time, except for {@link IoStrategy#MAPPED}, which gets a fresh file.
+     *
+     * @return the file written
+     */
+    private static Path write(Format format, IoStrategy strategy, String prefix, int iteration) throws IOException {
+        final Path file = tempDir.resolve(strategy == IoStrategy.MAPPED
+            ? prefix + "-" + iteration + ".bin" : prefix + ".bin");
+        switch (strategy) {
+            case STREAM:
+                try (OutputStream out = new BufferedOutputStream(Files.newOutputStream(file), STREAM_BUFFER_SIZE)) {
+                    format.encoder.encode(out);
+                }
+                if (FSYNC) {
+                    try (FileChannel channel = FileChannel.open(file, StandardOpenOption.WRITE)) {
+                        channel.force(false);
+                    }
+                }
+                break;
+            case CHANNEL: {
+                final ByteBuffer buffer = format.encodeDirect();
+                try (FileChannel channel = FileChannel.open(file, StandardOpenOption.CREATE,
+                        StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+                    while (buffer.hasRemaining()) {
+                        channel.write(buffer);
+                    }
+                    if (FSYNC) {
+                        channel.force(false);
+                    }
+                }
+                break;
+            }
+            case MAPPED: {
+                final Staged staged = format.stage();
+                // Mapping past the end of the new file grows it to the payload size
+                try (FileChannel channel = FileChannel.open(file, StandardOpenOption.CREATE_NEW, StandardOpenOption.READ,
+                        StandardOpenOption.WRITE)) {
+                    final MappedByteBuffer mapped = channel.map(FileChannel.MapMode.READ_WRITE, 0, staged.size());
+                    staged.writeTo(mapped);
+                    if (FSYNC) {
+                        mapped.force();
+                    }
+                }
+                break;
+            }
+            default:
+                throw new IllegalArgumentException("Unknown strategy: " + strategy);
+        }
+        return file;
+    }
+
+    private static List<LargePojo> read(Format format, IoStrategy strategy, Path file) throws IOException {
+        switch (strategy) {
+            case STREAM:
+                try (InputStream in = new BufferedInputStream(Files.newInputStream(file), STREAM_BUFFER_SIZE)) {
+                    return format.decoder.decode(in);
+                }
+            case CHANNEL:
+                try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+                    final ByteBuffer buffer = directBuffer(Math.toIntExact(channel.size()));
+                    while (buffer.hasRemaining() && channel.read(buffer) >= 0) {
+                        // Keep reading until the file is consumed
+                    }
+                    buffer.flip();
+                    return format.bufferDecoder.decode(buffer);
+                }
+            case MAPPED:
+                try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+                    return format.bufferDecoder.decode(channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size()));
+                }
+            default:
+                throw new IllegalArgumentException("Unknown strategy: " + strategy);
+        }
+    }
+
+    /**
+     * Returns the shared direct buffer, cleared and limited to {@code size}, growing it when needed.
+     */
+    private static ByteBuffer directBuffer(int size) {
+        if (directBuffer.capacity() < size) {
+            directBuffer = ByteBuffer.allocateDirect(Math.max(size, directBuffer.capacity() * 2));
+        }
+        directBuffer.clear().limit(size);
+        return directBuffer;
+    }
+
+    private static double megabytesPerSecond(long size, long elapsedNanos) {
+        return size * (double) BENCHMARK_ITERATIONS / 1_048_576.0 / (elapsedNanos / 1_000_000_000.0);
+    }
+
+    private void printBenchmarkHeader(String suiteName) {
+        System.out.println("\n========================================");
+        System.out.println("  File I/O Throughput - " + suiteName + (FSYNC ? " (fsync)" : ""));
+        System.out.println("  (List of " + LIST_SIZE + " LargePojo objects)");
+        System.out.println("========================================\n");
+    }
+
+    @FunctionalInterface
+    private interface StreamEncoder {
+        void encode(OutputStream out) throws IOException;
+    }
+
+    @FunctionalInterface
+    private interface StreamDecoder {
+        List<LargePojo> decode(InputStream in) throws IOException;
+    }
+
+    @FunctionalInterface
+    private interface BufferDecoder {
+        List<LargePojo> decode(ByteBuffer buffer) throws IOException;
+    }
+
+    /**
+     * Encoded payload of known size, ready to be written into a buffer with enough room.
+     */
+    private interface Staged {
+        int size();
+
+        void writeTo(ByteBuffer target) throws IOException;
+    }
+
+    /**
+     * One serializer's stream and buffer entry points.
+     */
+    private static final class Format {
+
+        private final String name;
+        private final StreamEncoder encoder;
+        private final StreamDecoder decoder;
+        private final BufferDecoder bufferDecoder;
+        private final boolean protobuf;
+
+        private Format(String name, StreamEncoder encoder, StreamDecoder decoder, BufferDecoder bufferDecoder,
+                       boolean protobuf) {
+            this.name = name;
+            this.encoder = encoder;
+            this.decoder = decoder;
+            this.bufferDecoder = bufferDecoder;
+            this.protobuf = protobuf;
+        }
+
+        /**
+         * Format that only has stream entry points; buffers are read through a {@link ByteBufferInputStream}.
+         */
+        static Format streaming(String name, StreamEncoder encoder, StreamDecoder decoder) {
+            return new Format(name, encoder, decoder, buffer -> decoder.decode(new ByteBufferInputStream(buffer)), false);
+        }
+
+        /**
+         * Protobuf knows its size up front, so it encodes straight into the target buffer and
+         * decodes from it through {@code CodedInputStream.newInstance(ByteBuffer)}.
+         */
+        static Format protobuf() {
+            return new Format("Protobuf",
+                out -> protobufData.writeTo(out),
+                in -> ProtobufConverter.convertListFromProto(LargePojoProto.LargePojoList.parseFrom(in)),
+                buffer -> ProtobufConverter.convertListFromProto(
+                    LargePojoProto.LargePojoList.parseFrom(CodedInputStream.newInstance(buffer))),
+                true);
+        }
+
+        Staged stage() throws IOException {
+            if (protobuf) {
+                return new Staged() {
+                    @Override
+                    public int size() {
+                        return protobufData.getSerializedSize();
+                    }
+
+                    @Override
+                    public void writeTo(ByteBuffer target) throws IOException {
+                        final CodedOutputStream output = CodedOutputStream.newInstance(target);
+                        protobufData.writeTo(output);
+                        output.flush();
+                    }
+                };
+            }
+            final ReusableOutputBuffer buffer = ReusableOutputBuffer.forCurrentThread();
+            encoder.encode(buffer);
+            return new Staged() {
+                @Override
+                public int size() {
+                    return buffer.size();
+                }
+
+                @Override
+                public void writeTo(ByteBuffer target) {
+                    target.put(buffer.array(), 0, buffer.size());
+                }
+            };
+        }
+
+        /**
+         * Encodes into the shared direct buffer and returns it flipped, ready for a channel write.
+         */
+        ByteBuffer encodeDirect() throws IOException {
+            final Staged staged = stage();
+            final ByteBuffer buffer = directBuffer(staged.size());
+            staged.writeTo(buffer);
+            buffer.flip();
+            return buffer;
+        }
+    }
+}
@@ -0,0 +1,392 @@
+package org.example;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.google.gson.Gson;
+import com.google.gson.GsonBuilder;
+import com.google.gson.reflect.TypeToken;
+import org.example.proto.LargePojoProto;
+import org.example.util.DataProfile;
+import org.example.util.ProtobufConverter;
+import org.example.util.TestDataFactory;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.msgpack.jackson.dataformat.MessagePackFactory;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.lang.reflect.Type;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Properties;
+import java.util.function.Function;
+import java.util.function.ToIntFunction;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Sweeps list size, field fill ratio and blob size across every serializer and both null-inclusion modes
+ * to find where the serializers' scaling curves cross.
+ * <p>
+ * The axes come from a properties file named by {@code -Dmatrix.config} (a path or a test classpath
+ * resource such as {@code matrix-full.properties}), with {@code -Dmatrix.<key>} system properties on top.
+ * The defaults are a small sweep that fits in a normal test run. Data comes from the seeded generator,
+ * using {@link DataProfile#fromSystemProperties()} for every knob the matrix does not sweep.
+ * <p>
+ * Each cell records per-call serialize and deserialize time and payload size. Results are written as
+ * JSON and CSV next to {@code matrix.output} and summarized as compact text tables.
+ */
+@DisplayName("Parameter Sweep Matrix Benchmarks")
+class MatrixBenchmarkTest {
+
+    private static final TypeReference<List<LargePojo>> POJO_LIST_TYPE = new TypeReference<>() {};
+    private static final Type GSON_POJO_LIST_TYPE = new TypeToken<List<LargePojo>>() {}.getType();
+
+    /**
+     * Null-inclusion modes, named as in the JMH {@code SerializerState}.
+     */
+    private enum NullInclusion {
+        WITH_NULLS,
+        WITHOUT_NULLS
+    }
+
+    @Test
+    @DisplayName("Sweep list size, fill ratio and blob size across serializers")
+    void sweepMatrix() throws IOException {
+        final MatrixConfig config = MatrixConfig.load();
+        final DataProfile baseProfile = DataProfile.fromSystemProperties();
+        if (baseProfile.getCharset() != DataProfile.StringCharset.ASCII) {
+            // Fail on the cause rather than on a MessagePack cell that decodes to different text
+            assertEquals(StandardCharsets.UTF_8, Charset.defaultCharset(),
+                "Non-ASCII test data needs -Dfile.encoding=UTF-8 for MessagePack (see DataProfile.StringCharset)");
+        }
+        final List<Map<String, Object>> results = new ArrayList<>();
+
+        printBenchmarkHeader(config);
+        for (NullInclusion inclusion : config.inclusions) {
+            final List<MatrixSerializer> serializers = serializers(inclusion, config.serializers);
+            for (double fillRatio : config.fillRatios) {
+                for (int blobSize : config.blobSizes) {
+                    final DataProfile profile = baseProfile.toBuilder()
+                        .fillRatio(fillRatio)
+                        .blobMeanSize(blobSize)
+                        .build();
+                    for (int listSize : config.listSizes) {
+                        final List<LargePojo> data = TestDataFactory.createPojoList(listSize, profile);
+                        for (MatrixSerializer serializer : serializers) {
+                            final Object payload = serializer.encode.apply(data);
+                            assertEquals(data, serializer.decode.apply(payload),
+                                serializer.name + " should decode back to the original data");
+
+                            final double serializeMicros = measureMicros(config, () -> serializer.encode.apply(data));
+                            final double deserializeMicros = measureMicros(config, () -> serializer.decode.apply(payload));
+                            final int size = serializer.size.applyAsInt(payload);
+
+                            final Map<String, Object> cell = new LinkedHashMap<>();
+                            cell.put("serializer", serializer.name);
+                            cell.put("inclusion", inclusion.name());
+                            cell.put("fillRatio", fillRatio);
+                            cell.put("blobSize", blobSize);
+                            cell.put("listSize", listSize);
+                            cell.put("serializeMicros", serializeMicros);
+                            cell.put("deserializeMicros", deserializeMicros);
+                            cell.put("sizeBytes", size);
+                            results.add(cell);
+                        }
+                    }
+                }
+            }
+        }
+
+        printTables(config, results);
+        writeResults(config, results);
+    }
+
+    /**
+     * Average microseconds per call: runs for {@code warmupMs}, then for at least {@code measureMs}
+     * and {@code minIterations} calls.
+     */
+    private static double measureMicros(MatrixConfig config, Runnable operation) {
+        final long warmupEnd = System.nanoTime() + config.warmupMs * 1_000_000L;
+        do {
+            operation.run();
+        } while (System.nanoTime() < warmupEnd);
+
+        final long measureNanos = config.measureMs * 1_000_000L;
+        final long start = System.nanoTime();
+        long elapsed;
+        int iterations = 0;
+        do {
+            operation.run();
+            iterations++;
+            elapsed = System.nanoTime() - start;
+        } while (iterations < config.minIterations || elapsed < measureNanos);
+        return elapsed / 1_000.0 / iterations;
+    }
+
+    /**
+     * Serializers for one inclusion mode. Protobuf runs end to end from the POJOs, conversion included,
+     * so every curve starts from the same objects.
+     */
+    private static List<MatrixSerializer> serializers(NullInclusion inclusion, List<String> names) {
+        final boolean withNulls = inclusion == NullInclusion.WITH_NULLS;
+        final ObjectMapper jacksonMapper = withNulls ? new ObjectMapper()
+            : new ObjectMapper().setSerializationInclusion(JsonInclude.Include.NON_NULL);
+        final ObjectMapper msgpackMapper = withNulls ? new ObjectMapper(new MessagePackFactory())
+            : new ObjectMapper(new MessagePackFactory()).setSerializationInclusion(JsonInclude.Include.NON_NULL);
+        final Gson gson = withNulls ? new GsonBuilder().serializeNulls().create() : new Gson();
+
+        final List<MatrixSerializer> all = List.of(
+            new MatrixSerializer("Jackson",
+                data -> writeBytes(jacksonMapper, data),
+                payload -> readList(jacksonMapper, (byte[]) payload),
+                payload -> ((byte[]) payload).length),
+            new MatrixSerializer("Gson",
+                gson::toJson,
+                payload -> gson.fromJson((String) payload, GSON_POJO_LIST_TYPE),
+                payload -> ((String) payload).getBytes(StandardCharsets.UTF_8).length),
+            new MatrixSerializer("MessagePack",
+                data -> writeBytes(msgpackMapper, data),
+                payload -> readList(msgpackMapper, (byte[]) payload),
+                payload -> ((byte[]) payload).length),
+            new MatrixSerializer("Protobuf",
+                data -> ProtobufConverter.convertListToProto(data).toByteArray(),
+                payload -> parseProtobuf((byte[]) payload),
+                payload -> ((byte[]) payload).length));
+
+        final List<MatrixSerializer> selected = all.stream()
+            .filter(serializer -> names.contains(serializer.name))
+            .collect(Collectors.toList());
+        if (selected.size() != names.size()) {
+            throw new IllegalArgumentException("Unknown serializer in " + names + "; expected any of "
+                + all.stream().map(serializer -> serializer.name).collect(Collectors.toList()));
+        }
+        return selected;
+    }
+
+    private static byte[] writeBytes(ObjectMapper mapper, List<LargePojo> data) {
+        try {
+            return mapper.writeValueAsBytes(data);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static List<LargePojo> readList(ObjectMapper mapper, byte[] payload) {
+        try {
+            return mapper.readValue(payload, POJO_LIST_TYPE);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static List<LargePojo> parseProtobuf(byte[] payload) {
+        try {
+            return ProtobufConverter.convertListFromProto(LargePojoProto.LargePojoList.parseFrom(payload));
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    // ==================== Output ====================
+
+    /**
+     * One table per inclusion mode, fill ratio and blob size: a row per list size, a column per serializer
+     * with serialize + deserialize µs per element, and the fastest serializer for that row.
+     */
+    private void printTables(MatrixConfig config, List<Map<String, Object>> results) {
+        final int columnWidth = 13;
+        final String serializerColumns = config.serializers.stream()
+            .map(name -> String.format(" %" + columnWidth + "s │", truncate(name, columnWidth)))
+            .collect(Collectors.joining());
+        final String bar = "─".repeat(columnWidth + 2);
+
+        for (NullInclusion inclusion : config.inclusions) {
+            for (double fillRatio : config.fillRatios) {
+                for (int blobSize : config.blobSizes) {
+                    System.out.printf("%n  Sweep - %s, fill %.2f, blob %d bytes (µs per element, ser + deser; bytes per element)%n",
+                        inclusion, fillRatio, blobSize);
+                    final String cells = (bar + "┬").repeat(config.serializers.size());
+                    System.out.println("┌──────────┬" + cells + "─────────────┐");
+                    System.out.println("│     List │" + serializerColumns + " Fastest     │");
+                    System.out.println("├──────────┼" + (bar + "┼").repeat(config.serializers.size()) + "─────────────┤");
+
+                    for (int listSize : config.listSizes) {
+                        final StringBuilder timeRow = new StringBuilder(String.format("│ %,8d │", listSize));
+                        final StringBuilder sizeRow = new StringBuilder("│          │");
+                        String fastest = null;
+                        double fastestMicros = Double.MAX_VALUE;
+                        for (String name : config.serializers) {
+                            final Map<String, Object> cell = find(results, name, inclusion, fillRatio, blobSize, listSize);
+                            final double micros = ((double) cell.get("serializeMicros") + (double) cell.get("deserializeMicros"))
+                                / listSize;
+                            final double bytes = (int) cell.get("sizeBytes") / (double) listSize;
+                            timeRow.append(String.format(" %" + (columnWidth - 3) + ".2f µs │", micros));
+                            sizeRow.append(String.format(" %" + (columnWidth - 2) + ".0f B │", bytes));
+                            if (micros < fastestMicros) {
+                                fastestMicros = micros;
+                                fastest = name;
+                            }
+                        }
+                        System.out.println(timeRow + String.format(" %-11s │", truncate(fastest, 11)));
+                        System.out.println(sizeRow + "             │");
+                    }
+                    System.out.println("└──────────┴" + (bar + "┴").repeat(config.serializers.size()) + "─────────────┘");
+                }
+            }
+        }
+        System.out.println("\n========================================\n");
+    }
+
+    private static Map<String, Object> find(List<Map<String, Object>> results, String serializer,
+                                            NullInclusion inclusion, double fillRatio, int blobSize, int listSize) {
+        for (Map<String, Object> cell : results) {
+            if (cell.get("serializer").equals(serializer) && cell.get("inclusion").equals(inclusion.name())
+                    && (double) cell.get("fillRatio") == fillRatio && (int) cell.get("blobSize") == blobSize
+                    && (int) cell.get("listSize") == listSize) {
+                return cell;
+            }
+        }
+        throw new IllegalStateException("No result for " + serializer + " " + inclusion + " " + listSize);
+    }
+
+    private static String truncate(String value, int width) {
+        return value.length() <= width ? value : value.substring(0, width);
+    }
+
+    private static void writeResults(MatrixConfig config, List<Map<String, Object>> results) throws IOException {
+        final Path jsonFile = Paths.get(config.output + ".json");
+        final Path csvFile = Paths.get(config.output + ".csv");
+        if (jsonFile.getParent() != null) {
+            Files.createDirectories(jsonFile.getParent());
+        }
+
+        final Map<String, Object> document = new LinkedHashMap<>();
+        document.put("config", config.describe());
+        document.put("results", results);
+        new ObjectMapper().writerWithDefaultPrettyPrinter().writeValue(jsonFile.toFile(), document);
+
+        try (Writer csv = Files.newBufferedWriter(csvFile, StandardCharsets.UTF_8)) {
+            csv.write(String.join(",", results.get(0).keySet()));
+            csv.write('\n');
+            for (Map<String, Object> cell : results) {
+                csv.write(cell.values().stream().map(String::valueOf).collect(Collectors.joining(",")));
+                csv.write('\n');
+            }
+        }
+        System.out.println("  Results written to " + jsonFile + " and " + csvFile);
+    }
+
+    private void printBenchmarkHeader(MatrixConfig config) {
+        System.out.println("\n========================================");
+        System.out.println("  Parameter Sweep Matrix");
+        System.out.println("  (list sizes " + config.listSizes + ", fill ratios " + config.fillRatios
+            + ", blob sizes " + config.blobSizes + ")");
+        System.out.println("========================================");
+    }
+
+    /**
+     * Encode/decode entry points; the payload type is whatever the serializer natively produces.
+     */
+    private static final class MatrixSerializer {
+
+        private final String name;
+        private final Function<List<LargePojo>, Object> encode;
+        private final Function<Object, List<LargePojo>> decode;
+        private final ToIntFunction<Object> size;
+
+        MatrixSerializer(String name, Function<List<LargePojo>, Object> encode,
+                         Function<Object, List<LargePojo>> decode, ToIntFunction<Object> size) {
+            this.name = name;
+            this.encode = encode;
+            this.decode = decode;
+            this.size = size;
+        }
+    }
+
+    /**
+     * Sweep axes and timing budget, read from {@code matrix.config} and {@code matrix.*} system properties.
+     */
+    private static final class MatrixConfig {
+
+        private final List<Integer> listSizes;
+        private final List<Double> fillRatios;
+        private final List<Integer> blobSizes;
+        private final List<NullInclusion> inclusions;
+        private final List<String> serializers;
+        private final long warmupMs;
+        private final long measureMs;
+        private final int minIterations;
+        private final String output;
+
+        private MatrixConfig(Properties properties) {
+            this.listSizes = parseList(properties.getProperty("listSizes", "1,10,100"), Integer::valueOf);
+            this.fillRatios = parseList(properties.getProperty("fillRatios", "0.15"), Double::valueOf);
+            this.blobSizes = parseList(properties.getProperty("blobSizes", "500"), Integer::valueOf);
+            this.inclusions = parseList(properties.getProperty("inclusions", "WITH_NULLS,WITHOUT_NULLS"),
+                value -> NullInclusion.valueOf(value.toUpperCase(Locale.ROOT)));
+            this.serializers = parseList(properties.getProperty("serializers", "Jackson,Gson,MessagePack,Protobuf"),
+                Function.identity());
+            this.warmupMs = Long.parseLong(properties.getProperty("warmupMs", "50"));
+            this.measureMs = Long.parseLong(properties.getProperty("measureMs", "100"));
+            this.minIterations = Integer.parseInt(properties.getProperty("minIterations", "3"));
+            this.output = properties.getProperty("output", "target/matrix-results");
+        }
+
+        static MatrixConfig load() throws IOException {
+            final Properties properties = new Properties();
+            final String configName = System.getProperty("matrix.config");
+            if (configName != null) {
+                final Path path = Paths.get(configName);
+                try (InputStream in = Files.isRegularFile(path) ? Files.newInputStream(path)
+                        : MatrixBenchmarkTest.class.getClassLoader().getResourceAsStream(configName)) {
+                    if (in == null) {
+                        throw new IllegalArgumentException("Matrix config not found: " + configName);
+                    }
+                    properties.load(in);
+                }
+            }
+            for (String name : System.getProperties().stringPropertyNames()) {
+                if (name.startsWith("matrix.") && !name.equals("matrix.config")) {
+                    properties.setProperty(name.substring("matrix.".length()), System.getProperty(name));
+                }
+            }
+            return new MatrixConfig(properties);
+        }
+
+        Map<String, Object> describe() {
+            final Map<String, Object> description = new LinkedHashMap<>();
+            description.put("listSizes", listSizes);
+            description.put("fillRatios", fillRatios);
+            description.put("blobSizes", blobSizes);
+            description.put("inclusions", inclusions);
+            description.put("serializers", serializers);
+            description.put("warmupMs", warmupMs);
+            description.put("measureMs", measureMs);
+            description.put("minIterations", minIterations);
+            description.put("dataProfile", DataProfile.fromSystemProperties().toString());
+            return description;
+        }
+
+        private static <T> List<T> parseList(String value, Function<String, T> parser) {
+            return Arrays.stream(value.split(","))
+                .map(String::trim)
+                .filter(item -> !item.isEmpty())
+                .map(parser)
+                .collect(Collectors.toList());
+        }
+    }
+}
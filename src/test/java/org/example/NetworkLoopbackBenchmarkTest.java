@@ -0,0 +1,327 @@
+package org.example;
+
+import org.example.codec.Codec;
+import org.example.codec.CodecRegistry;
+import org.example.codec.Codecs;
+import org.example.util.FrameReader;
+import org.example.util.LatencyHistogram;
+import org.example.util.TestDataFactory;
+import org.example.util.WireFraming;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.EOFException;
+import java.io.IOException;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.StandardSocketOptions;
+import java.nio.ByteBuffer;
+import java.nio.channels.SelectionKey;
+import java.nio.channels.Selector;
+import java.nio.channels.ServerSocketChannel;
+import java.nio.channels.SocketChannel;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Streams framed {@code LargePojo} messages over a loopback TCP connection and decodes them on the other end,
+ * to turn payload size into wire throughput. Protobuf and MessagePack are sent {@link WireFraming#LENGTH_PREFIXED
+ * length-prefixed}, the JSON codecs as {@link WireFraming#NEWLINE_DELIMITED newline-delimited} JSON.
+ * <p>
+ * Each codec runs in two modes. {@code blocking}: a sender thread writes to a blocking {@link SocketChannel}
+ * while the test thread reads. {@code selector}: both ends are non-blocking and one thread drives them from a
+ * {@link Selector}, writing when the socket takes more and reading when data arrives. In both, the receiver
+ * decodes every frame as soon as its last byte is read, from a buffer that usually also holds the start of
+ * the next one.
+ * <p>
+ * Latency is per message, from the start of its encode to the end of its decode. The sender keeps at most
+ * {@code -Dnetwork.window} messages in flight, as a flow-controlled protocol would; without a limit it fills
+ * the socket buffers and latency measures their depth rather than the format. Override the message counts
+ * with {@code -Dnetwork.messages} and {@code -Dnetwork.warmupMessages}.
+ */
+@DisplayName("Loopback Network Benchmarks")
+class NetworkLoopbackBenchmarkTest {
+
+    private static final int LIST_SIZE = 20;
+    private static final int MESSAGES = Integer.getInteger("network.messages", 3_000);
+    private static final int WARMUP_MESSAGES = Integer.getInteger("network.warmupMessages", 1_000);
+    private static final int WINDOW = Integer.getInteger("network.window", 16);
+    private static final int BUFFER_SIZE = 64 * 1024;
+
+    // Table formatting constants
+    private static final String TABLE_TOP = "┌─────────────────┬──────────────────┬──────────┬─────────────┬──────────┬────────────┬────────────┬────────────┐";
+    private static final String TABLE_HEADER = "│ Serializer      │ Framing          │ Mode     │   Msgs/s    │   MB/s   │  p50 (µs)  │  p99 (µs)  │  max (µs)  │";
+    private static final String TABLE_SEPARATOR = "├─────────────────┼──────────────────┼──────────┼─────────────┼──────────┼────────────┼────────────┼────────────┤";
+    private static final String TABLE_BOTTOM = "└─────────────────┴──────────────────┴──────────┴─────────────┴──────────┴────────────┴────────────┴────────────┘";
+
+    private static List<LargePojo> testData;
+
+    @BeforeAll
+    static void setUp() {
+        // Initialize test data
+        testData = TestDataFactory.createPojoList(LIST_SIZE);
+    }
+
+    @Test
+    @DisplayName("Loopback network with null fields serialized")
+    void loopbackNetworkWithNullFieldsSerialized() throws Exception {
+        runNetworkSuite("WITH NULLS", CodecRegistry.standard(true));
+    }
+
+    @Test
+    @DisplayName("Loopback network with null fields excluded")
+    void loopbackNetworkWithNullFieldsExcluded() throws Exception {
+        runNetworkSuite("WITHOUT NULLS", CodecRegistry.standard(false));
+    }
+
+    private void runNetworkSuite(String suiteName, CodecRegistry registry) throws Exception {
+        printBenchmarkHeader(suiteName);
+        System.out.println(TABLE_TOP);
+        System.out.println(TABLE_HEADER);
+        System.out.println(TABLE_SEPARATOR);
+
+        final ExecutorService senders = Executors.newSingleThreadExecutor();
+        try {
+            for (Codec<LargePojo> codec : registry.<LargePojo>getAll(LargePojo.class)) {
+                final WireFraming framing = framingFor(codec.format());
+                for (Mode mode : Mode.values()) {
+                    stream(senders, mode, codec, framing, WARMUP_MESSAGES);
+                }
+                for (Mode mode : Mode.values()) {
+                    final RunResult result = stream(senders, mode, codec, framing, MESSAGES);
+                    System.out.printf("│ %-15s │ %-16s │ %-8s │ %,11.0f │ %8.2f │ %10.2f │ %10.2f │ %10.2f │%n",
+                        codec.format(), framing.getLabel(), mode.label, result.messagesPerSecond(),
+                        result.megabytesPerSecond(), toMicros(result.latency.getValueAtPercentile(50)),
+                        toMicros(result.latency.getValueAtPercentile(99)), toMicros(result.latency.getMaxValue()));
+                }
+            }
+        } finally {
+            senders.shutdown();
+            senders.awaitTermination(10, TimeUnit.SECONDS);
+        }
+
+        System.out.println(TABLE_BOTTOM);
+        System.out.println("  MB/s counts frame bytes on the wire; latency runs from encode start to decode end");
+        System.out.println("\n========================================\n");
+    }
+
+    private static WireFraming framingFor(String format) {
+        return Codecs.JACKSON.equals(format) || Codecs.GSON.equals(format)
+            ? WireFraming.NEWLINE_DELIMITED : WireFraming.LENGTH_PREFIXED;
+    }
+
+    /**
+     * Opens a loopback connection, sends {@code messages} frames from one end and decodes them on the other.
+     */
+    private static RunResult stream(ExecutorService senders, Mode mode, Codec<LargePojo> codec, WireFraming framing,
+                                    int messages) throws Exception {
+        try (ServerSocketChannel server = ServerSocketChannel.open()) {
+            server.bind(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0));
+            try (SocketChannel client = SocketChannel.open(server.getLocalAddress());
+                 SocketChannel accepted = server.accept()) {
+                client.setOption(StandardSocketOptions.TCP_NODELAY, true);
+                final Receiver receiver = new Receiver(codec, framing, messages);
+
+                final long startTime = System.nanoTime();
+                if (mode == Mode.BLOCKING) {
+                    streamBlocking(senders, client, accepted, receiver);
+                } else {
+                    streamSelector(client, accepted, receiver);
+                }
+                final long elapsed = System.nanoTime() - startTime;
+
+                assertEquals(messages, receiver.received, codec.format() + " should deliver every message");
+                assertEquals(0, receiver.mismatches, codec.format() + " should decode every message unchanged");
+                return new RunResult(elapsed, messages, receiver.reader.getBytesRead(), receiver.latency);
+            }
+        }
+    }
+
+    private static void streamBlocking(ExecutorService senders, SocketChannel client, SocketChannel accepted,
+                                       Receiver receiver) throws Exception {
+        final Future<?> sender = senders.submit(() -> {
+            final Sender source = new Sender(receiver);
+            try {
+                while (source.next(true)) {
+                    while (source.frame.hasRemaining()) {
+                        client.write(source.frame);
+                    }
+                }
+            } catch (IOException | InterruptedException | RuntimeException e) {
+                // Unblock the receiver, which would otherwise wait for frames that never come
+                client.close();
+                throw e;
+            }
+            return null;
+        });
+        while (receiver.received < receiver.expected) {
+            receiver.readFrom(accepted);
+        }
+        sender.get();
+    }
+
+    private static void streamSelector(SocketChannel client, SocketChannel accepted, Receiver receiver)
+        throws IOException, InterruptedException {
+        client.configureBlocking(false);
+        accepted.configureBlocking(false);
+        try (Selector selector = Selector.open()) {
+            final SelectionKey writeKey = client.register(selector, SelectionKey.OP_WRITE);
+            accepted.register(selector, SelectionKey.OP_READ);
+            final Sender source = new Sender(receiver);
+
+            while (receiver.received < receiver.expected) {
+                selector.select();
+                final Iterator<SelectionKey> keys = selector.selectedKeys().iterator();
+                while (keys.hasNext()) {
+                    final SelectionKey key = keys.next();
+                    keys.remove();
+                    if (key == writeKey && key.isWritable()) {
+                        // Write until the socket buffer or the window is full; a partial frame waits for OP_WRITE
+                        while (source.frame.hasRemaining() || source.next(false)) {
+                            if (client.write(source.frame) == 0) {
+                                break;
+                            }
+                        }
+                        if (!source.frame.hasRemaining()) {
+                            writeKey.interestOps(0);
+                        }
+                    } else if (key.isReadable()) {
+                        receiver.readFrom(accepted);
+                        if (writeKey.interestOps() == 0 && source.sent < receiver.expected
+                            && receiver.window.availablePermits() > 0) {
+                            writeKey.interestOps(SelectionKey.OP_WRITE);
+                        }
+                    }
+                }
+            }
+        }
+    }
+
+    private static double toMicros(long nanos) {
+        return nanos / 1_000.0;
+    }
+
+    private void printBenchmarkHeader(String suiteName) {
+        System.out.println("\n========================================");
+        System.out.println("  Loopback Network - " + suiteName);
+        System.out.println("  (" + MESSAGES + " LargePojo messages per run over 127.0.0.1 TCP, " + WINDOW
+            + " in flight)");
+        System.out.println("========================================\n");
+    }
+
+    private enum Mode {
+        BLOCKING("blocking"),
+        SELECTOR("selector");
+
+        private final String label;
+
+        Mode(String label) {
+            this.label = label;
+        }
+    }
+
+    /**
+     * Encodes message after message into one reused direct buffer, stamping each with its send time.
+     */
+    private static final class Sender {
+        private final Receiver receiver;
+        private ByteBuffer frame = ByteBuffer.allocateDirect(BUFFER_SIZE).flip();
+        private int sent;
+
+        Sender(Receiver receiver) {
+            this.receiver = receiver;
+        }
+
+        /**
+         * @param waitForWindow whether to block while {@link #WINDOW} messages are in flight, or give up
+         * @return {@code false} once every message is sent or the window is full; otherwise {@link #frame}
+         *         holds the next one
+         */
+        boolean next(boolean waitForWindow) throws IOException, InterruptedException {
+            if (sent == receiver.expected) {
+                return false;
+            }
+            if (waitForWindow) {
+                receiver.window.acquire();
+            } else if (!receiver.window.tryAcquire()) {
+                return false;
+            }
+            receiver.sentAt.set(sent, System.nanoTime());
+            frame.clear();
+            frame = receiver.framing.write(receiver.codec, testData.get(sent % LIST_SIZE), frame);
+            frame.flip();
+            sent++;
+            return true;
+        }
+    }
+
+    /**
+     * Decodes frames as they complete and checks each against the message sent in that position.
+     */
+    private static final class Receiver {
+        private final Codec<LargePojo> codec;
+        private final WireFraming framing;
+        private final int expected;
+        private final AtomicLongArray sentAt;
+        private final FrameReader reader;
+        private final Semaphore window = new Semaphore(WINDOW);
+        private final LatencyHistogram latency = new LatencyHistogram();
+        private int received;
+        private int mismatches;
+
+        Receiver(Codec<LargePojo> codec, WireFraming framing, int expected) {
+            this.codec = codec;
+            this.framing = framing;
+            this.expected = expected;
+            this.sentAt = new AtomicLongArray(expected);
+            this.reader = new FrameReader(framing, BUFFER_SIZE);
+        }
+
+        void readFrom(SocketChannel channel) throws IOException {
+            if (reader.readFrom(channel, this::decode) < 0) {
+                throw new EOFException("Connection closed after " + received + " of " + expected + " messages");
+            }
+        }
+
+        private void decode(ByteBuffer payload) throws IOException {
+            final LargePojo pojo = codec.decode(payload);
+            latency.recordValue(System.nanoTime() - sentAt.get(received));
+            if (!testData.get(received % LIST_SIZE).equals(pojo)) {
+                mismatches++;
+            }
+            received++;
+            window.release();
+        }
+    }
+
+    private static final class RunResult {
+        private final long elapsedNanos;
+        private final long messages;
+        private final long bytes;
+        private final LatencyHistogram latency;
+
+        RunResult(long elapsedNanos, long messages, long bytes, LatencyHistogram latency) {
+            this.elapsedNanos = elapsedNanos;
+            this.messages = messages;
+            this.bytes = bytes;
+            this.latency = latency;
+        }
+
+        double messagesPerSecond() {
+            return messages / (elapsedNanos / 1_000_000_000.0);
+        }
+
+        double megabytesPerSecond() {
+            return bytes / (1024.0 * 1024.0) / (elapsedNanos / 1_000_000_000.0);
+        }
+    }
+}
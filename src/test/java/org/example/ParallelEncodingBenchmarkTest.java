@@ -0,0 +1,242 @@
+package org.example;
+
+import org.example.codec.ChunkedPayload;
+import org.example.codec.Codec;
+import org.example.codec.CodecRegistry;
+import org.example.codec.Codecs;
+import org.example.codec.ParallelListCodec;
+import org.example.util.TestDataFactory;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Measures {@link ParallelListCodec} against the plain list codec of every format, across list sizes and
+ * fork/join pool sizes, and reports the list size from which splitting pays off.
+ * <p>
+ * Each run splits the list into about {@value #CHUNKS_PER_THREAD} chunks per thread, so work-stealing can
+ * even out uneven chunks. A size only counts towards the break-even when the gain beats 1 by more than the
+ * noise margin ({@code -Dparallel.noiseMargin}, default 0.05). A 1-thread pool cannot beat the serial codec,
+ * so its break-even row is labelled as overhead only. Before timing, the stitched payload is checked to be byte for byte the plain
+ * codec's, and both the plain and the parallel decoder must return the original list.
+ * <p>
+ * Pool sizes go 1, 2, 4 … up to the available processors; override with {@code -Dparallel.maxThreads}. Set
+ * the list sizes with {@code -Dparallel.listSizes=10,100,1000} and the timing windows with
+ * {@code -Dparallel.warmupMs} and {@code -Dparallel.measureMs}.
+ */
+@DisplayName("Parallel Chunked Encoding Benchmarks")
+class ParallelEncodingBenchmarkTest {
+
+    private static final int[] LIST_SIZES = Arrays.stream(System.getProperty("parallel.listSizes", "10,100,1000")
+        .split(",")).map(String::trim).mapToInt(Integer::parseInt).toArray();
+    private static final int MAX_THREADS = Integer.getInteger("parallel.maxThreads",
+        Runtime.getRuntime().availableProcessors());
+    private static final long WARMUP_MS = Long.getLong("parallel.warmupMs", 200);
+    private static final long MEASURE_MS = Long.getLong("parallel.measureMs", 200);
+    private static final int MIN_ITERATIONS = 3;
+    private static final int CHUNKS_PER_THREAD = 4;
+    private static final double NOISE_MARGIN = Double.parseDouble(System.getProperty("parallel.noiseMargin", "0.05"));
+
+    // Table formatting constants
+    private static final String TABLE_TOP = "┌─────────────────┬───────────┬─────────┬────────┬──────────────┬──────────────┬──────────┬──────────────┬──────────────┬──────────┐";
+    private static final String TABLE_HEADER = "│ Serializer      │ List size │ Threads │ Chunks │ Enc ser (ms) │ Enc par (ms) │ Enc gain │ Dec ser (ms) │ Dec par (ms) │ Dec gain │";
+    private static final String TABLE_SEPARATOR = "├─────────────────┼───────────┼─────────┼────────┼──────────────┼──────────────┼──────────┼──────────────┼──────────────┼──────────┤";
+    private static final String TABLE_BOTTOM = "└─────────────────┴───────────┴─────────┴────────┴──────────────┴──────────────┴──────────┴──────────────┴──────────────┴──────────┘";
+
+    private static final String BREAK_EVEN_TOP = "┌─────────────────┬─────────┬────────────────────┬────────────────────┐";
+    private static final String BREAK_EVEN_HEADER = "│ Serializer      │ Threads │ Encode break-even  │ Decode break-even  │";
+    private static final String BREAK_EVEN_SEPARATOR = "├─────────────────┼─────────┼────────────────────┼────────────────────┤";
+    private static final String BREAK_EVEN_BOTTOM = "└─────────────────┴─────────┴────────────────────┴────────────────────┘";
+
+    private static Map<Integer, List<LargePojo>> testData;
+
+    @BeforeAll
+    static void setUp() {
+        // Initialize test data
+        testData = new LinkedHashMap<>();
+        for (int size : LIST_SIZES) {
+            testData.put(size, TestDataFactory.createPojoList(size));
+        }
+    }
+
+    @Test
+    @DisplayName("Parallel encoding with null fields serialized")
+    void parallelEncodingWithNullFieldsSerialized() throws Exception {
+        runParallelSuite("WITH NULLS", CodecRegistry.standard(true));
+    }
+
+    @Test
+    @DisplayName("Parallel encoding with null fields excluded")
+    void parallelEncodingWithNullFieldsExcluded() throws Exception {
+        runParallelSuite("WITHOUT NULLS", CodecRegistry.standard(false));
+    }
+
+    private void runParallelSuite(String suiteName, CodecRegistry registry) throws Exception {
+        final List<Integer> threadCounts = threadCounts();
+        final Map<Integer, ForkJoinPool> pools = new LinkedHashMap<>();
+        for (int threads : threadCounts) {
+            pools.put(threads, new ForkJoinPool(threads));
+        }
+
+        final List<String[]> breakEvens = new ArrayList<>();
+        try {
+            printBenchmarkHeader(suiteName);
+            System.out.println(TABLE_TOP);
+            System.out.println(TABLE_HEADER);
+            System.out.println(TABLE_SEPARATOR);
+
+            for (Codec<List<LargePojo>> codec : registry.<List<LargePojo>>getAll(Codecs.LARGE_POJO_LIST)) {
+                // Smallest list size from which the gain stays at 1 or above, per thread count
+                final Map<Integer, Integer> encodeBreakEven = new LinkedHashMap<>();
+                final Map<Integer, Integer> decodeBreakEven = new LinkedHashMap<>();
+                for (Map.Entry<Integer, List<LargePojo>> entry : testData.entrySet()) {
+                    final int size = entry.getKey();
+                    final List<LargePojo> data = entry.getValue();
+                    final byte[] serialPayload = codec.encode(data);
+                    final double serialEncodeMs = measure(() -> codec.encode(data));
+                    final double serialDecodeMs = measure(() -> codec.decode(serialPayload));
+
+                    for (int threads : threadCounts) {
+                        final int chunkSize = Math.max(1, (size + threads * CHUNKS_PER_THREAD - 1)
+                            / (threads * CHUNKS_PER_THREAD));
+                        final ParallelListCodec<LargePojo> parallel =
+                            new ParallelListCodec<>(codec, pools.get(threads), chunkSize);
+                        final ChunkedPayload chunked = verify(codec, parallel, data, serialPayload);
+
+                        final double encodeMs = measure(() -> parallel.encode(data));
+                        final double decodeMs = measure(() -> parallel.decode(chunked));
+                        final double encodeGain = serialEncodeMs / encodeMs;
+                        final double decodeGain = serialDecodeMs / decodeMs;
+                        System.out.printf("│ %-15s │ %,9d │ %7d │ %6d │ %12.3f │ %12.3f │ %7.2fx │ %12.3f │ %12.3f │ %7.2fx │%n",
+                            codec.format(), size, threads, chunked.getChunkCount(), serialEncodeMs, encodeMs,
+                            encodeGain, serialDecodeMs, decodeMs, decodeGain);
+                        trackBreakEven(encodeBreakEven, threads, size, encodeGain);
+                        trackBreakEven(decodeBreakEven, threads, size, decodeGain);
+                    }
+                }
+                for (int threads : threadCounts) {
+                    breakEvens.add(new String[]{codec.format(), String.valueOf(threads),
+                        describeBreakEven(threads, encodeBreakEven.get(threads)),
+                        describeBreakEven(threads, decodeBreakEven.get(threads))});
+                }
+            }
+            System.out.println(TABLE_BOTTOM);
+            System.out.println("  gain: serial time / parallel time; above 1.00x the parallel codec is faster");
+            System.out.println();
+
+            System.out.println(BREAK_EVEN_TOP);
+            System.out.println(BREAK_EVEN_HEADER);
+            System.out.println(BREAK_EVEN_SEPARATOR);
+            for (String[] row : breakEvens) {
+                System.out.printf("│ %-15s │ %7s │ %-18s │ %-18s │%n", (Object[]) row);
+            }
+            System.out.println(BREAK_EVEN_BOTTOM);
+            System.out.printf("  Break-even: smallest measured list size from which every larger size also gains by more"
+                + " than %.0f%%%n", NOISE_MARGIN * 100);
+            System.out.println("\n========================================\n");
+        } finally {
+            for (ForkJoinPool pool : pools.values()) {
+                pool.shutdown();
+                pool.awaitTermination(10, TimeUnit.SECONDS);
+            }
+        }
+    }
+
+    /**
+     * Checks that the stitched payload is what the plain codec writes, and that both decoders read it back.
+     */
+    private static ChunkedPayload verify(Codec<List<LargePojo>> codec, ParallelListCodec<LargePojo> parallel,
+                                         List<LargePojo> data, byte[] serialPayload) throws IOException {
+        final ChunkedPayload chunked = parallel.encode(data);
+        assertArrayEquals(serialPayload, chunked.getPayload(),
+            codec.format() + " stitched payload should match the serial encoding");
+        assertEquals(data, codec.decode(chunked.getPayload()),
+            codec.format() + " stitched payload should decode with the plain codec");
+        assertEquals(data, parallel.decode(chunked), codec.format() + " parallel decode should restore the list");
+        return chunked;
+    }
+
+    /**
+     * List sizes arrive in increasing order: a gain within {@link #NOISE_MARGIN} of 1 or a loss clears the
+     * break-even, the first clear gain after it sets it.
+     */
+    private static void trackBreakEven(Map<Integer, Integer> breakEven, int threads, int size, double gain) {
+        if (gain <= 1.0 + NOISE_MARGIN) {
+            breakEven.put(threads, null);
+        } else if (breakEven.get(threads) == null) {
+            breakEven.put(threads, size);
+        }
+    }
+
+    /**
+     * A 1-thread pool only adds the splitting overhead to the serial work, so any gain it shows is noise.
+     */
+    private static String describeBreakEven(int threads, Integer size) {
+        if (threads == 1) {
+            return "overhead only";
+        }
+        return size == null ? "not reached" : String.format("%,d elements", size);
+    }
+
+    /**
+     * @return average milliseconds per call after a {@code WARMUP_MS} warmup, over at least
+     *         {@code MEASURE_MS} and {@code MIN_ITERATIONS} calls
+     */
+    private static double measure(Callable<?> operation) {
+        final long warmupEnd = System.nanoTime() + WARMUP_MS * 1_000_000L;
+        do {
+            call(operation);
+        } while (System.nanoTime() < warmupEnd);
+
+        final long start = System.nanoTime();
+        long elapsed;
+        int iterations = 0;
+        do {
+            call(operation);
+            iterations++;
+            elapsed = System.nanoTime() - start;
+        } while (iterations < MIN_ITERATIONS || elapsed < MEASURE_MS * 1_000_000L);
+        return elapsed / 1_000_000.0 / iterations;
+    }
+
+    private static <T> T call(Callable<T> operation) {
+        try {
+            return operation.call();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        } catch (Exception e) {
+            throw new RuntimeException(e);
+        }
+    }
+
+    private static List<Integer> threadCounts() {
+        final List<Integer> counts = new ArrayList<>();
+        for (int threads = 1; threads < MAX_THREADS; threads *= 2) {
+            counts.add(threads);
+        }
+        counts.add(MAX_THREADS);
+        return counts;
+    }
+
+    private void printBenchmarkHeader(String suiteName) {
+        System.out.println("\n========================================");
+        System.out.println("  Parallel Chunked Encoding - " + suiteName);
+        System.out.println("  (List sizes " + Arrays.toString(LIST_SIZES) + ", fork/join pools of up to "
+            + MAX_THREADS + " threads, " + Runtime.getRuntime().availableProcessors() + " processors)");
+        System.out.println("========================================\n");
+    }
+}
@@ -4,9 +4,25 @@ import com.fasterxml.jackson.annotation.JsonInclude;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.google.gson.Gson;
 import com.google.gson.GsonBuilder;
+import com.google.protobuf.CodedOutputStream;
+import com.google.protobuf.InvalidProtocolBufferException;
+import org.example.codec.Codec;
+import org.example.codec.CodecRegistry;
+import org.example.codec.Codecs;
 import org.example.proto.LargePojoProto;
+import org.example.util.BaselineComparator;
+import org.example.util.BenchmarkEnvironment;
+import org.example.util.BenchmarkReport;
+import org.example.util.BenchmarkResult;
+import org.example.util.GcMonitor;
+import org.example.util.LargePojoJacksonModule;
+import org.example.util.LargePojoTypeAdapters;
+import org.example.util.LatencyHistogram;
 import org.example.util.ProtobufConverter;
+import org.example.util.ProtobufDirectWriter;
+import org.example.util.ReusableOutputBuffer;
 import org.example.util.TestDataFactory;
+import org.junit.jupiter.api.AfterAll;
 import org.junit.jupiter.api.BeforeAll;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -14,8 +30,23 @@ import org.junit.jupiter.api.parallel.Execution;
 import org.junit.jupiter.api.parallel.ExecutionMode;
 import org.msgpack.jackson.dataformat.MessagePackFactory;
 
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.Writer;
+import java.lang.management.ManagementFactory;
 import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.function.Supplier;
 
 @Execution(ExecutionMode.CONCURRENT)
@@ -26,21 +57,100 @@ class SerializationTest {
     private static final int BENCHMARK_ITERATIONS = 1000;
     private static final int LIST_SIZE = 20;
 
+    // Structured results: written to <benchmark.results>.json/.csv and compared to -Dbenchmark.baseline if given,
+    // a comma-separated list of reports from independent runs of the baseline code
+    private static final String RESULTS_OUTPUT = System.getProperty("benchmark.results", "target/benchmark-results");
+    private static final String BASELINE = System.getProperty("benchmark.baseline");
+    private static final double REGRESSION_THRESHOLD =
+        Double.parseDouble(System.getProperty("benchmark.regressionThreshold", "0.05"));
+    private static final double REGRESSION_Z_SCORE =
+        Double.parseDouble(System.getProperty("benchmark.regressionZScore", "3.0"));
+    private static final boolean FAIL_ON_REGRESSION = Boolean.getBoolean("benchmark.failOnRegression");
+
     // Table formatting constants
-    private static final String TABLE_TOP = "┌─────────────┬──────────────┬────────────┬─────────────────┬────────────┐";
-    private static final String TABLE_HEADER = "│ Serializer  │ Avg Time (ms)│  % Diff    │  Size (bytes)   │  % Diff    │";
-    private static final String TABLE_SEPARATOR = "├─────────────┼──────────────┼────────────┼─────────────────┼────────────┤";
-    private static final String TABLE_BOTTOM = "└─────────────┴──────────────┴────────────┴─────────────────┴────────────┘";
-    private static final String SUMMARY_TOP = "┌─────────────┬────────────────────┬────────────────────┐";
-    private static final String SUMMARY_HEADER = "│ Serializer  │ Total Time (ms)    │ Config             │";
-    private static final String SUMMARY_SEPARATOR = "├─────────────┼────────────────────┼────────────────────┤";
-    private static final String SUMMARY_BOTTOM = "└─────────────┴────────────────────┴────────────────────┘";
+    private static final String TABLE_TOP = "┌─────────────────┬──────────────┬────────────┬─────────────────┬────────────┬─────────────────┬──────────────┐";
+    private static final String TABLE_HEADER = "│ Serializer      │ Avg Time (ms)│  % Diff    │  Size (bytes)   │  % Diff    │ Alloc/op (bytes)│ GC ms/1k ops │";
+    private static final String TABLE_SEPARATOR = "├─────────────────┼──────────────┼────────────┼─────────────────┼────────────┼─────────────────┼──────────────┤";
+    private static final String TABLE_BOTTOM = "└─────────────────┴──────────────┴────────────┴─────────────────┴────────────┴─────────────────┴──────────────┘";
+    private static final String REUSE_TABLE_TOP = "┌─────────────────┬──────────────┬────────────┬─────────────────┬────────────┐";
+    private static final String REUSE_TABLE_HEADER = "│ Serializer      │ Avg Time (ms)│  % Diff    │ Alloc/op (bytes)│  % Diff    │";
+    private static final String REUSE_TABLE_SEPARATOR = "├─────────────────┼──────────────┼────────────┼─────────────────┼────────────┤";
+    private static final String REUSE_TABLE_BOTTOM = "└─────────────────┴──────────────┴────────────┴─────────────────┴────────────┘";
+    private static final String LATENCY_TOP = "┌─────────────────┬────────────┬────────────┬────────────┬────────────┬────────────┐";
+    private static final String LATENCY_HEADER = "│ Serializer      │  p50 (µs)  │  p90 (µs)  │  p99 (µs)  │ p99.9 (µs) │  max (µs)  │";
+    private static final String LATENCY_SEPARATOR = "├─────────────────┼────────────┼────────────┼────────────┼────────────┼────────────┤";
+    private static final String LATENCY_BOTTOM = "└─────────────────┴────────────┴────────────┴────────────┴────────────┴────────────┘";
+    private static final String SUMMARY_TOP = "┌─────────────────┬────────────────────┬────────────────────┬─────────────────┬──────────────┬──────────┬────────────┐";
+    private static final String SUMMARY_HEADER = "│ Serializer      │ Total Time (ms)    │ Config             │ Alloc/op (bytes)│ GC ms/1k ops │ GC Count │  p99 (µs)  │";
+    private static final String SUMMARY_SEPARATOR = "├─────────────────┼────────────────────┼────────────────────┼─────────────────┼──────────────┼──────────┼────────────┤";
+    private static final String SUMMARY_BOTTOM = "└─────────────────┴────────────────────┴────────────────────┴─────────────────┴──────────────┴──────────┴────────────┘";
+    private static final String BASELINE_TOP = "┌────────────────────────────────────────────────────────────────────────────────────┬─────────────┬─────────────┬──────────┬─────────┬─────────────┐";
+    private static final String BASELINE_HEADER = "│ Result                                                                             │  Baseline   │   Current   │  Change  │    z    │ Status      │";
+    private static final String BASELINE_SEPARATOR = "├────────────────────────────────────────────────────────────────────────────────────┼─────────────┼─────────────┼──────────┼─────────┼─────────────┤";
+    private static final String BASELINE_BOTTOM = "└────────────────────────────────────────────────────────────────────────────────────┴─────────────┴─────────────┴──────────┴─────────┴─────────────┘";
+
+    private static final com.sun.management.ThreadMXBean THREAD_MX_BEAN =
+        (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+
+    /**
+     * Benchmarked operation; each one gets its own table and total time summary.
+     */
+    private enum Operation {
+        SERIALIZATION("Serialization", "SERIALIZATION"),
+        DESERIALIZATION("Deserialization", "DESERIALIZATION"),
+        ROUND_TRIP("Round-Trip", "ROUND-TRIP"),
+        BUFFER_REUSE("Buffer-Reuse", "BUFFER-REUSE");
+
+        private final String title;
+        private final String label;
+
+        Operation(String title, String label) {
+            this.title = title;
+            this.label = label;
+        }
+    }
+
+    private static final String[][] CUSTOM_CODEC_BASELINES = {
+        {"Jackson-Custom", "Jackson"}, {"Gson-Custom", "Gson"}, {"MsgPack-Custom", "MessagePack"}};
+
+    private static final List<BenchmarkResult> benchmarkResults = Collections.synchronizedList(new ArrayList<>());
 
     private static List<LargePojo> testData;
     private static LargePojoProto.LargePojoList protobufData;
+    private static List<ExternalizableLargePojo> externalizableData;
+
+    // Total time, allocation and GC tracking, per operation
+    private static final java.util.Map<Operation, java.util.Map<String, RunTotals>> runTotals = new EnumMap<>(Operation.class);
+
+    static {
+        for (Operation operation : Operation.values()) {
+            runTotals.put(operation, new java.util.concurrent.ConcurrentHashMap<>());
+        }
+    }
 
-    // Total time tracking
-    private static final java.util.Map<String, Double> totalTimes = new java.util.concurrent.ConcurrentHashMap<>();
+    /**
+     * Cumulative figures for one serializer across all benchmark runs of an operation.
+     */
+    private static final class RunTotals {
+        private double timeMs;
+        private long allocatedBytes;
+        private long gcCount;
+        private long gcTimeMs;
+        private long operations;
+        private final LatencyHistogram latencies = new LatencyHistogram();
+
+        synchronized void add(double timeMs, long allocatedBytes, GcMonitor.Snapshot gc, LatencyHistogram histogram) {
+            this.timeMs += timeMs;
+            this.allocatedBytes += allocatedBytes;
+            this.gcCount += gc.getCount();
+            this.gcTimeMs += gc.getTimeMs();
+            this.operations += histogram.getTotalCount();
+            this.latencies.add(histogram);
+        }
+    }
+
+    // Configuration of the suite this test instance is running, recorded with each result
+    private String suiteConfig;
 
     // Reusable mapper instances
     private static ObjectMapper jacksonMapper;
@@ -55,6 +165,10 @@ class SerializationTest {
         // Initialize test data
         testData = TestDataFactory.createPojoList(LIST_SIZE);
         protobufData = ProtobufConverter.convertListToProto(testData);
+        externalizableData = new ArrayList<>(testData.size());
+        for (LargePojo pojo : testData) {
+            externalizableData.add(new ExternalizableLargePojo(pojo));
+        }
 
         // Initialize Jackson mappers
         jacksonMapper = new ObjectMapper();
@@ -76,14 +190,19 @@ class SerializationTest {
     void benchmarkSerializersWithNullFieldsSerialized() {
         runBenchmarkSuite(
             "WITH NULLS",
+            CodecRegistry.standard(true),
             jacksonMapper,
             gsonWithNulls,
             msgpackMapper
         );
 
         // Verify benchmark suite executed successfully
-        org.junit.jupiter.api.Assertions.assertTrue(totalTimes.containsKey("Jackson"),
+        org.junit.jupiter.api.Assertions.assertTrue(runTotals.get(Operation.SERIALIZATION).containsKey("Jackson"),
             "Jackson benchmark should have recorded results");
+        org.junit.jupiter.api.Assertions.assertTrue(runTotals.get(Operation.DESERIALIZATION).containsKey("Jackson"),
+            "Jackson deserialization benchmark should have recorded results");
+        org.junit.jupiter.api.Assertions.assertTrue(runTotals.get(Operation.ROUND_TRIP).containsKey("Jackson"),
+            "Jackson round-trip benchmark should have recorded results");
     }
 
     @Test
@@ -91,37 +210,233 @@ class SerializationTest {
     void benchmarkSerializersWithNullFieldsExcluded() {
         runBenchmarkSuite(
             "WITHOUT NULLS",
+            CodecRegistry.standard(false),
             jacksonMapperNoNulls,
             gsonWithoutNulls,
             msgpackMapperNoNulls
         );
 
         // Verify benchmark suite executed successfully
-        org.junit.jupiter.api.Assertions.assertTrue(totalTimes.containsKey("Jackson"),
+        org.junit.jupiter.api.Assertions.assertTrue(runTotals.get(Operation.SERIALIZATION).containsKey("Jackson"),
             "Jackson benchmark should have recorded results");
+        org.junit.jupiter.api.Assertions.assertTrue(runTotals.get(Operation.DESERIALIZATION).containsKey("Jackson"),
+            "Jackson deserialization benchmark should have recorded results");
+        org.junit.jupiter.api.Assertions.assertTrue(runTotals.get(Operation.ROUND_TRIP).containsKey("Jackson"),
+            "Jackson round-trip benchmark should have recorded results");
     }
 
-    private void runBenchmarkSuite(String suiteName, ObjectMapper jacksonMapper,
+    /**
+     * The headline Jackson, Gson, MessagePack and Protobuf-E2E rows, and the hand-written codecs compared with
+     * them, go through the same {@link Codec}s the application uses. The mappers back the rows that measure a
+     * specific API variant: a pre-built Protobuf message, the direct writer and reused output buffers.
+     */
+    private void runBenchmarkSuite(String suiteName, CodecRegistry codecs, ObjectMapper jacksonMapper,
                                     Gson gson, ObjectMapper msgpackMapper) {
-        printBenchmarkHeader(suiteName);
+        suiteConfig = suiteName;
+        final Map<String, double[]> serializationMetrics =
+            runSerializationSuite(suiteName, codecs, jacksonMapper, gson, msgpackMapper);
+        runDeserializationSuite(suiteName, codecs, jacksonMapper, gson, msgpackMapper);
+        runRoundTripSuite(suiteName, codecs, jacksonMapper, gson, msgpackMapper);
+        runBufferReuseSuite(suiteName, jacksonMapper, gson, msgpackMapper, serializationMetrics);
+    }
+
+    /**
+     * @return Serialization metrics keyed by display name, used as the allocating baseline
+     */
+    private Map<String, double[]> runSerializationSuite(String suiteName, CodecRegistry codecs,
+                                                        ObjectMapper jacksonMapper, Gson gson,
+                                                        ObjectMapper msgpackMapper) {
+        final Codec<List<LargePojo>> jackson = codecs.get(Codecs.JACKSON, Codecs.LARGE_POJO_LIST);
+        final Codec<List<LargePojo>> gsonCodec = codecs.get(Codecs.GSON, Codecs.LARGE_POJO_LIST);
+        final Codec<List<LargePojo>> msgpack = codecs.get(Codecs.MESSAGE_PACK, Codecs.LARGE_POJO_LIST);
+        final Codec<List<LargePojo>> protobuf = codecs.get(Codecs.PROTOBUF, Codecs.LARGE_POJO_LIST);
+
+        // The variant rows must write what the shared codecs write
+        org.junit.jupiter.api.Assertions.assertArrayEquals(writeBytes(jacksonMapper), encode(jackson),
+            "Jackson codec should write the same JSON as the suite's mapper");
+        org.junit.jupiter.api.Assertions.assertArrayEquals(gson.toJson(testData).getBytes(StandardCharsets.UTF_8),
+            encode(gsonCodec), "Gson codec should write the same JSON as the suite's Gson");
+        org.junit.jupiter.api.Assertions.assertArrayEquals(writeBytes(msgpackMapper), encode(msgpack),
+            "MessagePack codec should write the same bytes as the suite's mapper");
+        org.junit.jupiter.api.Assertions.assertArrayEquals(protobufData.toByteArray(), encode(protobuf),
+            "Protobuf codec should write the same bytes as the pre-built message");
+
+        // The direct writer must produce the same message as converting and encoding
+        org.junit.jupiter.api.Assertions.assertEquals(protobufData,
+            parseProtobufMessage(ProtobufDirectWriter.writeList(testData)),
+            "Protobuf direct writer should encode the same message as ProtobufConverter");
+
+        // Hand-written codecs must produce exactly what the reflective serializers they replace produce
+        final Codec<List<LargePojo>> jacksonCustom = customCodec(Codecs.JACKSON, jacksonMapper);
+        final Codec<List<LargePojo>> gsonCustom = customCodec(gson);
+        final Codec<List<LargePojo>> msgpackCustom = customCodec(Codecs.MESSAGE_PACK, msgpackMapper);
+        org.junit.jupiter.api.Assertions.assertArrayEquals(encode(jackson), encode(jacksonCustom),
+            "Hand-written Jackson serializer should write the same JSON as databind");
+        org.junit.jupiter.api.Assertions.assertArrayEquals(encode(gsonCodec), encode(gsonCustom),
+            "Gson TypeAdapters should write the same JSON as the reflective adapter");
+        org.junit.jupiter.api.Assertions.assertArrayEquals(encode(msgpack), encode(msgpackCustom),
+            "Hand-written MessagePack serializer should write the same bytes as databind");
+
+        printBenchmarkHeader(Operation.SERIALIZATION, suiteName);
+        printTableHeader();
+
+        final Map<String, double[]> metrics = new LinkedHashMap<>();
+        metrics.put("Jackson", benchmarkJackson(jackson));
+        metrics.put("Gson", benchmarkGson(gsonCodec));
+        metrics.put("MessagePack", benchmarkMessagePack(msgpack));
+        metrics.put("Protobuf", benchmarkProtobuf());
+        metrics.put("Protobuf-E2E", benchmarkProtobufEndToEnd(protobuf));
+        metrics.put("Protobuf-Direct", benchmarkProtobufDirect());
+        metrics.put("JavaSerial", benchmarkJavaSerialization());
+        metrics.put("Externalizable", benchmarkExternalizable());
+        metrics.put("PresenceBitmap", benchmarkPresenceBitmap());
+        metrics.put("Jackson-Custom", benchmarkJacksonCustom(jacksonCustom));
+        metrics.put("Gson-Custom", benchmarkGsonCustom(gsonCustom));
+        metrics.put("MsgPack-Custom", benchmarkMessagePackCustom(msgpackCustom));
+
+        printComparisonRows(metrics);
+        printTableFooter();
+        printLatencyPercentiles(metrics);
+        printCustomCodecComparison(metrics);
+        printTotalTimesSummary(Operation.SERIALIZATION, suiteName);
+        return metrics;
+    }
+
+    private void runDeserializationSuite(String suiteName, CodecRegistry codecs, ObjectMapper jacksonMapper,
+                                         Gson gson, ObjectMapper msgpackMapper) {
+        final Codec<List<LargePojo>> jackson = codecs.get(Codecs.JACKSON, Codecs.LARGE_POJO_LIST);
+        final Codec<List<LargePojo>> gsonCodec = codecs.get(Codecs.GSON, Codecs.LARGE_POJO_LIST);
+        final Codec<List<LargePojo>> msgpack = codecs.get(Codecs.MESSAGE_PACK, Codecs.LARGE_POJO_LIST);
+        final Codec<List<LargePojo>> protobuf = codecs.get(Codecs.PROTOBUF, Codecs.LARGE_POJO_LIST);
+        final Codec<List<LargePojo>> jacksonCustom = customCodec(Codecs.JACKSON, jacksonMapper);
+        final Codec<List<LargePojo>> gsonCustom = customCodec(gson);
+        final Codec<List<LargePojo>> msgpackCustom = customCodec(Codecs.MESSAGE_PACK, msgpackMapper);
+
+        // Encode once with the suite's configuration, then time only the decoding
+        final byte[] jacksonPayload = encode(jackson);
+        final byte[] gsonPayload = encode(gsonCodec);
+        final byte[] msgpackPayload = encode(msgpack);
+        final byte[] protobufPayload = encode(protobuf);
+        final byte[] javaPayload = writeJava(testData);
+        final byte[] externalizablePayload = writeJava(externalizableData);
+        final byte[] bitmapPayload = PresenceBitmapCodec.encodeList(testData);
+
+        // Verify every format decodes back to the original data before timing it
+        org.junit.jupiter.api.Assertions.assertEquals(testData, decode(jackson, jacksonPayload),
+            "Jackson should decode back to the original data");
+        org.junit.jupiter.api.Assertions.assertEquals(testData, decode(gsonCodec, gsonPayload),
+            "Gson should decode back to the original data");
+        org.junit.jupiter.api.Assertions.assertEquals(testData, decode(msgpack, msgpackPayload),
+            "MessagePack should decode back to the original data");
+        org.junit.jupiter.api.Assertions.assertEquals(testData, decode(protobuf, protobufPayload),
+            "Protobuf should decode back to the original data");
+        org.junit.jupiter.api.Assertions.assertEquals(testData, readJava(javaPayload),
+            "Java serialization should decode back to the original data");
+        org.junit.jupiter.api.Assertions.assertEquals(testData, readJava(externalizablePayload),
+            "Externalizable should decode back to the original data");
+        org.junit.jupiter.api.Assertions.assertEquals(testData, PresenceBitmapCodec.decodeList(bitmapPayload),
+            "PresenceBitmapCodec should decode back to the original data");
+        org.junit.jupiter.api.Assertions.assertEquals(testData, decode(jacksonCustom, jacksonPayload),
+            "Hand-written Jackson deserializer should decode back to the original data");
+        org.junit.jupiter.api.Assertions.assertEquals(testData, decode(gsonCustom, gsonPayload),
+            "Gson TypeAdapters should decode back to the original data");
+        org.junit.jupiter.api.Assertions.assertEquals(testData, decode(msgpackCustom, msgpackPayload),
+            "Hand-written MessagePack deserializer should decode back to the original data");
+
+        printBenchmarkHeader(Operation.DESERIALIZATION, suiteName);
         printTableHeader();
 
-        final double[] jacksonMetrics = benchmarkJackson(jacksonMapper);
-        final double[] gsonMetrics = benchmarkGson(gson);
-        final double[] msgpackMetrics = benchmarkMessagePack(msgpackMapper);
-        final double[] protobufMetrics = benchmarkProtobuf();
+        final Map<String, double[]> metrics = new LinkedHashMap<>();
+        metrics.put("Jackson", benchmarkJacksonDecode(jackson, jacksonPayload));
+        metrics.put("Gson", benchmarkGsonDecode(gsonCodec, gsonPayload));
+        metrics.put("MessagePack", benchmarkMessagePackDecode(msgpack, msgpackPayload));
+        metrics.put("Protobuf", benchmarkProtobufDecode(protobuf, protobufPayload));
+        metrics.put("JavaSerial", benchmarkJavaSerializationDecode(javaPayload));
+        metrics.put("Externalizable", benchmarkExternalizableDecode(externalizablePayload));
+        metrics.put("PresenceBitmap", benchmarkPresenceBitmapDecode(bitmapPayload));
+        metrics.put("Jackson-Custom", benchmarkJacksonCustomDecode(jacksonCustom, jacksonPayload));
+        metrics.put("Gson-Custom", benchmarkGsonCustomDecode(gsonCustom, gsonPayload));
+        metrics.put("MsgPack-Custom", benchmarkMessagePackCustomDecode(msgpackCustom, msgpackPayload));
 
-        printMetricsWithPercentage("Gson", gsonMetrics, jacksonMetrics);
-        printMetricsWithPercentage("MessagePack", msgpackMetrics, jacksonMetrics);
-        printMetricsWithPercentage("Protobuf", protobufMetrics, jacksonMetrics);
+        printComparisonRows(metrics);
+        printTableFooter();
+        printLatencyPercentiles(metrics);
+        printCustomCodecComparison(metrics);
+        printTotalTimesSummary(Operation.DESERIALIZATION, suiteName);
+    }
+
+    private void runRoundTripSuite(String suiteName, CodecRegistry codecs, ObjectMapper jacksonMapper,
+                                   Gson gson, ObjectMapper msgpackMapper) {
+        final Codec<List<LargePojo>> jacksonCustom = customCodec(Codecs.JACKSON, jacksonMapper);
+        final Codec<List<LargePojo>> gsonCustom = customCodec(gson);
+        final Codec<List<LargePojo>> msgpackCustom = customCodec(Codecs.MESSAGE_PACK, msgpackMapper);
+
+        printBenchmarkHeader(Operation.ROUND_TRIP, suiteName);
+        printTableHeader();
 
+        final Map<String, double[]> metrics = new LinkedHashMap<>();
+        metrics.put("Jackson", benchmarkJacksonRoundTrip(codecs.get(Codecs.JACKSON, Codecs.LARGE_POJO_LIST)));
+        metrics.put("Gson", benchmarkGsonRoundTrip(codecs.get(Codecs.GSON, Codecs.LARGE_POJO_LIST)));
+        metrics.put("MessagePack",
+            benchmarkMessagePackRoundTrip(codecs.get(Codecs.MESSAGE_PACK, Codecs.LARGE_POJO_LIST)));
+        metrics.put("Protobuf", benchmarkProtobufRoundTrip());
+        metrics.put("Protobuf-E2E",
+            benchmarkProtobufEndToEndRoundTrip(codecs.get(Codecs.PROTOBUF, Codecs.LARGE_POJO_LIST)));
+        metrics.put("Protobuf-Direct", benchmarkProtobufDirectRoundTrip());
+        metrics.put("JavaSerial", benchmarkJavaSerializationRoundTrip());
+        metrics.put("Externalizable", benchmarkExternalizableRoundTrip());
+        metrics.put("PresenceBitmap", benchmarkPresenceBitmapRoundTrip());
+        metrics.put("Jackson-Custom", benchmarkJacksonCustomRoundTrip(jacksonCustom));
+        metrics.put("Gson-Custom", benchmarkGsonCustomRoundTrip(gsonCustom));
+        metrics.put("MsgPack-Custom", benchmarkMessagePackCustomRoundTrip(msgpackCustom));
+
+        printComparisonRows(metrics);
         printTableFooter();
-        printTotalTimesSummary(suiteName);
+        printLatencyPercentiles(metrics);
+        printCustomCodecComparison(metrics);
+        printTotalTimesSummary(Operation.ROUND_TRIP, suiteName);
     }
 
-    private void printBenchmarkHeader(String suiteName) {
+    /**
+     * Serializes into a reused thread-local buffer instead of allocating a new result per call,
+     * and compares time and allocation against the allocating serialization benchmarks.
+     */
+    private void runBufferReuseSuite(String suiteName, ObjectMapper jacksonMapper, Gson gson,
+                                     ObjectMapper msgpackMapper, Map<String, double[]> allocatingMetrics) {
+        // Verify reused buffers hold exactly what the allocating calls return
+        org.junit.jupiter.api.Assertions.assertArrayEquals(writeBytes(jacksonMapper),
+            writeReused(jacksonMapper).toByteArray(), "Jackson should write the same bytes into a reused buffer");
+        org.junit.jupiter.api.Assertions.assertArrayEquals(gson.toJson(testData).getBytes(StandardCharsets.UTF_8),
+            writeReused(gson).toByteArray(), "Gson should write the same bytes into a reused buffer");
+        org.junit.jupiter.api.Assertions.assertArrayEquals(writeBytes(msgpackMapper),
+            writeReused(msgpackMapper).toByteArray(), "MessagePack should write the same bytes into a reused buffer");
+        org.junit.jupiter.api.Assertions.assertArrayEquals(protobufData.toByteArray(),
+            writeReusedProtobuf().toByteArray(), "Protobuf should write the same bytes into a reused buffer");
+
+        printBenchmarkHeader(Operation.BUFFER_REUSE, suiteName);
+        System.out.println(REUSE_TABLE_TOP);
+        System.out.println(REUSE_TABLE_HEADER);
+        System.out.println(REUSE_TABLE_SEPARATOR);
+
+        final Map<String, double[]> reuseMetrics = new LinkedHashMap<>();
+        reuseMetrics.put("Jackson", benchmarkJacksonReuse(jacksonMapper));
+        reuseMetrics.put("Gson", benchmarkGsonReuse(gson));
+        reuseMetrics.put("MessagePack", benchmarkMessagePackReuse(msgpackMapper));
+        reuseMetrics.put("Protobuf", benchmarkProtobufReuse());
+
+        reuseMetrics.forEach((name, metrics) ->
+            printReuseMetrics(name, metrics, allocatingMetrics.get(name)));
+
+        System.out.println(REUSE_TABLE_BOTTOM);
+        System.out.println("  % Diff: reused buffer vs. the same serializer allocating a new result");
+        System.out.println("\n========================================\n");
+        printLatencyPercentiles(reuseMetrics);
+        printTotalTimesSummary(Operation.BUFFER_REUSE, suiteName);
+    }
+
+    private void printBenchmarkHeader(Operation operation, String suiteName) {
         System.out.println("\n========================================");
-        System.out.println("  Serialization Benchmark - " + suiteName);
+        System.out.println("  " + operation.title + " Benchmark - " + suiteName);
         System.out.println("  (List of " + LIST_SIZE + " LargePojo objects)");
         System.out.println("========================================\n");
     }
@@ -140,13 +455,15 @@ class SerializationTest {
     /**
      * Generic benchmark method that handles warmup, timing, and metrics calculation
      *
+     * @param operation Operation being timed (selects the total time bucket)
      * @param serializerName Name of the serializer (for display purposes)
      * @param serializer Supplier that performs the serialization and returns the result
-     * @param sizeCalculator Function to calculate the size from the result
+     * @param sizeCalculator Function to calculate the payload size from the result
      * @param printBaseline Whether to print as baseline (Jackson)
-     * @return Array containing [avgTimeMs, size, totalTimeMs]
+     * @return Array containing [avgTimeMs, size, totalTimeMs, allocatedBytesPerOp, gcTimeMsPer1kOps, gcCount,
+     *         p50Us, p90Us, p99Us, p999Us, maxUs]
      */
-    private <T> double[] runBenchmark(String serializerName, Supplier<T> serializer,
+    private <T> double[] runBenchmark(Operation operation, String serializerName, Supplier<T> serializer,
                                       SizeCalculator<T> sizeCalculator, boolean printBaseline) {
         // Warmup
         for (int i = 0; i < WARMUP_ITERATIONS; i++) {
@@ -157,90 +474,570 @@ class SerializationTest {
         System.gc();
         // Allow time for GC to potentially run (note: gc() is only a suggestion)
 
-        // Benchmark
+        // Benchmark, timing every call separately for the latency percentiles
+        final LatencyHistogram histogram = new LatencyHistogram();
+        final GcMonitor.Snapshot startGc = GcMonitor.getInstance().snapshot();
+        final long startAllocatedBytes = THREAD_MX_BEAN.getCurrentThreadAllocatedBytes();
         final long startTime = System.nanoTime();
         T result = null;
         for (int i = 0; i < BENCHMARK_ITERATIONS; i++) {
+            final long callStart = System.nanoTime();
             result = serializer.get();
+            histogram.recordValue(System.nanoTime() - callStart);
         }
         final long endTime = System.nanoTime();
+        final long allocatedBytes = THREAD_MX_BEAN.getCurrentThreadAllocatedBytes() - startAllocatedBytes;
+        final GcMonitor.Snapshot gc = GcMonitor.getInstance().snapshot().since(startGc);
 
         final double avgTimeMs = (endTime - startTime) / 1_000_000.0 / BENCHMARK_ITERATIONS;
         final double totalTimeMs = (endTime - startTime) / 1_000_000.0;
         final int size = sizeCalculator.calculateSize(result);
+        final double allocatedBytesPerOp = (double) allocatedBytes / BENCHMARK_ITERATIONS;
+        final double gcTimeMsPer1kOps = gc.getTimeMs() * 1000.0 / BENCHMARK_ITERATIONS;
 
-        // Track total time
-        totalTimes.merge(serializerName, totalTimeMs, Double::sum);
+        // Track totals
+        runTotals.get(operation).computeIfAbsent(serializerName, name -> new RunTotals())
+            .add(totalTimeMs, allocatedBytes, gc, histogram);
+        recordResults(operation, serializerName, avgTimeMs,
+            histogram.getStdDeviation() / 1_000_000.0 / Math.sqrt(BENCHMARK_ITERATIONS), size, allocatedBytesPerOp);
 
         if (printBaseline) {
-            System.out.printf("│ %-11s │ %12.4f │ %9.1f%% │ %,15d │ %9.1f%% │%n",
-                serializerName, avgTimeMs, 0.0, size, 0.0);
+            System.out.printf("│ %-15s │ %12.4f │ %9.1f%% │ %,15d │ %9.1f%% │ %,15.0f │ %12.3f │%n",
+                serializerName, avgTimeMs, 0.0, size, 0.0, allocatedBytesPerOp, gcTimeMsPer1kOps);
         }
 
-        return new double[]{avgTimeMs, size, totalTimeMs};
+        return new double[]{avgTimeMs, size, totalTimeMs, allocatedBytesPerOp, gcTimeMsPer1kOps, gc.getCount(),
+            toMicros(histogram.getValueAtPercentile(50)), toMicros(histogram.getValueAtPercentile(90)),
+            toMicros(histogram.getValueAtPercentile(99)), toMicros(histogram.getValueAtPercentile(99.9)),
+            toMicros(histogram.getMaxValue())};
     }
 
-    private double[] benchmarkJackson(ObjectMapper mapper) {
-        return runBenchmark("Jackson",
-            () -> {
-                try {
-                    return mapper.writeValueAsBytes(testData);
-                } catch (Exception e) {
-                    throw new RuntimeException(e);
-                }
-            },
+    private void recordResults(Operation operation, String serializerName, double avgTimeMs, double avgTimeErrorMs,
+                               int size, double allocatedBytesPerOp) {
+        // Same names as the display tables: "Protobuf E2E (hidden)" becomes "Protobuf-E2E"
+        final String serializer = serializerName.replace(" (hidden)", "").replace(' ', '-');
+        final BenchmarkResult.BenchmarkResultBuilder result = BenchmarkResult.builder()
+            .benchmark(SerializationTest.class.getSimpleName())
+            .operation(operation.title)
+            .serializer(serializer)
+            .config(suiteConfig)
+            .samples(BENCHMARK_ITERATIONS);
+        benchmarkResults.add(result.metric("avgTime").unit("ms").value(avgTimeMs).error(avgTimeErrorMs).build());
+        benchmarkResults.add(result.metric("allocPerOp").unit("bytes").value(allocatedBytesPerOp).error(0).build());
+        if (operation != Operation.BUFFER_REUSE) {
+            // Buffer-reuse writes the same bytes as Serialization, so its size would only repeat that row
+            benchmarkResults.add(result.metric("size").unit("bytes").value(size).error(0).samples(1).build());
+        }
+    }
+
+    /**
+     * Writes every recorded result as JSON and CSV and, when {@code -Dbenchmark.baseline} names an earlier JSON
+     * report, prints what changed against it.
+     */
+    @AfterAll
+    static void writeBenchmarkResults() throws IOException {
+        if (benchmarkResults.isEmpty()) {
+            return;
+        }
+        final BenchmarkReport report;
+        synchronized (benchmarkResults) {
+            report = BenchmarkReport.builder()
+                .createdAt(Instant.now().toString())
+                .environment(BenchmarkEnvironment.current())
+                .results(benchmarkResults)
+                .build();
+        }
+        final Path jsonFile = Paths.get(RESULTS_OUTPUT + ".json");
+        final Path csvFile = Paths.get(RESULTS_OUTPUT + ".csv");
+        report.writeJson(jsonFile);
+        report.writeCsv(csvFile);
+        System.out.println("  Results written to " + jsonFile + " and " + csvFile);
+
+        if (BASELINE != null) {
+            final List<BenchmarkReport> baselines = new ArrayList<>();
+            for (String file : BASELINE.split(",")) {
+                baselines.add(BenchmarkReport.readJson(Paths.get(file.trim())));
+            }
+            final List<BaselineComparator.Comparison> regressions = printBaselineComparison(baselines, report);
+            if (FAIL_ON_REGRESSION) {
+                org.junit.jupiter.api.Assertions.assertTrue(regressions.isEmpty(),
+                    regressions.size() + " result(s) regressed against " + BASELINE);
+            }
+        }
+    }
+
+    /**
+     * Prints every result that is not unchanged, then any environment differences from the first baseline.
+     *
+     * @return the regressions
+     */
+    private static List<BaselineComparator.Comparison> printBaselineComparison(List<BenchmarkReport> baselines,
+                                                                             BenchmarkReport current) {
+        final List<BaselineComparator.Comparison> comparisons =
+            new BaselineComparator(REGRESSION_THRESHOLD, REGRESSION_Z_SCORE).compare(baselines, current);
+        final List<BaselineComparator.Comparison> regressions = new ArrayList<>();
+
+        System.out.println("\n========================================");
+        System.out.println("  BASELINE COMPARISON - " + BASELINE);
+        if (baselines.size() > 1) {
+            System.out.printf("  (changes over %.0f%% and %.1f run-to-run standard deviations of %d baseline runs)%n",
+                REGRESSION_THRESHOLD * 100, REGRESSION_Z_SCORE, baselines.size());
+        } else {
+            System.out.printf("  (changes over %.0f%%; a threshold check only, pass several baseline runs to also"
+                + " test against run-to-run noise)%n", REGRESSION_THRESHOLD * 100);
+        }
+        System.out.println("========================================\n");
+        System.out.println(BASELINE_TOP);
+        System.out.println(BASELINE_HEADER);
+        System.out.println(BASELINE_SEPARATOR);
+        for (BaselineComparator.Comparison comparison : comparisons) {
+            if (comparison.getStatus() == BaselineComparator.Status.REGRESSION) {
+                regressions.add(comparison);
+            }
+            if (comparison.getStatus() != BaselineComparator.Status.UNCHANGED) {
+                System.out.printf("│ %-82s │ %11s │ %11s │ %8s │ %7s │ %-11s │%n",
+                    comparison.getKey(),
+                    comparison.getBaseline() == null ? "-" : String.format("%,.4f", comparison.getBaseline().getValue()),
+                    comparison.getCurrent() == null ? "-" : String.format("%,.4f", comparison.getCurrent().getValue()),
+                    Double.isNaN(comparison.getChange()) ? "-" : String.format("%+.1f%%", comparison.getChange() * 100),
+                    Double.isNaN(comparison.getZScore()) ? "-" : String.format("%+.1f", comparison.getZScore()),
+                    comparison.getStatus());
+            }
+        }
+        System.out.println(BASELINE_BOTTOM);
+        System.out.println("  " + regressions.size() + " regression(s) among " + comparisons.size() + " results");
+        for (String change : BaselineComparator.environmentChanges(baselines.get(0).getEnvironment(),
+                current.getEnvironment())) {
+            System.out.println("  Environment changed: " + change);
+        }
+        System.out.println("\n========================================\n");
+        return regressions;
+    }
+
+    private double[] benchmarkJackson(Codec<List<LargePojo>> codec) {
+        return runBenchmark(Operation.SERIALIZATION, "Jackson",
+            () -> encode(codec),
             bytes -> bytes.length,
             true);
     }
 
-    private double[] benchmarkGson(Gson gson) {
-        return runBenchmark("Gson (hidden)",
-            () -> gson.toJson(testData),
-            str -> str.getBytes(StandardCharsets.UTF_8).length,
+    private double[] benchmarkGson(Codec<List<LargePojo>> codec) {
+        return runBenchmark(Operation.SERIALIZATION, "Gson (hidden)",
+            () -> encode(codec),
+            bytes -> bytes.length,
             false);
     }
 
-    private double[] benchmarkMessagePack(ObjectMapper mapper) {
-        return runBenchmark("MessagePack (hidden)",
-            () -> {
-                try {
-                    return mapper.writeValueAsBytes(testData);
-                } catch (Exception e) {
-                    throw new RuntimeException(e);
-                }
-            },
+    private double[] benchmarkMessagePack(Codec<List<LargePojo>> codec) {
+        return runBenchmark(Operation.SERIALIZATION, "MessagePack (hidden)",
+            () -> encode(codec),
             bytes -> bytes.length,
             false);
     }
 
+    /**
+     * Protobuf from the pre-built message, leaving out the POJO conversion.
+     */
     private double[] benchmarkProtobuf() {
-        return runBenchmark("Protobuf (hidden)",
+        return runBenchmark(Operation.SERIALIZATION, "Protobuf (hidden)",
             () -> protobufData.toByteArray(),
             bytes -> bytes.length,
             false);
     }
 
+    /**
+     * Protobuf starting from {@code LargePojo}, like the JSON serializers: includes builder
+     * construction and copying the blobs into {@code ByteString}s on every call.
+     */
+    private double[] benchmarkProtobufEndToEnd(Codec<List<LargePojo>> codec) {
+        return runBenchmark(Operation.SERIALIZATION, "Protobuf E2E (hidden)",
+            () -> encode(codec),
+            bytes -> bytes.length,
+            false);
+    }
+
+    private double[] benchmarkProtobufDirect() {
+        return runBenchmark(Operation.SERIALIZATION, "Protobuf Direct (hidden)",
+            () -> ProtobufDirectWriter.writeList(testData),
+            bytes -> bytes.length,
+            false);
+    }
+
+    /**
+     * JDK serialization of the plain POJOs, driven entirely by reflection and stream metadata.
+     * Ignores the inclusion setting: nulls always cost a reference marker.
+     */
+    private double[] benchmarkJavaSerialization() {
+        return runBenchmark(Operation.SERIALIZATION, "JavaSerial (hidden)",
+            () -> writeJava(testData),
+            bytes -> bytes.length,
+            false);
+    }
+
+    /**
+     * JDK serialization through the hand-written {@link ExternalizableLargePojo}, which writes only the
+     * populated fields in both inclusion modes.
+     */
+    private double[] benchmarkExternalizable() {
+        return runBenchmark(Operation.SERIALIZATION, "Externalizable (hidden)",
+            () -> writeJava(externalizableData),
+            bytes -> bytes.length,
+            false);
+    }
+
+    /**
+     * {@link PresenceBitmapCodec}: presence bits plus present values, with no field names or tags.
+     * Null and zero fields are always left out, whatever the inclusion setting.
+     */
+    private double[] benchmarkPresenceBitmap() {
+        return runBenchmark(Operation.SERIALIZATION, "PresenceBitmap (hidden)",
+            () -> PresenceBitmapCodec.encodeList(testData),
+            bytes -> bytes.length,
+            false);
+    }
+
+    // Hand-written codecs: same formats as Jackson, Gson and MessagePack, without reflection
+
+    private double[] benchmarkJacksonCustom(Codec<List<LargePojo>> codec) {
+        return runBenchmark(Operation.SERIALIZATION, "Jackson Custom (hidden)",
+            () -> encode(codec),
+            bytes -> bytes.length,
+            false);
+    }
+
+    private double[] benchmarkGsonCustom(Codec<List<LargePojo>> codec) {
+        return runBenchmark(Operation.SERIALIZATION, "Gson Custom (hidden)",
+            () -> encode(codec),
+            bytes -> bytes.length,
+            false);
+    }
+
+    private double[] benchmarkMessagePackCustom(Codec<List<LargePojo>> codec) {
+        return runBenchmark(Operation.SERIALIZATION, "MsgPack Custom (hidden)",
+            () -> encode(codec),
+            bytes -> bytes.length,
+            false);
+    }
+
+    // Deserialization benchmarks report the size of the payload being decoded
+
+    private double[] benchmarkJacksonDecode(Codec<List<LargePojo>> codec, byte[] payload) {
+        return runBenchmark(Operation.DESERIALIZATION, "Jackson",
+            () -> decode(codec, payload),
+            pojos -> payload.length,
+            true);
+    }
+
+    private double[] benchmarkGsonDecode(Codec<List<LargePojo>> codec, byte[] payload) {
+        return runBenchmark(Operation.DESERIALIZATION, "Gson (hidden)",
+            () -> decode(codec, payload),
+            pojos -> payload.length,
+            false);
+    }
+
+    private double[] benchmarkMessagePackDecode(Codec<List<LargePojo>> codec, byte[] payload) {
+        return runBenchmark(Operation.DESERIALIZATION, "MessagePack (hidden)",
+            () -> decode(codec, payload),
+            pojos -> payload.length,
+            false);
+    }
+
+    /**
+     * Parses the message and converts it back to POJOs, like the other decoders.
+     */
+    private double[] benchmarkProtobufDecode(Codec<List<LargePojo>> codec, byte[] payload) {
+        return runBenchmark(Operation.DESERIALIZATION, "Protobuf (hidden)",
+            () -> decode(codec, payload),
+            pojos -> payload.length,
+            false);
+    }
+
+    private double[] benchmarkJavaSerializationDecode(byte[] payload) {
+        return runBenchmark(Operation.DESERIALIZATION, "JavaSerial (hidden)",
+            () -> readJava(payload),
+            pojos -> payload.length,
+            false);
+    }
+
+    private double[] benchmarkExternalizableDecode(byte[] payload) {
+        return runBenchmark(Operation.DESERIALIZATION, "Externalizable (hidden)",
+            () -> readJava(payload),
+            pojos -> payload.length,
+            false);
+    }
+
+    private double[] benchmarkPresenceBitmapDecode(byte[] payload) {
+        return runBenchmark(Operation.DESERIALIZATION, "PresenceBitmap (hidden)",
+            () -> PresenceBitmapCodec.decodeList(payload),
+            pojos -> payload.length,
+            false);
+    }
+
+    private double[] benchmarkJacksonCustomDecode(Codec<List<LargePojo>> codec, byte[] payload) {
+        return runBenchmark(Operation.DESERIALIZATION, "Jackson Custom (hidden)",
+            () -> decode(codec, payload),
+            pojos -> payload.length,
+            false);
+    }
+
+    private double[] benchmarkGsonCustomDecode(Codec<List<LargePojo>> codec, byte[] payload) {
+        return runBenchmark(Operation.DESERIALIZATION, "Gson Custom (hidden)",
+            () -> decode(codec, payload),
+            pojos -> payload.length,
+            false);
+    }
+
+    private double[] benchmarkMessagePackCustomDecode(Codec<List<LargePojo>> codec, byte[] payload) {
+        return runBenchmark(Operation.DESERIALIZATION, "MsgPack Custom (hidden)",
+            () -> decode(codec, payload),
+            pojos -> payload.length,
+            false);
+    }
+
+    // Round-trip benchmarks encode and decode on every iteration
+
+    private double[] benchmarkJacksonRoundTrip(Codec<List<LargePojo>> codec) {
+        return benchmarkCodecRoundTrip("Jackson", codec, true);
+    }
+
+    private double[] benchmarkGsonRoundTrip(Codec<List<LargePojo>> codec) {
+        return benchmarkCodecRoundTrip("Gson (hidden)", codec, false);
+    }
+
+    private double[] benchmarkMessagePackRoundTrip(Codec<List<LargePojo>> codec) {
+        return benchmarkCodecRoundTrip("MessagePack (hidden)", codec, false);
+    }
+
+    /**
+     * Round trip from the pre-built message: encoding leaves out the POJO conversion, decoding includes it.
+     */
+    private double[] benchmarkProtobufRoundTrip() {
+        final int size = protobufData.getSerializedSize();
+        return runBenchmark(Operation.ROUND_TRIP, "Protobuf (hidden)",
+            () -> parseProtobuf(protobufData.toByteArray()),
+            pojos -> size,
+            false);
+    }
+
+    private double[] benchmarkProtobufEndToEndRoundTrip(Codec<List<LargePojo>> codec) {
+        return benchmarkCodecRoundTrip("Protobuf E2E (hidden)", codec, false);
+    }
+
+    private double[] benchmarkProtobufDirectRoundTrip() {
+        final int size = protobufData.getSerializedSize();
+        return runBenchmark(Operation.ROUND_TRIP, "Protobuf Direct (hidden)",
+            () -> parseProtobuf(ProtobufDirectWriter.writeList(testData)),
+            pojos -> size,
+            false);
+    }
+
+    private double[] benchmarkJavaSerializationRoundTrip() {
+        final int size = writeJava(testData).length;
+        return runBenchmark(Operation.ROUND_TRIP, "JavaSerial (hidden)",
+            () -> readJava(writeJava(testData)),
+            pojos -> size,
+            false);
+    }
+
+    private double[] benchmarkExternalizableRoundTrip() {
+        final int size = writeJava(externalizableData).length;
+        return runBenchmark(Operation.ROUND_TRIP, "Externalizable (hidden)",
+            () -> readJava(writeJava(externalizableData)),
+            pojos -> size,
+            false);
+    }
+
+    private double[] benchmarkPresenceBitmapRoundTrip() {
+        final int size = PresenceBitmapCodec.computeListSize(testData);
+        return runBenchmark(Operation.ROUND_TRIP, "PresenceBitmap (hidden)",
+            () -> PresenceBitmapCodec.decodeList(PresenceBitmapCodec.encodeList(testData)),
+            pojos -> size,
+            false);
+    }
+
+    private double[] benchmarkJacksonCustomRoundTrip(Codec<List<LargePojo>> codec) {
+        return benchmarkCodecRoundTrip("Jackson Custom (hidden)", codec, false);
+    }
+
+    private double[] benchmarkGsonCustomRoundTrip(Codec<List<LargePojo>> codec) {
+        return benchmarkCodecRoundTrip("Gson Custom (hidden)", codec, false);
+    }
+
+    private double[] benchmarkMessagePackCustomRoundTrip(Codec<List<LargePojo>> codec) {
+        return benchmarkCodecRoundTrip("MsgPack Custom (hidden)", codec, false);
+    }
+
+    private double[] benchmarkCodecRoundTrip(String serializerName, Codec<List<LargePojo>> codec,
+                                             boolean printBaseline) {
+        final int size = encode(codec).length;
+        return runBenchmark(Operation.ROUND_TRIP, serializerName,
+            () -> decode(codec, encode(codec)),
+            pojos -> size,
+            printBaseline);
+    }
+
+    // Buffer-reuse benchmarks write into the thread's ReusableOutputBuffer
+
+    private double[] benchmarkJacksonReuse(ObjectMapper mapper) {
+        return runBenchmark(Operation.BUFFER_REUSE, "Jackson",
+            () -> writeReused(mapper),
+            ReusableOutputBuffer::size,
+            false);
+    }
+
+    private double[] benchmarkGsonReuse(Gson gson) {
+        return runBenchmark(Operation.BUFFER_REUSE, "Gson (hidden)",
+            () -> writeReused(gson),
+            ReusableOutputBuffer::size,
+            false);
+    }
+
+    private double[] benchmarkMessagePackReuse(ObjectMapper mapper) {
+        return runBenchmark(Operation.BUFFER_REUSE, "MessagePack (hidden)",
+            () -> writeReused(mapper),
+            ReusableOutputBuffer::size,
+            false);
+    }
+
+    private double[] benchmarkProtobufReuse() {
+        return runBenchmark(Operation.BUFFER_REUSE, "Protobuf (hidden)",
+            SerializationTest::writeReusedProtobuf,
+            ReusableOutputBuffer::size,
+            false);
+    }
+
+    private static ReusableOutputBuffer writeReused(ObjectMapper mapper) {
+        final ReusableOutputBuffer buffer = ReusableOutputBuffer.forCurrentThread();
+        try {
+            mapper.writeValue(buffer, testData);
+        } catch (IOException e) {
+            throw new RuntimeException(e);
+        }
+        return buffer;
+    }
+
+    private static ReusableOutputBuffer writeReused(Gson gson) {
+        final ReusableOutputBuffer buffer = ReusableOutputBuffer.forCurrentThread();
+        final Writer writer = buffer.utf8Writer();
+        try {
+            gson.toJson(testData, writer);
+            writer.flush();
+        } catch (IOException e) {
+            throw new RuntimeException(e);
+        }
+        return buffer;
+    }
+
+    private static ReusableOutputBuffer writeReusedProtobuf() {
+        final ReusableOutputBuffer buffer = ReusableOutputBuffer.forCurrentThread();
+        final CodedOutputStream output = buffer.codedOutputStream(protobufData.getSerializedSize());
+        try {
+            protobufData.writeTo(output);
+        } catch (IOException e) {
+            throw new RuntimeException(e);
+        }
+        output.checkNoSpaceLeft();
+        return buffer;
+    }
+
+    private static byte[] writeBytes(ObjectMapper mapper) {
+        try {
+            return mapper.writeValueAsBytes(testData);
+        } catch (Exception e) {
+            throw new RuntimeException(e);
+        }
+    }
+
+    private static byte[] encode(Codec<List<LargePojo>> codec) {
+        try {
+            return codec.encode(testData);
+        } catch (IOException e) {
+            throw new RuntimeException(e);
+        }
+    }
+
+    private static List<LargePojo> decode(Codec<List<LargePojo>> codec, byte[] payload) {
+        try {
+            return codec.decode(payload);
+        } catch (IOException e) {
+            throw new RuntimeException(e);
+        }
+    }
+
+    /**
+     * List codec over a copy of {@code mapper}, keeping its format and inclusion, with the hand-written
+     * {@link LargePojoJacksonModule}.
+     */
+    private static Codec<List<LargePojo>> customCodec(String format, ObjectMapper mapper) {
+        return Codecs.jackson(format, mapper.copy().registerModule(new LargePojoJacksonModule()),
+            Codecs.LARGE_POJO_LIST);
+    }
+
+    private static Codec<List<LargePojo>> customCodec(Gson gson) {
+        return Codecs.gson(LargePojoTypeAdapters.register(gson.newBuilder()).create(), Codecs.LARGE_POJO_LIST);
+    }
+
+    private static byte[] writeJava(List<? extends LargePojo> data) {
+        final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (ObjectOutputStream out = new ObjectOutputStream(bytes)) {
+            out.writeObject(data);
+        } catch (IOException e) {
+            throw new RuntimeException(e);
+        }
+        return bytes.toByteArray();
+    }
+
+    @SuppressWarnings("unchecked")
+    private static List<LargePojo> readJava(byte[] payload) {
+        try (ObjectInputStream in = new ObjectInputStream(new ByteArrayInputStream(payload))) {
+            return (List<LargePojo>) in.readObject();
+        } catch (IOException | ClassNotFoundException e) {
+            throw new RuntimeException(e);
+        }
+    }
+
+    private static List<LargePojo> parseProtobuf(byte[] payload) {
+        return ProtobufConverter.convertListFromProto(parseProtobufMessage(payload));
+    }
+
+    private static LargePojoProto.LargePojoList parseProtobufMessage(byte[] payload) {
+        try {
+            return LargePojoProto.LargePojoList.parseFrom(payload);
+        } catch (InvalidProtocolBufferException e) {
+            throw new RuntimeException(e);
+        }
+    }
+
     @FunctionalInterface
     private interface SizeCalculator<T> {
         int calculateSize(T result);
     }
 
-    private void printTotalTimesSummary(String suiteName) {
+    private void printTotalTimesSummary(Operation operation, String suiteName) {
         System.out.println("\n========================================");
-        System.out.println("  TOTAL SERIALIZATION TIME - " + suiteName);
+        System.out.println("  TOTAL " + operation.label + " TIME - " + suiteName);
         System.out.println("========================================\n");
         System.out.println(SUMMARY_TOP);
         System.out.println(SUMMARY_HEADER);
         System.out.println(SUMMARY_SEPARATOR);
 
-        String[] serializers = {"Jackson", "Gson (hidden)", "MessagePack (hidden)", "Protobuf (hidden)"};
-        String[] displayNames = {"Jackson", "Gson", "MessagePack", "Protobuf"};
+        String[] serializers = {"Jackson", "Gson (hidden)", "MessagePack (hidden)", "Protobuf (hidden)",
+            "Protobuf E2E (hidden)", "Protobuf Direct (hidden)", "JavaSerial (hidden)", "Externalizable (hidden)",
+            "PresenceBitmap (hidden)", "Jackson Custom (hidden)", "Gson Custom (hidden)", "MsgPack Custom (hidden)"};
+        String[] displayNames = {"Jackson", "Gson", "MessagePack", "Protobuf", "Protobuf-E2E", "Protobuf-Direct",
+            "JavaSerial", "Externalizable", "PresenceBitmap", "Jackson-Custom", "Gson-Custom", "MsgPack-Custom"};
 
         for (int i = 0; i < serializers.length; i++) {
-            Double totalTime = totalTimes.get(serializers[i]);
-            if (totalTime != null) {
-                System.out.printf("│ %-11s │ %18.4f │ %-18s │%n",
-                    displayNames[i], totalTime, suiteName);
+            RunTotals totals = runTotals.get(operation).get(serializers[i]);
+            if (totals != null) {
+                synchronized (totals) {
+                    System.out.printf("│ %-15s │ %18.4f │ %-18s │ %,15.0f │ %12.3f │ %8d │ %10.1f │%n",
+                        displayNames[i], totals.timeMs, suiteName,
+                        (double) totals.allocatedBytes / totals.operations,
+                        totals.gcTimeMs * 1000.0 / totals.operations,
+                        totals.gcCount,
+                        toMicros(totals.latencies.getValueAtPercentile(99)));
+                }
             }
         }
 
@@ -248,11 +1045,59 @@ class SerializationTest {
         System.out.println("\n========================================\n");
     }
 
+    /**
+     * Prints the rows after the Jackson baseline, which runBenchmark already printed.
+     */
+    private void printComparisonRows(Map<String, double[]> metrics) {
+        final double[] jacksonMetrics = metrics.get("Jackson");
+        metrics.forEach((name, serializerMetrics) -> {
+            if (serializerMetrics != jacksonMetrics) {
+                printMetricsWithPercentage(name, serializerMetrics, jacksonMetrics);
+            }
+        });
+    }
+
+    /**
+     * Each hand-written codec against the reflective serializer it replaces, on the same format.
+     */
+    private void printCustomCodecComparison(Map<String, double[]> metrics) {
+        System.out.println("\nHand-written vs reflective (same output format):");
+        for (String[] pair : CUSTOM_CODEC_BASELINES) {
+            final double[] custom = metrics.get(pair[0]);
+            final double[] baseline = metrics.get(pair[1]);
+            System.out.printf("  %-15s %6.2fx speedup over %-12s alloc/op %+7.1f%%%n",
+                pair[0], baseline[0] / custom[0], pair[1], (custom[3] - baseline[3]) / baseline[3] * 100);
+        }
+    }
+
+    private void printLatencyPercentiles(Map<String, double[]> metrics) {
+        System.out.println("  Per-call latency percentiles");
+        System.out.println(LATENCY_TOP);
+        System.out.println(LATENCY_HEADER);
+        System.out.println(LATENCY_SEPARATOR);
+        metrics.forEach((name, m) ->
+            System.out.printf("│ %-15s │ %10.1f │ %10.1f │ %10.1f │ %10.1f │ %10.1f │%n",
+                name, m[6], m[7], m[8], m[9], m[10]));
+        System.out.println(LATENCY_BOTTOM);
+    }
+
+    private static double toMicros(long nanos) {
+        return nanos / 1_000.0;
+    }
+
     private void printMetricsWithPercentage(String name, double[] metrics, double[] jacksonMetrics) {
         final double timeChange = ((metrics[0] - jacksonMetrics[0]) / jacksonMetrics[0]) * 100;
         final double sizeChange = ((metrics[1] - jacksonMetrics[1]) / jacksonMetrics[1]) * 100;
 
-        System.out.printf("│ %-11s │ %12.4f │ %+9.1f%% │ %,15.0f │ %+9.1f%% │%n",
-            name, metrics[0], timeChange, metrics[1], sizeChange);
+        System.out.printf("│ %-15s │ %12.4f │ %+9.1f%% │ %,15.0f │ %+9.1f%% │ %,15.0f │ %12.3f │%n",
+            name, metrics[0], timeChange, metrics[1], sizeChange, metrics[3], metrics[4]);
+    }
+
+    private void printReuseMetrics(String name, double[] metrics, double[] allocatingMetrics) {
+        final double timeChange = ((metrics[0] - allocatingMetrics[0]) / allocatingMetrics[0]) * 100;
+        final double allocationChange = ((metrics[3] - allocatingMetrics[3]) / allocatingMetrics[3]) * 100;
+
+        System.out.printf("│ %-15s │ %12.4f │ %+9.1f%% │ %,15.0f │ %+9.1f%% │%n",
+            name, metrics[0], timeChange, metrics[3], allocationChange);
     }
 }
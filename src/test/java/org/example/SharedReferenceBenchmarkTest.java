@@ -0,0 +1,254 @@
+package org.example;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.google.gson.Gson;
+import com.google.gson.GsonBuilder;
+import com.google.gson.reflect.TypeToken;
+import org.example.proto.LargePojoProto;
+import org.example.util.DedupMode;
+import org.example.util.DedupProtobufConverter;
+import org.example.util.ProtobufConverter;
+import org.example.util.TestDataFactory;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.msgpack.jackson.dataformat.MessagePackFactory;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.lang.reflect.Type;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Function;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+/**
+ * Measures the size and time saved by the opt-in {@link DedupMode}s on repetitive batches, against the plain
+ * output of each format: Jackson and MessagePack with {@code @JsonIdentityInfo}-style ids, Gson with ids that
+ * wrap the first occurrence, and Protobuf with the {@code DedupLargePojoList} side table.
+ * <p>
+ * Two batches are used. {@code Copies} is the default test data, where every record and every populated ref
+ * is a separate but equal instance, so only {@link DedupMode#CONTENT} finds repeats. {@code Shared} has the
+ * same content, but every item is one {@code LargePojo} instance whose populated refs are one
+ * {@code NestedPojo} instance, so {@link DedupMode#IDENTITY} finds them too.
+ */
+@DisplayName("Shared Reference Dedup Benchmarks")
+class SharedReferenceBenchmarkTest {
+
+    private static final int LIST_SIZE = 20;
+    private static final long WARMUP_MS = Long.getLong("dedup.warmupMs", 300);
+    private static final long MEASURE_MS = Long.getLong("dedup.measureMs", 200);
+    private static final int MIN_ITERATIONS = 5;
+
+    private static final TypeReference<List<LargePojo>> POJO_LIST_TYPE = new TypeReference<>() {};
+    private static final Type GSON_POJO_LIST_TYPE = new TypeToken<List<LargePojo>>() {}.getType();
+
+    // Table formatting constants
+    private static final String TABLE_TOP = "┌─────────┬─────────────────┬──────────┬─────────────────┬─────────┬───────────────┬───────────────┐";
+    private static final String TABLE_HEADER = "│ Batch   │ Format          │ Dedup    │  Size (bytes)   │  Saved  │ Encode (µs)   │ Decode (µs)   │";
+    private static final String TABLE_SEPARATOR = "├─────────┼─────────────────┼──────────┼─────────────────┼─────────┼───────────────┼───────────────┤";
+    private static final String TABLE_BOTTOM = "└─────────┴─────────────────┴──────────┴─────────────────┴─────────┴───────────────┴───────────────┘";
+
+    private static List<Batch> batches;
+
+    private static ObjectMapper jacksonMapper;
+    private static ObjectMapper jacksonMapperNoNulls;
+    private static ObjectMapper msgpackMapper;
+    private static ObjectMapper msgpackMapperNoNulls;
+    private static Gson gsonWithNulls;
+    private static Gson gsonWithoutNulls;
+
+    @BeforeAll
+    static void setUp() {
+        final LargePojo shared = TestDataFactory.createPojo();
+        shared.setRef5(shared.getRef1());
+        shared.setRef10(shared.getRef1());
+        shared.setRef15(shared.getRef1());
+        shared.setRef20(shared.getRef1());
+        final List<LargePojo> sharedList = new ArrayList<>(LIST_SIZE);
+        for (int i = 0; i < LIST_SIZE; i++) {
+            sharedList.add(shared);
+        }
+        batches = List.of(
+            new Batch("Copies", TestDataFactory.createPojoList(LIST_SIZE), false),
+            new Batch("Shared", sharedList, true));
+
+        jacksonMapper = new ObjectMapper();
+        jacksonMapperNoNulls = new ObjectMapper()
+                .setSerializationInclusion(JsonInclude.Include.NON_NULL);
+
+        msgpackMapper = new ObjectMapper(new MessagePackFactory());
+        msgpackMapperNoNulls = new ObjectMapper(new MessagePackFactory())
+                .setSerializationInclusion(JsonInclude.Include.NON_NULL);
+
+        gsonWithNulls = new GsonBuilder().serializeNulls().create();
+        gsonWithoutNulls = new Gson();
+    }
+
+    @Test
+    @DisplayName("Dedup shared references with null fields serialized")
+    void dedupWithNullFieldsSerialized() {
+        runDedupSuite("WITH NULLS", jacksonMapper, gsonWithNulls, msgpackMapper);
+    }
+
+    @Test
+    @DisplayName("Dedup shared references with null fields excluded")
+    void dedupWithNullFieldsExcluded() {
+        runDedupSuite("WITHOUT NULLS", jacksonMapperNoNulls, gsonWithoutNulls, msgpackMapperNoNulls);
+    }
+
+    private void runDedupSuite(String suiteName, ObjectMapper jacksonMapper, Gson gson, ObjectMapper msgpackMapper) {
+        printBenchmarkHeader(suiteName);
+        System.out.println(TABLE_TOP);
+        System.out.println(TABLE_HEADER);
+
+        for (Batch batch : batches) {
+            System.out.println(TABLE_SEPARATOR);
+            runJackson(batch, "Jackson", jacksonMapper);
+            runGson(batch, gson);
+            runJackson(batch, "MessagePack", msgpackMapper);
+            final int protobufSize = runFormat(batch, "Protobuf", null,
+                data -> ProtobufConverter.convertListToProto(data).toByteArray(),
+                bytes -> ProtobufConverter.convertListFromProto(parse(bytes, LargePojoProto.LargePojoList::parseFrom)),
+                0);
+            for (DedupMode mode : DedupMode.values()) {
+                runFormat(batch, "Protobuf", mode,
+                    data -> DedupProtobufConverter.convertListToProto(data, mode).toByteArray(),
+                    bytes -> DedupProtobufConverter.convertListFromProto(
+                        parse(bytes, LargePojoProto.DedupLargePojoList::parseFrom)),
+                    protobufSize);
+            }
+        }
+
+        System.out.println(TABLE_BOTTOM);
+        System.out.println("\n========================================\n");
+    }
+
+    private void runJackson(Batch batch, String format, ObjectMapper mapper) {
+        final int plainSize = runFormat(batch, format, null,
+            data -> writeBytes(mapper, data), bytes -> readList(mapper, bytes), 0);
+        for (DedupMode mode : DedupMode.values()) {
+            final ObjectMapper dedupMapper = mode.applyTo(mapper);
+            runFormat(batch, format, mode,
+                data -> writeBytes(dedupMapper, data), bytes -> readList(dedupMapper, bytes), plainSize);
+        }
+    }
+
+    private void runGson(Batch batch, Gson gson) {
+        final int plainSize = runFormat(batch, "Gson", null,
+            data -> gson.toJson(data, GSON_POJO_LIST_TYPE).getBytes(StandardCharsets.UTF_8),
+            bytes -> gson.fromJson(new String(bytes, StandardCharsets.UTF_8), GSON_POJO_LIST_TYPE), 0);
+        for (DedupMode mode : DedupMode.values()) {
+            final Gson dedupGson = mode.applyTo(gson);
+            runFormat(batch, "Gson", mode,
+                data -> dedupGson.toJson(data, GSON_POJO_LIST_TYPE).getBytes(StandardCharsets.UTF_8),
+                bytes -> dedupGson.fromJson(new String(bytes, StandardCharsets.UTF_8), GSON_POJO_LIST_TYPE),
+                plainSize);
+        }
+    }
+
+    /**
+     * Checks the round trip, prints one row and returns the encoded size.
+     *
+     * @param plainSize size without dedup, which the {@code Saved} column is relative to; 0 for the plain row
+     */
+    private int runFormat(Batch batch, String format, DedupMode mode, Function<List<LargePojo>, byte[]> encoder,
+                          Function<byte[], List<LargePojo>> decoder, int plainSize) {
+        final byte[] encoded = encoder.apply(batch.data);
+        final List<LargePojo> decoded = decoder.apply(encoded);
+        assertEquals(batch.data, decoded, format + " " + label(mode) + " should decode back to the original data");
+        if (mode == DedupMode.CONTENT || mode == DedupMode.IDENTITY && batch.sharedInstances) {
+            assertSame(decoded.get(0), decoded.get(LIST_SIZE - 1),
+                format + " " + label(mode) + " should decode repeated records to one instance");
+            assertSame(decoded.get(0).getRef1(), decoded.get(0).getRef20(),
+                format + " " + label(mode) + " should decode repeated refs to one instance");
+        }
+
+        final double encodeMicros = measureMicros(() -> encoder.apply(batch.data));
+        final double decodeMicros = measureMicros(() -> decoder.apply(encoded));
+        final String saved = plainSize == 0 ? "-"
+            : String.format("%.1f%%", (plainSize - encoded.length) * 100.0 / plainSize);
+        System.out.printf("│ %-7s │ %-15s │ %-8s │ %,15d │ %7s │ %13.2f │ %13.2f │%n",
+            batch.name, format, label(mode), encoded.length, saved, encodeMicros, decodeMicros);
+        return encoded.length;
+    }
+
+    private static String label(DedupMode mode) {
+        return mode == null ? "None" : mode == DedupMode.IDENTITY ? "Identity" : "Content";
+    }
+
+    /**
+     * Average microseconds per call after a {@code WARMUP_MS} warmup, over at least {@code MEASURE_MS}
+     * and {@code MIN_ITERATIONS} calls.
+     */
+    private static double measureMicros(Runnable operation) {
+        final long warmupEnd = System.nanoTime() + WARMUP_MS * 1_000_000L;
+        do {
+            operation.run();
+        } while (System.nanoTime() < warmupEnd);
+
+        final long start = System.nanoTime();
+        long elapsed;
+        int iterations = 0;
+        do {
+            operation.run();
+            iterations++;
+            elapsed = System.nanoTime() - start;
+        } while (iterations < MIN_ITERATIONS || elapsed < MEASURE_MS * 1_000_000L);
+        return elapsed / 1_000.0 / iterations;
+    }
+
+    private static byte[] writeBytes(ObjectMapper mapper, List<LargePojo> data) {
+        try {
+            return mapper.writeValueAsBytes(data);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static List<LargePojo> readList(ObjectMapper mapper, byte[] payload) {
+        try {
+            return mapper.readValue(payload, POJO_LIST_TYPE);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static <T> T parse(byte[] payload, ProtobufParser<T> parser) {
+        try {
+            return parser.parseFrom(payload);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    @FunctionalInterface
+    private interface ProtobufParser<T> {
+        T parseFrom(byte[] payload) throws IOException;
+    }
+
+    private static final class Batch {
+        private final String name;
+        private final List<LargePojo> data;
+        private final boolean sharedInstances;
+
+        Batch(String name, List<LargePojo> data, boolean sharedInstances) {
+            this.name = name;
+            this.data = data;
+            this.sharedInstances = sharedInstances;
+        }
+    }
+
+    private void printBenchmarkHeader(String suiteName) {
+        System.out.println("\n========================================");
+        System.out.println("  Shared Reference Dedup - " + suiteName);
+        System.out.println("  (List of " + LIST_SIZE + " LargePojo objects; Copies = equal instances, "
+            + "Shared = one instance with one shared ref)");
+        System.out.println("========================================\n");
+    }
+}
@@ -0,0 +1,461 @@
+package org.example;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.example.util.StreamingSerializer;
+import org.example.util.TestDataFactory;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.msgpack.core.MessageBufferPacker;
+import org.msgpack.core.MessagePack;
+import org.msgpack.jackson.dataformat.MessagePackFactory;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.SequenceInputStream;
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryPoolMXBean;
+import java.lang.management.MemoryType;
+import java.nio.charset.StandardCharsets;
+import java.util.AbstractList;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Enumeration;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Streams 10^4 and more {@link LargePojo} elements through {@link StreamingSerializer} and reports
+ * throughput and the heap the run keeps alive, to show that memory stays flat as the element count grows.
+ * <p>
+ * Elements cycle through a small pool, and the decode side replays the encoded pool from memory, so
+ * neither the input nor the output is ever materialized. Live heap is sampled halfway through each run,
+ * after a full collection; the {@code Jackson-InMemory} rows build the whole output array or decode the
+ * whole list instead of streaming, for contrast. Only 10^4 elements run by default; raise the
+ * ceiling with {@code -Dstreaming.maxElements=10000000} to run every power of ten up to 10^7.
+ */
+@DisplayName("Streaming Serialization Benchmarks")
+class StreamingSerializationTest {
+
+    private static final int POOL_SIZE = 100;
+    private static final long MIN_ELEMENTS = 10_000;
+    private static final long MAX_ELEMENTS = Long.getLong("streaming.maxElements", MIN_ELEMENTS);
+
+    // Table formatting constants
+    private static final String TABLE_TOP = "┌──────────────────┬────────────┬────────────┬───────────────┬──────────┬─────────────────┐";
+    private static final String TABLE_HEADER = "│ Serializer       │  Elements  │ Direction  │  Elements/s   │   MB/s   │ Live Heap (MB)  │";
+    private static final String TABLE_SEPARATOR = "├──────────────────┼────────────┼────────────┼───────────────┼──────────┼─────────────────┤";
+    private static final String TABLE_BOTTOM = "└──────────────────┴────────────┴────────────┴───────────────┴──────────┴─────────────────┘";
+
+    private static final TypeReference<List<LargePojo>> POJO_LIST_TYPE = new TypeReference<>() {};
+
+    private static List<LargePojo> pool;
+
+    private static ObjectMapper jacksonMapper;
+    private static ObjectMapper jacksonMapperNoNulls;
+    private static ObjectMapper msgpackMapper;
+    private static ObjectMapper msgpackMapperNoNulls;
+
+    @BeforeAll
+    static void setUp() {
+        pool = TestDataFactory.createPojoList(POOL_SIZE);
+
+        jacksonMapper = new ObjectMapper();
+        jacksonMapperNoNulls = new ObjectMapper()
+                .setSerializationInclusion(JsonInclude.Include.NON_NULL);
+
+        msgpackMapper = new ObjectMapper(new MessagePackFactory());
+        msgpackMapperNoNulls = new ObjectMapper(new MessagePackFactory())
+                .setSerializationInclusion(JsonInclude.Include.NON_NULL);
+    }
+
+    @Test
+    @DisplayName("Streaming round trip matches whole-list serialization")
+    void streamingMatchesWholeListSerialization() throws IOException {
+        final ByteArrayOutputStream json = new ByteArrayOutputStream();
+        assertEquals(POOL_SIZE, StreamingSerializer.writeJsonArray(jacksonMapper, pool.iterator(), json));
+        assertArrayEquals(jacksonMapper.writeValueAsBytes(pool), json.toByteArray(),
+            "Streamed JSON should equal the whole-list output");
+        assertEquals(pool, drain(StreamingSerializer.readArray(jacksonMapper, new ByteArrayInputStream(json.toByteArray()))));
+
+        final ByteArrayOutputStream msgpack = new ByteArrayOutputStream();
+        assertEquals(POOL_SIZE, StreamingSerializer.writeMessagePackArray(msgpackMapper, pool.iterator(), POOL_SIZE, msgpack));
+        assertArrayEquals(msgpackMapper.writeValueAsBytes(pool), msgpack.toByteArray(),
+            "Streamed MessagePack should equal the whole-list output");
+        assertEquals(pool, drain(StreamingSerializer.readArray(msgpackMapper, new ByteArrayInputStream(msgpack.toByteArray()))));
+
+        final ByteArrayOutputStream protobuf = new ByteArrayOutputStream();
+        assertEquals(POOL_SIZE, StreamingSerializer.writeProtobufDelimited(pool.iterator(), protobuf));
+        assertEquals(pool, drain(StreamingSerializer.readProtobufDelimited(new ByteArrayInputStream(protobuf.toByteArray()))));
+    }
+
+    @Test
+    @DisplayName("Stream large collections with null fields serialized")
+    void streamWithNullFieldsSerialized() throws IOException {
+        runStreamingSuite("WITH NULLS", jacksonMapper, msgpackMapper);
+    }
+
+    @Test
+    @DisplayName("Stream large collections with null fields excluded")
+    void streamWithNullFieldsExcluded() throws IOException {
+        runStreamingSuite("WITHOUT NULLS", jacksonMapperNoNulls, msgpackMapperNoNulls);
+    }
+
+    private void runStreamingSuite(String suiteName, ObjectMapper jacksonMapper, ObjectMapper msgpackMapper)
+            throws IOException {
+        printBenchmarkHeader(suiteName);
+        System.out.println(TABLE_TOP);
+        System.out.println(TABLE_HEADER);
+        System.out.println(TABLE_SEPARATOR);
+
+        // Encoded pools, replayed to feed the decoders
+        final byte[] jsonPool = trimJsonArray(jacksonMapper.writeValueAsBytes(pool));
+        final byte[] msgpackPool = encodeMessagePackElements(msgpackMapper);
+        final ByteArrayOutputStream protobufPool = new ByteArrayOutputStream();
+        StreamingSerializer.writeProtobufDelimited(pool.iterator(), protobufPool);
+
+        for (long elements = MIN_ELEMENTS; elements <= MAX_ELEMENTS; elements *= 10) {
+            final long n = elements;
+            final int cycles = Math.toIntExact(n / POOL_SIZE);
+
+            final Replay jsonInput = new Replay(new byte[]{'['}, jsonPool, new byte[]{','}, cycles, new byte[]{']'});
+            runEncode("Jackson", n, (out, heap) ->
+                StreamingSerializer.writeJsonArray(jacksonMapper, cycle(n, heap), out));
+            runDecode("Jackson", n, jsonInput, in -> count(StreamingSerializer.readArray(jacksonMapper, in)));
+
+            runEncode("MessagePack", n, (out, heap) ->
+                StreamingSerializer.writeMessagePackArray(msgpackMapper, cycle(n, heap), Math.toIntExact(n), out));
+            runDecode("MessagePack", n, new Replay(arrayHeader(n), msgpackPool, new byte[0], cycles, new byte[0]),
+                in -> count(StreamingSerializer.readArray(msgpackMapper, in)));
+
+            runEncode("Protobuf", n, (out, heap) -> StreamingSerializer.writeProtobufDelimited(cycle(n, heap), out));
+            runDecode("Protobuf", n, new Replay(new byte[0], protobufPool.toByteArray(), new byte[0], cycles, new byte[0]),
+                in -> count(StreamingSerializer.readProtobufDelimited(in)));
+
+            // Whole-list contrast: the output buffer or the decoded list grows with the element count, so it
+            // only runs while it fits comfortably in the heap
+            if (jsonPool.length * (n / POOL_SIZE) * 8 < Runtime.getRuntime().maxMemory()) {
+                runEncode("Jackson-InMemory", n, (out, heap) -> {
+                    out.write(jacksonMapper.writeValueAsBytes(cyclingList(n, heap)));
+                    return n;
+                });
+                runDecode("Jackson-InMemory", n, jsonInput,
+                    in -> count(jacksonMapper.<List<LargePojo>>readValue(in, POJO_LIST_TYPE).iterator()));
+            }
+        }
+
+        System.out.println(TABLE_BOTTOM);
+        System.out.println("\n========================================\n");
+    }
+
+    /**
+     * The encoder samples {@code heap} when it reaches the middle element. The collection that forces is
+     * left out of the timing.
+     */
+    private void runEncode(String serializerName, long elements, Encoder encoder) throws IOException {
+        final CountingOutputStream out = new CountingOutputStream();
+        final LiveHeap heap = LiveHeap.start();
+        final long start = System.nanoTime();
+        final long written = encoder.encode(out, heap);
+        final long elapsed = System.nanoTime() - start - heap.samplingNanos;
+
+        assertEquals(elements, written, serializerName + " should write every element");
+        printRow(serializerName, elements, "encode", elapsed, out.count, heap.liveBytes());
+    }
+
+    /**
+     * Samples the live heap once half of the input has been read.
+     */
+    private void runDecode(String serializerName, long elements, Replay input, Decoder decoder)
+            throws IOException {
+        final LiveHeap heap = LiveHeap.start();
+        final CountingInputStream in = new CountingInputStream(input.open(), input.length() / 2, heap);
+        final long start = System.nanoTime();
+        final long read = decoder.decode(in);
+        final long elapsed = System.nanoTime() - start - heap.samplingNanos;
+
+        assertEquals(elements, read, serializerName + " should read every element");
+        printRow(serializerName, elements, "decode", elapsed, in.count, heap.liveBytes());
+    }
+
+    private void printRow(String serializerName, long elements, String direction, long elapsedNanos,
+                          long bytes, long liveHeapBytes) {
+        final double seconds = elapsedNanos / 1_000_000_000.0;
+        System.out.printf("│ %-16s │ %,10d │ %-10s │ %,13.0f │ %8.1f │ %15.1f │%n",
+            serializerName, elements, direction, elements / seconds, bytes / 1_048_576.0 / seconds,
+            liveHeapBytes / 1_048_576.0);
+    }
+
+    /**
+     * Counts the decoded elements, checking each against the pool entry it was encoded from.
+     */
+    private static long count(Iterator<LargePojo> pojos) {
+        long count = 0;
+        while (pojos.hasNext()) {
+            final LargePojo pojo = pojos.next();
+            if (count < POOL_SIZE) {
+                assertEquals(pool.get((int) count), pojo, "Decoded element " + count + " should match");
+            }
+            count++;
+        }
+        return count;
+    }
+
+    private static List<LargePojo> drain(Iterator<LargePojo> pojos) {
+        final List<LargePojo> result = new ArrayList<>();
+        pojos.forEachRemaining(result::add);
+        return result;
+    }
+
+    /**
+     * Cycles through the pool, sampling {@code heap} when the middle element is handed out.
+     */
+    private static Iterator<LargePojo> cycle(long elements, LiveHeap heap) {
+        return new Iterator<>() {
+            private long index;
+
+            @Override
+            public boolean hasNext() {
+                return index < elements;
+            }
+
+            @Override
+            public LargePojo next() {
+                if (index >= elements) {
+                    throw new NoSuchElementException();
+                }
+                if (index == elements / 2) {
+                    heap.sample();
+                }
+                return pool.get((int) (index++ % POOL_SIZE));
+            }
+        };
+    }
+
+    private static List<LargePojo> cyclingList(long elements, LiveHeap heap) {
+        final int size = Math.toIntExact(elements);
+        return new AbstractList<>() {
+            @Override
+            public LargePojo get(int index) {
+                if (index == size / 2) {
+                    heap.sample();
+                }
+                return pool.get(index % POOL_SIZE);
+            }
+
+            @Override
+            public int size() {
+                return size;
+            }
+        };
+    }
+
+    private static byte[] trimJsonArray(byte[] json) {
+        final String text = new String(json, StandardCharsets.UTF_8);
+        assertTrue(text.startsWith("[") && text.endsWith("]"), "Expected a top-level JSON array");
+        return Arrays.copyOfRange(json, 1, json.length - 1);
+    }
+
+    private static byte[] encodeMessagePackElements(ObjectMapper mapper) throws IOException {
+        final ByteArrayOutputStream elements = new ByteArrayOutputStream();
+        for (LargePojo pojo : pool) {
+            elements.write(mapper.writeValueAsBytes(pojo));
+        }
+        return elements.toByteArray();
+    }
+
+    private static byte[] arrayHeader(long elements) {
+        try (MessageBufferPacker packer = MessagePack.newDefaultBufferPacker()) {
+            packer.packArrayHeader(Math.toIntExact(elements));
+            return packer.toByteArray();
+        } catch (IOException e) {
+            throw new RuntimeException(e);
+        }
+    }
+
+    private void printBenchmarkHeader(String suiteName) {
+        System.out.println("\n========================================");
+        System.out.println("  Streaming Throughput - " + suiteName);
+        System.out.println("  (" + MIN_ELEMENTS + " to " + MAX_ELEMENTS + " LargePojo elements, pool of " + POOL_SIZE + ")");
+        System.out.println("========================================\n");
+    }
+
+    @FunctionalInterface
+    private interface Encoder {
+        long encode(OutputStream out, LiveHeap heap) throws IOException;
+    }
+
+    @FunctionalInterface
+    private interface Decoder {
+        long decode(InputStream in) throws IOException;
+    }
+
+    /**
+     * Prefix, {@code cycles} copies of the chunk joined by the separator, and suffix, streamed without ever
+     * holding more than one copy of the chunk.
+     */
+    private static final class Replay {
+
+        private final byte[] prefix;
+        private final byte[] chunk;
+        private final byte[] separator;
+        private final int cycles;
+        private final byte[] suffix;
+
+        Replay(byte[] prefix, byte[] chunk, byte[] separator, int cycles, byte[] suffix) {
+            this.prefix = prefix;
+            this.chunk = chunk;
+            this.separator = separator;
+            this.cycles = cycles;
+            this.suffix = suffix;
+        }
+
+        long length() {
+            return prefix.length + (long) chunk.length * cycles + (long) separator.length * (cycles - 1)
+                + suffix.length;
+        }
+
+        InputStream open() {
+            return new SequenceInputStream(new Enumeration<>() {
+                private int part;
+                private final int parts = 2 * cycles + 1;
+
+                @Override
+                public boolean hasMoreElements() {
+                    return part <= parts;
+                }
+
+                @Override
+                public InputStream nextElement() {
+                    final int current = part++;
+                    if (current == 0) {
+                        return new ByteArrayInputStream(prefix);
+                    } else if (current == parts) {
+                        return new ByteArrayInputStream(suffix);
+                    } else if (current % 2 == 1) {
+                        return new ByteArrayInputStream(chunk);
+                    }
+                    return new ByteArrayInputStream(current == parts - 1 ? new byte[0] : separator);
+                }
+            });
+        }
+    }
+
+    /**
+     * Heap a run keeps reachable. {@link #sample()} forces a full collection and reads what the heap pools
+     * hold after it ({@link MemoryPoolMXBean#getCollectionUsage()}), less the same figure taken at
+     * {@link #start()}. Peak usage would mostly show how full eden got before a young collection.
+     */
+    private static final class LiveHeap {
+
+        private final List<MemoryPoolMXBean> pools;
+        private final long baselineBytes;
+        private long liveBytes;
+        private long samplingNanos;
+
+        private LiveHeap(List<MemoryPoolMXBean> pools) {
+            this.pools = pools;
+            this.baselineBytes = collectedBytes();
+        }
+
+        static LiveHeap start() {
+            final List<MemoryPoolMXBean> heapPools = new ArrayList<>();
+            for (MemoryPoolMXBean memoryPool : ManagementFactory.getMemoryPoolMXBeans()) {
+                // Pools without collection usage (none on HotSpot's heap) have no after-GC figure to read
+                if (memoryPool.getType() == MemoryType.HEAP && memoryPool.isValid()
+                        && memoryPool.getCollectionUsage() != null) {
+                    heapPools.add(memoryPool);
+                }
+            }
+            return new LiveHeap(heapPools);
+        }
+
+        void sample() {
+            final long start = System.nanoTime();
+            liveBytes = Math.max(liveBytes, collectedBytes() - baselineBytes);
+            samplingNanos += System.nanoTime() - start;
+        }
+
+        long liveBytes() {
+            return liveBytes;
+        }
+
+        private long collectedBytes() {
+            System.gc();
+            long used = 0;
+            for (MemoryPoolMXBean memoryPool : pools) {
+                used += memoryPool.getCollectionUsage().getUsed();
+            }
+            return used;
+        }
+    }
+
+    private static final class CountingOutputStream extends OutputStream {
+
+        private long count;
+
+        @Override
+        public void write(int b) {
+            count++;
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) {
+            count += len;
+        }
+    }
+
+    private static final class CountingInputStream extends InputStream {
+
+        private final InputStream delegate;
+        private final long sampleAt;
+        private final LiveHeap heap;
+        private long count;
+        private boolean sampled;
+
+        /**
+         * @param sampleAt byte count at which to sample {@code heap}
+         */
+        CountingInputStream(InputStream delegate, long sampleAt, LiveHeap heap) {
+            this.delegate = delegate;
+            this.sampleAt = sampleAt;
+            this.heap = heap;
+        }
+
+        @Override
+        public int read() throws IOException {
+            final int b = delegate.read();
+            if (b >= 0) {
+                advance(1);
+            }
+            return b;
+        }
+
+        @Override
+        public int read(byte[] b, int off, int len) throws IOException {
+            final int read = delegate.read(b, off, len);
+            if (read > 0) {
+                advance(read);
+            }
+            return read;
+        }
+
+        private void advance(int bytes) {
+            count += bytes;
+            if (!sampled && count >= sampleAt) {
+                sampled = true;
+                heap.sample();
+            }
+        }
+    }
+}
@@ -0,0 +1,224 @@
+package org.example;
+
+import org.example.codec.Codec;
+import org.example.codec.CodecRegistry;
+import org.example.codec.Codecs;
+import org.example.util.TestDataFactory;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.IntSupplier;
+import java.util.function.Supplier;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Measures aggregate throughput when many threads share one serializer instance, as request
+ * threads do in production. Each serializer config runs on 1, 2, 4 … N threads, first on a fixed
+ * platform thread pool and then, on JDK 21+, on virtual threads.
+ * <p>
+ * The serializers are the shared codecs of {@link CodecRegistry#standard(boolean)}, encoding to a
+ * {@code byte[]}; Protobuf includes the conversion from POJOs.
+ * <p>
+ * N defaults to twice the available processors; override with {@code -Dscaling.maxThreads}.
+ * The warmup and measurement windows are set with {@code -Dscaling.warmupMs} and
+ * {@code -Dscaling.durationMs}.
+ */
+@DisplayName("Serializer Throughput Scaling Benchmarks")
+class ThroughputScalingTest {
+
+    private static final int LIST_SIZE = 20;
+    private static final int MAX_THREADS = Integer.getInteger("scaling.maxThreads",
+        Runtime.getRuntime().availableProcessors() * 2);
+    private static final long WARMUP_MS = Long.getLong("scaling.warmupMs", 500);
+    private static final long SETTLE_MS = 50;
+    private static final long DURATION_MS = Long.getLong("scaling.durationMs", 250);
+
+    // Table formatting constants
+    private static final String TABLE_TOP = "┌─────────────────┬─────────┬─────────────────┬───────────┬────────────┐";
+    private static final String TABLE_HEADER = "│ Serializer      │ Threads │  Ops/s (total)  │  Speedup  │ Efficiency │";
+    private static final String TABLE_SEPARATOR = "├─────────────────┼─────────┼─────────────────┼───────────┼────────────┤";
+    private static final String TABLE_BOTTOM = "└─────────────────┴─────────┴─────────────────┴───────────┴────────────┘";
+
+    private static List<LargePojo> testData;
+
+    @BeforeAll
+    static void setUp() {
+        // Initialize test data
+        testData = TestDataFactory.createPojoList(LIST_SIZE);
+    }
+
+    @Test
+    @DisplayName("Scale serializers with null fields serialized across threads")
+    void scaleSerializersWithNullFieldsSerialized() throws Exception {
+        runScalingSuite("WITH NULLS", CodecRegistry.standard(true));
+    }
+
+    @Test
+    @DisplayName("Scale serializers with null fields excluded across threads")
+    void scaleSerializersWithNullFieldsExcluded() throws Exception {
+        runScalingSuite("WITHOUT NULLS", CodecRegistry.standard(false));
+    }
+
+    private void runScalingSuite(String suiteName, CodecRegistry registry) throws Exception {
+        final Map<String, IntSupplier> serializers = new LinkedHashMap<>();
+        for (Codec<List<LargePojo>> codec : registry.<List<LargePojo>>getAll(Codecs.LARGE_POJO_LIST)) {
+            serializers.put(codec.format(), () -> encode(codec).length);
+        }
+
+        runScaling(suiteName, "platform threads", Executors::newFixedThreadPool, serializers);
+
+        final Supplier<ExecutorService> virtualThreads = virtualThreadExecutorFactory();
+        if (virtualThreads != null) {
+            runScaling(suiteName, "virtual threads", threads -> virtualThreads.get(), serializers);
+        } else {
+            System.out.println("  Virtual threads need JDK 21+; skipped on " + Runtime.version().feature());
+        }
+    }
+
+    private void runScaling(String suiteName, String executorName, ExecutorFactory executorFactory,
+                            Map<String, IntSupplier> serializers) throws Exception {
+        printBenchmarkHeader(suiteName, executorName);
+        System.out.println(TABLE_TOP);
+        System.out.println(TABLE_HEADER);
+        System.out.println(TABLE_SEPARATOR);
+
+        for (Map.Entry<String, IntSupplier> serializer : serializers.entrySet()) {
+            // Warm up at the highest thread count so every level runs compiled code
+            final ExecutorService warmupExecutor = executorFactory.create(MAX_THREADS);
+            try {
+                measureThroughput(warmupExecutor, MAX_THREADS, serializer.getValue(), WARMUP_MS);
+            } finally {
+                warmupExecutor.shutdown();
+                warmupExecutor.awaitTermination(10, TimeUnit.SECONDS);
+            }
+
+            double singleThreadOpsPerSecond = 0;
+            for (int threads : threadCounts()) {
+                final ExecutorService executor = executorFactory.create(threads);
+                try {
+                    // Let the pool spin up its threads before the measured window
+                    measureThroughput(executor, threads, serializer.getValue(), SETTLE_MS);
+                    final double opsPerSecond = measureThroughput(executor, threads, serializer.getValue(), DURATION_MS);
+                    assertTrue(opsPerSecond > 0, serializer.getKey() + " should complete operations on "
+                        + threads + " " + executorName);
+
+                    if (threads == 1) {
+                        singleThreadOpsPerSecond = opsPerSecond;
+                    }
+                    final double speedup = opsPerSecond / singleThreadOpsPerSecond;
+                    System.out.printf("│ %-15s │ %7d │ %,15.0f │ %8.2fx │ %9.1f%% │%n",
+                        serializer.getKey(), threads, opsPerSecond, speedup, speedup / threads * 100);
+                } finally {
+                    executor.shutdown();
+                    executor.awaitTermination(10, TimeUnit.SECONDS);
+                }
+            }
+        }
+
+        System.out.println(TABLE_BOTTOM);
+        System.out.println("\n========================================\n");
+    }
+
+    /**
+     * Runs {@code threads} concurrent loops over the shared serializer for {@code durationMs}
+     * and returns the aggregate operations per second.
+     */
+    private static double measureThroughput(ExecutorService executor, int threads, IntSupplier serializer,
+                                            long durationMs) throws InterruptedException, ExecutionException {
+        final CountDownLatch ready = new CountDownLatch(threads);
+        final CountDownLatch start = new CountDownLatch(1);
+        final AtomicLong deadline = new AtomicLong();
+        final List<Future<Long>> workers = new ArrayList<>(threads);
+
+        for (int t = 0; t < threads; t++) {
+            workers.add(executor.submit(() -> {
+                ready.countDown();
+                start.await();
+                final long end = deadline.get();
+                long operations = 0;
+                long bytes = 0;
+                while (System.nanoTime() < end) {
+                    bytes += serializer.getAsInt();
+                    operations++;
+                }
+                // Consume the output so the loop cannot be optimized away
+                return bytes > 0 ? operations : 0L;
+            }));
+        }
+
+        ready.await();
+        final long startTime = System.nanoTime();
+        deadline.set(startTime + TimeUnit.MILLISECONDS.toNanos(durationMs));
+        start.countDown();
+
+        long totalOperations = 0;
+        for (Future<Long> worker : workers) {
+            totalOperations += worker.get();
+        }
+        final long elapsed = System.nanoTime() - startTime;
+        return totalOperations / (elapsed / 1_000_000_000.0);
+    }
+
+    private static List<Integer> threadCounts() {
+        final List<Integer> counts = new ArrayList<>();
+        for (int threads = 1; threads < MAX_THREADS; threads *= 2) {
+            counts.add(threads);
+        }
+        counts.add(MAX_THREADS);
+        return counts;
+    }
+
+    /**
+     * {@code Executors.newVirtualThreadPerTaskExecutor} looked up reflectively, since the
+     * project compiles for Java 17. Returns null when the running JDK has no virtual threads.
+     */
+    private static Supplier<ExecutorService> virtualThreadExecutorFactory() {
+        try {
+            final java.lang.reflect.Method factory = Executors.class.getMethod("newVirtualThreadPerTaskExecutor");
+            return () -> {
+                try {
+                    return (ExecutorService) factory.invoke(null);
+                } catch (ReflectiveOperationException e) {
+                    throw new IllegalStateException(e);
+                }
+            };
+        } catch (NoSuchMethodException e) {
+            return null;
+        }
+    }
+
+    private static byte[] encode(Codec<List<LargePojo>> codec) {
+        try {
+            return codec.encode(testData);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private void printBenchmarkHeader(String suiteName, String executorName) {
+        System.out.println("\n========================================");
+        System.out.println("  Throughput Scaling - " + suiteName + " (" + executorName + ")");
+        System.out.println("  (List of " + LIST_SIZE + " LargePojo objects, up to " + MAX_THREADS + " threads)");
+        System.out.println("========================================\n");
+    }
+
+    @FunctionalInterface
+    private interface ExecutorFactory {
+        ExecutorService create(int threads);
+    }
+}
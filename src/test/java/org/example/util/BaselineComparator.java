@@ -0,0 +1,166 @@
+package org.example.util;
+
+import lombok.Value;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * Matches the results of a new {@link BenchmarkReport} to saved baseline reports by {@link BenchmarkResult#key()}
+ * and flags the figures that got worse or better.
+ * <p>
+ * A change counts only if it exceeds the relative {@code threshold}. The per-call error inside one report
+ * leaves out what varies between JVM runs (JIT decisions, GC timing, machine state), so it is not used. Given
+ * two or more baselines from independent runs of the same code, the baseline is their mean and a change must
+ * also be at least {@code zScore} run-to-run standard deviations away from it, scaled by
+ * {@code sqrt(1 + 1/runs)} for the one new run. With a single baseline, or for figures that do not vary
+ * between runs such as payload size, the threshold alone decides.
+ */
+public class BaselineComparator {
+
+    public enum Status {
+        REGRESSION,
+        IMPROVEMENT,
+        UNCHANGED,
+        /** Only in the new report. */
+        ADDED,
+        /** Only in the baseline. */
+        REMOVED
+    }
+
+    @Value
+    public static class Comparison {
+        String key;
+        BenchmarkResult baseline;
+        BenchmarkResult current;
+        /** Relative change from the baseline, e.g. 0.12 for 12% worse; NaN when one side is missing. */
+        double change;
+        /** Difference in run-to-run standard deviations; NaN with fewer than two varying baseline runs. */
+        double zScore;
+        Status status;
+    }
+
+    private final double threshold;
+    private final double zScore;
+
+    /**
+     * @param threshold smallest relative change that counts, e.g. 0.05 for 5%
+     * @param zScore    smallest difference in run-to-run standard deviations that counts, e.g. 3.0
+     * @throws IllegalArgumentException if either bound is negative
+     */
+    public BaselineComparator(double threshold, double zScore) {
+        if (threshold < 0 || zScore < 0) {
+            throw new IllegalArgumentException("threshold and zScore must not be negative: " + threshold + ", " + zScore);
+        }
+        this.threshold = threshold;
+        this.zScore = zScore;
+    }
+
+    /**
+     * @param baselines reports from independent runs of the baseline code, at least one
+     * @return one comparison per key in any report: baseline order first, then the keys only in
+     *         {@code current}. A comparison's baseline is the mean over the runs that have the key, with the
+     *         run-to-run standard deviation as its error.
+     * @throws IllegalArgumentException if {@code baselines} is empty
+     */
+    public List<Comparison> compare(List<BenchmarkReport> baselines, BenchmarkReport current) {
+        if (baselines.isEmpty()) {
+            throw new IllegalArgumentException("At least one baseline report is needed");
+        }
+        final Map<String, List<BenchmarkResult>> runsByKey = new LinkedHashMap<>();
+        for (BenchmarkReport baseline : baselines) {
+            for (BenchmarkResult result : baseline.getResults()) {
+                runsByKey.computeIfAbsent(result.key(), key -> new ArrayList<>()).add(result);
+            }
+        }
+        final Map<String, BenchmarkResult> currentByKey = new LinkedHashMap<>();
+        for (BenchmarkResult result : current.getResults()) {
+            currentByKey.put(result.key(), result);
+        }
+
+        final List<Comparison> comparisons = new ArrayList<>();
+        for (Map.Entry<String, List<BenchmarkResult>> entry : runsByKey.entrySet()) {
+            final List<BenchmarkResult> runs = entry.getValue();
+            final BenchmarkResult before = pool(runs);
+            final BenchmarkResult after = currentByKey.remove(entry.getKey());
+            comparisons.add(after == null
+                ? new Comparison(entry.getKey(), before, null, Double.NaN, Double.NaN, Status.REMOVED)
+                : compare(before, runs.size(), after));
+        }
+        for (BenchmarkResult after : currentByKey.values()) {
+            comparisons.add(new Comparison(after.key(), null, after, Double.NaN, Double.NaN, Status.ADDED));
+        }
+        return comparisons;
+    }
+
+    /**
+     * The mean of {@code runs}, with their sample standard deviation as the error (0 for a single run).
+     */
+    private static BenchmarkResult pool(List<BenchmarkResult> runs) {
+        double sum = 0;
+        long samples = 0;
+        for (BenchmarkResult run : runs) {
+            sum += run.getValue();
+            samples += run.getSamples();
+        }
+        final double mean = sum / runs.size();
+        double squares = 0;
+        for (BenchmarkResult run : runs) {
+            squares += (run.getValue() - mean) * (run.getValue() - mean);
+        }
+        final BenchmarkResult first = runs.get(0);
+        return BenchmarkResult.builder()
+            .benchmark(first.getBenchmark())
+            .operation(first.getOperation())
+            .serializer(first.getSerializer())
+            .config(first.getConfig())
+            .metric(first.getMetric())
+            .unit(first.getUnit())
+            .value(mean)
+            .error(runs.size() > 1 ? Math.sqrt(squares / (runs.size() - 1)) : 0)
+            .samples(samples)
+            .build();
+    }
+
+    private Comparison compare(BenchmarkResult before, int runs, BenchmarkResult after) {
+        final double difference = after.getValue() - before.getValue();
+        final double change = before.getValue() != 0 ? difference / before.getValue()
+            : difference == 0 ? 0 : Math.copySign(Double.POSITIVE_INFINITY, difference);
+        // A single new run varies by one run-to-run deviation around a mean known to within deviation / sqrt(runs)
+        final double spread = before.getError() * Math.sqrt(1.0 + 1.0 / runs);
+        final double z = spread > 0 ? difference / spread : Double.NaN;
+
+        final boolean significant = Math.abs(change) > threshold
+            && (Double.isNaN(z) || Math.abs(z) >= zScore);
+        final Status status = !significant ? Status.UNCHANGED
+            : difference > 0 ? Status.REGRESSION : Status.IMPROVEMENT;
+        return new Comparison(before.key(), before, after, change, z, status);
+    }
+
+    /**
+     * Lists JDK, CPU and library version differences, which explain a regression as often as code changes do.
+     */
+    public static List<String> environmentChanges(BenchmarkEnvironment baseline, BenchmarkEnvironment current) {
+        final List<String> changes = new ArrayList<>();
+        addChange(changes, "Java", baseline.getJavaVersion(), current.getJavaVersion());
+        addChange(changes, "VM", baseline.getVmName(), current.getVmName());
+        addChange(changes, "CPU", baseline.getCpuModel(), current.getCpuModel());
+        addChange(changes, "Processors", baseline.getAvailableProcessors(), current.getAvailableProcessors());
+        addChange(changes, "Max heap", baseline.getMaxHeapBytes(), current.getMaxHeapBytes());
+        final Map<String, String> libraries = new LinkedHashMap<>(baseline.getLibraries());
+        current.getLibraries().forEach(libraries::putIfAbsent);
+        for (String library : libraries.keySet()) {
+            addChange(changes, library, baseline.getLibraries().get(library), current.getLibraries().get(library));
+        }
+        return changes;
+    }
+
+    private static void addChange(List<String> changes, String name, Object before, Object after) {
+        if (!Objects.equals(before, after)) {
+            changes.add(name + ": " + before + " -> " + after);
+        }
+    }
+}
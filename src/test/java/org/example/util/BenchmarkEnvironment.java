@@ -0,0 +1,113 @@
+package org.example.util;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.google.gson.Gson;
+import com.google.protobuf.Message;
+import lombok.Builder;
+import lombok.Value;
+import lombok.extern.jackson.Jacksonized;
+import org.msgpack.jackson.dataformat.MessagePackFactory;
+
+import java.io.IOException;
+import java.net.URISyntaxException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.jar.Attributes;
+import java.util.jar.JarFile;
+import java.util.jar.Manifest;
+
+/**
+ * The machine and library versions a {@link BenchmarkReport} was measured on, so a comparison against a
+ * baseline can tell a code change from a JDK, CPU or dependency change.
+ */
+@Value
+@Builder
+@Jacksonized
+public class BenchmarkEnvironment {
+
+    private static final String UNKNOWN = "unknown";
+
+    String javaVersion;
+    String javaVendor;
+    String vmName;
+    String osName;
+    String osArch;
+    String cpuModel;
+    int availableProcessors;
+    long maxHeapBytes;
+
+    /** Serializer library name to the version found on the classpath. */
+    Map<String, String> libraries;
+
+    /**
+     * Describes the running JVM; the CPU model is read from {@code /proc/cpuinfo} where it exists.
+     */
+    public static BenchmarkEnvironment current() {
+        final Map<String, String> libraries = new LinkedHashMap<>();
+        libraries.put("jackson-databind", libraryVersion(ObjectMapper.class));
+        libraries.put("gson", libraryVersion(Gson.class));
+        libraries.put("jackson-dataformat-msgpack", libraryVersion(MessagePackFactory.class));
+        libraries.put("protobuf-java", libraryVersion(Message.class));
+
+        return BenchmarkEnvironment.builder()
+            .javaVersion(System.getProperty("java.version"))
+            .javaVendor(System.getProperty("java.vendor"))
+            .vmName(System.getProperty("java.vm.name"))
+            .osName(System.getProperty("os.name"))
+            .osArch(System.getProperty("os.arch"))
+            .cpuModel(cpuModel())
+            .availableProcessors(Runtime.getRuntime().availableProcessors())
+            .maxHeapBytes(Runtime.getRuntime().maxMemory())
+            .libraries(libraries)
+            .build();
+    }
+
+    /**
+     * {@code Bundle-Version} or {@code Implementation-Version} from the manifest of the jar holding
+     * {@code type}.
+     */
+    static String libraryVersion(Class<?> type) {
+        try {
+            final Path location = Paths.get(type.getProtectionDomain().getCodeSource().getLocation().toURI());
+            if (!Files.isRegularFile(location)) {
+                return UNKNOWN;
+            }
+            try (JarFile jar = new JarFile(location.toFile())) {
+                final Manifest manifest = jar.getManifest();
+                if (manifest == null) {
+                    return UNKNOWN;
+                }
+                final Attributes attributes = manifest.getMainAttributes();
+                final String bundleVersion = attributes.getValue("Bundle-Version");
+                if (bundleVersion != null) {
+                    return bundleVersion;
+                }
+                final String implementationVersion = attributes.getValue(Attributes.Name.IMPLEMENTATION_VERSION);
+                return implementationVersion != null ? implementationVersion : UNKNOWN;
+            }
+        } catch (IOException | URISyntaxException | SecurityException | NullPointerException e) {
+            // No code source (bootstrap class) or unreadable jar
+            return UNKNOWN;
+        }
+    }
+
+    private static String cpuModel() {
+        final Path cpuInfo = Paths.get("/proc/cpuinfo");
+        if (Files.isReadable(cpuInfo)) {
+            try {
+                for (String line : Files.readAllLines(cpuInfo)) {
+                    if (line.startsWith("model name")) {
+                        return line.substring(line.indexOf(':') + 1).trim();
+                    }
+                }
+            } catch (IOException e) {
+                // Fall through to the generic description
+            }
+        }
+        final String identifier = System.getenv("PROCESSOR_IDENTIFIER");
+        return identifier != null ? identifier : System.getProperty("os.arch");
+    }
+}
@@ -0,0 +1,88 @@
+package org.example.util;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.Builder;
+import lombok.Singular;
+import lombok.Value;
+import lombok.extern.jackson.Jacksonized;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * A set of {@link BenchmarkResult}s with the {@link BenchmarkEnvironment} they were measured on, written as
+ * JSON for {@link BaselineComparator} and as flat CSV for spreadsheets and plotting.
+ */
+@Value
+@Builder
+@Jacksonized
+public class BenchmarkReport {
+
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+
+    private static final List<String> CSV_COLUMNS = List.of("benchmark", "operation", "serializer", "config",
+        "metric", "unit", "value", "error", "samples", "javaVersion", "cpuModel", "availableProcessors");
+
+    /** ISO-8601 instant the report was created. */
+    String createdAt;
+
+    BenchmarkEnvironment environment;
+
+    @Singular
+    List<BenchmarkResult> results;
+
+    public void writeJson(Path file) throws IOException {
+        createParentDirectories(file);
+        MAPPER.writerWithDefaultPrettyPrinter().writeValue(file.toFile(), this);
+    }
+
+    /**
+     * @throws IOException if the file cannot be read or is not a report written by {@link #writeJson(Path)}
+     */
+    public static BenchmarkReport readJson(Path file) throws IOException {
+        return MAPPER.readValue(file.toFile(), BenchmarkReport.class);
+    }
+
+    /**
+     * One row per result, with the JDK and CPU repeated on every row so files can be concatenated.
+     */
+    public void writeCsv(Path file) throws IOException {
+        createParentDirectories(file);
+        try (Writer csv = Files.newBufferedWriter(file, StandardCharsets.UTF_8)) {
+            csv.write(String.join(",", CSV_COLUMNS));
+            csv.write('\n');
+            for (BenchmarkResult result : results) {
+                csv.write(Stream.of(result.getBenchmark(), result.getOperation(), result.getSerializer(),
+                        result.getConfig(), result.getMetric(), result.getUnit(), result.getValue(), result.getError(),
+                        result.getSamples(), environment.getJavaVersion(), environment.getCpuModel(),
+                        environment.getAvailableProcessors())
+                    .map(BenchmarkReport::csvField)
+                    .collect(Collectors.joining(",")));
+                csv.write('\n');
+            }
+        }
+    }
+
+    /**
+     * Quotes fields containing a comma, quote or line break, as RFC 4180 does.
+     */
+    private static String csvField(Object value) {
+        final String text = String.valueOf(value);
+        if (text.indexOf(',') < 0 && text.indexOf('"') < 0 && text.indexOf('\n') < 0 && text.indexOf('\r') < 0) {
+            return text;
+        }
+        return '"' + text.replace("\"", "\"\"") + '"';
+    }
+
+    private static void createParentDirectories(Path file) throws IOException {
+        if (file.toAbsolutePath().getParent() != null) {
+            Files.createDirectories(file.toAbsolutePath().getParent());
+        }
+    }
+}
@@ -0,0 +1,49 @@
+package org.example.util;
+
+import lombok.Builder;
+import lombok.Value;
+import lombok.extern.jackson.Jacksonized;
+
+/**
+ * One measured figure, such as Jackson's average serialization time with nulls included.
+ * <p>
+ * Every metric is a cost, so a higher value is always worse. {@link #getError()} is the standard error of the
+ * value over the calls of one run, in the same unit, or 0 when the figure does not vary (payload size). It does
+ * not include variance between runs; {@link BaselineComparator} puts the run-to-run standard deviation there
+ * for a baseline pooled from several runs.
+ */
+@Value
+@Builder
+@Jacksonized
+public class BenchmarkResult {
+
+    /** Benchmark class the figure comes from, e.g. {@code SerializationTest}. */
+    String benchmark;
+
+    /** e.g. {@code Serialization} or {@code Round-Trip}. */
+    String operation;
+
+    String serializer;
+
+    /** Serializer configuration, e.g. {@code WITH NULLS}. */
+    String config;
+
+    /** e.g. {@code avgTime}, {@code size} or {@code allocPerOp}. */
+    String metric;
+
+    String unit;
+
+    double value;
+
+    double error;
+
+    /** Number of measured calls behind {@link #getValue()}. */
+    long samples;
+
+    /**
+     * Identifies the same figure across runs: everything except the measured numbers.
+     */
+    public String key() {
+        return String.join(" / ", benchmark, operation, serializer, config, metric);
+    }
+}
@@ -0,0 +1,100 @@
+package org.example.util;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.google.gson.Gson;
+import com.google.gson.reflect.TypeToken;
+import org.example.LargePojo;
+import org.example.proto.LargePojoProto;
+import org.msgpack.jackson.dataformat.MessagePackFactory;
+
+import java.lang.management.ManagementFactory;
+import java.lang.reflect.Type;
+import java.util.List;
+import java.util.concurrent.Callable;
+
+/**
+ * Entry point run in a fresh JVM for each cold-start measurement; see {@code ColdStartBenchmarkTest}.
+ * <p>
+ * Builds the test data first, so its classes are loaded before timing starts, then times constructing one
+ * serializer and {@value #CALLS} round trips (serialize then deserialize the list) with it. Prints a single
+ * {@value #RESULT_PREFIX} line with the nanoseconds from JVM start to {@code main}, the construction and each
+ * call, separated by spaces.
+ * <p>
+ * Usage: {@code ColdStartProbe <Jackson|Gson|MessagePack|Protobuf> [listSize]}
+ */
+public final class ColdStartProbe {
+
+    public static final String RESULT_PREFIX = "COLDSTART";
+    public static final int CALLS = 10;
+
+    private ColdStartProbe() {
+    }
+
+    public static void main(String[] args) throws Exception {
+        final long mainEntered = System.currentTimeMillis();
+        if (args.length < 1) {
+            throw new IllegalArgumentException("Usage: ColdStartProbe <Jackson|Gson|MessagePack|Protobuf> [listSize]");
+        }
+        final String format = args[0];
+        final int listSize = args.length > 1 ? Integer.parseInt(args[1]) : 20;
+        final long jvmToMainNanos = (mainEntered - ManagementFactory.getRuntimeMXBean().getStartTime()) * 1_000_000L;
+
+        final List<LargePojo> data = TestDataFactory.createPojoList(listSize);
+
+        final long constructStart = System.nanoTime();
+        final Callable<Object> roundTrip = construct(format, data);
+        final long constructNanos = System.nanoTime() - constructStart;
+
+        final long[] calls = new long[CALLS];
+        Object last = null;
+        for (int i = 0; i < CALLS; i++) {
+            final long start = System.nanoTime();
+            last = roundTrip.call();
+            calls[i] = System.nanoTime() - start;
+        }
+        if (!data.equals(last)) {
+            throw new IllegalStateException(format + " round trip did not reproduce the input");
+        }
+
+        final StringBuilder line = new StringBuilder(RESULT_PREFIX)
+            .append(' ').append(jvmToMainNanos)
+            .append(' ').append(constructNanos);
+        for (long call : calls) {
+            line.append(' ').append(call);
+        }
+        System.out.println(line);
+    }
+
+    /**
+     * Creates the serializer the way a service would at start-up and returns one round trip over {@code data}.
+     */
+    private static Callable<Object> construct(String format, List<LargePojo> data) {
+        switch (format) {
+            case "Jackson": {
+                final ObjectMapper mapper = new ObjectMapper();
+                final TypeReference<List<LargePojo>> type = new TypeReference<>() {};
+                return () -> mapper.readValue(mapper.writeValueAsBytes(data), type);
+            }
+            case "Gson": {
+                final Gson gson = new Gson();
+                final Type type = new TypeToken<List<LargePojo>>() {}.getType();
+                return () -> gson.fromJson(gson.toJson(data), type);
+            }
+            case "MessagePack": {
+                final ObjectMapper mapper = new ObjectMapper(new MessagePackFactory());
+                final TypeReference<List<LargePojo>> type = new TypeReference<>() {};
+                return () -> mapper.readValue(mapper.writeValueAsBytes(data), type);
+            }
+            case "Protobuf": {
+                // Forces descriptor building for large_pojo.proto and its imports
+                LargePojoProto.getDescriptor();
+                LargePojoProto.LargePojoList.getDefaultInstance();
+                return () -> ProtobufConverter.convertListFromProto(LargePojoProto.LargePojoList.parseFrom(
+                    ProtobufConverter.convertListToProto(data).toByteArray()));
+            }
+            default:
+                throw new IllegalArgumentException("Unknown format: " + format);
+        }
+    }
+}
@@ -0,0 +1,136 @@
+package org.example.util;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.zip.DataFormatException;
+import java.util.zip.Deflater;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+import java.util.zip.Inflater;
+
+/**
+ * JDK-only compression stage applied after a serializer, for measuring size against CPU cost.
+ * <p>
+ * The {@code DEFLATE_*} codecs produce zlib streams with a {@link Deflater}/{@link Inflater} that is created
+ * once per thread and level and {@code reset()} between calls, which avoids the native zlib setup of a new
+ * instance per payload. {@link #GZIP} goes through {@link GZIPOutputStream}/{@link GZIPInputStream} as most
+ * callers use it, with a fresh {@code Deflater} per stream.
+ */
+public enum CompressionCodec {
+    NONE("None", 0),
+    DEFLATE_FAST("Deflate-1", Deflater.BEST_SPEED),
+    DEFLATE_DEFAULT("Deflate-6", 6),
+    DEFLATE_BEST("Deflate-9", Deflater.BEST_COMPRESSION),
+    GZIP("GZIP", Deflater.DEFAULT_COMPRESSION);
+
+    private static final int CHUNK_SIZE = 32 * 1024;
+
+    private static final ThreadLocal<Deflater[]> DEFLATERS =
+        ThreadLocal.withInitial(() -> new Deflater[Deflater.BEST_COMPRESSION + 1]);
+    private static final ThreadLocal<Inflater> INFLATER = ThreadLocal.withInitial(Inflater::new);
+    private static final ThreadLocal<byte[]> CHUNK = ThreadLocal.withInitial(() -> new byte[CHUNK_SIZE]);
+
+    private final String label;
+    private final int level;
+
+    CompressionCodec(String label, int level) {
+        this.label = label;
+        this.level = level;
+    }
+
+    /**
+     * Short display name, e.g. {@code Deflate-6}.
+     */
+    public String getLabel() {
+        return label;
+    }
+
+    public byte[] compress(byte[] input) {
+        return compress(input, 0, input.length);
+    }
+
+    /**
+     * Compresses {@code length} bytes of {@code input}; {@link #NONE} returns a copy.
+     */
+    public byte[] compress(byte[] input, int offset, int length) {
+        switch (this) {
+            case NONE: {
+                final byte[] copy = new byte[length];
+                System.arraycopy(input, offset, copy, 0, length);
+                return copy;
+            }
+            case GZIP: {
+                final ByteArrayOutputStream out = new ByteArrayOutputStream(Math.max(64, length / 4));
+                try (GZIPOutputStream gzip = new GZIPOutputStream(out, CHUNK_SIZE)) {
+                    gzip.write(input, offset, length);
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+                return out.toByteArray();
+            }
+            default: {
+                final Deflater deflater = deflater(level);
+                deflater.setInput(input, offset, length);
+                deflater.finish();
+                final byte[] chunk = CHUNK.get();
+                final ByteArrayOutputStream out = new ByteArrayOutputStream(Math.max(64, length / 4));
+                while (!deflater.finished()) {
+                    final int written = deflater.deflate(chunk);
+                    out.write(chunk, 0, written);
+                }
+                return out.toByteArray();
+            }
+        }
+    }
+
+    /**
+     * Reverses {@link #compress}.
+     *
+     * @throws IllegalArgumentException if {@code input} is not a valid stream for this codec
+     */
+    public byte[] decompress(byte[] input) {
+        switch (this) {
+            case NONE:
+                return input.clone();
+            case GZIP:
+                try (GZIPInputStream gzip = new GZIPInputStream(new ByteArrayInputStream(input), CHUNK_SIZE)) {
+                    return gzip.readAllBytes();
+                } catch (IOException e) {
+                    throw new IllegalArgumentException("Corrupt GZIP stream", e);
+                }
+            default: {
+                final Inflater inflater = INFLATER.get();
+                inflater.reset();
+                inflater.setInput(input);
+                final byte[] chunk = CHUNK.get();
+                final ByteArrayOutputStream out = new ByteArrayOutputStream(input.length * 4);
+                try {
+                    while (!inflater.finished()) {
+                        final int read = inflater.inflate(chunk);
+                        if (read == 0 && (inflater.needsInput() || inflater.needsDictionary())) {
+                            throw new IllegalArgumentException("Truncated deflate stream");
+                        }
+                        out.write(chunk, 0, read);
+                    }
+                } catch (DataFormatException e) {
+                    throw new IllegalArgumentException("Corrupt deflate stream", e);
+                }
+                return out.toByteArray();
+            }
+        }
+    }
+
+    private static Deflater deflater(int level) {
+        final Deflater[] deflaters = DEFLATERS.get();
+        Deflater deflater = deflaters[level];
+        if (deflater == null) {
+            deflater = new Deflater(level);
+            deflaters[level] = deflater;
+        } else {
+            deflater.reset();
+        }
+        return deflater;
+    }
+}
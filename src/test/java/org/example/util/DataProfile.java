@@ -0,0 +1,169 @@
+package org.example.util;
+
+import lombok.Builder;
+import lombok.Value;
+
+import java.util.Locale;
+import java.util.SplittableRandom;
+
+/**
+ * Shape of the seeded test data produced by {@link TestDataFactory#createPojoList(int, DataProfile)}.
+ * <p>
+ * The same profile and size always produce the same list, and a shorter list is a prefix of a longer one.
+ * {@link #fromSystemProperties()} reads overrides from {@code testdata.*} system properties, so any benchmark
+ * can be rerun against a different shape without code changes.
+ */
+@Value
+@Builder(toBuilder = true)
+public class DataProfile {
+
+    /** Seed for every random choice; change it to get a different but equally shaped dataset. */
+    @Builder.Default
+    long seed = 42L;
+
+    /**
+     * Probability that a field is populated. References, boxed values, strings and collections stay null
+     * otherwise; primitives keep their zero default. 0.15 matches the ~30 of 200 fields the fixed data fills.
+     */
+    @Builder.Default
+    double fillRatio = 0.15;
+
+    @Builder.Default
+    int stringMinLength = 4;
+
+    @Builder.Default
+    int stringMaxLength = 48;
+
+    @Builder.Default
+    StringCharset charset = StringCharset.MIXED;
+
+    @Builder.Default
+    BlobSizeDistribution blobDistribution = BlobSizeDistribution.EXPONENTIAL;
+
+    /** Mean size of the random {@code DeepNestedPojo} blobs; 0 leaves them out. */
+    @Builder.Default
+    int blobMeanSize = 500;
+
+    /** Number of strings in {@code field113}; 0 leaves the list null. */
+    @Builder.Default
+    int stringListSize = 3;
+
+    /** Number of integers in {@code field114}; 0 leaves the list null. */
+    @Builder.Default
+    int intListSize = 3;
+
+    /** Number of entries in {@code field115}; 0 leaves the map null. */
+    @Builder.Default
+    int mapSize = 2;
+
+    /**
+     * Default profile with any {@code testdata.<property>} system property applied on top, e.g.
+     * {@code -Dtestdata.fillRatio=0.5 -Dtestdata.charset=cjk -Dtestdata.blobMeanSize=4096}.
+     */
+    public static DataProfile fromSystemProperties() {
+        final DataProfile defaults = builder().build();
+        return builder()
+            .seed(Long.getLong("testdata.seed", defaults.seed))
+            .fillRatio(doubleProperty("testdata.fillRatio", defaults.fillRatio))
+            .stringMinLength(Integer.getInteger("testdata.stringMinLength", defaults.stringMinLength))
+            .stringMaxLength(Integer.getInteger("testdata.stringMaxLength", defaults.stringMaxLength))
+            .charset(enumProperty("testdata.charset", StringCharset.class, defaults.charset))
+            .blobDistribution(enumProperty("testdata.blobDistribution", BlobSizeDistribution.class,
+                defaults.blobDistribution))
+            .blobMeanSize(Integer.getInteger("testdata.blobMeanSize", defaults.blobMeanSize))
+            .stringListSize(Integer.getInteger("testdata.stringListSize", defaults.stringListSize))
+            .intListSize(Integer.getInteger("testdata.intListSize", defaults.intListSize))
+            .mapSize(Integer.getInteger("testdata.mapSize", defaults.mapSize))
+            .build();
+    }
+
+    private static double doubleProperty(String name, double defaultValue) {
+        final String value = System.getProperty(name);
+        return value != null ? Double.parseDouble(value) : defaultValue;
+    }
+
+    private static <E extends Enum<E>> E enumProperty(String name, Class<E> type, E defaultValue) {
+        final String value = System.getProperty(name);
+        return value != null ? Enum.valueOf(type, value.trim().toUpperCase(Locale.ROOT)) : defaultValue;
+    }
+
+    /**
+     * Characters used for generated strings and {@code char} fields.
+     * <p>
+     * Everything but {@link #ASCII} needs a UTF-8 JVM default charset: jackson-dataformat-msgpack does not
+     * round-trip non-ASCII strings or {@code char}s under a POSIX/C locale. The Maven build pins
+     * {@code -Dfile.encoding=UTF-8}; pass it too when running the tests from an IDE.
+     */
+    public enum StringCharset {
+        /** Printable ASCII only: one UTF-8 byte per character. */
+        ASCII,
+        /** ASCII mixed with accented Latin-1 letters: one or two UTF-8 bytes. */
+        LATIN_1,
+        /** CJK ideographs: three UTF-8 bytes per character. */
+        CJK,
+        /** Mostly ASCII with accented letters, CJK and emoji (surrogate pairs, four UTF-8 bytes). */
+        MIXED;
+
+        /**
+         * Appends one code point; {@code bmpOnly} excludes emoji, which do not fit in a {@code char}.
+         */
+        void appendCodePoint(StringBuilder target, SplittableRandom random, boolean bmpOnly) {
+            switch (this) {
+                case ASCII:
+                    target.append((char) random.nextInt(0x20, 0x7F));
+                    break;
+                case LATIN_1:
+                    target.append(random.nextInt(4) == 0
+                        ? (char) random.nextInt(0xC0, 0x100)
+                        : (char) random.nextInt(0x20, 0x7F));
+                    break;
+                case CJK:
+                    target.append((char) random.nextInt(0x4E00, 0xA000));
+                    break;
+                case MIXED:
+                    final int pick = random.nextInt(10);
+                    if (pick < 7) {
+                        ASCII.appendCodePoint(target, random, bmpOnly);
+                    } else if (pick == 7) {
+                        target.append((char) random.nextInt(0xC0, 0x100));
+                    } else if (pick == 8 || bmpOnly) {
+                        CJK.appendCodePoint(target, random, bmpOnly);
+                    } else {
+                        target.appendCodePoint(random.nextInt(0x1F600, 0x1F650));
+                    }
+                    break;
+                default:
+                    throw new IllegalStateException("Unknown charset: " + this);
+            }
+        }
+    }
+
+    /**
+     * How blob sizes vary around {@link #getBlobMeanSize()}.
+     */
+    public enum BlobSizeDistribution {
+        /** Every blob has exactly the mean size. */
+        FIXED,
+        /** Uniform between 1 and twice the mean. */
+        UNIFORM,
+        /** Exponential with the given mean, capped at 16x: many small blobs and a long tail. */
+        EXPONENTIAL;
+
+        int sample(SplittableRandom random, int mean) {
+            if (mean <= 0) {
+                return 0;
+            }
+            switch (this) {
+                case FIXED:
+                    return mean;
+                case UNIFORM:
+                    return random.nextInt(1, 2 * mean + 1);
+                case EXPONENTIAL:
+                    final double size = -mean * Math.log(1.0 - random.nextDouble());
+                    return (int) Math.max(1, Math.min(size, 16.0 * mean));
+                default:
+                    throw new IllegalStateException("Unknown distribution: " + this);
+            }
+        }
+    }
+}
@@ -0,0 +1,66 @@
+package org.example.util;
+
+import com.fasterxml.jackson.annotation.JsonIdentityInfo;
+import com.fasterxml.jackson.annotation.ObjectIdGenerators;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.google.gson.Gson;
+import org.example.LargePojo;
+import org.example.NestedPojo;
+
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.Map;
+
+/**
+ * Opt-in deduplication of repeated {@code LargePojo} and {@code NestedPojo} sub-graphs: the first occurrence
+ * is written in full and every later one as a back-reference to it.
+ * <p>
+ * {@link #IDENTITY} only treats the same instance as a repeat, which is cheap but misses equal copies.
+ * {@link #CONTENT} compares by {@code equals}/{@code hashCode}, so equal copies collapse too, at the cost of
+ * hashing every record; it must only be used when the objects are not mutated while being written. Either
+ * way, decoding returns repeated sub-graphs as one shared instance.
+ */
+public enum DedupMode {
+    IDENTITY,
+    CONTENT;
+
+    /**
+     * Returns a copy of {@code mapper} that writes each record and ref object with an {@code "@id"} property
+     * the first time and as that bare id afterwards, in the style of {@link JsonIdentityInfo}. Works for JSON
+     * and MessagePack mappers; the copy can read what it writes back into shared instances.
+     */
+    public ObjectMapper applyTo(ObjectMapper mapper) {
+        final ObjectMapper copy = mapper.copy()
+            .addMixIn(LargePojo.class, LargePojoMixIn.class)
+            .addMixIn(NestedPojo.class, NestedPojoMixIn.class);
+        return copy.configure(SerializationFeature.USE_EQUALITY_FOR_OBJECT_ID, this == CONTENT);
+    }
+
+    /**
+     * Returns a copy of {@code gson} that writes each record and ref object as {@code {"@id":n,"@value":...}}
+     * the first time and as the bare id afterwards; see {@link DedupTypeAdapterFactory}. Ids span the
+     * outermost collection being written, and the copy reads what it writes back into shared instances.
+     */
+    public Gson applyTo(Gson gson) {
+        return gson.newBuilder().registerTypeAdapterFactory(new DedupTypeAdapterFactory(this)).create();
+    }
+
+    /**
+     * Map from an already written object to its index, keyed the way this mode matches repeats.
+     */
+    <K> Map<K, Integer> newIndex() {
+        return this == IDENTITY ? new IdentityHashMap<>() : new HashMap<>();
+    }
+
+    // Separate scopes so records and ref objects get their own id sequences
+    @JsonIdentityInfo(generator = ObjectIdGenerators.IntSequenceGenerator.class, property = "@id",
+        scope = LargePojo.class)
+    private abstract static class LargePojoMixIn {
+    }
+
+    @JsonIdentityInfo(generator = ObjectIdGenerators.IntSequenceGenerator.class, property = "@id",
+        scope = NestedPojo.class)
+    private abstract static class NestedPojoMixIn {
+    }
+}
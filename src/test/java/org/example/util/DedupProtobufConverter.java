@@ -0,0 +1,146 @@
+package org.example.util;
+
+import org.example.LargePojo;
+import org.example.NestedPojo;
+import org.example.proto.LargePojoProto;
+import org.example.proto.NestedProto;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.function.BiConsumer;
+import java.util.function.Function;
+
+/**
+ * Converts between a {@code LargePojo} list and a {@code DedupLargePojoList}, the Protobuf side-table form in
+ * which each distinct record and ref object is converted and written once and list items and ref fields are
+ * indices into those tables.
+ */
+public class DedupProtobufConverter {
+
+    private static final List<Function<LargePojo, NestedPojo>> REF_GETTERS = List.of(
+        LargePojo::getRef1,
+        LargePojo::getRef2,
+        LargePojo::getRef3,
+        LargePojo::getRef4,
+        LargePojo::getRef5,
+        LargePojo::getRef6,
+        LargePojo::getRef7,
+        LargePojo::getRef8,
+        LargePojo::getRef9,
+        LargePojo::getRef10,
+        LargePojo::getRef11,
+        LargePojo::getRef12,
+        LargePojo::getRef13,
+        LargePojo::getRef14,
+        LargePojo::getRef15,
+        LargePojo::getRef16,
+        LargePojo::getRef17,
+        LargePojo::getRef18,
+        LargePojo::getRef19,
+        LargePojo::getRef20);
+
+    private static final List<BiConsumer<LargePojo, NestedPojo>> REF_SETTERS = List.of(
+        LargePojo::setRef1,
+        LargePojo::setRef2,
+        LargePojo::setRef3,
+        LargePojo::setRef4,
+        LargePojo::setRef5,
+        LargePojo::setRef6,
+        LargePojo::setRef7,
+        LargePojo::setRef8,
+        LargePojo::setRef9,
+        LargePojo::setRef10,
+        LargePojo::setRef11,
+        LargePojo::setRef12,
+        LargePojo::setRef13,
+        LargePojo::setRef14,
+        LargePojo::setRef15,
+        LargePojo::setRef16,
+        LargePojo::setRef17,
+        LargePojo::setRef18,
+        LargePojo::setRef19,
+        LargePojo::setRef20);
+
+    public static LargePojoProto.DedupLargePojoList convertListToProto(List<? extends LargePojo> pojos,
+                                                                       DedupMode mode) {
+        final LargePojoProto.DedupLargePojoList.Builder builder = LargePojoProto.DedupLargePojoList.newBuilder();
+        final Map<LargePojo, Integer> pojoIndex = mode.newIndex();
+        final Map<NestedPojo, Integer> nestedIndex = mode.newIndex();
+
+        for (LargePojo pojo : pojos) {
+            Integer index = pojoIndex.get(pojo);
+            if (index == null) {
+                index = pojoIndex.size();
+                pojoIndex.put(pojo, index);
+                builder.addPojos(ProtobufConverter.convertFieldsToProto(pojo, LargePojoProto.LargePojo.newBuilder()));
+                for (Function<LargePojo, NestedPojo> getter : REF_GETTERS) {
+                    builder.addRefs(nestedReference(getter.apply(pojo), nestedIndex, builder));
+                }
+            }
+            builder.addItems(index);
+        }
+        return builder.build();
+    }
+
+    /**
+     * @return 0 for null, otherwise 1 + the index of {@code nested} in the table, adding it if it is new
+     */
+    private static int nestedReference(NestedPojo nested, Map<NestedPojo, Integer> nestedIndex,
+                                       LargePojoProto.DedupLargePojoList.Builder builder) {
+        if (nested == null) {
+            return 0;
+        }
+        Integer index = nestedIndex.get(nested);
+        if (index == null) {
+            index = nestedIndex.size();
+            nestedIndex.put(nested, index);
+            builder.addNested(ProtobufConverter.convertNestedToProto(nested));
+        }
+        return index + 1;
+    }
+
+    /**
+     * Rebuilds the list; items and ref fields that point at the same table entry share one instance.
+     *
+     * @throws IllegalArgumentException if an index is out of range or a record does not have 20 ref entries
+     */
+    public static List<LargePojo> convertListFromProto(LargePojoProto.DedupLargePojoList protoList) {
+        if (protoList.getRefsCount() != protoList.getPojosCount() * REF_SETTERS.size()) {
+            throw new IllegalArgumentException("Expected " + REF_SETTERS.size() + " refs per record but found "
+                + protoList.getRefsCount() + " for " + protoList.getPojosCount() + " records");
+        }
+
+        final List<NestedPojo> nested = new ArrayList<>(protoList.getNestedCount());
+        for (NestedProto.Nested proto : protoList.getNestedList()) {
+            nested.add(ProtobufConverter.convertNestedFromProto(proto));
+        }
+
+        final List<LargePojo> distinct = new ArrayList<>(protoList.getPojosCount());
+        for (int i = 0; i < protoList.getPojosCount(); i++) {
+            final LargePojo pojo = ProtobufConverter.convertFieldsFromProto(protoList.getPojos(i), new LargePojo());
+            for (int ref = 0; ref < REF_SETTERS.size(); ref++) {
+                final int reference = protoList.getRefs(i * REF_SETTERS.size() + ref);
+                if (reference != 0) {
+                    REF_SETTERS.get(ref).accept(pojo, lookup(nested, reference - 1, "nested"));
+                }
+            }
+            distinct.add(pojo);
+        }
+
+        final List<LargePojo> pojos = new ArrayList<>(protoList.getItemsCount());
+        for (int i = 0; i < protoList.getItemsCount(); i++) {
+            pojos.add(lookup(distinct, protoList.getItems(i), "pojos"));
+        }
+        return pojos;
+    }
+
+    private static <T> T lookup(List<T> table, int index, String tableName) {
+        // Indices are uint32 on the wire, so a corrupt one can arrive negative
+        if (index < 0 || index >= table.size()) {
+            throw new IllegalArgumentException("Index " + Integer.toUnsignedString(index) + " is outside the "
+                + tableName + " table of " + table.size() + " entries");
+        }
+        return table.get(index);
+    }
+}
@@ -0,0 +1,201 @@
+package org.example.util;
+
+import com.google.gson.Gson;
+import com.google.gson.JsonSyntaxException;
+import com.google.gson.TypeAdapter;
+import com.google.gson.TypeAdapterFactory;
+import com.google.gson.reflect.TypeToken;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+import com.google.gson.stream.JsonWriter;
+import org.example.LargePojo;
+import org.example.NestedPojo;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Gson side of {@link DedupMode}: writes a {@code LargePojo} or {@code NestedPojo} the first time as
+ * {@code {"@id":1,"@value":{...}}} and every repeat as the bare id, and reads repeats back as the instance
+ * read first.
+ * <p>
+ * Gson's reflective adapter cannot add a property to the object it writes, so unlike
+ * {@code @JsonIdentityInfo} the id wraps the object instead of being inlined. Records and ref objects have
+ * separate id sequences starting at 1.
+ * <p>
+ * Ids are only valid within one document. The outermost collection, record or ref adapter that runs on a
+ * thread opens a scope holding the id tables, and closes it when it returns; for a {@code List<LargePojo>}
+ * that is the list adapter, so ids span the whole list.
+ */
+final class DedupTypeAdapterFactory implements TypeAdapterFactory {
+
+    private static final String ID = "@id";
+    private static final String VALUE = "@value";
+
+    private final DedupMode mode;
+    private final ThreadLocal<Scope> scope = new ThreadLocal<>();
+
+    DedupTypeAdapterFactory(DedupMode mode) {
+        this.mode = mode;
+    }
+
+    @Override
+    public <T> TypeAdapter<T> create(Gson gson, TypeToken<T> type) {
+        final Class<? super T> rawType = type.getRawType();
+        if (rawType == LargePojo.class || rawType == NestedPojo.class) {
+            return new IdAdapter<>(gson.getDelegateAdapter(this, type), rawType == LargePojo.class);
+        }
+        if (Collection.class.isAssignableFrom(rawType)) {
+            return new ScopeAdapter<>(gson.getDelegateAdapter(this, type));
+        }
+        return null;
+    }
+
+    /**
+     * Runs {@code call} in the current scope, opening one for its duration if there is none.
+     */
+    private <R> R inScope(ScopedCall<R> call) throws IOException {
+        final Scope current = scope.get();
+        if (current != null) {
+            return call.run(current);
+        }
+        final Scope opened = new Scope(mode);
+        scope.set(opened);
+        try {
+            return call.run(opened);
+        } finally {
+            scope.remove();
+        }
+    }
+
+    @FunctionalInterface
+    private interface ScopedCall<R> {
+        R run(Scope scope) throws IOException;
+    }
+
+    /**
+     * Id tables of one document: objects written so far with their ids, and objects read so far by id.
+     */
+    private static final class Scope {
+        private final Table records;
+        private final Table refs;
+
+        Scope(DedupMode mode) {
+            this.records = new Table(mode.newIndex());
+            this.refs = new Table(mode.newIndex());
+        }
+
+        Table table(boolean record) {
+            return record ? records : refs;
+        }
+    }
+
+    private static final class Table {
+        private final Map<Object, Integer> written;
+        private final List<Object> read = new ArrayList<>();
+
+        Table(Map<Object, Integer> written) {
+            this.written = written;
+        }
+    }
+
+    /**
+     * Passes a collection through to its usual adapter inside a scope, so its elements share id tables.
+     */
+    private final class ScopeAdapter<T> extends TypeAdapter<T> {
+        private final TypeAdapter<T> delegate;
+
+        ScopeAdapter(TypeAdapter<T> delegate) {
+            this.delegate = delegate;
+        }
+
+        @Override
+        public void write(JsonWriter out, T value) throws IOException {
+            inScope(current -> {
+                delegate.write(out, value);
+                return null;
+            });
+        }
+
+        @Override
+        public T read(JsonReader in) throws IOException {
+            return inScope(current -> delegate.read(in));
+        }
+    }
+
+    private final class IdAdapter<T> extends TypeAdapter<T> {
+        private final TypeAdapter<T> delegate;
+        private final boolean record;
+
+        IdAdapter(TypeAdapter<T> delegate, boolean record) {
+            this.delegate = delegate;
+            this.record = record;
+        }
+
+        @Override
+        public void write(JsonWriter out, T value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            inScope(current -> {
+                final Table table = current.table(record);
+                final Integer id = table.written.get(value);
+                if (id != null) {
+                    out.value(id);
+                    return null;
+                }
+                final int newId = table.written.size() + 1;
+                table.written.put(value, newId);
+                out.beginObject();
+                out.name(ID).value(newId);
+                delegate.write(out.name(VALUE), value);
+                out.endObject();
+                return null;
+            });
+        }
+
+        @Override
+        public T read(JsonReader in) throws IOException {
+            final JsonToken token = in.peek();
+            if (token == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            return inScope(current -> {
+                final Table table = current.table(record);
+                if (token == JsonToken.NUMBER) {
+                    final int id = in.nextInt();
+                    if (id < 1 || id > table.read.size()) {
+                        throw new JsonSyntaxException("Unknown " + ID + " " + id + " at " + in.getPath());
+                    }
+                    @SuppressWarnings("unchecked")
+                    final T repeat = (T) table.read.get(id - 1);
+                    return repeat;
+                }
+                in.beginObject();
+                expectName(in, ID);
+                final int id = in.nextInt();
+                if (id != table.read.size() + 1) {
+                    throw new JsonSyntaxException("Expected " + ID + " " + (table.read.size() + 1) + " but found "
+                        + id + " at " + in.getPath());
+                }
+                expectName(in, VALUE);
+                final T value = delegate.read(in);
+                in.endObject();
+                table.read.add(value);
+                return value;
+            });
+        }
+
+        private void expectName(JsonReader in, String name) throws IOException {
+            final String found = in.nextName();
+            if (!name.equals(found)) {
+                throw new JsonSyntaxException("Expected " + name + " but found " + found + " at " + in.getPath());
+            }
+        }
+    }
+}
@@ -0,0 +1,274 @@
+package org.example.util;
+
+import com.fasterxml.jackson.core.JsonParseException;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.google.protobuf.CodedInputStream;
+import com.google.protobuf.Descriptors.Descriptor;
+import com.google.protobuf.Descriptors.FieldDescriptor;
+import com.google.protobuf.WireFormat;
+import org.example.proto.LargePojoProto;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Reads a fixed set of field paths, such as {@code field116} or {@code ref1.field1}, out of a serialized
+ * {@code LargePojo} list without building any {@code LargePojo} or Protobuf message objects.
+ * <p>
+ * Each record yields an {@code Object[]} with one slot per path, in the order the paths were given; missing
+ * and null fields leave the slot null. Jackson and MessagePack payloads are walked token by token, with
+ * {@link JsonParser#skipChildren()} over every value that is not on a requested path. Protobuf payloads are
+ * walked tag by tag with {@link CodedInputStream#skipField(int)}, and once every requested field of a
+ * message has been read the rest of it is skipped in one step via its length prefix. Proto3 does not write
+ * scalar fields at their default value, so a requested scalar missing from a message that is present reads
+ * as that default (0, {@code ""}, {@code false}), as the message getter would return it; slots under an
+ * absent message stay null.
+ * <p>
+ * Paths must name singular fields declared in {@code large_pojo.proto}; repeated and map fields, and paths
+ * that are a prefix of another path, are rejected.
+ */
+public final class FieldProjection {
+
+    private static final int LIST_ITEMS_TAG = 1 << 3 | WireFormat.WIRETYPE_LENGTH_DELIMITED;
+
+    private final List<String> paths;
+    private final Node root;
+
+    private FieldProjection(List<String> paths) {
+        this.paths = Collections.unmodifiableList(new ArrayList<>(paths));
+        this.root = new Node(LargePojoProto.LargePojo.getDescriptor());
+        for (int slot = 0; slot < paths.size(); slot++) {
+            root.add(paths.get(slot), paths.get(slot).split("\\."), 0, slot);
+        }
+    }
+
+    /**
+     * @throws IllegalArgumentException if a path does not name a singular field, or overlaps another path
+     */
+    public static FieldProjection of(String... paths) {
+        return of(List.of(paths));
+    }
+
+    public static FieldProjection of(List<String> paths) {
+        return new FieldProjection(paths);
+    }
+
+    public List<String> getPaths() {
+        return paths;
+    }
+
+    /**
+     * Projects a list written by {@code mapper}, which may be a JSON or a MessagePack mapper.
+     */
+    public List<Object[]> readJackson(ObjectMapper mapper, byte[] payload) throws IOException {
+        try (JsonParser p = mapper.createParser(payload)) {
+            if (p.nextToken() != JsonToken.START_ARRAY) {
+                throw new JsonParseException(p, "Expected an array of LargePojo objects");
+            }
+            final List<Object[]> rows = new ArrayList<>();
+            for (JsonToken token = p.nextToken(); token != JsonToken.END_ARRAY; token = p.nextToken()) {
+                if (token != JsonToken.START_OBJECT) {
+                    throw new JsonParseException(p, "Expected a LargePojo object but found " + token);
+                }
+                final Object[] values = new Object[paths.size()];
+                readObject(p, root, values);
+                rows.add(values);
+            }
+            return rows;
+        }
+    }
+
+    /**
+     * Projects a serialized {@code LargePojoList} message.
+     */
+    public List<Object[]> readProtobuf(byte[] payload) throws IOException {
+        final CodedInputStream input = CodedInputStream.newInstance(payload);
+        final List<Object[]> rows = new ArrayList<>();
+        for (int tag = input.readTag(); tag != 0; tag = input.readTag()) {
+            if (tag != LIST_ITEMS_TAG) {
+                input.skipField(tag);
+                continue;
+            }
+            final int oldLimit = input.pushLimit(input.readRawVarint32());
+            final Object[] values = new Object[paths.size()];
+            readMessage(input, root, values);
+            input.popLimit(oldLimit);
+            rows.add(values);
+        }
+        return rows;
+    }
+
+    /**
+     * Called with the parser on {@code START_OBJECT}; returns with it on the matching {@code END_OBJECT}.
+     */
+    private static void readObject(JsonParser p, Node node, Object[] values) throws IOException {
+        for (String name = p.nextFieldName(); name != null; name = p.nextFieldName()) {
+            final JsonToken token = p.nextToken();
+            final Node child = node.byName.get(name);
+            if (child == null) {
+                p.skipChildren();
+            } else if (child.slot >= 0) {
+                values[child.slot] = readScalar(p, token);
+            } else if (token == JsonToken.START_OBJECT) {
+                readObject(p, child, values);
+            } else {
+                p.skipChildren();
+            }
+        }
+    }
+
+    private static Object readScalar(JsonParser p, JsonToken token) throws IOException {
+        switch (token) {
+            case VALUE_STRING:
+                return p.getText();
+            case VALUE_NUMBER_INT:
+            case VALUE_NUMBER_FLOAT:
+                return p.getNumberValue();
+            case VALUE_TRUE:
+                return Boolean.TRUE;
+            case VALUE_FALSE:
+                return Boolean.FALSE;
+            case VALUE_NULL:
+                return null;
+            case VALUE_EMBEDDED_OBJECT:
+                // MessagePack binary
+                return p.getEmbeddedObject();
+            default:
+                throw new JsonParseException(p, "Expected a scalar value but found " + token);
+        }
+    }
+
+    /**
+     * Reads up to the current limit, or until every requested child of {@code node} has been seen; the
+     * remainder of the message is then skipped without being parsed.
+     */
+    private static void readMessage(CodedInputStream input, Node node, Object[] values) throws IOException {
+        int remaining = node.childCount;
+        while (remaining > 0) {
+            final int tag = input.readTag();
+            if (tag == 0) {
+                fillDefaults(node, values);
+                return;
+            }
+            final Node child = node.byNumber(WireFormat.getTagFieldNumber(tag));
+            if (child == null || WireFormat.getTagWireType(tag) != child.wireType) {
+                input.skipField(tag);
+                continue;
+            }
+            if (child.slot >= 0) {
+                values[child.slot] = readValue(input, child.field);
+            } else {
+                final int oldLimit = input.pushLimit(input.readRawVarint32());
+                readMessage(input, child, values);
+                input.popLimit(oldLimit);
+            }
+            remaining--;
+        }
+        input.skipRawBytes(input.getBytesUntilLimit());
+    }
+
+    /**
+     * Gives every scalar child of {@code node} that was not on the wire its default value.
+     */
+    private static void fillDefaults(Node node, Object[] values) {
+        for (Node child : node.byNumber) {
+            if (child != null && child.slot >= 0 && values[child.slot] == null && !child.field.hasPresence()) {
+                values[child.slot] = child.field.getType() == FieldDescriptor.Type.BYTES
+                    ? new byte[0] : child.field.getDefaultValue();
+            }
+        }
+    }
+
+    private static Object readValue(CodedInputStream input, FieldDescriptor field) throws IOException {
+        switch (field.getType()) {
+            case STRING:
+                return input.readStringRequireUtf8();
+            case INT32:
+                return input.readInt32();
+            case INT64:
+                return input.readInt64();
+            case DOUBLE:
+                return input.readDouble();
+            case FLOAT:
+                return input.readFloat();
+            case BOOL:
+                return input.readBool();
+            case BYTES:
+                return input.readByteArray();
+            default:
+                throw new IllegalStateException("Unsupported field type " + field.getType());
+        }
+    }
+
+    /**
+     * One level of the projection: a scalar leaf with a value slot, or a message with children looked up
+     * by JSON name and by Protobuf field number.
+     */
+    private static final class Node {
+        private final Descriptor descriptor;
+        private final FieldDescriptor field;
+        private final int wireType;
+        private final Map<String, Node> byName = new HashMap<>();
+        private Node[] byNumber = new Node[0];
+        private int childCount;
+        private int slot = -1;
+
+        Node(Descriptor descriptor) {
+            this(descriptor, null);
+        }
+
+        private Node(Descriptor descriptor, FieldDescriptor field) {
+            this.descriptor = descriptor;
+            this.field = field;
+            this.wireType = field == null ? WireFormat.WIRETYPE_LENGTH_DELIMITED : field.getLiteType().getWireType();
+        }
+
+        void add(String path, String[] segments, int depth, int slot) {
+            if (descriptor == null) {
+                throw new IllegalArgumentException("Path " + path + " goes below scalar field " + field.getName());
+            }
+            final FieldDescriptor childField = descriptor.findFieldByName(segments[depth]);
+            if (childField == null) {
+                throw new IllegalArgumentException("Unknown field " + segments[depth] + " in path " + path);
+            }
+            if (childField.isRepeated()) {
+                throw new IllegalArgumentException("Only singular fields can be projected: " + path);
+            }
+            final boolean leaf = depth == segments.length - 1;
+            final boolean message = childField.getJavaType() == FieldDescriptor.JavaType.MESSAGE;
+            if (leaf && message) {
+                throw new IllegalArgumentException("Path " + path + " must end at a scalar field");
+            }
+
+            Node child = byName.get(childField.getName());
+            if (child == null) {
+                child = new Node(message ? childField.getMessageType() : null, childField);
+                byName.put(childField.getName(), child);
+                if (byNumber.length <= childField.getNumber()) {
+                    byNumber = Arrays.copyOf(byNumber, childField.getNumber() + 1);
+                }
+                byNumber[childField.getNumber()] = child;
+                childCount++;
+            } else if (leaf || child.slot >= 0) {
+                throw new IllegalArgumentException("Path " + path + " overlaps another projected path");
+            }
+
+            if (leaf) {
+                child.slot = slot;
+            } else {
+                child.add(path, segments, depth + 1, slot);
+            }
+        }
+
+        Node byNumber(int number) {
+            return number < byNumber.length ? byNumber[number] : null;
+        }
+    }
+}
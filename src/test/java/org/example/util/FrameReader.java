@@ -0,0 +1,67 @@
+package org.example.util;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.ReadableByteChannel;
+
+/**
+ * Reassembles {@link WireFraming} frames from a channel that returns arbitrary slices of the stream.
+ * <p>
+ * Each {@link #readFrom} reads whatever the channel has into one heap buffer, hands every complete payload to
+ * the handler straight from that buffer, and compacts the partial frame left at the end to the front. The
+ * buffer doubles when a single frame does not fit. Not thread-safe: one reader per connection.
+ */
+public class FrameReader {
+
+    private final WireFraming framing;
+    private ByteBuffer buffer;
+    private int scanned;
+    private long bytesRead;
+
+    public FrameReader(WireFraming framing, int initialCapacity) {
+        this.framing = framing;
+        this.buffer = ByteBuffer.allocate(initialCapacity);
+    }
+
+    /**
+     * Reads once from {@code channel}, which may be blocking or non-blocking, and decodes every frame that is
+     * now complete.
+     *
+     * @param handler gets each payload from position to limit; the bytes are overwritten by later reads
+     * @return number of frames handled, or -1 at end of stream
+     */
+    public int readFrom(ReadableByteChannel channel, PayloadHandler handler) throws IOException {
+        if (!buffer.hasRemaining()) {
+            buffer = WireFraming.grow(buffer, buffer.position());
+        }
+        final int read = channel.read(buffer);
+        if (read < 0) {
+            return -1;
+        }
+        bytesRead += read;
+
+        buffer.flip();
+        int frames = 0;
+        int end;
+        while ((end = framing.frameEnd(buffer, scanned)) >= 0) {
+            final ByteBuffer payload = buffer.duplicate();
+            payload.limit(end - framing.getTrailerBytes()).position(buffer.position() + framing.getHeaderBytes());
+            handler.accept(payload);
+            buffer.position(end);
+            scanned = 0;
+            frames++;
+        }
+        scanned = buffer.remaining();
+        buffer.compact();
+        return frames;
+    }
+
+    public long getBytesRead() {
+        return bytesRead;
+    }
+
+    @FunctionalInterface
+    public interface PayloadHandler {
+        void accept(ByteBuffer payload) throws IOException;
+    }
+}
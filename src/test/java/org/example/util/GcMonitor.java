@@ -0,0 +1,97 @@
+package org.example.util;
+
+import com.sun.management.GarbageCollectionNotificationInfo;
+
+import javax.management.NotificationEmitter;
+import javax.management.NotificationListener;
+import javax.management.openmbean.CompositeData;
+import java.lang.management.GarbageCollectorMXBean;
+import java.lang.management.ManagementFactory;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Accumulates garbage collection count and pause time from {@link GarbageCollectorMXBean}
+ * notifications.
+ * <p>
+ * GC is JVM-wide, so figures cover every thread running while a benchmark is measured.
+ * Notifications are delivered asynchronously; {@link #snapshot()} waits briefly until they
+ * have caught up with the collection count reported by the MXBeans.
+ */
+public class GcMonitor {
+
+    private static final long CATCH_UP_TIMEOUT_MS = 200;
+
+    private static final GcMonitor INSTANCE = new GcMonitor();
+
+    private final List<GarbageCollectorMXBean> collectors = ManagementFactory.getGarbageCollectorMXBeans();
+    private final AtomicLong collectionCount = new AtomicLong();
+    private final AtomicLong collectionTimeMs = new AtomicLong();
+    private final long initialMxBeanCount;
+
+    private GcMonitor() {
+        final NotificationListener listener = (notification, handback) -> {
+            if (GarbageCollectionNotificationInfo.GARBAGE_COLLECTION_NOTIFICATION.equals(notification.getType())) {
+                final GarbageCollectionNotificationInfo info =
+                    GarbageCollectionNotificationInfo.from((CompositeData) notification.getUserData());
+                collectionTimeMs.addAndGet(info.getGcInfo().getDuration());
+                collectionCount.incrementAndGet();
+            }
+        };
+        initialMxBeanCount = mxBeanCollectionCount();
+        for (GarbageCollectorMXBean collector : collectors) {
+            if (collector instanceof NotificationEmitter) {
+                ((NotificationEmitter) collector).addNotificationListener(listener, null, null);
+            }
+        }
+    }
+
+    public static GcMonitor getInstance() {
+        return INSTANCE;
+    }
+
+    /**
+     * Current cumulative GC count and pause time since this monitor was created.
+     */
+    public Snapshot snapshot() {
+        final long expectedCount = mxBeanCollectionCount() - initialMxBeanCount;
+        final long deadline = System.nanoTime() + CATCH_UP_TIMEOUT_MS * 1_000_000L;
+        while (collectionCount.get() < expectedCount && System.nanoTime() < deadline) {
+            Thread.onSpinWait();
+        }
+        return new Snapshot(collectionCount.get(), collectionTimeMs.get());
+    }
+
+    private long mxBeanCollectionCount() {
+        long count = 0;
+        for (GarbageCollectorMXBean collector : collectors) {
+            count += Math.max(0, collector.getCollectionCount());
+        }
+        return count;
+    }
+
+    public static final class Snapshot {
+        private final long count;
+        private final long timeMs;
+
+        Snapshot(long count, long timeMs) {
+            this.count = count;
+            this.timeMs = timeMs;
+        }
+
+        public long getCount() {
+            return count;
+        }
+
+        public long getTimeMs() {
+            return timeMs;
+        }
+
+        /**
+         * Collections and pause time between {@code earlier} and this snapshot.
+         */
+        public Snapshot since(Snapshot earlier) {
+            return new Snapshot(count - earlier.count, timeMs - earlier.timeMs);
+        }
+    }
+}
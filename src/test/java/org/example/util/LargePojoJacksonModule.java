@@ -0,0 +1,1529 @@
+package org.example.util;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.core.SerializableString;
+import com.fasterxml.jackson.core.io.SerializedString;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.deser.std.StdDeserializer;
+import com.fasterxml.jackson.databind.module.SimpleModule;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+import org.example.DeepNestedPojo;
+import org.example.LargePojo;
+import org.example.NestedPojo;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Hand-written Jackson serializers and deserializers for {@link LargePojo}, {@link NestedPojo} and
+ * {@link DeepNestedPojo}, registered as a {@link SimpleModule}.
+ * <p>
+ * They drive {@link JsonGenerator}/{@link JsonParser} directly with pre-encoded {@link SerializedString} field
+ * names, instead of bean introspection and a property writer per Lombok getter. Field names, order and value
+ * encodings match the reflective serializers, so payloads are interchangeable in both directions, and the
+ * module works unchanged on {@code jackson-dataformat-msgpack} mappers. Null references are left out when the
+ * mapper's default inclusion is stricter than {@code ALWAYS}; primitives are always written.
+ */
+public class LargePojoJacksonModule extends SimpleModule {
+
+    public LargePojoJacksonModule() {
+        super("LargePojoJacksonModule");
+        addSerializer(LargePojo.class, new LargePojoSerializer());
+        addDeserializer(LargePojo.class, new LargePojoDeserializer());
+        addSerializer(NestedPojo.class, new NestedPojoSerializer());
+        addDeserializer(NestedPojo.class, NestedPojoDeserializer.INSTANCE);
+        addSerializer(DeepNestedPojo.class, new DeepNestedPojoSerializer());
+        addDeserializer(DeepNestedPojo.class, DeepNestedPojoDeserializer.INSTANCE);
+    }
+
+    static final class LargePojoSerializer extends StdSerializer<LargePojo> {
+
+        private static final SerializedString REF1 = new SerializedString("ref1");
+        private static final SerializedString REF2 = new SerializedString("ref2");
+        private static final SerializedString REF3 = new SerializedString("ref3");
+        private static final SerializedString REF4 = new SerializedString("ref4");
+        private static final SerializedString REF5 = new SerializedString("ref5");
+        private static final SerializedString REF6 = new SerializedString("ref6");
+        private static final SerializedString REF7 = new SerializedString("ref7");
+        private static final SerializedString REF8 = new SerializedString("ref8");
+        private static final SerializedString REF9 = new SerializedString("ref9");
+        private static final SerializedString REF10 = new SerializedString("ref10");
+        private static final SerializedString REF11 = new SerializedString("ref11");
+        private static final SerializedString REF12 = new SerializedString("ref12");
+        private static final SerializedString REF13 = new SerializedString("ref13");
+        private static final SerializedString REF14 = new SerializedString("ref14");
+        private static final SerializedString REF15 = new SerializedString("ref15");
+        private static final SerializedString REF16 = new SerializedString("ref16");
+        private static final SerializedString REF17 = new SerializedString("ref17");
+        private static final SerializedString REF18 = new SerializedString("ref18");
+        private static final SerializedString REF19 = new SerializedString("ref19");
+        private static final SerializedString REF20 = new SerializedString("ref20");
+        private static final SerializedString FIELD21 = new SerializedString("field21");
+        private static final SerializedString FIELD22 = new SerializedString("field22");
+        private static final SerializedString FIELD23 = new SerializedString("field23");
+        private static final SerializedString FIELD24 = new SerializedString("field24");
+        private static final SerializedString FIELD25 = new SerializedString("field25");
+        private static final SerializedString FIELD26 = new SerializedString("field26");
+        private static final SerializedString FIELD27 = new SerializedString("field27");
+        private static final SerializedString FIELD28 = new SerializedString("field28");
+        private static final SerializedString FIELD29 = new SerializedString("field29");
+        private static final SerializedString FIELD30 = new SerializedString("field30");
+        private static final SerializedString FIELD31 = new SerializedString("field31");
+        private static final SerializedString FIELD32 = new SerializedString("field32");
+        private static final SerializedString FIELD33 = new SerializedString("field33");
+        private static final SerializedString FIELD34 = new SerializedString("field34");
+        private static final SerializedString FIELD35 = new SerializedString("field35");
+        private static final SerializedString FIELD36 = new SerializedString("field36");
+        private static final SerializedString FIELD37 = new SerializedString("field37");
+        private static final SerializedString FIELD38 = new SerializedString("field38");
+        private static final SerializedString FIELD39 = new SerializedString("field39");
+        private static final SerializedString FIELD40 = new SerializedString("field40");
+        private static final SerializedString FIELD41 = new SerializedString("field41");
+        private static final SerializedString FIELD42 = new SerializedString("field42");
+        private static final SerializedString FIELD43 = new SerializedString("field43");
+        private static final SerializedString FIELD44 = new SerializedString("field44");
+        private static final SerializedString FIELD45 = new SerializedString("field45");
+        private static final SerializedString FIELD46 = new SerializedString("field46");
+        private static final SerializedString FIELD47 = new SerializedString("field47");
+        private static final SerializedString FIELD48 = new SerializedString("field48");
+        private static final SerializedString FIELD49 = new SerializedString("field49");
+        private static final SerializedString FIELD50 = new SerializedString("field50");
+        private static final SerializedString FIELD51 = new SerializedString("field51");
+        private static final SerializedString FIELD52 = new SerializedString("field52");
+        private static final SerializedString FIELD53 = new SerializedString("field53");
+        private static final SerializedString FIELD54 = new SerializedString("field54");
+        private static final SerializedString FIELD55 = new SerializedString("field55");
+        private static final SerializedString FIELD56 = new SerializedString("field56");
+        private static final SerializedString FIELD57 = new SerializedString("field57");
+        private static final SerializedString FIELD58 = new SerializedString("field58");
+        private static final SerializedString FIELD59 = new SerializedString("field59");
+        private static final SerializedString FIELD60 = new SerializedString("field60");
+        private static final SerializedString FIELD61 = new SerializedString("field61");
+        private static final SerializedString FIELD62 = new SerializedString("field62");
+        private static final SerializedString FIELD63 = new SerializedString("field63");
+        private static final SerializedString FIELD64 = new SerializedString("field64");
+        private static final SerializedString FIELD65 = new SerializedString("field65");
+        private static final SerializedString FIELD66 = new SerializedString("field66");
+        private static final SerializedString FIELD67 = new SerializedString("field67");
+        private static final SerializedString FIELD68 = new SerializedString("field68");
+        private static final SerializedString FIELD69 = new SerializedString("field69");
+        private static final SerializedString FIELD70 = new SerializedString("field70");
+        private static final SerializedString FIELD71 = new SerializedString("field71");
+        private static final SerializedString FIELD72 = new SerializedString("field72");
+        private static final SerializedString FIELD73 = new SerializedString("field73");
+        private static final SerializedString FIELD74 = new SerializedString("field74");
+        private static final SerializedString FIELD75 = new SerializedString("field75");
+        private static final SerializedString FIELD76 = new SerializedString("field76");
+        private static final SerializedString FIELD77 = new SerializedString("field77");
+        private static final SerializedString FIELD78 = new SerializedString("field78");
+        private static final SerializedString FIELD79 = new SerializedString("field79");
+        private static final SerializedString FIELD80 = new SerializedString("field80");
+        private static final SerializedString FIELD81 = new SerializedString("field81");
+        private static final SerializedString FIELD82 = new SerializedString("field82");
+        private static final SerializedString FIELD83 = new SerializedString("field83");
+        private static final SerializedString FIELD84 = new SerializedString("field84");
+        private static final SerializedString FIELD85 = new SerializedString("field85");
+        private static final SerializedString FIELD86 = new SerializedString("field86");
+        private static final SerializedString FIELD87 = new SerializedString("field87");
+        private static final SerializedString FIELD88 = new SerializedString("field88");
+        private static final SerializedString FIELD89 = new SerializedString("field89");
+        private static final SerializedString FIELD90 = new SerializedString("field90");
+        private static final SerializedString FIELD91 = new SerializedString("field91");
+        private static final SerializedString FIELD92 = new SerializedString("field92");
+        private static final SerializedString FIELD93 = new SerializedString("field93");
+        private static final SerializedString FIELD94 = new SerializedString("field94");
+        private static final SerializedString FIELD95 = new SerializedString("field95");
+        private static final SerializedString FIELD96 = new SerializedString("field96");
+        private static final SerializedString FIELD97 = new SerializedString("field97");
+        private static final SerializedString FIELD98 = new SerializedString("field98");
+        private static final SerializedString FIELD99 = new SerializedString("field99");
+        private static final SerializedString FIELD100 = new SerializedString("field100");
+        private static final SerializedString FIELD101 = new SerializedString("field101");
+        private static final SerializedString FIELD102 = new SerializedString("field102");
+        private static final SerializedString FIELD103 = new SerializedString("field103");
+        private static final SerializedString FIELD104 = new SerializedString("field104");
+        private static final SerializedString FIELD105 = new SerializedString("field105");
+        private static final SerializedString FIELD106 = new SerializedString("field106");
+        private static final SerializedString FIELD107 = new SerializedString("field107");
+        private static final SerializedString FIELD108 = new SerializedString("field108");
+        private static final SerializedString FIELD109 = new SerializedString("field109");
+        private static final SerializedString FIELD110 = new SerializedString("field110");
+        private static final SerializedString FIELD111 = new SerializedString("field111");
+        private static final SerializedString FIELD112 = new SerializedString("field112");
+        private static final SerializedString FIELD113 = new SerializedString("field113");
+        private static final SerializedString FIELD114 = new SerializedString("field114");
+        private static final SerializedString FIELD115 = new SerializedString("field115");
+        private static final SerializedString FIELD116 = new SerializedString("field116");
+        private static final SerializedString FIELD117 = new SerializedString("field117");
+        private static final SerializedString FIELD118 = new SerializedString("field118");
+        private static final SerializedString FIELD119 = new SerializedString("field119");
+        private static final SerializedString FIELD120 = new SerializedString("field120");
+        private static final SerializedString FIELD121 = new SerializedString("field121");
+        private static final SerializedString FIELD122 = new SerializedString("field122");
+        private static final SerializedString FIELD123 = new SerializedString("field123");
+        private static final SerializedString FIELD124 = new SerializedString("field124");
+        private static final SerializedString FIELD125 = new SerializedString("field125");
+        private static final SerializedString FIELD126 = new SerializedString("field126");
+        private static final SerializedString FIELD127 = new SerializedString("field127");
+        private static final SerializedString FIELD128 = new SerializedString("field128");
+        private static final SerializedString FIELD129 = new SerializedString("field129");
+        private static final SerializedString FIELD130 = new SerializedString("field130");
+        private static final SerializedString FIELD131 = new SerializedString("field131");
+        private static final SerializedString FIELD132 = new SerializedString("field132");
+        private static final SerializedString FIELD133 = new SerializedString("field133");
+        private static final SerializedString FIELD134 = new SerializedString("field134");
+        private static final SerializedString FIELD135 = new SerializedString("field135");
+        private static final SerializedString FIELD136 = new SerializedString("field136");
+        private static final SerializedString FIELD137 = new SerializedString("field137");
+        private static final SerializedString FIELD138 = new SerializedString("field138");
+        private static final SerializedString FIELD139 = new SerializedString("field139");
+        private static final SerializedString FIELD140 = new SerializedString("field140");
+        private static final SerializedString FIELD141 = new SerializedString("field141");
+        private static final SerializedString FIELD142 = new SerializedString("field142");
+        private static final SerializedString FIELD143 = new SerializedString("field143");
+        private static final SerializedString FIELD144 = new SerializedString("field144");
+        private static final SerializedString FIELD145 = new SerializedString("field145");
+        private static final SerializedString FIELD146 = new SerializedString("field146");
+        private static final SerializedString FIELD147 = new SerializedString("field147");
+        private static final SerializedString FIELD148 = new SerializedString("field148");
+        private static final SerializedString FIELD149 = new SerializedString("field149");
+        private static final SerializedString FIELD150 = new SerializedString("field150");
+        private static final SerializedString FIELD151 = new SerializedString("field151");
+        private static final SerializedString FIELD152 = new SerializedString("field152");
+        private static final SerializedString FIELD153 = new SerializedString("field153");
+        private static final SerializedString FIELD154 = new SerializedString("field154");
+        private static final SerializedString FIELD155 = new SerializedString("field155");
+        private static final SerializedString FIELD156 = new SerializedString("field156");
+        private static final SerializedString FIELD157 = new SerializedString("field157");
+        private static final SerializedString FIELD158 = new SerializedString("field158");
+        private static final SerializedString FIELD159 = new SerializedString("field159");
+        private static final SerializedString FIELD160 = new SerializedString("field160");
+        private static final SerializedString FIELD161 = new SerializedString("field161");
+        private static final SerializedString FIELD162 = new SerializedString("field162");
+        private static final SerializedString FIELD163 = new SerializedString("field163");
+        private static final SerializedString FIELD164 = new SerializedString("field164");
+        private static final SerializedString FIELD165 = new SerializedString("field165");
+        private static final SerializedString FIELD166 = new SerializedString("field166");
+        private static final SerializedString FIELD167 = new SerializedString("field167");
+        private static final SerializedString FIELD168 = new SerializedString("field168");
+        private static final SerializedString FIELD169 = new SerializedString("field169");
+        private static final SerializedString FIELD170 = new SerializedString("field170");
+        private static final SerializedString FIELD171 = new SerializedString("field171");
+        private static final SerializedString FIELD172 = new SerializedString("field172");
+        private static final SerializedString FIELD173 = new SerializedString("field173");
+        private static final SerializedString FIELD174 = new SerializedString("field174");
+        private static final SerializedString FIELD175 = new SerializedString("field175");
+        private static final SerializedString FIELD176 = new SerializedString("field176");
+        private static final SerializedString FIELD177 = new SerializedString("field177");
+        private static final SerializedString FIELD178 = new SerializedString("field178");
+        private static final SerializedString FIELD179 = new SerializedString("field179");
+        private static final SerializedString FIELD180 = new SerializedString("field180");
+        private static final SerializedString FIELD181 = new SerializedString("field181");
+        private static final SerializedString FIELD182 = new SerializedString("field182");
+        private static final SerializedString FIELD183 = new SerializedString("field183");
+        private static final SerializedString FIELD184 = new SerializedString("field184");
+        private static final SerializedString FIELD185 = new SerializedString("field185");
+        private static final SerializedString FIELD186 = new SerializedString("field186");
+        private static final SerializedString FIELD187 = new SerializedString("field187");
+        private static final SerializedString FIELD188 = new SerializedString("field188");
+        private static final SerializedString FIELD189 = new SerializedString("field189");
+        private static final SerializedString FIELD190 = new SerializedString("field190");
+        private static final SerializedString FIELD191 = new SerializedString("field191");
+        private static final SerializedString FIELD192 = new SerializedString("field192");
+        private static final SerializedString FIELD193 = new SerializedString("field193");
+        private static final SerializedString FIELD194 = new SerializedString("field194");
+        private static final SerializedString FIELD195 = new SerializedString("field195");
+        private static final SerializedString FIELD196 = new SerializedString("field196");
+        private static final SerializedString FIELD197 = new SerializedString("field197");
+        private static final SerializedString FIELD198 = new SerializedString("field198");
+        private static final SerializedString FIELD199 = new SerializedString("field199");
+        private static final SerializedString FIELD200 = new SerializedString("field200");
+
+        LargePojoSerializer() {
+            super(LargePojo.class);
+        }
+
+        @Override
+        public void serialize(LargePojo pojo, JsonGenerator gen, SerializerProvider provider) throws IOException {
+            final boolean skipNulls = skipNulls(provider);
+            gen.writeStartObject(pojo);
+            writeNested(gen, REF1, pojo.getRef1(), skipNulls);
+            writeNested(gen, REF2, pojo.getRef2(), skipNulls);
+            writeNested(gen, REF3, pojo.getRef3(), skipNulls);
+            writeNested(gen, REF4, pojo.getRef4(), skipNulls);
+            writeNested(gen, REF5, pojo.getRef5(), skipNulls);
+            writeNested(gen, REF6, pojo.getRef6(), skipNulls);
+            writeNested(gen, REF7, pojo.getRef7(), skipNulls);
+            writeNested(gen, REF8, pojo.getRef8(), skipNulls);
+            writeNested(gen, REF9, pojo.getRef9(), skipNulls);
+            writeNested(gen, REF10, pojo.getRef10(), skipNulls);
+            writeNested(gen, REF11, pojo.getRef11(), skipNulls);
+            writeNested(gen, REF12, pojo.getRef12(), skipNulls);
+            writeNested(gen, REF13, pojo.getRef13(), skipNulls);
+            writeNested(gen, REF14, pojo.getRef14(), skipNulls);
+            writeNested(gen, REF15, pojo.getRef15(), skipNulls);
+            writeNested(gen, REF16, pojo.getRef16(), skipNulls);
+            writeNested(gen, REF17, pojo.getRef17(), skipNulls);
+            writeNested(gen, REF18, pojo.getRef18(), skipNulls);
+            writeNested(gen, REF19, pojo.getRef19(), skipNulls);
+            writeNested(gen, REF20, pojo.getRef20(), skipNulls);
+
+            gen.writeFieldName(FIELD21);
+            gen.writeNumber(pojo.getField21());
+            gen.writeFieldName(FIELD22);
+            gen.writeNumber(pojo.getField22());
+            gen.writeFieldName(FIELD23);
+            gen.writeNumber(pojo.getField23());
+            gen.writeFieldName(FIELD24);
+            gen.writeNumber(pojo.getField24());
+            gen.writeFieldName(FIELD25);
+            gen.writeNumber(pojo.getField25());
+            gen.writeFieldName(FIELD26);
+            gen.writeNumber(pojo.getField26());
+            gen.writeFieldName(FIELD27);
+            gen.writeNumber(pojo.getField27());
+            gen.writeFieldName(FIELD28);
+            gen.writeNumber(pojo.getField28());
+            gen.writeFieldName(FIELD29);
+            gen.writeNumber(pojo.getField29());
+            gen.writeFieldName(FIELD30);
+            gen.writeNumber(pojo.getField30());
+
+            gen.writeFieldName(FIELD31);
+            gen.writeNumber(pojo.getField31());
+            gen.writeFieldName(FIELD32);
+            gen.writeNumber(pojo.getField32());
+            gen.writeFieldName(FIELD33);
+            gen.writeNumber(pojo.getField33());
+            gen.writeFieldName(FIELD34);
+            gen.writeNumber(pojo.getField34());
+            gen.writeFieldName(FIELD35);
+            gen.writeNumber(pojo.getField35());
+            gen.writeFieldName(FIELD36);
+            gen.writeNumber(pojo.getField36());
+            gen.writeFieldName(FIELD37);
+            gen.writeNumber(pojo.getField37());
+            gen.writeFieldName(FIELD38);
+            gen.writeNumber(pojo.getField38());
+            gen.writeFieldName(FIELD39);
+            gen.writeNumber(pojo.getField39());
+            gen.writeFieldName(FIELD40);
+            gen.writeNumber(pojo.getField40());
+
+            gen.writeFieldName(FIELD41);
+            gen.writeNumber(pojo.getField41());
+            gen.writeFieldName(FIELD42);
+            gen.writeNumber(pojo.getField42());
+            gen.writeFieldName(FIELD43);
+            gen.writeNumber(pojo.getField43());
+            gen.writeFieldName(FIELD44);
+            gen.writeNumber(pojo.getField44());
+            gen.writeFieldName(FIELD45);
+            gen.writeNumber(pojo.getField45());
+            gen.writeFieldName(FIELD46);
+            gen.writeNumber(pojo.getField46());
+            gen.writeFieldName(FIELD47);
+            gen.writeNumber(pojo.getField47());
+            gen.writeFieldName(FIELD48);
+            gen.writeNumber(pojo.getField48());
+            gen.writeFieldName(FIELD49);
+            gen.writeNumber(pojo.getField49());
+            gen.writeFieldName(FIELD50);
+            gen.writeNumber(pojo.getField50());
+
+            gen.writeFieldName(FIELD51);
+            gen.writeBoolean(pojo.isField51());
+            gen.writeFieldName(FIELD52);
+            gen.writeBoolean(pojo.isField52());
+            gen.writeFieldName(FIELD53);
+            gen.writeBoolean(pojo.isField53());
+            gen.writeFieldName(FIELD54);
+            gen.writeBoolean(pojo.isField54());
+            gen.writeFieldName(FIELD55);
+            gen.writeBoolean(pojo.isField55());
+            gen.writeFieldName(FIELD56);
+            gen.writeBoolean(pojo.isField56());
+            gen.writeFieldName(FIELD57);
+            gen.writeBoolean(pojo.isField57());
+            gen.writeFieldName(FIELD58);
+            gen.writeBoolean(pojo.isField58());
+            gen.writeFieldName(FIELD59);
+            gen.writeBoolean(pojo.isField59());
+            gen.writeFieldName(FIELD60);
+            gen.writeBoolean(pojo.isField60());
+
+            gen.writeFieldName(FIELD61);
+            gen.writeNumber(pojo.getField61());
+            gen.writeFieldName(FIELD62);
+            gen.writeNumber(pojo.getField62());
+            gen.writeFieldName(FIELD63);
+            gen.writeNumber(pojo.getField63());
+            gen.writeFieldName(FIELD64);
+            gen.writeNumber(pojo.getField64());
+            gen.writeFieldName(FIELD65);
+            gen.writeNumber(pojo.getField65());
+            gen.writeFieldName(FIELD66);
+            gen.writeNumber(pojo.getField66());
+            gen.writeFieldName(FIELD67);
+            gen.writeNumber(pojo.getField67());
+            gen.writeFieldName(FIELD68);
+            gen.writeNumber(pojo.getField68());
+            gen.writeFieldName(FIELD69);
+            gen.writeNumber(pojo.getField69());
+            gen.writeFieldName(FIELD70);
+            gen.writeNumber(pojo.getField70());
+
+            gen.writeFieldName(FIELD71);
+            gen.writeNumber(pojo.getField71());
+            gen.writeFieldName(FIELD72);
+            gen.writeNumber(pojo.getField72());
+            gen.writeFieldName(FIELD73);
+            gen.writeNumber(pojo.getField73());
+            gen.writeFieldName(FIELD74);
+            gen.writeNumber(pojo.getField74());
+            gen.writeFieldName(FIELD75);
+            gen.writeNumber(pojo.getField75());
+            gen.writeFieldName(FIELD76);
+            gen.writeNumber(pojo.getField76());
+            gen.writeFieldName(FIELD77);
+            gen.writeNumber(pojo.getField77());
+            gen.writeFieldName(FIELD78);
+            gen.writeNumber(pojo.getField78());
+            gen.writeFieldName(FIELD79);
+            gen.writeNumber(pojo.getField79());
+            gen.writeFieldName(FIELD80);
+            gen.writeNumber(pojo.getField80());
+
+            gen.writeFieldName(FIELD81);
+            gen.writeNumber(pojo.getField81());
+            gen.writeFieldName(FIELD82);
+            gen.writeNumber(pojo.getField82());
+            gen.writeFieldName(FIELD83);
+            gen.writeNumber(pojo.getField83());
+            gen.writeFieldName(FIELD84);
+            gen.writeNumber(pojo.getField84());
+            gen.writeFieldName(FIELD85);
+            gen.writeNumber(pojo.getField85());
+            gen.writeFieldName(FIELD86);
+            gen.writeNumber(pojo.getField86());
+            gen.writeFieldName(FIELD87);
+            gen.writeNumber(pojo.getField87());
+            gen.writeFieldName(FIELD88);
+            gen.writeNumber(pojo.getField88());
+            gen.writeFieldName(FIELD89);
+            gen.writeNumber(pojo.getField89());
+            gen.writeFieldName(FIELD90);
+            gen.writeNumber(pojo.getField90());
+
+            gen.writeFieldName(FIELD91);
+            gen.writeString(String.valueOf(pojo.getField91()));
+            gen.writeFieldName(FIELD92);
+            gen.writeString(String.valueOf(pojo.getField92()));
+            gen.writeFieldName(FIELD93);
+            gen.writeString(String.valueOf(pojo.getField93()));
+            gen.writeFieldName(FIELD94);
+            gen.writeString(String.valueOf(pojo.getField94()));
+            gen.writeFieldName(FIELD95);
+            gen.writeString(String.valueOf(pojo.getField95()));
+            gen.writeFieldName(FIELD96);
+            gen.writeString(String.valueOf(pojo.getField96()));
+            gen.writeFieldName(FIELD97);
+            gen.writeString(String.valueOf(pojo.getField97()));
+            gen.writeFieldName(FIELD98);
+            gen.writeString(String.valueOf(pojo.getField98()));
+            gen.writeFieldName(FIELD99);
+            gen.writeString(String.valueOf(pojo.getField99()));
+            gen.writeFieldName(FIELD100);
+            gen.writeString(String.valueOf(pojo.getField100()));
+
+            writeNumber(gen, FIELD101, pojo.getField101(), skipNulls);
+            writeNumber(gen, FIELD102, pojo.getField102(), skipNulls);
+            writeNumber(gen, FIELD103, pojo.getField103(), skipNulls);
+            writeNumber(gen, FIELD104, pojo.getField104(), skipNulls);
+            writeNumber(gen, FIELD105, pojo.getField105(), skipNulls);
+
+            writeNumber(gen, FIELD106, pojo.getField106(), skipNulls);
+            writeNumber(gen, FIELD107, pojo.getField107(), skipNulls);
+            writeNumber(gen, FIELD108, pojo.getField108(), skipNulls);
+
+            writeNumber(gen, FIELD109, pojo.getField109(), skipNulls);
+            writeNumber(gen, FIELD110, pojo.getField110(), skipNulls);
+
+            writeBoolean(gen, FIELD111, pojo.getField111(), skipNulls);
+            writeBoolean(gen, FIELD112, pojo.getField112(), skipNulls);
+
+            writeStringList(gen, FIELD113, pojo.getField113(), skipNulls);
+
+            writeIntList(gen, FIELD114, pojo.getField114(), skipNulls);
+
+            writeStringMap(gen, FIELD115, pojo.getField115(), skipNulls);
+
+            writeString(gen, FIELD116, pojo.getField116(), skipNulls);
+            writeString(gen, FIELD117, pojo.getField117(), skipNulls);
+            writeString(gen, FIELD118, pojo.getField118(), skipNulls);
+            writeString(gen, FIELD119, pojo.getField119(), skipNulls);
+            writeString(gen, FIELD120, pojo.getField120(), skipNulls);
+            writeString(gen, FIELD121, pojo.getField121(), skipNulls);
+            writeString(gen, FIELD122, pojo.getField122(), skipNulls);
+            writeString(gen, FIELD123, pojo.getField123(), skipNulls);
+            writeString(gen, FIELD124, pojo.getField124(), skipNulls);
+            writeString(gen, FIELD125, pojo.getField125(), skipNulls);
+            writeString(gen, FIELD126, pojo.getField126(), skipNulls);
+            writeString(gen, FIELD127, pojo.getField127(), skipNulls);
+            writeString(gen, FIELD128, pojo.getField128(), skipNulls);
+            writeString(gen, FIELD129, pojo.getField129(), skipNulls);
+            writeString(gen, FIELD130, pojo.getField130(), skipNulls);
+            writeString(gen, FIELD131, pojo.getField131(), skipNulls);
+            writeString(gen, FIELD132, pojo.getField132(), skipNulls);
+            writeString(gen, FIELD133, pojo.getField133(), skipNulls);
+            writeString(gen, FIELD134, pojo.getField134(), skipNulls);
+            writeString(gen, FIELD135, pojo.getField135(), skipNulls);
+            writeString(gen, FIELD136, pojo.getField136(), skipNulls);
+            writeString(gen, FIELD137, pojo.getField137(), skipNulls);
+            writeString(gen, FIELD138, pojo.getField138(), skipNulls);
+            writeString(gen, FIELD139, pojo.getField139(), skipNulls);
+            writeString(gen, FIELD140, pojo.getField140(), skipNulls);
+            writeString(gen, FIELD141, pojo.getField141(), skipNulls);
+            writeString(gen, FIELD142, pojo.getField142(), skipNulls);
+            writeString(gen, FIELD143, pojo.getField143(), skipNulls);
+            writeString(gen, FIELD144, pojo.getField144(), skipNulls);
+            writeString(gen, FIELD145, pojo.getField145(), skipNulls);
+            writeString(gen, FIELD146, pojo.getField146(), skipNulls);
+            writeString(gen, FIELD147, pojo.getField147(), skipNulls);
+            writeString(gen, FIELD148, pojo.getField148(), skipNulls);
+            writeString(gen, FIELD149, pojo.getField149(), skipNulls);
+            writeString(gen, FIELD150, pojo.getField150(), skipNulls);
+            writeString(gen, FIELD151, pojo.getField151(), skipNulls);
+            writeString(gen, FIELD152, pojo.getField152(), skipNulls);
+            writeString(gen, FIELD153, pojo.getField153(), skipNulls);
+            writeString(gen, FIELD154, pojo.getField154(), skipNulls);
+            writeString(gen, FIELD155, pojo.getField155(), skipNulls);
+            writeString(gen, FIELD156, pojo.getField156(), skipNulls);
+            writeString(gen, FIELD157, pojo.getField157(), skipNulls);
+            writeString(gen, FIELD158, pojo.getField158(), skipNulls);
+            writeString(gen, FIELD159, pojo.getField159(), skipNulls);
+            writeString(gen, FIELD160, pojo.getField160(), skipNulls);
+            writeString(gen, FIELD161, pojo.getField161(), skipNulls);
+            writeString(gen, FIELD162, pojo.getField162(), skipNulls);
+            writeString(gen, FIELD163, pojo.getField163(), skipNulls);
+            writeString(gen, FIELD164, pojo.getField164(), skipNulls);
+            writeString(gen, FIELD165, pojo.getField165(), skipNulls);
+            writeString(gen, FIELD166, pojo.getField166(), skipNulls);
+            writeString(gen, FIELD167, pojo.getField167(), skipNulls);
+            writeString(gen, FIELD168, pojo.getField168(), skipNulls);
+            writeString(gen, FIELD169, pojo.getField169(), skipNulls);
+            writeString(gen, FIELD170, pojo.getField170(), skipNulls);
+            writeString(gen, FIELD171, pojo.getField171(), skipNulls);
+            writeString(gen, FIELD172, pojo.getField172(), skipNulls);
+            writeString(gen, FIELD173, pojo.getField173(), skipNulls);
+            writeString(gen, FIELD174, pojo.getField174(), skipNulls);
+            writeString(gen, FIELD175, pojo.getField175(), skipNulls);
+            writeString(gen, FIELD176, pojo.getField176(), skipNulls);
+            writeString(gen, FIELD177, pojo.getField177(), skipNulls);
+            writeString(gen, FIELD178, pojo.getField178(), skipNulls);
+            writeString(gen, FIELD179, pojo.getField179(), skipNulls);
+            writeString(gen, FIELD180, pojo.getField180(), skipNulls);
+            writeString(gen, FIELD181, pojo.getField181(), skipNulls);
+            writeString(gen, FIELD182, pojo.getField182(), skipNulls);
+            writeString(gen, FIELD183, pojo.getField183(), skipNulls);
+            writeString(gen, FIELD184, pojo.getField184(), skipNulls);
+            writeString(gen, FIELD185, pojo.getField185(), skipNulls);
+            writeString(gen, FIELD186, pojo.getField186(), skipNulls);
+            writeString(gen, FIELD187, pojo.getField187(), skipNulls);
+            writeString(gen, FIELD188, pojo.getField188(), skipNulls);
+            writeString(gen, FIELD189, pojo.getField189(), skipNulls);
+            writeString(gen, FIELD190, pojo.getField190(), skipNulls);
+            writeString(gen, FIELD191, pojo.getField191(), skipNulls);
+            writeString(gen, FIELD192, pojo.getField192(), skipNulls);
+            writeString(gen, FIELD193, pojo.getField193(), skipNulls);
+            writeString(gen, FIELD194, pojo.getField194(), skipNulls);
+            writeString(gen, FIELD195, pojo.getField195(), skipNulls);
+            writeString(gen, FIELD196, pojo.getField196(), skipNulls);
+            writeString(gen, FIELD197, pojo.getField197(), skipNulls);
+            writeString(gen, FIELD198, pojo.getField198(), skipNulls);
+            writeString(gen, FIELD199, pojo.getField199(), skipNulls);
+            writeString(gen, FIELD200, pojo.getField200(), skipNulls);
+            gen.writeEndObject();
+        }
+    }
+
+    static final class LargePojoDeserializer extends StdDeserializer<LargePojo> {
+
+        LargePojoDeserializer() {
+            super(LargePojo.class);
+        }
+
+        @Override
+        public LargePojo deserialize(JsonParser p, DeserializationContext ctxt) throws IOException {
+            final LargePojo pojo = new LargePojo();
+            for (String name = firstFieldName(p, ctxt, LargePojo.class); name != null; name = p.nextFieldName()) {
+                p.nextToken();
+                if (!readReferenceOrPrimitive(pojo, name, p, ctxt) && !readBoxedOrString(pojo, name, p, ctxt)) {
+                    ctxt.handleUnknownProperty(p, this, LargePojo.class, name);
+                }
+            }
+            return pojo;
+        }
+
+        // Two switches rather than one: a single 200-case method exceeds HotSpot's 8000-byte
+        // HugeMethodLimit and would never be JIT-compiled
+
+        private static boolean readReferenceOrPrimitive(LargePojo pojo, String name, JsonParser p,
+                                                        DeserializationContext ctxt) throws IOException {
+            switch (name) {
+                case "ref1":
+                    pojo.setRef1(readNested(p, ctxt));
+                    return true;
+                case "ref2":
+                    pojo.setRef2(readNested(p, ctxt));
+                    return true;
+                case "ref3":
+                    pojo.setRef3(readNested(p, ctxt));
+                    return true;
+                case "ref4":
+                    pojo.setRef4(readNested(p, ctxt));
+                    return true;
+                case "ref5":
+                    pojo.setRef5(readNested(p, ctxt));
+                    return true;
+                case "ref6":
+                    pojo.setRef6(readNested(p, ctxt));
+                    return true;
+                case "ref7":
+                    pojo.setRef7(readNested(p, ctxt));
+                    return true;
+                case "ref8":
+                    pojo.setRef8(readNested(p, ctxt));
+                    return true;
+                case "ref9":
+                    pojo.setRef9(readNested(p, ctxt));
+                    return true;
+                case "ref10":
+                    pojo.setRef10(readNested(p, ctxt));
+                    return true;
+                case "ref11":
+                    pojo.setRef11(readNested(p, ctxt));
+                    return true;
+                case "ref12":
+                    pojo.setRef12(readNested(p, ctxt));
+                    return true;
+                case "ref13":
+                    pojo.setRef13(readNested(p, ctxt));
+                    return true;
+                case "ref14":
+                    pojo.setRef14(readNested(p, ctxt));
+                    return true;
+                case "ref15":
+                    pojo.setRef15(readNested(p, ctxt));
+                    return true;
+                case "ref16":
+                    pojo.setRef16(readNested(p, ctxt));
+                    return true;
+                case "ref17":
+                    pojo.setRef17(readNested(p, ctxt));
+                    return true;
+                case "ref18":
+                    pojo.setRef18(readNested(p, ctxt));
+                    return true;
+                case "ref19":
+                    pojo.setRef19(readNested(p, ctxt));
+                    return true;
+                case "ref20":
+                    pojo.setRef20(readNested(p, ctxt));
+                    return true;
+                case "field21":
+                    pojo.setField21(p.getIntValue());
+                    return true;
+                case "field22":
+                    pojo.setField22(p.getIntValue());
+                    return true;
+                case "field23":
+                    pojo.setField23(p.getIntValue());
+                    return true;
+                case "field24":
+                    pojo.setField24(p.getIntValue());
+                    return true;
+                case "field25":
+                    pojo.setField25(p.getIntValue());
+                    return true;
+                case "field26":
+                    pojo.setField26(p.getIntValue());
+                    return true;
+                case "field27":
+                    pojo.setField27(p.getIntValue());
+                    return true;
+                case "field28":
+                    pojo.setField28(p.getIntValue());
+                    return true;
+                case "field29":
+                    pojo.setField29(p.getIntValue());
+                    return true;
+                case "field30":
+                    pojo.setField30(p.getIntValue());
+                    return true;
+                case "field31":
+                    pojo.setField31(p.getLongValue());
+                    return true;
+                case "field32":
+                    pojo.setField32(p.getLongValue());
+                    return true;
+                case "field33":
+                    pojo.setField33(p.getLongValue());
+                    return true;
+                case "field34":
+                    pojo.setField34(p.getLongValue());
+                    return true;
+                case "field35":
+                    pojo.setField35(p.getLongValue());
+                    return true;
+                case "field36":
+                    pojo.setField36(p.getLongValue());
+                    return true;
+                case "field37":
+                    pojo.setField37(p.getLongValue());
+                    return true;
+                case "field38":
+                    pojo.setField38(p.getLongValue());
+                    return true;
+                case "field39":
+                    pojo.setField39(p.getLongValue());
+                    return true;
+                case "field40":
+                    pojo.setField40(p.getLongValue());
+                    return true;
+                case "field41":
+                    pojo.setField41(p.getDoubleValue());
+                    return true;
+                case "field42":
+                    pojo.setField42(p.getDoubleValue());
+                    return true;
+                case "field43":
+                    pojo.setField43(p.getDoubleValue());
+                    return true;
+                case "field44":
+                    pojo.setField44(p.getDoubleValue());
+                    return true;
+                case "field45":
+                    pojo.setField45(p.getDoubleValue());
+                    return true;
+                case "field46":
+                    pojo.setField46(p.getDoubleValue());
+                    return true;
+                case "field47":
+                    pojo.setField47(p.getDoubleValue());
+                    return true;
+                case "field48":
+                    pojo.setField48(p.getDoubleValue());
+                    return true;
+                case "field49":
+                    pojo.setField49(p.getDoubleValue());
+                    return true;
+                case "field50":
+                    pojo.setField50(p.getDoubleValue());
+                    return true;
+                case "field51":
+                    pojo.setField51(p.getBooleanValue());
+                    return true;
+                case "field52":
+                    pojo.setField52(p.getBooleanValue());
+                    return true;
+                case "field53":
+                    pojo.setField53(p.getBooleanValue());
+                    return true;
+                case "field54":
+                    pojo.setField54(p.getBooleanValue());
+                    return true;
+                case "field55":
+                    pojo.setField55(p.getBooleanValue());
+                    return true;
+                case "field56":
+                    pojo.setField56(p.getBooleanValue());
+                    return true;
+                case "field57":
+                    pojo.setField57(p.getBooleanValue());
+                    return true;
+                case "field58":
+                    pojo.setField58(p.getBooleanValue());
+                    return true;
+                case "field59":
+                    pojo.setField59(p.getBooleanValue());
+                    return true;
+                case "field60":
+                    pojo.setField60(p.getBooleanValue());
+                    return true;
+                case "field61":
+                    pojo.setField61(p.getFloatValue());
+                    return true;
+                case "field62":
+                    pojo.setField62(p.getFloatValue());
+                    return true;
+                case "field63":
+                    pojo.setField63(p.getFloatValue());
+                    return true;
+                case "field64":
+                    pojo.setField64(p.getFloatValue());
+                    return true;
+                case "field65":
+                    pojo.setField65(p.getFloatValue());
+                    return true;
+                case "field66":
+                    pojo.setField66(p.getFloatValue());
+                    return true;
+                case "field67":
+                    pojo.setField67(p.getFloatValue());
+                    return true;
+                case "field68":
+                    pojo.setField68(p.getFloatValue());
+                    return true;
+                case "field69":
+                    pojo.setField69(p.getFloatValue());
+                    return true;
+                case "field70":
+                    pojo.setField70(p.getFloatValue());
+                    return true;
+                case "field71":
+                    pojo.setField71(p.getShortValue());
+                    return true;
+                case "field72":
+                    pojo.setField72(p.getShortValue());
+                    return true;
+                case "field73":
+                    pojo.setField73(p.getShortValue());
+                    return true;
+                case "field74":
+                    pojo.setField74(p.getShortValue());
+                    return true;
+                case "field75":
+                    pojo.setField75(p.getShortValue());
+                    return true;
+                case "field76":
+                    pojo.setField76(p.getShortValue());
+                    return true;
+                case "field77":
+                    pojo.setField77(p.getShortValue());
+                    return true;
+                case "field78":
+                    pojo.setField78(p.getShortValue());
+                    return true;
+                case "field79":
+                    pojo.setField79(p.getShortValue());
+                    return true;
+                case "field80":
+                    pojo.setField80(p.getShortValue());
+                    return true;
+                case "field81":
+                    pojo.setField81(p.getByteValue());
+                    return true;
+                case "field82":
+                    pojo.setField82(p.getByteValue());
+                    return true;
+                case "field83":
+                    pojo.setField83(p.getByteValue());
+                    return true;
+                case "field84":
+                    pojo.setField84(p.getByteValue());
+                    return true;
+                case "field85":
+                    pojo.setField85(p.getByteValue());
+                    return true;
+                case "field86":
+                    pojo.setField86(p.getByteValue());
+                    return true;
+                case "field87":
+                    pojo.setField87(p.getByteValue());
+                    return true;
+                case "field88":
+                    pojo.setField88(p.getByteValue());
+                    return true;
+                case "field89":
+                    pojo.setField89(p.getByteValue());
+                    return true;
+                case "field90":
+                    pojo.setField90(p.getByteValue());
+                    return true;
+                case "field91":
+                    pojo.setField91(readChar(p, ctxt));
+                    return true;
+                case "field92":
+                    pojo.setField92(readChar(p, ctxt));
+                    return true;
+                case "field93":
+                    pojo.setField93(readChar(p, ctxt));
+                    return true;
+                case "field94":
+                    pojo.setField94(readChar(p, ctxt));
+                    return true;
+                case "field95":
+                    pojo.setField95(readChar(p, ctxt));
+                    return true;
+                case "field96":
+                    pojo.setField96(readChar(p, ctxt));
+                    return true;
+                case "field97":
+                    pojo.setField97(readChar(p, ctxt));
+                    return true;
+                case "field98":
+                    pojo.setField98(readChar(p, ctxt));
+                    return true;
+                case "field99":
+                    pojo.setField99(readChar(p, ctxt));
+                    return true;
+                case "field100":
+                    pojo.setField100(readChar(p, ctxt));
+                    return true;
+                default:
+                    return false;
+            }
+        }
+
+        private static boolean readBoxedOrString(LargePojo pojo, String name, JsonParser p,
+                                                 DeserializationContext ctxt) throws IOException {
+            switch (name) {
+                case "field101":
+                    pojo.setField101(readInteger(p));
+                    return true;
+                case "field102":
+                    pojo.setField102(readInteger(p));
+                    return true;
+                case "field103":
+                    pojo.setField103(readInteger(p));
+                    return true;
+                case "field104":
+                    pojo.setField104(readInteger(p));
+                    return true;
+                case "field105":
+                    pojo.setField105(readInteger(p));
+                    return true;
+                case "field106":
+                    pojo.setField106(readLong(p));
+                    return true;
+                case "field107":
+                    pojo.setField107(readLong(p));
+                    return true;
+                case "field108":
+                    pojo.setField108(readLong(p));
+                    return true;
+                case "field109":
+                    pojo.setField109(readDouble(p));
+                    return true;
+                case "field110":
+                    pojo.setField110(readDouble(p));
+                    return true;
+                case "field111":
+                    pojo.setField111(readBoolean(p));
+                    return true;
+                case "field112":
+                    pojo.setField112(readBoolean(p));
+                    return true;
+                case "field113":
+                    pojo.setField113(readStringList(p, ctxt));
+                    return true;
+                case "field114":
+                    pojo.setField114(readIntList(p, ctxt));
+                    return true;
+                case "field115":
+                    pojo.setField115(readStringMap(p, ctxt));
+                    return true;
+                case "field116":
+                    pojo.setField116(p.getValueAsString());
+                    return true;
+                case "field117":
+                    pojo.setField117(p.getValueAsString());
+                    return true;
+                case "field118":
+                    pojo.setField118(p.getValueAsString());
+                    return true;
+                case "field119":
+                    pojo.setField119(p.getValueAsString());
+                    return true;
+                case "field120":
+                    pojo.setField120(p.getValueAsString());
+                    return true;
+                case "field121":
+                    pojo.setField121(p.getValueAsString());
+                    return true;
+                case "field122":
+                    pojo.setField122(p.getValueAsString());
+                    return true;
+                case "field123":
+                    pojo.setField123(p.getValueAsString());
+                    return true;
+                case "field124":
+                    pojo.setField124(p.getValueAsString());
+                    return true;
+                case "field125":
+                    pojo.setField125(p.getValueAsString());
+                    return true;
+                case "field126":
+                    pojo.setField126(p.getValueAsString());
+                    return true;
+                case "field127":
+                    pojo.setField127(p.getValueAsString());
+                    return true;
+                case "field128":
+                    pojo.setField128(p.getValueAsString());
+                    return true;
+                case "field129":
+                    pojo.setField129(p.getValueAsString());
+                    return true;
+                case "field130":
+                    pojo.setField130(p.getValueAsString());
+                    return true;
+                case "field131":
+                    pojo.setField131(p.getValueAsString());
+                    return true;
+                case "field132":
+                    pojo.setField132(p.getValueAsString());
+                    return true;
+                case "field133":
+                    pojo.setField133(p.getValueAsString());
+                    return true;
+                case "field134":
+                    pojo.setField134(p.getValueAsString());
+                    return true;
+                case "field135":
+                    pojo.setField135(p.getValueAsString());
+                    return true;
+                case "field136":
+                    pojo.setField136(p.getValueAsString());
+                    return true;
+                case "field137":
+                    pojo.setField137(p.getValueAsString());
+                    return true;
+                case "field138":
+                    pojo.setField138(p.getValueAsString());
+                    return true;
+                case "field139":
+                    pojo.setField139(p.getValueAsString());
+                    return true;
+                case "field140":
+                    pojo.setField140(p.getValueAsString());
+                    return true;
+                case "field141":
+                    pojo.setField141(p.getValueAsString());
+                    return true;
+                case "field142":
+                    pojo.setField142(p.getValueAsString());
+                    return true;
+                case "field143":
+                    pojo.setField143(p.getValueAsString());
+                    return true;
+                case "field144":
+                    pojo.setField144(p.getValueAsString());
+                    return true;
+                case "field145":
+                    pojo.setField145(p.getValueAsString());
+                    return true;
+                case "field146":
+                    pojo.setField146(p.getValueAsString());
+                    return true;
+                case "field147":
+                    pojo.setField147(p.getValueAsString());
+                    return true;
+                case "field148":
+                    pojo.setField148(p.getValueAsString());
+                    return true;
+                case "field149":
+                    pojo.setField149(p.getValueAsString());
+                    return true;
+                case "field150":
+                    pojo.setField150(p.getValueAsString());
+                    return true;
+                case "field151":
+                    pojo.setField151(p.getValueAsString());
+                    return true;
+                case "field152":
+                    pojo.setField152(p.getValueAsString());
+                    return true;
+                case "field153":
+                    pojo.setField153(p.getValueAsString());
+                    return true;
+                case "field154":
+                    pojo.setField154(p.getValueAsString());
+                    return true;
+                case "field155":
+                    pojo.setField155(p.getValueAsString());
+                    return true;
+                case "field156":
+                    pojo.setField156(p.getValueAsString());
+                    return true;
+                case "field157":
+                    pojo.setField157(p.getValueAsString());
+                    return true;
+                case "field158":
+                    pojo.setField158(p.getValueAsString());
+                    return true;
+                case "field159":
+                    pojo.setField159(p.getValueAsString());
+                    return true;
+                case "field160":
+                    pojo.setField160(p.getValueAsString());
+                    return true;
+                case "field161":
+                    pojo.setField161(p.getValueAsString());
+                    return true;
+                case "field162":
+                    pojo.setField162(p.getValueAsString());
+                    return true;
+                case "field163":
+                    pojo.setField163(p.getValueAsString());
+                    return true;
+                case "field164":
+                    pojo.setField164(p.getValueAsString());
+                    return true;
+                case "field165":
+                    pojo.setField165(p.getValueAsString());
+                    return true;
+                case "field166":
+                    pojo.setField166(p.getValueAsString());
+                    return true;
+                case "field167":
+                    pojo.setField167(p.getValueAsString());
+                    return true;
+                case "field168":
+                    pojo.setField168(p.getValueAsString());
+                    return true;
+                case "field169":
+                    pojo.setField169(p.getValueAsString());
+                    return true;
+                case "field170":
+                    pojo.setField170(p.getValueAsString());
+                    return true;
+                case "field171":
+                    pojo.setField171(p.getValueAsString());
+                    return true;
+                case "field172":
+                    pojo.setField172(p.getValueAsString());
+                    return true;
+                case "field173":
+                    pojo.setField173(p.getValueAsString());
+                    return true;
+                case "field174":
+                    pojo.setField174(p.getValueAsString());
+                    return true;
+                case "field175":
+                    pojo.setField175(p.getValueAsString());
+                    return true;
+                case "field176":
+                    pojo.setField176(p.getValueAsString());
+                    return true;
+                case "field177":
+                    pojo.setField177(p.getValueAsString());
+                    return true;
+                case "field178":
+                    pojo.setField178(p.getValueAsString());
+                    return true;
+                case "field179":
+                    pojo.setField179(p.getValueAsString());
+                    return true;
+                case "field180":
+                    pojo.setField180(p.getValueAsString());
+                    return true;
+                case "field181":
+                    pojo.setField181(p.getValueAsString());
+                    return true;
+                case "field182":
+                    pojo.setField182(p.getValueAsString());
+                    return true;
+                case "field183":
+                    pojo.setField183(p.getValueAsString());
+                    return true;
+                case "field184":
+                    pojo.setField184(p.getValueAsString());
+                    return true;
+                case "field185":
+                    pojo.setField185(p.getValueAsString());
+                    return true;
+                case "field186":
+                    pojo.setField186(p.getValueAsString());
+                    return true;
+                case "field187":
+                    pojo.setField187(p.getValueAsString());
+                    return true;
+                case "field188":
+                    pojo.setField188(p.getValueAsString());
+                    return true;
+                case "field189":
+                    pojo.setField189(p.getValueAsString());
+                    return true;
+                case "field190":
+                    pojo.setField190(p.getValueAsString());
+                    return true;
+                case "field191":
+                    pojo.setField191(p.getValueAsString());
+                    return true;
+                case "field192":
+                    pojo.setField192(p.getValueAsString());
+                    return true;
+                case "field193":
+                    pojo.setField193(p.getValueAsString());
+                    return true;
+                case "field194":
+                    pojo.setField194(p.getValueAsString());
+                    return true;
+                case "field195":
+                    pojo.setField195(p.getValueAsString());
+                    return true;
+                case "field196":
+                    pojo.setField196(p.getValueAsString());
+                    return true;
+                case "field197":
+                    pojo.setField197(p.getValueAsString());
+                    return true;
+                case "field198":
+                    pojo.setField198(p.getValueAsString());
+                    return true;
+                case "field199":
+                    pojo.setField199(p.getValueAsString());
+                    return true;
+                case "field200":
+                    pojo.setField200(p.getValueAsString());
+                    return true;
+                default:
+                    return false;
+            }
+        }
+    }
+
+    static final class NestedPojoSerializer extends StdSerializer<NestedPojo> {
+
+        private static final SerializedString FIELD1 = new SerializedString("field1");
+        private static final SerializedString FIELD2 = new SerializedString("field2");
+        private static final SerializedString FIELD3 = new SerializedString("field3");
+        private static final SerializedString FIELD4 = new SerializedString("field4");
+        private static final SerializedString FIELD5 = new SerializedString("field5");
+        private static final SerializedString LONG_FIELD1 = new SerializedString("longField1");
+        private static final SerializedString INT_FIELD1 = new SerializedString("intField1");
+        private static final SerializedString DOUBLE_FIELD1 = new SerializedString("doubleField1");
+        private static final SerializedString DEEP_NESTED = new SerializedString("deepNested");
+
+        NestedPojoSerializer() {
+            super(NestedPojo.class);
+        }
+
+        @Override
+        public void serialize(NestedPojo pojo, JsonGenerator gen, SerializerProvider provider) throws IOException {
+            write(gen, pojo, skipNulls(provider));
+        }
+
+        static void write(JsonGenerator gen, NestedPojo pojo, boolean skipNulls) throws IOException {
+            gen.writeStartObject(pojo);
+            writeString(gen, FIELD1, pojo.getField1(), skipNulls);
+            writeString(gen, FIELD2, pojo.getField2(), skipNulls);
+            writeString(gen, FIELD3, pojo.getField3(), skipNulls);
+            writeString(gen, FIELD4, pojo.getField4(), skipNulls);
+            writeString(gen, FIELD5, pojo.getField5(), skipNulls);
+            writeNumber(gen, LONG_FIELD1, pojo.getLongField1(), skipNulls);
+            writeNumber(gen, INT_FIELD1, pojo.getIntField1(), skipNulls);
+            writeNumber(gen, DOUBLE_FIELD1, pojo.getDoubleField1(), skipNulls);
+            if (writeName(gen, DEEP_NESTED, pojo.getDeepNested(), skipNulls)) {
+                DeepNestedPojoSerializer.write(gen, pojo.getDeepNested(), skipNulls);
+            }
+            gen.writeEndObject();
+        }
+    }
+
+    static final class NestedPojoDeserializer extends StdDeserializer<NestedPojo> {
+
+        static final NestedPojoDeserializer INSTANCE = new NestedPojoDeserializer();
+
+        private NestedPojoDeserializer() {
+            super(NestedPojo.class);
+        }
+
+        @Override
+        public NestedPojo deserialize(JsonParser p, DeserializationContext ctxt) throws IOException {
+            final NestedPojo pojo = new NestedPojo();
+            for (String name = firstFieldName(p, ctxt, NestedPojo.class); name != null; name = p.nextFieldName()) {
+                p.nextToken();
+                switch (name) {
+                    case "field1":
+                        pojo.setField1(p.getValueAsString());
+                        break;
+                    case "field2":
+                        pojo.setField2(p.getValueAsString());
+                        break;
+                    case "field3":
+                        pojo.setField3(p.getValueAsString());
+                        break;
+                    case "field4":
+                        pojo.setField4(p.getValueAsString());
+                        break;
+                    case "field5":
+                        pojo.setField5(p.getValueAsString());
+                        break;
+                    case "longField1":
+                        pojo.setLongField1(readLong(p));
+                        break;
+                    case "intField1":
+                        pojo.setIntField1(readInteger(p));
+                        break;
+                    case "doubleField1":
+                        pojo.setDoubleField1(readDouble(p));
+                        break;
+                    case "deepNested":
+                        pojo.setDeepNested(p.hasToken(JsonToken.VALUE_NULL)
+                            ? null : DeepNestedPojoDeserializer.INSTANCE.deserialize(p, ctxt));
+                        break;
+                    default:
+                        ctxt.handleUnknownProperty(p, this, NestedPojo.class, name);
+                }
+            }
+            return pojo;
+        }
+    }
+
+    static final class DeepNestedPojoSerializer extends StdSerializer<DeepNestedPojo> {
+
+        private static final SerializedString DATA = new SerializedString("data");
+        private static final SerializedString BLOB = new SerializedString("blob");
+
+        DeepNestedPojoSerializer() {
+            super(DeepNestedPojo.class);
+        }
+
+        @Override
+        public void serialize(DeepNestedPojo pojo, JsonGenerator gen, SerializerProvider provider) throws IOException {
+            write(gen, pojo, skipNulls(provider));
+        }
+
+        static void write(JsonGenerator gen, DeepNestedPojo pojo, boolean skipNulls) throws IOException {
+            gen.writeStartObject(pojo);
+            writeString(gen, DATA, pojo.getData(), skipNulls);
+            if (writeName(gen, BLOB, pojo.getBlob(), skipNulls)) {
+                gen.writeBinary(pojo.getBlob());
+            }
+            gen.writeEndObject();
+        }
+    }
+
+    static final class DeepNestedPojoDeserializer extends StdDeserializer<DeepNestedPojo> {
+
+        static final DeepNestedPojoDeserializer INSTANCE = new DeepNestedPojoDeserializer();
+
+        private DeepNestedPojoDeserializer() {
+            super(DeepNestedPojo.class);
+        }
+
+        @Override
+        public DeepNestedPojo deserialize(JsonParser p, DeserializationContext ctxt) throws IOException {
+            final DeepNestedPojo pojo = new DeepNestedPojo();
+            for (String name = firstFieldName(p, ctxt, DeepNestedPojo.class); name != null; name = p.nextFieldName()) {
+                p.nextToken();
+                switch (name) {
+                    case "data":
+                        pojo.setData(p.getValueAsString());
+                        break;
+                    case "blob":
+                        pojo.setBlob(p.hasToken(JsonToken.VALUE_NULL) ? null : p.getBinaryValue());
+                        break;
+                    default:
+                        ctxt.handleUnknownProperty(p, this, DeepNestedPojo.class, name);
+                }
+            }
+            return pojo;
+        }
+    }
+
+    // Writing
+
+    /**
+     * Any inclusion stricter than {@code ALWAYS} drops null references, like {@code NON_NULL}.
+     */
+    private static boolean skipNulls(SerializerProvider provider) {
+        final JsonInclude.Include inclusion = provider.getConfig().getDefaultPropertyInclusion().getValueInclusion();
+        return inclusion != JsonInclude.Include.ALWAYS && inclusion != JsonInclude.Include.USE_DEFAULTS;
+    }
+
+    /**
+     * Writes the field name, or the name and a null when {@code value} is null and nulls are kept.
+     *
+     * @return whether the caller still has to write the non-null value
+     */
+    private static boolean writeName(JsonGenerator gen, SerializableString name, Object value, boolean skipNulls)
+            throws IOException {
+        if (value != null) {
+            gen.writeFieldName(name);
+            return true;
+        }
+        if (!skipNulls) {
+            gen.writeFieldName(name);
+            gen.writeNull();
+        }
+        return false;
+    }
+
+    private static void writeString(JsonGenerator gen, SerializableString name, String value, boolean skipNulls)
+            throws IOException {
+        if (writeName(gen, name, value, skipNulls)) {
+            gen.writeString(value);
+        }
+    }
+
+    private static void writeNumber(JsonGenerator gen, SerializableString name, Integer value, boolean skipNulls)
+            throws IOException {
+        if (writeName(gen, name, value, skipNulls)) {
+            gen.writeNumber(value.intValue());
+        }
+    }
+
+    private static void writeNumber(JsonGenerator gen, SerializableString name, Long value, boolean skipNulls)
+            throws IOException {
+        if (writeName(gen, name, value, skipNulls)) {
+            gen.writeNumber(value.longValue());
+        }
+    }
+
+    private static void writeNumber(JsonGenerator gen, SerializableString name, Double value, boolean skipNulls)
+            throws IOException {
+        if (writeName(gen, name, value, skipNulls)) {
+            gen.writeNumber(value.doubleValue());
+        }
+    }
+
+    private static void writeBoolean(JsonGenerator gen, SerializableString name, Boolean value, boolean skipNulls)
+            throws IOException {
+        if (writeName(gen, name, value, skipNulls)) {
+            gen.writeBoolean(value);
+        }
+    }
+
+    private static void writeNested(JsonGenerator gen, SerializableString name, NestedPojo value, boolean skipNulls)
+            throws IOException {
+        if (writeName(gen, name, value, skipNulls)) {
+            NestedPojoSerializer.write(gen, value, skipNulls);
+        }
+    }
+
+    private static void writeStringList(JsonGenerator gen, SerializableString name, List<String> values,
+                                        boolean skipNulls) throws IOException {
+        if (writeName(gen, name, values, skipNulls)) {
+            gen.writeStartArray(values, values.size());
+            for (String value : values) {
+                gen.writeString(value);
+            }
+            gen.writeEndArray();
+        }
+    }
+
+    private static void writeIntList(JsonGenerator gen, SerializableString name, List<Integer> values,
+                                     boolean skipNulls) throws IOException {
+        if (writeName(gen, name, values, skipNulls)) {
+            gen.writeStartArray(values, values.size());
+            for (Integer value : values) {
+                if (value == null) {
+                    gen.writeNull();
+                } else {
+                    gen.writeNumber(value.intValue());
+                }
+            }
+            gen.writeEndArray();
+        }
+    }
+
+    private static void writeStringMap(JsonGenerator gen, SerializableString name, Map<String, String> values,
+                                       boolean skipNulls) throws IOException {
+        if (writeName(gen, name, values, skipNulls)) {
+            gen.writeStartObject(values, values.size());
+            for (Map.Entry<String, String> entry : values.entrySet()) {
+                gen.writeFieldName(entry.getKey());
+                gen.writeString(entry.getValue());
+            }
+            gen.writeEndObject();
+        }
+    }
+
+    // Reading: each helper is called with the parser on the value token
+
+    /**
+     * Name of the first field of an object; the parser is on {@code START_OBJECT}, or on its first
+     * {@code FIELD_NAME} when Jackson has buffered the start token.
+     */
+    private static String firstFieldName(JsonParser p, DeserializationContext ctxt, Class<?> type) throws IOException {
+        if (p.isExpectedStartObjectToken()) {
+            return p.nextFieldName();
+        }
+        if (p.hasToken(JsonToken.FIELD_NAME)) {
+            return p.currentName();
+        }
+        return ctxt.reportInputMismatch(type, "Expected START_OBJECT for %s but found %s",
+            type.getSimpleName(), p.currentToken());
+    }
+
+    private static char readChar(JsonParser p, DeserializationContext ctxt) throws IOException {
+        final String text = p.getValueAsString();
+        if (text == null || text.length() != 1) {
+            return ctxt.reportInputMismatch(char.class, "Expected a single character but found %s", p.currentToken());
+        }
+        return text.charAt(0);
+    }
+
+    private static Integer readInteger(JsonParser p) throws IOException {
+        return p.hasToken(JsonToken.VALUE_NULL) ? null : p.getIntValue();
+    }
+
+    private static Long readLong(JsonParser p) throws IOException {
+        return p.hasToken(JsonToken.VALUE_NULL) ? null : p.getLongValue();
+    }
+
+    private static Double readDouble(JsonParser p) throws IOException {
+        return p.hasToken(JsonToken.VALUE_NULL) ? null : p.getDoubleValue();
+    }
+
+    private static Boolean readBoolean(JsonParser p) throws IOException {
+        return p.hasToken(JsonToken.VALUE_NULL) ? null : p.getBooleanValue();
+    }
+
+    private static NestedPojo readNested(JsonParser p, DeserializationContext ctxt) throws IOException {
+        return p.hasToken(JsonToken.VALUE_NULL) ? null : NestedPojoDeserializer.INSTANCE.deserialize(p, ctxt);
+    }
+
+    private static List<String> readStringList(JsonParser p, DeserializationContext ctxt) throws IOException {
+        if (p.hasToken(JsonToken.VALUE_NULL)) {
+            return null;
+        }
+        expectArray(p, ctxt);
+        final List<String> values = new ArrayList<>();
+        while (p.nextToken() != JsonToken.END_ARRAY) {
+            values.add(p.getValueAsString());
+        }
+        return values;
+    }
+
+    private static List<Integer> readIntList(JsonParser p, DeserializationContext ctxt) throws IOException {
+        if (p.hasToken(JsonToken.VALUE_NULL)) {
+            return null;
+        }
+        expectArray(p, ctxt);
+        final List<Integer> values = new ArrayList<>();
+        while (p.nextToken() != JsonToken.END_ARRAY) {
+            values.add(readInteger(p));
+        }
+        return values;
+    }
+
+    private static Map<String, String> readStringMap(JsonParser p, DeserializationContext ctxt) throws IOException {
+        if (p.hasToken(JsonToken.VALUE_NULL)) {
+            return null;
+        }
+        final Map<String, String> values = new LinkedHashMap<>();
+        for (String key = firstFieldName(p, ctxt, Map.class); key != null; key = p.nextFieldName()) {
+            p.nextToken();
+            values.put(key, p.getValueAsString());
+        }
+        return values;
+    }
+
+    private static void expectArray(JsonParser p, DeserializationContext ctxt) throws IOException {
+        if (!p.isExpectedStartArrayToken()) {
+            ctxt.reportInputMismatch(List.class, "Expected START_ARRAY but found %s", p.currentToken());
+        }
+    }
+}
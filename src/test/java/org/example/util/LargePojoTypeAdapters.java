@@ -0,0 +1,1201 @@
+package org.example.util;
+
+import com.google.gson.GsonBuilder;
+import com.google.gson.JsonSyntaxException;
+import com.google.gson.TypeAdapter;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+import com.google.gson.stream.JsonWriter;
+import org.example.DeepNestedPojo;
+import org.example.LargePojo;
+import org.example.NestedPojo;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Hand-written Gson {@link TypeAdapter}s for {@link LargePojo}, {@link NestedPojo} and {@link DeepNestedPojo}.
+ * <p>
+ * They replace the reflective adapter, which reads every field through {@code Field.get} and boxes primitives,
+ * with direct getter and setter calls on {@link JsonWriter}/{@link JsonReader}. The output is byte-for-byte what
+ * the reflective adapter writes, including blobs as arrays of numbers. Null handling is left to the
+ * {@code JsonWriter}, so {@code serializeNulls()} behaves as with reflection.
+ */
+public final class LargePojoTypeAdapters {
+
+    private LargePojoTypeAdapters() {
+    }
+
+    public static GsonBuilder register(GsonBuilder builder) {
+        return builder
+            .registerTypeAdapter(LargePojo.class, LargePojoAdapter.INSTANCE)
+            .registerTypeAdapter(NestedPojo.class, NestedPojoAdapter.INSTANCE)
+            .registerTypeAdapter(DeepNestedPojo.class, DeepNestedPojoAdapter.INSTANCE);
+    }
+
+    static final class LargePojoAdapter extends TypeAdapter<LargePojo> {
+
+        static final LargePojoAdapter INSTANCE = new LargePojoAdapter();
+
+        @Override
+        public void write(JsonWriter out, LargePojo pojo) throws IOException {
+            if (pojo == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            NestedPojoAdapter.INSTANCE.write(out.name("ref1"), pojo.getRef1());
+            NestedPojoAdapter.INSTANCE.write(out.name("ref2"), pojo.getRef2());
+            NestedPojoAdapter.INSTANCE.write(out.name("ref3"), pojo.getRef3());
+            NestedPojoAdapter.INSTANCE.write(out.name("ref4"), pojo.getRef4());
+            NestedPojoAdapter.INSTANCE.write(out.name("ref5"), pojo.getRef5());
+            NestedPojoAdapter.INSTANCE.write(out.name("ref6"), pojo.getRef6());
+            NestedPojoAdapter.INSTANCE.write(out.name("ref7"), pojo.getRef7());
+            NestedPojoAdapter.INSTANCE.write(out.name("ref8"), pojo.getRef8());
+            NestedPojoAdapter.INSTANCE.write(out.name("ref9"), pojo.getRef9());
+            NestedPojoAdapter.INSTANCE.write(out.name("ref10"), pojo.getRef10());
+            NestedPojoAdapter.INSTANCE.write(out.name("ref11"), pojo.getRef11());
+            NestedPojoAdapter.INSTANCE.write(out.name("ref12"), pojo.getRef12());
+            NestedPojoAdapter.INSTANCE.write(out.name("ref13"), pojo.getRef13());
+            NestedPojoAdapter.INSTANCE.write(out.name("ref14"), pojo.getRef14());
+            NestedPojoAdapter.INSTANCE.write(out.name("ref15"), pojo.getRef15());
+            NestedPojoAdapter.INSTANCE.write(out.name("ref16"), pojo.getRef16());
+            NestedPojoAdapter.INSTANCE.write(out.name("ref17"), pojo.getRef17());
+            NestedPojoAdapter.INSTANCE.write(out.name("ref18"), pojo.getRef18());
+            NestedPojoAdapter.INSTANCE.write(out.name("ref19"), pojo.getRef19());
+            NestedPojoAdapter.INSTANCE.write(out.name("ref20"), pojo.getRef20());
+
+            out.name("field21").value(pojo.getField21());
+            out.name("field22").value(pojo.getField22());
+            out.name("field23").value(pojo.getField23());
+            out.name("field24").value(pojo.getField24());
+            out.name("field25").value(pojo.getField25());
+            out.name("field26").value(pojo.getField26());
+            out.name("field27").value(pojo.getField27());
+            out.name("field28").value(pojo.getField28());
+            out.name("field29").value(pojo.getField29());
+            out.name("field30").value(pojo.getField30());
+
+            out.name("field31").value(pojo.getField31());
+            out.name("field32").value(pojo.getField32());
+            out.name("field33").value(pojo.getField33());
+            out.name("field34").value(pojo.getField34());
+            out.name("field35").value(pojo.getField35());
+            out.name("field36").value(pojo.getField36());
+            out.name("field37").value(pojo.getField37());
+            out.name("field38").value(pojo.getField38());
+            out.name("field39").value(pojo.getField39());
+            out.name("field40").value(pojo.getField40());
+
+            out.name("field41").value(pojo.getField41());
+            out.name("field42").value(pojo.getField42());
+            out.name("field43").value(pojo.getField43());
+            out.name("field44").value(pojo.getField44());
+            out.name("field45").value(pojo.getField45());
+            out.name("field46").value(pojo.getField46());
+            out.name("field47").value(pojo.getField47());
+            out.name("field48").value(pojo.getField48());
+            out.name("field49").value(pojo.getField49());
+            out.name("field50").value(pojo.getField50());
+
+            out.name("field51").value(pojo.isField51());
+            out.name("field52").value(pojo.isField52());
+            out.name("field53").value(pojo.isField53());
+            out.name("field54").value(pojo.isField54());
+            out.name("field55").value(pojo.isField55());
+            out.name("field56").value(pojo.isField56());
+            out.name("field57").value(pojo.isField57());
+            out.name("field58").value(pojo.isField58());
+            out.name("field59").value(pojo.isField59());
+            out.name("field60").value(pojo.isField60());
+
+            out.name("field61").value(pojo.getField61());
+            out.name("field62").value(pojo.getField62());
+            out.name("field63").value(pojo.getField63());
+            out.name("field64").value(pojo.getField64());
+            out.name("field65").value(pojo.getField65());
+            out.name("field66").value(pojo.getField66());
+            out.name("field67").value(pojo.getField67());
+            out.name("field68").value(pojo.getField68());
+            out.name("field69").value(pojo.getField69());
+            out.name("field70").value(pojo.getField70());
+
+            out.name("field71").value(pojo.getField71());
+            out.name("field72").value(pojo.getField72());
+            out.name("field73").value(pojo.getField73());
+            out.name("field74").value(pojo.getField74());
+            out.name("field75").value(pojo.getField75());
+            out.name("field76").value(pojo.getField76());
+            out.name("field77").value(pojo.getField77());
+            out.name("field78").value(pojo.getField78());
+            out.name("field79").value(pojo.getField79());
+            out.name("field80").value(pojo.getField80());
+
+            out.name("field81").value(pojo.getField81());
+            out.name("field82").value(pojo.getField82());
+            out.name("field83").value(pojo.getField83());
+            out.name("field84").value(pojo.getField84());
+            out.name("field85").value(pojo.getField85());
+            out.name("field86").value(pojo.getField86());
+            out.name("field87").value(pojo.getField87());
+            out.name("field88").value(pojo.getField88());
+            out.name("field89").value(pojo.getField89());
+            out.name("field90").value(pojo.getField90());
+
+            out.name("field91").value(String.valueOf(pojo.getField91()));
+            out.name("field92").value(String.valueOf(pojo.getField92()));
+            out.name("field93").value(String.valueOf(pojo.getField93()));
+            out.name("field94").value(String.valueOf(pojo.getField94()));
+            out.name("field95").value(String.valueOf(pojo.getField95()));
+            out.name("field96").value(String.valueOf(pojo.getField96()));
+            out.name("field97").value(String.valueOf(pojo.getField97()));
+            out.name("field98").value(String.valueOf(pojo.getField98()));
+            out.name("field99").value(String.valueOf(pojo.getField99()));
+            out.name("field100").value(String.valueOf(pojo.getField100()));
+
+            writeInteger(out.name("field101"), pojo.getField101());
+            writeInteger(out.name("field102"), pojo.getField102());
+            writeInteger(out.name("field103"), pojo.getField103());
+            writeInteger(out.name("field104"), pojo.getField104());
+            writeInteger(out.name("field105"), pojo.getField105());
+
+            writeLong(out.name("field106"), pojo.getField106());
+            writeLong(out.name("field107"), pojo.getField107());
+            writeLong(out.name("field108"), pojo.getField108());
+
+            writeDouble(out.name("field109"), pojo.getField109());
+            writeDouble(out.name("field110"), pojo.getField110());
+
+            out.name("field111").value(pojo.getField111());
+            out.name("field112").value(pojo.getField112());
+
+            writeStringList(out.name("field113"), pojo.getField113());
+
+            writeIntList(out.name("field114"), pojo.getField114());
+
+            writeStringMap(out.name("field115"), pojo.getField115());
+
+            out.name("field116").value(pojo.getField116());
+            out.name("field117").value(pojo.getField117());
+            out.name("field118").value(pojo.getField118());
+            out.name("field119").value(pojo.getField119());
+            out.name("field120").value(pojo.getField120());
+            out.name("field121").value(pojo.getField121());
+            out.name("field122").value(pojo.getField122());
+            out.name("field123").value(pojo.getField123());
+            out.name("field124").value(pojo.getField124());
+            out.name("field125").value(pojo.getField125());
+            out.name("field126").value(pojo.getField126());
+            out.name("field127").value(pojo.getField127());
+            out.name("field128").value(pojo.getField128());
+            out.name("field129").value(pojo.getField129());
+            out.name("field130").value(pojo.getField130());
+            out.name("field131").value(pojo.getField131());
+            out.name("field132").value(pojo.getField132());
+            out.name("field133").value(pojo.getField133());
+            out.name("field134").value(pojo.getField134());
+            out.name("field135").value(pojo.getField135());
+            out.name("field136").value(pojo.getField136());
+            out.name("field137").value(pojo.getField137());
+            out.name("field138").value(pojo.getField138());
+            out.name("field139").value(pojo.getField139());
+            out.name("field140").value(pojo.getField140());
+            out.name("field141").value(pojo.getField141());
+            out.name("field142").value(pojo.getField142());
+            out.name("field143").value(pojo.getField143());
+            out.name("field144").value(pojo.getField144());
+            out.name("field145").value(pojo.getField145());
+            out.name("field146").value(pojo.getField146());
+            out.name("field147").value(pojo.getField147());
+            out.name("field148").value(pojo.getField148());
+            out.name("field149").value(pojo.getField149());
+            out.name("field150").value(pojo.getField150());
+            out.name("field151").value(pojo.getField151());
+            out.name("field152").value(pojo.getField152());
+            out.name("field153").value(pojo.getField153());
+            out.name("field154").value(pojo.getField154());
+            out.name("field155").value(pojo.getField155());
+            out.name("field156").value(pojo.getField156());
+            out.name("field157").value(pojo.getField157());
+            out.name("field158").value(pojo.getField158());
+            out.name("field159").value(pojo.getField159());
+            out.name("field160").value(pojo.getField160());
+            out.name("field161").value(pojo.getField161());
+            out.name("field162").value(pojo.getField162());
+            out.name("field163").value(pojo.getField163());
+            out.name("field164").value(pojo.getField164());
+            out.name("field165").value(pojo.getField165());
+            out.name("field166").value(pojo.getField166());
+            out.name("field167").value(pojo.getField167());
+            out.name("field168").value(pojo.getField168());
+            out.name("field169").value(pojo.getField169());
+            out.name("field170").value(pojo.getField170());
+            out.name("field171").value(pojo.getField171());
+            out.name("field172").value(pojo.getField172());
+            out.name("field173").value(pojo.getField173());
+            out.name("field174").value(pojo.getField174());
+            out.name("field175").value(pojo.getField175());
+            out.name("field176").value(pojo.getField176());
+            out.name("field177").value(pojo.getField177());
+            out.name("field178").value(pojo.getField178());
+            out.name("field179").value(pojo.getField179());
+            out.name("field180").value(pojo.getField180());
+            out.name("field181").value(pojo.getField181());
+            out.name("field182").value(pojo.getField182());
+            out.name("field183").value(pojo.getField183());
+            out.name("field184").value(pojo.getField184());
+            out.name("field185").value(pojo.getField185());
+            out.name("field186").value(pojo.getField186());
+            out.name("field187").value(pojo.getField187());
+            out.name("field188").value(pojo.getField188());
+            out.name("field189").value(pojo.getField189());
+            out.name("field190").value(pojo.getField190());
+            out.name("field191").value(pojo.getField191());
+            out.name("field192").value(pojo.getField192());
+            out.name("field193").value(pojo.getField193());
+            out.name("field194").value(pojo.getField194());
+            out.name("field195").value(pojo.getField195());
+            out.name("field196").value(pojo.getField196());
+            out.name("field197").value(pojo.getField197());
+            out.name("field198").value(pojo.getField198());
+            out.name("field199").value(pojo.getField199());
+            out.name("field200").value(pojo.getField200());
+            out.endObject();
+        }
+
+        @Override
+        public LargePojo read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            final LargePojo pojo = new LargePojo();
+            in.beginObject();
+            while (in.hasNext()) {
+                final String name = in.nextName();
+                if (!readReferenceOrPrimitive(pojo, name, in) && !readBoxedOrString(pojo, name, in)) {
+                    in.skipValue();
+                }
+            }
+            in.endObject();
+            return pojo;
+        }
+
+        // Split like LargePojoJacksonModule to stay under HotSpot's HugeMethodLimit
+
+        private static boolean readReferenceOrPrimitive(LargePojo pojo, String name, JsonReader in) throws IOException {
+            switch (name) {
+                case "ref1":
+                    pojo.setRef1(NestedPojoAdapter.INSTANCE.read(in));
+                    return true;
+                case "ref2":
+                    pojo.setRef2(NestedPojoAdapter.INSTANCE.read(in));
+                    return true;
+                case "ref3":
+                    pojo.setRef3(NestedPojoAdapter.INSTANCE.read(in));
+                    return true;
+                case "ref4":
+                    pojo.setRef4(NestedPojoAdapter.INSTANCE.read(in));
+                    return true;
+                case "ref5":
+                    pojo.setRef5(NestedPojoAdapter.INSTANCE.read(in));
+                    return true;
+                case "ref6":
+                    pojo.setRef6(NestedPojoAdapter.INSTANCE.read(in));
+                    return true;
+                case "ref7":
+                    pojo.setRef7(NestedPojoAdapter.INSTANCE.read(in));
+                    return true;
+                case "ref8":
+                    pojo.setRef8(NestedPojoAdapter.INSTANCE.read(in));
+                    return true;
+                case "ref9":
+                    pojo.setRef9(NestedPojoAdapter.INSTANCE.read(in));
+                    return true;
+                case "ref10":
+                    pojo.setRef10(NestedPojoAdapter.INSTANCE.read(in));
+                    return true;
+                case "ref11":
+                    pojo.setRef11(NestedPojoAdapter.INSTANCE.read(in));
+                    return true;
+                case "ref12":
+                    pojo.setRef12(NestedPojoAdapter.INSTANCE.read(in));
+                    return true;
+                case "ref13":
+                    pojo.setRef13(NestedPojoAdapter.INSTANCE.read(in));
+                    return true;
+                case "ref14":
+                    pojo.setRef14(NestedPojoAdapter.INSTANCE.read(in));
+                    return true;
+                case "ref15":
+                    pojo.setRef15(NestedPojoAdapter.INSTANCE.read(in));
+                    return true;
+                case "ref16":
+                    pojo.setRef16(NestedPojoAdapter.INSTANCE.read(in));
+                    return true;
+                case "ref17":
+                    pojo.setRef17(NestedPojoAdapter.INSTANCE.read(in));
+                    return true;
+                case "ref18":
+                    pojo.setRef18(NestedPojoAdapter.INSTANCE.read(in));
+                    return true;
+                case "ref19":
+                    pojo.setRef19(NestedPojoAdapter.INSTANCE.read(in));
+                    return true;
+                case "ref20":
+                    pojo.setRef20(NestedPojoAdapter.INSTANCE.read(in));
+                    return true;
+                case "field21":
+                    pojo.setField21(in.nextInt());
+                    return true;
+                case "field22":
+                    pojo.setField22(in.nextInt());
+                    return true;
+                case "field23":
+                    pojo.setField23(in.nextInt());
+                    return true;
+                case "field24":
+                    pojo.setField24(in.nextInt());
+                    return true;
+                case "field25":
+                    pojo.setField25(in.nextInt());
+                    return true;
+                case "field26":
+                    pojo.setField26(in.nextInt());
+                    return true;
+                case "field27":
+                    pojo.setField27(in.nextInt());
+                    return true;
+                case "field28":
+                    pojo.setField28(in.nextInt());
+                    return true;
+                case "field29":
+                    pojo.setField29(in.nextInt());
+                    return true;
+                case "field30":
+                    pojo.setField30(in.nextInt());
+                    return true;
+                case "field31":
+                    pojo.setField31(in.nextLong());
+                    return true;
+                case "field32":
+                    pojo.setField32(in.nextLong());
+                    return true;
+                case "field33":
+                    pojo.setField33(in.nextLong());
+                    return true;
+                case "field34":
+                    pojo.setField34(in.nextLong());
+                    return true;
+                case "field35":
+                    pojo.setField35(in.nextLong());
+                    return true;
+                case "field36":
+                    pojo.setField36(in.nextLong());
+                    return true;
+                case "field37":
+                    pojo.setField37(in.nextLong());
+                    return true;
+                case "field38":
+                    pojo.setField38(in.nextLong());
+                    return true;
+                case "field39":
+                    pojo.setField39(in.nextLong());
+                    return true;
+                case "field40":
+                    pojo.setField40(in.nextLong());
+                    return true;
+                case "field41":
+                    pojo.setField41(in.nextDouble());
+                    return true;
+                case "field42":
+                    pojo.setField42(in.nextDouble());
+                    return true;
+                case "field43":
+                    pojo.setField43(in.nextDouble());
+                    return true;
+                case "field44":
+                    pojo.setField44(in.nextDouble());
+                    return true;
+                case "field45":
+                    pojo.setField45(in.nextDouble());
+                    return true;
+                case "field46":
+                    pojo.setField46(in.nextDouble());
+                    return true;
+                case "field47":
+                    pojo.setField47(in.nextDouble());
+                    return true;
+                case "field48":
+                    pojo.setField48(in.nextDouble());
+                    return true;
+                case "field49":
+                    pojo.setField49(in.nextDouble());
+                    return true;
+                case "field50":
+                    pojo.setField50(in.nextDouble());
+                    return true;
+                case "field51":
+                    pojo.setField51(in.nextBoolean());
+                    return true;
+                case "field52":
+                    pojo.setField52(in.nextBoolean());
+                    return true;
+                case "field53":
+                    pojo.setField53(in.nextBoolean());
+                    return true;
+                case "field54":
+                    pojo.setField54(in.nextBoolean());
+                    return true;
+                case "field55":
+                    pojo.setField55(in.nextBoolean());
+                    return true;
+                case "field56":
+                    pojo.setField56(in.nextBoolean());
+                    return true;
+                case "field57":
+                    pojo.setField57(in.nextBoolean());
+                    return true;
+                case "field58":
+                    pojo.setField58(in.nextBoolean());
+                    return true;
+                case "field59":
+                    pojo.setField59(in.nextBoolean());
+                    return true;
+                case "field60":
+                    pojo.setField60(in.nextBoolean());
+                    return true;
+                case "field61":
+                    pojo.setField61((float) in.nextDouble());
+                    return true;
+                case "field62":
+                    pojo.setField62((float) in.nextDouble());
+                    return true;
+                case "field63":
+                    pojo.setField63((float) in.nextDouble());
+                    return true;
+                case "field64":
+                    pojo.setField64((float) in.nextDouble());
+                    return true;
+                case "field65":
+                    pojo.setField65((float) in.nextDouble());
+                    return true;
+                case "field66":
+                    pojo.setField66((float) in.nextDouble());
+                    return true;
+                case "field67":
+                    pojo.setField67((float) in.nextDouble());
+                    return true;
+                case "field68":
+                    pojo.setField68((float) in.nextDouble());
+                    return true;
+                case "field69":
+                    pojo.setField69((float) in.nextDouble());
+                    return true;
+                case "field70":
+                    pojo.setField70((float) in.nextDouble());
+                    return true;
+                case "field71":
+                    pojo.setField71((short) in.nextInt());
+                    return true;
+                case "field72":
+                    pojo.setField72((short) in.nextInt());
+                    return true;
+                case "field73":
+                    pojo.setField73((short) in.nextInt());
+                    return true;
+                case "field74":
+                    pojo.setField74((short) in.nextInt());
+                    return true;
+                case "field75":
+                    pojo.setField75((short) in.nextInt());
+                    return true;
+                case "field76":
+                    pojo.setField76((short) in.nextInt());
+                    return true;
+                case "field77":
+                    pojo.setField77((short) in.nextInt());
+                    return true;
+                case "field78":
+                    pojo.setField78((short) in.nextInt());
+                    return true;
+                case "field79":
+                    pojo.setField79((short) in.nextInt());
+                    return true;
+                case "field80":
+                    pojo.setField80((short) in.nextInt());
+                    return true;
+                case "field81":
+                    pojo.setField81((byte) in.nextInt());
+                    return true;
+                case "field82":
+                    pojo.setField82((byte) in.nextInt());
+                    return true;
+                case "field83":
+                    pojo.setField83((byte) in.nextInt());
+                    return true;
+                case "field84":
+                    pojo.setField84((byte) in.nextInt());
+                    return true;
+                case "field85":
+                    pojo.setField85((byte) in.nextInt());
+                    return true;
+                case "field86":
+                    pojo.setField86((byte) in.nextInt());
+                    return true;
+                case "field87":
+                    pojo.setField87((byte) in.nextInt());
+                    return true;
+                case "field88":
+                    pojo.setField88((byte) in.nextInt());
+                    return true;
+                case "field89":
+                    pojo.setField89((byte) in.nextInt());
+                    return true;
+                case "field90":
+                    pojo.setField90((byte) in.nextInt());
+                    return true;
+                case "field91":
+                    pojo.setField91(readChar(in));
+                    return true;
+                case "field92":
+                    pojo.setField92(readChar(in));
+                    return true;
+                case "field93":
+                    pojo.setField93(readChar(in));
+                    return true;
+                case "field94":
+                    pojo.setField94(readChar(in));
+                    return true;
+                case "field95":
+                    pojo.setField95(readChar(in));
+                    return true;
+                case "field96":
+                    pojo.setField96(readChar(in));
+                    return true;
+                case "field97":
+                    pojo.setField97(readChar(in));
+                    return true;
+                case "field98":
+                    pojo.setField98(readChar(in));
+                    return true;
+                case "field99":
+                    pojo.setField99(readChar(in));
+                    return true;
+                case "field100":
+                    pojo.setField100(readChar(in));
+                    return true;
+                default:
+                    return false;
+            }
+        }
+
+        private static boolean readBoxedOrString(LargePojo pojo, String name, JsonReader in) throws IOException {
+            switch (name) {
+                case "field101":
+                    pojo.setField101(readInteger(in));
+                    return true;
+                case "field102":
+                    pojo.setField102(readInteger(in));
+                    return true;
+                case "field103":
+                    pojo.setField103(readInteger(in));
+                    return true;
+                case "field104":
+                    pojo.setField104(readInteger(in));
+                    return true;
+                case "field105":
+                    pojo.setField105(readInteger(in));
+                    return true;
+                case "field106":
+                    pojo.setField106(readLong(in));
+                    return true;
+                case "field107":
+                    pojo.setField107(readLong(in));
+                    return true;
+                case "field108":
+                    pojo.setField108(readLong(in));
+                    return true;
+                case "field109":
+                    pojo.setField109(readDouble(in));
+                    return true;
+                case "field110":
+                    pojo.setField110(readDouble(in));
+                    return true;
+                case "field111":
+                    pojo.setField111(readBoolean(in));
+                    return true;
+                case "field112":
+                    pojo.setField112(readBoolean(in));
+                    return true;
+                case "field113":
+                    pojo.setField113(readStringList(in));
+                    return true;
+                case "field114":
+                    pojo.setField114(readIntList(in));
+                    return true;
+                case "field115":
+                    pojo.setField115(readStringMap(in));
+                    return true;
+                case "field116":
+                    pojo.setField116(readString(in));
+                    return true;
+                case "field117":
+                    pojo.setField117(readString(in));
+                    return true;
+                case "field118":
+                    pojo.setField118(readString(in));
+                    return true;
+                case "field119":
+                    pojo.setField119(readString(in));
+                    return true;
+                case "field120":
+                    pojo.setField120(readString(in));
+                    return true;
+                case "field121":
+                    pojo.setField121(readString(in));
+                    return true;
+                case "field122":
+                    pojo.setField122(readString(in));
+                    return true;
+                case "field123":
+                    pojo.setField123(readString(in));
+                    return true;
+                case "field124":
+                    pojo.setField124(readString(in));
+                    return true;
+                case "field125":
+                    pojo.setField125(readString(in));
+                    return true;
+                case "field126":
+                    pojo.setField126(readString(in));
+                    return true;
+                case "field127":
+                    pojo.setField127(readString(in));
+                    return true;
+                case "field128":
+                    pojo.setField128(readString(in));
+                    return true;
+                case "field129":
+                    pojo.setField129(readString(in));
+                    return true;
+                case "field130":
+                    pojo.setField130(readString(in));
+                    return true;
+                case "field131":
+                    pojo.setField131(readString(in));
+                    return true;
+                case "field132":
+                    pojo.setField132(readString(in));
+                    return true;
+                case "field133":
+                    pojo.setField133(readString(in));
+                    return true;
+                case "field134":
+                    pojo.setField134(readString(in));
+                    return true;
+                case "field135":
+                    pojo.setField135(readString(in));
+                    return true;
+                case "field136":
+                    pojo.setField136(readString(in));
+                    return true;
+                case "field137":
+                    pojo.setField137(readString(in));
+                    return true;
+                case "field138":
+                    pojo.setField138(readString(in));
+                    return true;
+                case "field139":
+                    pojo.setField139(readString(in));
+                    return true;
+                case "field140":
+                    pojo.setField140(readString(in));
+                    return true;
+                case "field141":
+                    pojo.setField141(readString(in));
+                    return true;
+                case "field142":
+                    pojo.setField142(readString(in));
+                    return true;
+                case "field143":
+                    pojo.setField143(readString(in));
+                    return true;
+                case "field144":
+                    pojo.setField144(readString(in));
+                    return true;
+                case "field145":
+                    pojo.setField145(readString(in));
+                    return true;
+                case "field146":
+                    pojo.setField146(readString(in));
+                    return true;
+                case "field147":
+                    pojo.setField147(readString(in));
+                    return true;
+                case "field148":
+                    pojo.setField148(readString(in));
+                    return true;
+                case "field149":
+                    pojo.setField149(readString(in));
+                    return true;
+                case "field150":
+                    pojo.setField150(readString(in));
+                    return true;
+                case "field151":
+                    pojo.setField151(readString(in));
+                    return true;
+                case "field152":
+                    pojo.setField152(readString(in));
+                    return true;
+                case "field153":
+                    pojo.setField153(readString(in));
+                    return true;
+                case "field154":
+                    pojo.setField154(readString(in));
+                    return true;
+                case "field155":
+                    pojo.setField155(readString(in));
+                    return true;
+                case "field156":
+                    pojo.setField156(readString(in));
+                    return true;
+                case "field157":
+                    pojo.setField157(readString(in));
+                    return true;
+                case "field158":
+                    pojo.setField158(readString(in));
+                    return true;
+                case "field159":
+                    pojo.setField159(readString(in));
+                    return true;
+                case "field160":
+                    pojo.setField160(readString(in));
+                    return true;
+                case "field161":
+                    pojo.setField161(readString(in));
+                    return true;
+                case "field162":
+                    pojo.setField162(readString(in));
+                    return true;
+                case "field163":
+                    pojo.setField163(readString(in));
+                    return true;
+                case "field164":
+                    pojo.setField164(readString(in));
+                    return true;
+                case "field165":
+                    pojo.setField165(readString(in));
+                    return true;
+                case "field166":
+                    pojo.setField166(readString(in));
+                    return true;
+                case "field167":
+                    pojo.setField167(readString(in));
+                    return true;
+                case "field168":
+                    pojo.setField168(readString(in));
+                    return true;
+                case "field169":
+                    pojo.setField169(readString(in));
+                    return true;
+                case "field170":
+                    pojo.setField170(readString(in));
+                    return true;
+                case "field171":
+                    pojo.setField171(readString(in));
+                    return true;
+                case "field172":
+                    pojo.setField172(readString(in));
+                    return true;
+                case "field173":
+                    pojo.setField173(readString(in));
+                    return true;
+                case "field174":
+                    pojo.setField174(readString(in));
+                    return true;
+                case "field175":
+                    pojo.setField175(readString(in));
+                    return true;
+                case "field176":
+                    pojo.setField176(readString(in));
+                    return true;
+                case "field177":
+                    pojo.setField177(readString(in));
+                    return true;
+                case "field178":
+                    pojo.setField178(readString(in));
+                    return true;
+                case "field179":
+                    pojo.setField179(readString(in));
+                    return true;
+                case "field180":
+                    pojo.setField180(readString(in));
+                    return true;
+                case "field181":
+                    pojo.setField181(readString(in));
+                    return true;
+                case "field182":
+                    pojo.setField182(readString(in));
+                    return true;
+                case "field183":
+                    pojo.setField183(readString(in));
+                    return true;
+                case "field184":
+                    pojo.setField184(readString(in));
+                    return true;
+                case "field185":
+                    pojo.setField185(readString(in));
+                    return true;
+                case "field186":
+                    pojo.setField186(readString(in));
+                    return true;
+                case "field187":
+                    pojo.setField187(readString(in));
+                    return true;
+                case "field188":
+                    pojo.setField188(readString(in));
+                    return true;
+                case "field189":
+                    pojo.setField189(readString(in));
+                    return true;
+                case "field190":
+                    pojo.setField190(readString(in));
+                    return true;
+                case "field191":
+                    pojo.setField191(readString(in));
+                    return true;
+                case "field192":
+                    pojo.setField192(readString(in));
+                    return true;
+                case "field193":
+                    pojo.setField193(readString(in));
+                    return true;
+                case "field194":
+                    pojo.setField194(readString(in));
+                    return true;
+                case "field195":
+                    pojo.setField195(readString(in));
+                    return true;
+                case "field196":
+                    pojo.setField196(readString(in));
+                    return true;
+                case "field197":
+                    pojo.setField197(readString(in));
+                    return true;
+                case "field198":
+                    pojo.setField198(readString(in));
+                    return true;
+                case "field199":
+                    pojo.setField199(readString(in));
+                    return true;
+                case "field200":
+                    pojo.setField200(readString(in));
+                    return true;
+                default:
+                    return false;
+            }
+        }
+    }
+
+    static final class NestedPojoAdapter extends TypeAdapter<NestedPojo> {
+
+        static final NestedPojoAdapter INSTANCE = new NestedPojoAdapter();
+
+        @Override
+        public void write(JsonWriter out, NestedPojo pojo) throws IOException {
+            if (pojo == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            out.name("field1").value(pojo.getField1());
+            out.name("field2").value(pojo.getField2());
+            out.name("field3").value(pojo.getField3());
+            out.name("field4").value(pojo.getField4());
+            out.name("field5").value(pojo.getField5());
+            writeLong(out.name("longField1"), pojo.getLongField1());
+            writeInteger(out.name("intField1"), pojo.getIntField1());
+            writeDouble(out.name("doubleField1"), pojo.getDoubleField1());
+            DeepNestedPojoAdapter.INSTANCE.write(out.name("deepNested"), pojo.getDeepNested());
+            out.endObject();
+        }
+
+        @Override
+        public NestedPojo read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            final NestedPojo pojo = new NestedPojo();
+            in.beginObject();
+            while (in.hasNext()) {
+                switch (in.nextName()) {
+                    case "field1":
+                        pojo.setField1(readString(in));
+                        break;
+                    case "field2":
+                        pojo.setField2(readString(in));
+                        break;
+                    case "field3":
+                        pojo.setField3(readString(in));
+                        break;
+                    case "field4":
+                        pojo.setField4(readString(in));
+                        break;
+                    case "field5":
+                        pojo.setField5(readString(in));
+                        break;
+                    case "longField1":
+                        pojo.setLongField1(readLong(in));
+                        break;
+                    case "intField1":
+                        pojo.setIntField1(readInteger(in));
+                        break;
+                    case "doubleField1":
+                        pojo.setDoubleField1(readDouble(in));
+                        break;
+                    case "deepNested":
+                        pojo.setDeepNested(DeepNestedPojoAdapter.INSTANCE.read(in));
+                        break;
+                    default:
+                        in.skipValue();
+                }
+            }
+            in.endObject();
+            return pojo;
+        }
+    }
+
+    static final class DeepNestedPojoAdapter extends TypeAdapter<DeepNestedPojo> {
+
+        static final DeepNestedPojoAdapter INSTANCE = new DeepNestedPojoAdapter();
+
+        @Override
+        public void write(JsonWriter out, DeepNestedPojo pojo) throws IOException {
+            if (pojo == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            out.name("data").value(pojo.getData());
+            writeBytes(out.name("blob"), pojo.getBlob());
+            out.endObject();
+        }
+
+        @Override
+        public DeepNestedPojo read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            final DeepNestedPojo pojo = new DeepNestedPojo();
+            in.beginObject();
+            while (in.hasNext()) {
+                switch (in.nextName()) {
+                    case "data":
+                        pojo.setData(readString(in));
+                        break;
+                    case "blob":
+                        pojo.setBlob(readBytes(in));
+                        break;
+                    default:
+                        in.skipValue();
+                }
+            }
+            in.endObject();
+            return pojo;
+        }
+    }
+
+    // Writing: JsonWriter drops a pending name together with its null unless serializeNulls is set
+
+    private static void writeInteger(JsonWriter out, Integer value) throws IOException {
+        if (value == null) {
+            out.nullValue();
+        } else {
+            out.value(value.intValue());
+        }
+    }
+
+    private static void writeLong(JsonWriter out, Long value) throws IOException {
+        if (value == null) {
+            out.nullValue();
+        } else {
+            out.value(value.longValue());
+        }
+    }
+
+    private static void writeDouble(JsonWriter out, Double value) throws IOException {
+        if (value == null) {
+            out.nullValue();
+        } else {
+            out.value(value.doubleValue());
+        }
+    }
+
+    private static void writeStringList(JsonWriter out, List<String> values) throws IOException {
+        if (values == null) {
+            out.nullValue();
+            return;
+        }
+        out.beginArray();
+        for (String value : values) {
+            out.value(value);
+        }
+        out.endArray();
+    }
+
+    private static void writeIntList(JsonWriter out, List<Integer> values) throws IOException {
+        if (values == null) {
+            out.nullValue();
+            return;
+        }
+        out.beginArray();
+        for (Integer value : values) {
+            writeInteger(out, value);
+        }
+        out.endArray();
+    }
+
+    private static void writeStringMap(JsonWriter out, Map<String, String> values) throws IOException {
+        if (values == null) {
+            out.nullValue();
+            return;
+        }
+        out.beginObject();
+        for (Map.Entry<String, String> entry : values.entrySet()) {
+            out.name(entry.getKey()).value(entry.getValue());
+        }
+        out.endObject();
+    }
+
+    /**
+     * Gson has no binary type: the reflective adapter writes {@code byte[]} as an array of numbers.
+     */
+    private static void writeBytes(JsonWriter out, byte[] values) throws IOException {
+        if (values == null) {
+            out.nullValue();
+            return;
+        }
+        out.beginArray();
+        for (byte value : values) {
+            out.value(value);
+        }
+        out.endArray();
+    }
+
+    // Reading
+
+    private static char readChar(JsonReader in) throws IOException {
+        final String value = in.nextString();
+        if (value.length() != 1) {
+            throw new JsonSyntaxException("Expecting character, got: " + value + "; at " + in.getPreviousPath());
+        }
+        return value.charAt(0);
+    }
+
+    private static String readString(JsonReader in) throws IOException {
+        if (in.peek() == JsonToken.NULL) {
+            in.nextNull();
+            return null;
+        }
+        return in.nextString();
+    }
+
+    private static Integer readInteger(JsonReader in) throws IOException {
+        if (in.peek() == JsonToken.NULL) {
+            in.nextNull();
+            return null;
+        }
+        return in.nextInt();
+    }
+
+    private static Long readLong(JsonReader in) throws IOException {
+        if (in.peek() == JsonToken.NULL) {
+            in.nextNull();
+            return null;
+        }
+        return in.nextLong();
+    }
+
+    private static Double readDouble(JsonReader in) throws IOException {
+        if (in.peek() == JsonToken.NULL) {
+            in.nextNull();
+            return null;
+        }
+        return in.nextDouble();
+    }
+
+    private static Boolean readBoolean(JsonReader in) throws IOException {
+        if (in.peek() == JsonToken.NULL) {
+            in.nextNull();
+            return null;
+        }
+        return in.nextBoolean();
+    }
+
+    private static List<String> readStringList(JsonReader in) throws IOException {
+        if (in.peek() == JsonToken.NULL) {
+            in.nextNull();
+            return null;
+        }
+        final List<String> values = new ArrayList<>();
+        in.beginArray();
+        while (in.hasNext()) {
+            values.add(readString(in));
+        }
+        in.endArray();
+        return values;
+    }
+
+    private static List<Integer> readIntList(JsonReader in) throws IOException {
+        if (in.peek() == JsonToken.NULL) {
+            in.nextNull();
+            return null;
+        }
+        final List<Integer> values = new ArrayList<>();
+        in.beginArray();
+        while (in.hasNext()) {
+            values.add(readInteger(in));
+        }
+        in.endArray();
+        return values;
+    }
+
+    private static Map<String, String> readStringMap(JsonReader in) throws IOException {
+        if (in.peek() == JsonToken.NULL) {
+            in.nextNull();
+            return null;
+        }
+        final Map<String, String> values = new LinkedHashMap<>();
+        in.beginObject();
+        while (in.hasNext()) {
+            values.put(in.nextName(), readString(in));
+        }
+        in.endObject();
+        return values;
+    }
+
+    private static byte[] readBytes(JsonReader in) throws IOException {
+        if (in.peek() == JsonToken.NULL) {
+            in.nextNull();
+            return null;
+        }
+        byte[] values = new byte[64];
+        int size = 0;
+        in.beginArray();
+        while (in.hasNext()) {
+            if (size == values.length) {
+                values = Arrays.copyOf(values, size * 2);
+            }
+            values[size++] = (byte) in.nextInt();
+        }
+        in.endArray();
+        return size == values.length ? values : Arrays.copyOf(values, size);
+    }
+}
@@ -0,0 +1,142 @@
+package org.example.util;
+
+import java.util.Arrays;
+
+/**
+ * Fixed-size log-linear latency histogram backed by a preallocated {@code long[]}.
+ * <p>
+ * Values below {@value #SUB_BUCKET_COUNT} are counted exactly; above that every power of two is
+ * split into {@value #SUB_BUCKET_COUNT} linear sub-buckets, so a reported value is at most ~3%
+ * above the recorded one. Recording never allocates.
+ * <p>
+ * Not thread-safe: record on one thread per histogram and {@link #add(LatencyHistogram) merge}
+ * histograms from concurrent runs afterwards.
+ */
+public class LatencyHistogram {
+
+    private static final int SUB_BUCKET_BITS = 5;
+    private static final int SUB_BUCKET_COUNT = 1 << SUB_BUCKET_BITS;
+    private static final int BUCKET_COUNT = SUB_BUCKET_COUNT + (63 - SUB_BUCKET_BITS) * SUB_BUCKET_COUNT;
+
+    private final long[] counts = new long[BUCKET_COUNT];
+    private long totalCount;
+    private long maxValue;
+
+    /**
+     * Records one value, typically a latency in nanoseconds. Negative values count as zero.
+     */
+    public void recordValue(long value) {
+        final long v = Math.max(0, value);
+        counts[bucketIndex(v)]++;
+        totalCount++;
+        if (v > maxValue) {
+            maxValue = v;
+        }
+    }
+
+    /**
+     * Adds all values recorded in {@code other} to this histogram.
+     */
+    public void add(LatencyHistogram other) {
+        for (int i = 0; i < BUCKET_COUNT; i++) {
+            counts[i] += other.counts[i];
+        }
+        totalCount += other.totalCount;
+        maxValue = Math.max(maxValue, other.maxValue);
+    }
+
+    public void reset() {
+        Arrays.fill(counts, 0);
+        totalCount = 0;
+        maxValue = 0;
+    }
+
+    public long getTotalCount() {
+        return totalCount;
+    }
+
+    public long getMaxValue() {
+        return maxValue;
+    }
+
+    /**
+     * Value at the given percentile (0-100], reported as the upper bound of its bucket and
+     * never above the recorded maximum.
+     */
+    public long getValueAtPercentile(double percentile) {
+        if (totalCount == 0) {
+            return 0;
+        }
+        final long targetCount = Math.max(1, (long) Math.ceil(percentile / 100.0 * totalCount));
+        long cumulative = 0;
+        for (int i = 0; i < BUCKET_COUNT; i++) {
+            cumulative += counts[i];
+            if (cumulative >= targetCount) {
+                return Math.min(bucketUpperBound(i), maxValue);
+            }
+        }
+        return maxValue;
+    }
+
+    /**
+     * Mean of the recorded values, taking each value as the midpoint of its bucket.
+     */
+    public double getMean() {
+        if (totalCount == 0) {
+            return 0;
+        }
+        double sum = 0;
+        for (int i = 0; i < BUCKET_COUNT; i++) {
+            if (counts[i] != 0) {
+                sum += counts[i] * bucketMidpoint(i);
+            }
+        }
+        return sum / totalCount;
+    }
+
+    /**
+     * Population standard deviation of the recorded values, taking each value as the midpoint of its bucket.
+     */
+    public double getStdDeviation() {
+        if (totalCount == 0) {
+            return 0;
+        }
+        final double mean = getMean();
+        double squares = 0;
+        for (int i = 0; i < BUCKET_COUNT; i++) {
+            if (counts[i] != 0) {
+                final double deviation = bucketMidpoint(i) - mean;
+                squares += counts[i] * deviation * deviation;
+            }
+        }
+        return Math.sqrt(squares / totalCount);
+    }
+
+    private static int bucketIndex(long value) {
+        if (value < SUB_BUCKET_COUNT) {
+            return (int) value;
+        }
+        final int shift = 63 - Long.numberOfLeadingZeros(value) - SUB_BUCKET_BITS;
+        final int subBucket = (int) (value >>> shift) - SUB_BUCKET_COUNT;
+        return SUB_BUCKET_COUNT + shift * SUB_BUCKET_COUNT + subBucket;
+    }
+
+    private static double bucketMidpoint(int index) {
+        if (index < SUB_BUCKET_COUNT) {
+            return index;
+        }
+        final int shift = (index - SUB_BUCKET_COUNT) / SUB_BUCKET_COUNT;
+        final int subBucket = (index - SUB_BUCKET_COUNT) % SUB_BUCKET_COUNT;
+        final long lowerBound = (long) (SUB_BUCKET_COUNT + subBucket) << shift;
+        return (lowerBound + bucketUpperBound(index)) / 2.0;
+    }
+
+    private static long bucketUpperBound(int index) {
+        if (index < SUB_BUCKET_COUNT) {
+            return index;
+        }
+        final int shift = (index - SUB_BUCKET_COUNT) / SUB_BUCKET_COUNT;
+        final int subBucket = (index - SUB_BUCKET_COUNT) % SUB_BUCKET_COUNT;
+        return ((long) (SUB_BUCKET_COUNT + subBucket + 1) << shift) - 1;
+    }
+}
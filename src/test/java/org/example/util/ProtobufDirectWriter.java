@@ -0,0 +1,725 @@
+package org.example.util;
+
+import com.google.protobuf.CodedOutputStream;
+import com.google.protobuf.WireFormat;
+import org.example.DeepNestedPojo;
+import org.example.LargePojo;
+import org.example.NestedPojo;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Writes {@link LargePojo} graphs straight into a {@link CodedOutputStream} using the wire format of
+ * {@code large_pojo.proto}, without building intermediate Protobuf message objects.
+ * <p>
+ * Field handling mirrors {@link ProtobufConverter} followed by {@code toByteArray()}: null references and
+ * proto3 default values are skipped, so the output parses into the same {@code LargePojoList}.
+ * Sizes of length-delimited fields are computed up front because the wire format prefixes them. Like the
+ * memoized sizes of generated messages, each is computed once: the sizing pass records them in a {@link Sizes}
+ * in the order the writing pass reads them back.
+ */
+public class ProtobufDirectWriter {
+
+    private static final int LIST_ITEMS_FIELD = 1;
+
+    public static byte[] writeList(List<LargePojo> pojos) {
+        final Sizes sizes = new Sizes();
+        int size = 0;
+        for (LargePojo pojo : pojos) {
+            final int slot = sizes.reserve();
+            size += computeMessageSize(LIST_ITEMS_FIELD, sizes.set(slot, computeSize(pojo, sizes)));
+        }
+
+        final byte[] result = new byte[size];
+        final CodedOutputStream output = CodedOutputStream.newInstance(result);
+        try {
+            for (LargePojo pojo : pojos) {
+                output.writeTag(LIST_ITEMS_FIELD, WireFormat.WIRETYPE_LENGTH_DELIMITED);
+                output.writeUInt32NoTag(sizes.next());
+                write(pojo, output, sizes);
+            }
+            output.checkNoSpaceLeft();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return result;
+    }
+
+    public static void writeList(List<LargePojo> pojos, CodedOutputStream output) throws IOException {
+        final Sizes sizes = new Sizes();
+        for (LargePojo pojo : pojos) {
+            output.writeTag(LIST_ITEMS_FIELD, WireFormat.WIRETYPE_LENGTH_DELIMITED);
+            writeDelimited(pojo, output, sizes);
+        }
+    }
+
+    /**
+     * Writes the message length as a varint, then the message.
+     */
+    public static void writeDelimited(LargePojo pojo, CodedOutputStream output) throws IOException {
+        writeDelimited(pojo, output, new Sizes());
+    }
+
+    private static void writeDelimited(LargePojo pojo, CodedOutputStream output, Sizes sizes) throws IOException {
+        sizes.clear();
+        output.writeUInt32NoTag(computeSize(pojo, sizes));
+        write(pojo, output, sizes);
+    }
+
+    public static int computeSize(LargePojo pojo) {
+        return computeSize(pojo, new Sizes());
+    }
+
+    /**
+     * Records the size of every length-delimited field of {@code pojo} in {@code sizes}, in writing order.
+     */
+    private static int computeSize(LargePojo pojo, Sizes sizes) {
+        int size = 0;
+
+        // Nested objects
+        if (pojo.getRef1() != null) size += computeMessageSize(1, computeNestedSize(pojo.getRef1(), sizes));
+        if (pojo.getRef2() != null) size += computeMessageSize(2, computeNestedSize(pojo.getRef2(), sizes));
+        if (pojo.getRef3() != null) size += computeMessageSize(3, computeNestedSize(pojo.getRef3(), sizes));
+        if (pojo.getRef4() != null) size += computeMessageSize(4, computeNestedSize(pojo.getRef4(), sizes));
+        if (pojo.getRef5() != null) size += computeMessageSize(5, computeNestedSize(pojo.getRef5(), sizes));
+        if (pojo.getRef6() != null) size += computeMessageSize(6, computeNestedSize(pojo.getRef6(), sizes));
+        if (pojo.getRef7() != null) size += computeMessageSize(7, computeNestedSize(pojo.getRef7(), sizes));
+        if (pojo.getRef8() != null) size += computeMessageSize(8, computeNestedSize(pojo.getRef8(), sizes));
+        if (pojo.getRef9() != null) size += computeMessageSize(9, computeNestedSize(pojo.getRef9(), sizes));
+        if (pojo.getRef10() != null) size += computeMessageSize(10, computeNestedSize(pojo.getRef10(), sizes));
+        if (pojo.getRef11() != null) size += computeMessageSize(11, computeNestedSize(pojo.getRef11(), sizes));
+        if (pojo.getRef12() != null) size += computeMessageSize(12, computeNestedSize(pojo.getRef12(), sizes));
+        if (pojo.getRef13() != null) size += computeMessageSize(13, computeNestedSize(pojo.getRef13(), sizes));
+        if (pojo.getRef14() != null) size += computeMessageSize(14, computeNestedSize(pojo.getRef14(), sizes));
+        if (pojo.getRef15() != null) size += computeMessageSize(15, computeNestedSize(pojo.getRef15(), sizes));
+        if (pojo.getRef16() != null) size += computeMessageSize(16, computeNestedSize(pojo.getRef16(), sizes));
+        if (pojo.getRef17() != null) size += computeMessageSize(17, computeNestedSize(pojo.getRef17(), sizes));
+        if (pojo.getRef18() != null) size += computeMessageSize(18, computeNestedSize(pojo.getRef18(), sizes));
+        if (pojo.getRef19() != null) size += computeMessageSize(19, computeNestedSize(pojo.getRef19(), sizes));
+        if (pojo.getRef20() != null) size += computeMessageSize(20, computeNestedSize(pojo.getRef20(), sizes));
+
+        // Primitive fields (proto3 skips default values)
+        if (pojo.getField21() != 0) size += CodedOutputStream.computeInt32Size(21, pojo.getField21());
+        if (pojo.getField22() != 0) size += CodedOutputStream.computeInt32Size(22, pojo.getField22());
+        if (pojo.getField23() != 0) size += CodedOutputStream.computeInt32Size(23, pojo.getField23());
+        if (pojo.getField24() != 0) size += CodedOutputStream.computeInt32Size(24, pojo.getField24());
+        if (pojo.getField25() != 0) size += CodedOutputStream.computeInt32Size(25, pojo.getField25());
+        if (pojo.getField26() != 0) size += CodedOutputStream.computeInt32Size(26, pojo.getField26());
+        if (pojo.getField27() != 0) size += CodedOutputStream.computeInt32Size(27, pojo.getField27());
+        if (pojo.getField28() != 0) size += CodedOutputStream.computeInt32Size(28, pojo.getField28());
+        if (pojo.getField29() != 0) size += CodedOutputStream.computeInt32Size(29, pojo.getField29());
+        if (pojo.getField30() != 0) size += CodedOutputStream.computeInt32Size(30, pojo.getField30());
+
+        if (pojo.getField31() != 0L) size += CodedOutputStream.computeInt64Size(31, pojo.getField31());
+        if (pojo.getField32() != 0L) size += CodedOutputStream.computeInt64Size(32, pojo.getField32());
+        if (pojo.getField33() != 0L) size += CodedOutputStream.computeInt64Size(33, pojo.getField33());
+        if (pojo.getField34() != 0L) size += CodedOutputStream.computeInt64Size(34, pojo.getField34());
+        if (pojo.getField35() != 0L) size += CodedOutputStream.computeInt64Size(35, pojo.getField35());
+        if (pojo.getField36() != 0L) size += CodedOutputStream.computeInt64Size(36, pojo.getField36());
+        if (pojo.getField37() != 0L) size += CodedOutputStream.computeInt64Size(37, pojo.getField37());
+        if (pojo.getField38() != 0L) size += CodedOutputStream.computeInt64Size(38, pojo.getField38());
+        if (pojo.getField39() != 0L) size += CodedOutputStream.computeInt64Size(39, pojo.getField39());
+        if (pojo.getField40() != 0L) size += CodedOutputStream.computeInt64Size(40, pojo.getField40());
+
+        if (Double.doubleToRawLongBits(pojo.getField41()) != 0L) size += CodedOutputStream.computeDoubleSize(41, pojo.getField41());
+        if (Double.doubleToRawLongBits(pojo.getField42()) != 0L) size += CodedOutputStream.computeDoubleSize(42, pojo.getField42());
+        if (Double.doubleToRawLongBits(pojo.getField43()) != 0L) size += CodedOutputStream.computeDoubleSize(43, pojo.getField43());
+        if (Double.doubleToRawLongBits(pojo.getField44()) != 0L) size += CodedOutputStream.computeDoubleSize(44, pojo.getField44());
+        if (Double.doubleToRawLongBits(pojo.getField45()) != 0L) size += CodedOutputStream.computeDoubleSize(45, pojo.getField45());
+        if (Double.doubleToRawLongBits(pojo.getField46()) != 0L) size += CodedOutputStream.computeDoubleSize(46, pojo.getField46());
+        if (Double.doubleToRawLongBits(pojo.getField47()) != 0L) size += CodedOutputStream.computeDoubleSize(47, pojo.getField47());
+        if (Double.doubleToRawLongBits(pojo.getField48()) != 0L) size += CodedOutputStream.computeDoubleSize(48, pojo.getField48());
+        if (Double.doubleToRawLongBits(pojo.getField49()) != 0L) size += CodedOutputStream.computeDoubleSize(49, pojo.getField49());
+        if (Double.doubleToRawLongBits(pojo.getField50()) != 0L) size += CodedOutputStream.computeDoubleSize(50, pojo.getField50());
+
+        if (pojo.isField51()) size += CodedOutputStream.computeBoolSize(51, true);
+        if (pojo.isField52()) size += CodedOutputStream.computeBoolSize(52, true);
+        if (pojo.isField53()) size += CodedOutputStream.computeBoolSize(53, true);
+        if (pojo.isField54()) size += CodedOutputStream.computeBoolSize(54, true);
+        if (pojo.isField55()) size += CodedOutputStream.computeBoolSize(55, true);
+        if (pojo.isField56()) size += CodedOutputStream.computeBoolSize(56, true);
+        if (pojo.isField57()) size += CodedOutputStream.computeBoolSize(57, true);
+        if (pojo.isField58()) size += CodedOutputStream.computeBoolSize(58, true);
+        if (pojo.isField59()) size += CodedOutputStream.computeBoolSize(59, true);
+        if (pojo.isField60()) size += CodedOutputStream.computeBoolSize(60, true);
+
+        if (Float.floatToRawIntBits(pojo.getField61()) != 0) size += CodedOutputStream.computeFloatSize(61, pojo.getField61());
+        if (Float.floatToRawIntBits(pojo.getField62()) != 0) size += CodedOutputStream.computeFloatSize(62, pojo.getField62());
+        if (Float.floatToRawIntBits(pojo.getField63()) != 0) size += CodedOutputStream.computeFloatSize(63, pojo.getField63());
+        if (Float.floatToRawIntBits(pojo.getField64()) != 0) size += CodedOutputStream.computeFloatSize(64, pojo.getField64());
+        if (Float.floatToRawIntBits(pojo.getField65()) != 0) size += CodedOutputStream.computeFloatSize(65, pojo.getField65());
+        if (Float.floatToRawIntBits(pojo.getField66()) != 0) size += CodedOutputStream.computeFloatSize(66, pojo.getField66());
+        if (Float.floatToRawIntBits(pojo.getField67()) != 0) size += CodedOutputStream.computeFloatSize(67, pojo.getField67());
+        if (Float.floatToRawIntBits(pojo.getField68()) != 0) size += CodedOutputStream.computeFloatSize(68, pojo.getField68());
+        if (Float.floatToRawIntBits(pojo.getField69()) != 0) size += CodedOutputStream.computeFloatSize(69, pojo.getField69());
+        if (Float.floatToRawIntBits(pojo.getField70()) != 0) size += CodedOutputStream.computeFloatSize(70, pojo.getField70());
+
+        if (pojo.getField71() != 0) size += CodedOutputStream.computeInt32Size(71, pojo.getField71());
+        if (pojo.getField72() != 0) size += CodedOutputStream.computeInt32Size(72, pojo.getField72());
+        if (pojo.getField73() != 0) size += CodedOutputStream.computeInt32Size(73, pojo.getField73());
+        if (pojo.getField74() != 0) size += CodedOutputStream.computeInt32Size(74, pojo.getField74());
+        if (pojo.getField75() != 0) size += CodedOutputStream.computeInt32Size(75, pojo.getField75());
+        if (pojo.getField76() != 0) size += CodedOutputStream.computeInt32Size(76, pojo.getField76());
+        if (pojo.getField77() != 0) size += CodedOutputStream.computeInt32Size(77, pojo.getField77());
+        if (pojo.getField78() != 0) size += CodedOutputStream.computeInt32Size(78, pojo.getField78());
+        if (pojo.getField79() != 0) size += CodedOutputStream.computeInt32Size(79, pojo.getField79());
+        if (pojo.getField80() != 0) size += CodedOutputStream.computeInt32Size(80, pojo.getField80());
+
+        if (pojo.getField81() != 0) size += CodedOutputStream.computeInt32Size(81, pojo.getField81());
+        if (pojo.getField82() != 0) size += CodedOutputStream.computeInt32Size(82, pojo.getField82());
+        if (pojo.getField83() != 0) size += CodedOutputStream.computeInt32Size(83, pojo.getField83());
+        if (pojo.getField84() != 0) size += CodedOutputStream.computeInt32Size(84, pojo.getField84());
+        if (pojo.getField85() != 0) size += CodedOutputStream.computeInt32Size(85, pojo.getField85());
+        if (pojo.getField86() != 0) size += CodedOutputStream.computeInt32Size(86, pojo.getField86());
+        if (pojo.getField87() != 0) size += CodedOutputStream.computeInt32Size(87, pojo.getField87());
+        if (pojo.getField88() != 0) size += CodedOutputStream.computeInt32Size(88, pojo.getField88());
+        if (pojo.getField89() != 0) size += CodedOutputStream.computeInt32Size(89, pojo.getField89());
+        if (pojo.getField90() != 0) size += CodedOutputStream.computeInt32Size(90, pojo.getField90());
+
+        if (pojo.getField91() != 0) size += CodedOutputStream.computeInt32Size(91, pojo.getField91());
+        if (pojo.getField92() != 0) size += CodedOutputStream.computeInt32Size(92, pojo.getField92());
+        if (pojo.getField93() != 0) size += CodedOutputStream.computeInt32Size(93, pojo.getField93());
+        if (pojo.getField94() != 0) size += CodedOutputStream.computeInt32Size(94, pojo.getField94());
+        if (pojo.getField95() != 0) size += CodedOutputStream.computeInt32Size(95, pojo.getField95());
+        if (pojo.getField96() != 0) size += CodedOutputStream.computeInt32Size(96, pojo.getField96());
+        if (pojo.getField97() != 0) size += CodedOutputStream.computeInt32Size(97, pojo.getField97());
+        if (pojo.getField98() != 0) size += CodedOutputStream.computeInt32Size(98, pojo.getField98());
+        if (pojo.getField99() != 0) size += CodedOutputStream.computeInt32Size(99, pojo.getField99());
+        if (pojo.getField100() != 0) size += CodedOutputStream.computeInt32Size(100, pojo.getField100());
+
+        // Boxed types
+        size += computeBoxedSize(101, pojo.getField101());
+        size += computeBoxedSize(102, pojo.getField102());
+        size += computeBoxedSize(103, pojo.getField103());
+        size += computeBoxedSize(104, pojo.getField104());
+        size += computeBoxedSize(105, pojo.getField105());
+        size += computeBoxedSize(106, pojo.getField106());
+        size += computeBoxedSize(107, pojo.getField107());
+        size += computeBoxedSize(108, pojo.getField108());
+        size += computeBoxedSize(109, pojo.getField109());
+        size += computeBoxedSize(110, pojo.getField110());
+        size += computeBoxedSize(111, pojo.getField111());
+        size += computeBoxedSize(112, pojo.getField112());
+
+        // Collections
+        if (pojo.getField113() != null) size += computeStringListSize(113, pojo.getField113());
+        if (pojo.getField114() != null) size += computePackedInt32Size(114, pojo.getField114(), sizes);
+        if (pojo.getField115() != null) size += computeStringMapSize(115, pojo.getField115(), sizes);
+
+        // String fields
+        size += computeStringSize(116, pojo.getField116());
+        size += computeStringSize(117, pojo.getField117());
+        size += computeStringSize(118, pojo.getField118());
+        size += computeStringSize(119, pojo.getField119());
+        size += computeStringSize(120, pojo.getField120());
+        size += computeStringSize(121, pojo.getField121());
+        size += computeStringSize(122, pojo.getField122());
+        size += computeStringSize(123, pojo.getField123());
+        size += computeStringSize(124, pojo.getField124());
+        size += computeStringSize(125, pojo.getField125());
+        size += computeStringSize(126, pojo.getField126());
+        size += computeStringSize(127, pojo.getField127());
+        size += computeStringSize(128, pojo.getField128());
+        size += computeStringSize(129, pojo.getField129());
+        size += computeStringSize(130, pojo.getField130());
+        size += computeStringSize(131, pojo.getField131());
+        size += computeStringSize(132, pojo.getField132());
+        size += computeStringSize(133, pojo.getField133());
+        size += computeStringSize(134, pojo.getField134());
+        size += computeStringSize(135, pojo.getField135());
+        size += computeStringSize(136, pojo.getField136());
+        size += computeStringSize(137, pojo.getField137());
+        size += computeStringSize(138, pojo.getField138());
+        size += computeStringSize(139, pojo.getField139());
+        size += computeStringSize(140, pojo.getField140());
+        size += computeStringSize(141, pojo.getField141());
+        size += computeStringSize(142, pojo.getField142());
+        size += computeStringSize(143, pojo.getField143());
+        size += computeStringSize(144, pojo.getField144());
+        size += computeStringSize(145, pojo.getField145());
+        size += computeStringSize(146, pojo.getField146());
+        size += computeStringSize(147, pojo.getField147());
+        size += computeStringSize(148, pojo.getField148());
+        size += computeStringSize(149, pojo.getField149());
+        size += computeStringSize(150, pojo.getField150());
+        size += computeStringSize(151, pojo.getField151());
+        size += computeStringSize(152, pojo.getField152());
+        size += computeStringSize(153, pojo.getField153());
+        size += computeStringSize(154, pojo.getField154());
+        size += computeStringSize(155, pojo.getField155());
+        size += computeStringSize(156, pojo.getField156());
+        size += computeStringSize(157, pojo.getField157());
+        size += computeStringSize(158, pojo.getField158());
+        size += computeStringSize(159, pojo.getField159());
+        size += computeStringSize(160, pojo.getField160());
+        size += computeStringSize(161, pojo.getField161());
+        size += computeStringSize(162, pojo.getField162());
+        size += computeStringSize(163, pojo.getField163());
+        size += computeStringSize(164, pojo.getField164());
+        size += computeStringSize(165, pojo.getField165());
+        size += computeStringSize(166, pojo.getField166());
+        size += computeStringSize(167, pojo.getField167());
+        size += computeStringSize(168, pojo.getField168());
+        size += computeStringSize(169, pojo.getField169());
+        size += computeStringSize(170, pojo.getField170());
+        size += computeStringSize(171, pojo.getField171());
+        size += computeStringSize(172, pojo.getField172());
+        size += computeStringSize(173, pojo.getField173());
+        size += computeStringSize(174, pojo.getField174());
+        size += computeStringSize(175, pojo.getField175());
+        size += computeStringSize(176, pojo.getField176());
+        size += computeStringSize(177, pojo.getField177());
+        size += computeStringSize(178, pojo.getField178());
+        size += computeStringSize(179, pojo.getField179());
+        size += computeStringSize(180, pojo.getField180());
+        size += computeStringSize(181, pojo.getField181());
+        size += computeStringSize(182, pojo.getField182());
+        size += computeStringSize(183, pojo.getField183());
+        size += computeStringSize(184, pojo.getField184());
+        size += computeStringSize(185, pojo.getField185());
+        size += computeStringSize(186, pojo.getField186());
+        size += computeStringSize(187, pojo.getField187());
+        size += computeStringSize(188, pojo.getField188());
+        size += computeStringSize(189, pojo.getField189());
+        size += computeStringSize(190, pojo.getField190());
+        size += computeStringSize(191, pojo.getField191());
+        size += computeStringSize(192, pojo.getField192());
+        size += computeStringSize(193, pojo.getField193());
+        size += computeStringSize(194, pojo.getField194());
+        size += computeStringSize(195, pojo.getField195());
+        size += computeStringSize(196, pojo.getField196());
+        size += computeStringSize(197, pojo.getField197());
+        size += computeStringSize(198, pojo.getField198());
+        size += computeStringSize(199, pojo.getField199());
+        size += computeStringSize(200, pojo.getField200());
+
+        return size;
+    }
+
+    public static void write(LargePojo pojo, CodedOutputStream output) throws IOException {
+        final Sizes sizes = new Sizes();
+        computeSize(pojo, sizes);
+        write(pojo, output, sizes);
+    }
+
+    /**
+     * Writes {@code pojo} using the sizes {@link #computeSize(LargePojo, Sizes)} recorded, reading them in order.
+     */
+    private static void write(LargePojo pojo, CodedOutputStream output, Sizes sizes) throws IOException {
+        // Nested objects
+        if (pojo.getRef1() != null) writeNested(1, pojo.getRef1(), output, sizes);
+        if (pojo.getRef2() != null) writeNested(2, pojo.getRef2(), output, sizes);
+        if (pojo.getRef3() != null) writeNested(3, pojo.getRef3(), output, sizes);
+        if (pojo.getRef4() != null) writeNested(4, pojo.getRef4(), output, sizes);
+        if (pojo.getRef5() != null) writeNested(5, pojo.getRef5(), output, sizes);
+        if (pojo.getRef6() != null) writeNested(6, pojo.getRef6(), output, sizes);
+        if (pojo.getRef7() != null) writeNested(7, pojo.getRef7(), output, sizes);
+        if (pojo.getRef8() != null) writeNested(8, pojo.getRef8(), output, sizes);
+        if (pojo.getRef9() != null) writeNested(9, pojo.getRef9(), output, sizes);
+        if (pojo.getRef10() != null) writeNested(10, pojo.getRef10(), output, sizes);
+        if (pojo.getRef11() != null) writeNested(11, pojo.getRef11(), output, sizes);
+        if (pojo.getRef12() != null) writeNested(12, pojo.getRef12(), output, sizes);
+        if (pojo.getRef13() != null) writeNested(13, pojo.getRef13(), output, sizes);
+        if (pojo.getRef14() != null) writeNested(14, pojo.getRef14(), output, sizes);
+        if (pojo.getRef15() != null) writeNested(15, pojo.getRef15(), output, sizes);
+        if (pojo.getRef16() != null) writeNested(16, pojo.getRef16(), output, sizes);
+        if (pojo.getRef17() != null) writeNested(17, pojo.getRef17(), output, sizes);
+        if (pojo.getRef18() != null) writeNested(18, pojo.getRef18(), output, sizes);
+        if (pojo.getRef19() != null) writeNested(19, pojo.getRef19(), output, sizes);
+        if (pojo.getRef20() != null) writeNested(20, pojo.getRef20(), output, sizes);
+
+        // Primitive fields (proto3 skips default values)
+        if (pojo.getField21() != 0) output.writeInt32(21, pojo.getField21());
+        if (pojo.getField22() != 0) output.writeInt32(22, pojo.getField22());
+        if (pojo.getField23() != 0) output.writeInt32(23, pojo.getField23());
+        if (pojo.getField24() != 0) output.writeInt32(24, pojo.getField24());
+        if (pojo.getField25() != 0) output.writeInt32(25, pojo.getField25());
+        if (pojo.getField26() != 0) output.writeInt32(26, pojo.getField26());
+        if (pojo.getField27() != 0) output.writeInt32(27, pojo.getField27());
+        if (pojo.getField28() != 0) output.writeInt32(28, pojo.getField28());
+        if (pojo.getField29() != 0) output.writeInt32(29, pojo.getField29());
+        if (pojo.getField30() != 0) output.writeInt32(30, pojo.getField30());
+
+        if (pojo.getField31() != 0L) output.writeInt64(31, pojo.getField31());
+        if (pojo.getField32() != 0L) output.writeInt64(32, pojo.getField32());
+        if (pojo.getField33() != 0L) output.writeInt64(33, pojo.getField33());
+        if (pojo.getField34() != 0L) output.writeInt64(34, pojo.getField34());
+        if (pojo.getField35() != 0L) output.writeInt64(35, pojo.getField35());
+        if (pojo.getField36() != 0L) output.writeInt64(36, pojo.getField36());
+        if (pojo.getField37() != 0L) output.writeInt64(37, pojo.getField37());
+        if (pojo.getField38() != 0L) output.writeInt64(38, pojo.getField38());
+        if (pojo.getField39() != 0L) output.writeInt64(39, pojo.getField39());
+        if (pojo.getField40() != 0L) output.writeInt64(40, pojo.getField40());
+
+        if (Double.doubleToRawLongBits(pojo.getField41()) != 0L) output.writeDouble(41, pojo.getField41());
+        if (Double.doubleToRawLongBits(pojo.getField42()) != 0L) output.writeDouble(42, pojo.getField42());
+        if (Double.doubleToRawLongBits(pojo.getField43()) != 0L) output.writeDouble(43, pojo.getField43());
+        if (Double.doubleToRawLongBits(pojo.getField44()) != 0L) output.writeDouble(44, pojo.getField44());
+        if (Double.doubleToRawLongBits(pojo.getField45()) != 0L) output.writeDouble(45, pojo.getField45());
+        if (Double.doubleToRawLongBits(pojo.getField46()) != 0L) output.writeDouble(46, pojo.getField46());
+        if (Double.doubleToRawLongBits(pojo.getField47()) != 0L) output.writeDouble(47, pojo.getField47());
+        if (Double.doubleToRawLongBits(pojo.getField48()) != 0L) output.writeDouble(48, pojo.getField48());
+        if (Double.doubleToRawLongBits(pojo.getField49()) != 0L) output.writeDouble(49, pojo.getField49());
+        if (Double.doubleToRawLongBits(pojo.getField50()) != 0L) output.writeDouble(50, pojo.getField50());
+
+        if (pojo.isField51()) output.writeBool(51, true);
+        if (pojo.isField52()) output.writeBool(52, true);
+        if (pojo.isField53()) output.writeBool(53, true);
+        if (pojo.isField54()) output.writeBool(54, true);
+        if (pojo.isField55()) output.writeBool(55, true);
+        if (pojo.isField56()) output.writeBool(56, true);
+        if (pojo.isField57()) output.writeBool(57, true);
+        if (pojo.isField58()) output.writeBool(58, true);
+        if (pojo.isField59()) output.writeBool(59, true);
+        if (pojo.isField60()) output.writeBool(60, true);
+
+        if (Float.floatToRawIntBits(pojo.getField61()) != 0) output.writeFloat(61, pojo.getField61());
+        if (Float.floatToRawIntBits(pojo.getField62()) != 0) output.writeFloat(62, pojo.getField62());
+        if (Float.floatToRawIntBits(pojo.getField63()) != 0) output.writeFloat(63, pojo.getField63());
+        if (Float.floatToRawIntBits(pojo.getField64()) != 0) output.writeFloat(64, pojo.getField64());
+        if (Float.floatToRawIntBits(pojo.getField65()) != 0) output.writeFloat(65, pojo.getField65());
+        if (Float.floatToRawIntBits(pojo.getField66()) != 0) output.writeFloat(66, pojo.getField66());
+        if (Float.floatToRawIntBits(pojo.getField67()) != 0) output.writeFloat(67, pojo.getField67());
+        if (Float.floatToRawIntBits(pojo.getField68()) != 0) output.writeFloat(68, pojo.getField68());
+        if (Float.floatToRawIntBits(pojo.getField69()) != 0) output.writeFloat(69, pojo.getField69());
+        if (Float.floatToRawIntBits(pojo.getField70()) != 0) output.writeFloat(70, pojo.getField70());
+
+        if (pojo.getField71() != 0) output.writeInt32(71, pojo.getField71());
+        if (pojo.getField72() != 0) output.writeInt32(72, pojo.getField72());
+        if (pojo.getField73() != 0) output.writeInt32(73, pojo.getField73());
+        if (pojo.getField74() != 0) output.writeInt32(74, pojo.getField74());
+        if (pojo.getField75() != 0) output.writeInt32(75, pojo.getField75());
+        if (pojo.getField76() != 0) output.writeInt32(76, pojo.getField76());
+        if (pojo.getField77() != 0) output.writeInt32(77, pojo.getField77());
+        if (pojo.getField78() != 0) output.writeInt32(78, pojo.getField78());
+        if (pojo.getField79() != 0) output.writeInt32(79, pojo.getField79());
+        if (pojo.getField80() != 0) output.writeInt32(80, pojo.getField80());
+
+        if (pojo.getField81() != 0) output.writeInt32(81, pojo.getField81());
+        if (pojo.getField82() != 0) output.writeInt32(82, pojo.getField82());
+        if (pojo.getField83() != 0) output.writeInt32(83, pojo.getField83());
+        if (pojo.getField84() != 0) output.writeInt32(84, pojo.getField84());
+        if (pojo.getField85() != 0) output.writeInt32(85, pojo.getField85());
+        if (pojo.getField86() != 0) output.writeInt32(86, pojo.getField86());
+        if (pojo.getField87() != 0) output.writeInt32(87, pojo.getField87());
+        if (pojo.getField88() != 0) output.writeInt32(88, pojo.getField88());
+        if (pojo.getField89() != 0) output.writeInt32(89, pojo.getField89());
+        if (pojo.getField90() != 0) output.writeInt32(90, pojo.getField90());
+
+        if (pojo.getField91() != 0) output.writeInt32(91, pojo.getField91());
+        if (pojo.getField92() != 0) output.writeInt32(92, pojo.getField92());
+        if (pojo.getField93() != 0) output.writeInt32(93, pojo.getField93());
+        if (pojo.getField94() != 0) output.writeInt32(94, pojo.getField94());
+        if (pojo.getField95() != 0) output.writeInt32(95, pojo.getField95());
+        if (pojo.getField96() != 0) output.writeInt32(96, pojo.getField96());
+        if (pojo.getField97() != 0) output.writeInt32(97, pojo.getField97());
+        if (pojo.getField98() != 0) output.writeInt32(98, pojo.getField98());
+        if (pojo.getField99() != 0) output.writeInt32(99, pojo.getField99());
+        if (pojo.getField100() != 0) output.writeInt32(100, pojo.getField100());
+
+        // Boxed types
+        writeBoxed(101, pojo.getField101(), output);
+        writeBoxed(102, pojo.getField102(), output);
+        writeBoxed(103, pojo.getField103(), output);
+        writeBoxed(104, pojo.getField104(), output);
+        writeBoxed(105, pojo.getField105(), output);
+        writeBoxed(106, pojo.getField106(), output);
+        writeBoxed(107, pojo.getField107(), output);
+        writeBoxed(108, pojo.getField108(), output);
+        writeBoxed(109, pojo.getField109(), output);
+        writeBoxed(110, pojo.getField110(), output);
+        writeBoxed(111, pojo.getField111(), output);
+        writeBoxed(112, pojo.getField112(), output);
+
+        // Collections
+        if (pojo.getField113() != null) writeStringList(113, pojo.getField113(), output);
+        if (pojo.getField114() != null) writePackedInt32(114, pojo.getField114(), output, sizes);
+        if (pojo.getField115() != null) writeStringMap(115, pojo.getField115(), output, sizes);
+
+        // String fields
+        writeString(116, pojo.getField116(), output);
+        writeString(117, pojo.getField117(), output);
+        writeString(118, pojo.getField118(), output);
+        writeString(119, pojo.getField119(), output);
+        writeString(120, pojo.getField120(), output);
+        writeString(121, pojo.getField121(), output);
+        writeString(122, pojo.getField122(), output);
+        writeString(123, pojo.getField123(), output);
+        writeString(124, pojo.getField124(), output);
+        writeString(125, pojo.getField125(), output);
+        writeString(126, pojo.getField126(), output);
+        writeString(127, pojo.getField127(), output);
+        writeString(128, pojo.getField128(), output);
+        writeString(129, pojo.getField129(), output);
+        writeString(130, pojo.getField130(), output);
+        writeString(131, pojo.getField131(), output);
+        writeString(132, pojo.getField132(), output);
+        writeString(133, pojo.getField133(), output);
+        writeString(134, pojo.getField134(), output);
+        writeString(135, pojo.getField135(), output);
+        writeString(136, pojo.getField136(), output);
+        writeString(137, pojo.getField137(), output);
+        writeString(138, pojo.getField138(), output);
+        writeString(139, pojo.getField139(), output);
+        writeString(140, pojo.getField140(), output);
+        writeString(141, pojo.getField141(), output);
+        writeString(142, pojo.getField142(), output);
+        writeString(143, pojo.getField143(), output);
+        writeString(144, pojo.getField144(), output);
+        writeString(145, pojo.getField145(), output);
+        writeString(146, pojo.getField146(), output);
+        writeString(147, pojo.getField147(), output);
+        writeString(148, pojo.getField148(), output);
+        writeString(149, pojo.getField149(), output);
+        writeString(150, pojo.getField150(), output);
+        writeString(151, pojo.getField151(), output);
+        writeString(152, pojo.getField152(), output);
+        writeString(153, pojo.getField153(), output);
+        writeString(154, pojo.getField154(), output);
+        writeString(155, pojo.getField155(), output);
+        writeString(156, pojo.getField156(), output);
+        writeString(157, pojo.getField157(), output);
+        writeString(158, pojo.getField158(), output);
+        writeString(159, pojo.getField159(), output);
+        writeString(160, pojo.getField160(), output);
+        writeString(161, pojo.getField161(), output);
+        writeString(162, pojo.getField162(), output);
+        writeString(163, pojo.getField163(), output);
+        writeString(164, pojo.getField164(), output);
+        writeString(165, pojo.getField165(), output);
+        writeString(166, pojo.getField166(), output);
+        writeString(167, pojo.getField167(), output);
+        writeString(168, pojo.getField168(), output);
+        writeString(169, pojo.getField169(), output);
+        writeString(170, pojo.getField170(), output);
+        writeString(171, pojo.getField171(), output);
+        writeString(172, pojo.getField172(), output);
+        writeString(173, pojo.getField173(), output);
+        writeString(174, pojo.getField174(), output);
+        writeString(175, pojo.getField175(), output);
+        writeString(176, pojo.getField176(), output);
+        writeString(177, pojo.getField177(), output);
+        writeString(178, pojo.getField178(), output);
+        writeString(179, pojo.getField179(), output);
+        writeString(180, pojo.getField180(), output);
+        writeString(181, pojo.getField181(), output);
+        writeString(182, pojo.getField182(), output);
+        writeString(183, pojo.getField183(), output);
+        writeString(184, pojo.getField184(), output);
+        writeString(185, pojo.getField185(), output);
+        writeString(186, pojo.getField186(), output);
+        writeString(187, pojo.getField187(), output);
+        writeString(188, pojo.getField188(), output);
+        writeString(189, pojo.getField189(), output);
+        writeString(190, pojo.getField190(), output);
+        writeString(191, pojo.getField191(), output);
+        writeString(192, pojo.getField192(), output);
+        writeString(193, pojo.getField193(), output);
+        writeString(194, pojo.getField194(), output);
+        writeString(195, pojo.getField195(), output);
+        writeString(196, pojo.getField196(), output);
+        writeString(197, pojo.getField197(), output);
+        writeString(198, pojo.getField198(), output);
+        writeString(199, pojo.getField199(), output);
+        writeString(200, pojo.getField200(), output);
+    }
+
+    private static int computeNestedSize(NestedPojo nested, Sizes sizes) {
+        final int slot = sizes.reserve();
+        int size = 0;
+        size += computeStringSize(1, nested.getField1());
+        size += computeStringSize(2, nested.getField2());
+        size += computeStringSize(3, nested.getField3());
+        size += computeStringSize(4, nested.getField4());
+        size += computeStringSize(5, nested.getField5());
+        size += computeBoxedSize(6, nested.getLongField1());
+        size += computeBoxedSize(7, nested.getIntField1());
+        size += computeBoxedSize(8, nested.getDoubleField1());
+        if (nested.getDeepNested() != null) {
+            size += computeMessageSize(9, computeDeepNestedSize(nested.getDeepNested(), sizes));
+        }
+        return sizes.set(slot, size);
+    }
+
+    private static void writeNested(int fieldNumber, NestedPojo nested, CodedOutputStream output, Sizes sizes)
+            throws IOException {
+        output.writeTag(fieldNumber, WireFormat.WIRETYPE_LENGTH_DELIMITED);
+        output.writeUInt32NoTag(sizes.next());
+        writeString(1, nested.getField1(), output);
+        writeString(2, nested.getField2(), output);
+        writeString(3, nested.getField3(), output);
+        writeString(4, nested.getField4(), output);
+        writeString(5, nested.getField5(), output);
+        writeBoxed(6, nested.getLongField1(), output);
+        writeBoxed(7, nested.getIntField1(), output);
+        writeBoxed(8, nested.getDoubleField1(), output);
+        if (nested.getDeepNested() != null) writeDeepNested(9, nested.getDeepNested(), output, sizes);
+    }
+
+    private static int computeDeepNestedSize(DeepNestedPojo deep, Sizes sizes) {
+        int size = computeStringSize(1, deep.getData());
+        if (deep.getBlob() != null && deep.getBlob().length > 0) {
+            size += CodedOutputStream.computeByteArraySize(2, deep.getBlob());
+        }
+        return sizes.set(sizes.reserve(), size);
+    }
+
+    private static void writeDeepNested(int fieldNumber, DeepNestedPojo deep, CodedOutputStream output, Sizes sizes)
+            throws IOException {
+        output.writeTag(fieldNumber, WireFormat.WIRETYPE_LENGTH_DELIMITED);
+        output.writeUInt32NoTag(sizes.next());
+        writeString(1, deep.getData(), output);
+        if (deep.getBlob() != null && deep.getBlob().length > 0) {
+            output.writeByteArray(2, deep.getBlob());
+        }
+    }
+
+    // Field helpers: null and proto3 default values are never written
+
+    private static int computeMessageSize(int fieldNumber, int messageSize) {
+        return CodedOutputStream.computeTagSize(fieldNumber)
+            + CodedOutputStream.computeUInt32SizeNoTag(messageSize)
+            + messageSize;
+    }
+
+    private static int computeStringSize(int fieldNumber, String value) {
+        return value == null || value.isEmpty() ? 0 : CodedOutputStream.computeStringSize(fieldNumber, value);
+    }
+
+    private static void writeString(int fieldNumber, String value, CodedOutputStream output) throws IOException {
+        if (value != null && !value.isEmpty()) output.writeString(fieldNumber, value);
+    }
+
+    private static int computeBoxedSize(int fieldNumber, Integer value) {
+        return value == null || value == 0 ? 0 : CodedOutputStream.computeInt32Size(fieldNumber, value);
+    }
+
+    private static int computeBoxedSize(int fieldNumber, Long value) {
+        return value == null || value == 0L ? 0 : CodedOutputStream.computeInt64Size(fieldNumber, value);
+    }
+
+    private static int computeBoxedSize(int fieldNumber, Double value) {
+        return value == null || Double.doubleToRawLongBits(value) == 0L
+            ? 0 : CodedOutputStream.computeDoubleSize(fieldNumber, value);
+    }
+
+    private static int computeBoxedSize(int fieldNumber, Boolean value) {
+        return value == null || !value ? 0 : CodedOutputStream.computeBoolSize(fieldNumber, true);
+    }
+
+    private static void writeBoxed(int fieldNumber, Integer value, CodedOutputStream output) throws IOException {
+        if (value != null && value != 0) output.writeInt32(fieldNumber, value);
+    }
+
+    private static void writeBoxed(int fieldNumber, Long value, CodedOutputStream output) throws IOException {
+        if (value != null && value != 0L) output.writeInt64(fieldNumber, value);
+    }
+
+    private static void writeBoxed(int fieldNumber, Double value, CodedOutputStream output) throws IOException {
+        if (value != null && Double.doubleToRawLongBits(value) != 0L) output.writeDouble(fieldNumber, value);
+    }
+
+    private static void writeBoxed(int fieldNumber, Boolean value, CodedOutputStream output) throws IOException {
+        if (value != null && value) output.writeBool(fieldNumber, true);
+    }
+
+    private static int computeStringListSize(int fieldNumber, List<String> values) {
+        int size = 0;
+        for (String value : values) {
+            size += CodedOutputStream.computeStringSize(fieldNumber, value);
+        }
+        return size;
+    }
+
+    private static void writeStringList(int fieldNumber, List<String> values, CodedOutputStream output) throws IOException {
+        for (String value : values) {
+            output.writeString(fieldNumber, value);
+        }
+    }
+
+    private static int computePackedInt32DataSize(List<Integer> values) {
+        int size = 0;
+        for (Integer value : values) {
+            size += CodedOutputStream.computeInt32SizeNoTag(value);
+        }
+        return size;
+    }
+
+    // proto3 packs repeated scalars into a single length-delimited field
+    private static int computePackedInt32Size(int fieldNumber, List<Integer> values, Sizes sizes) {
+        return values.isEmpty() ? 0
+            : computeMessageSize(fieldNumber, sizes.set(sizes.reserve(), computePackedInt32DataSize(values)));
+    }
+
+    private static void writePackedInt32(int fieldNumber, List<Integer> values, CodedOutputStream output,
+                                         Sizes sizes) throws IOException {
+        if (values.isEmpty()) return;
+        output.writeTag(fieldNumber, WireFormat.WIRETYPE_LENGTH_DELIMITED);
+        output.writeUInt32NoTag(sizes.next());
+        for (Integer value : values) {
+            output.writeInt32NoTag(value);
+        }
+    }
+
+    // Map entries are encoded as messages with the key in field 1 and the value in field 2
+    private static int computeMapEntrySize(String key, String value) {
+        return CodedOutputStream.computeStringSize(1, key) + CodedOutputStream.computeStringSize(2, value);
+    }
+
+    private static int computeStringMapSize(int fieldNumber, Map<String, String> values, Sizes sizes) {
+        int size = 0;
+        for (Map.Entry<String, String> entry : values.entrySet()) {
+            size += computeMessageSize(fieldNumber,
+                sizes.set(sizes.reserve(), computeMapEntrySize(entry.getKey(), entry.getValue())));
+        }
+        return size;
+    }
+
+    private static void writeStringMap(int fieldNumber, Map<String, String> values, CodedOutputStream output,
+                                       Sizes sizes) throws IOException {
+        for (Map.Entry<String, String> entry : values.entrySet()) {
+            output.writeTag(fieldNumber, WireFormat.WIRETYPE_LENGTH_DELIMITED);
+            output.writeUInt32NoTag(sizes.next());
+            output.writeString(1, entry.getKey());
+            output.writeString(2, entry.getValue());
+        }
+    }
+
+    /**
+     * Sizes of length-delimited fields in the order they are written. A message reserves its slot before sizing
+     * its contents, so the slots follow the writing order even though sizes are known children first.
+     */
+    private static final class Sizes {
+        private int[] values = new int[64];
+        private int count;
+        private int next;
+
+        int reserve() {
+            if (count == values.length) {
+                values = Arrays.copyOf(values, count * 2);
+            }
+            return count++;
+        }
+
+        /**
+         * @return {@code size}
+         */
+        int set(int slot, int size) {
+            values[slot] = size;
+            return size;
+        }
+
+        int next() {
+            return values[next++];
+        }
+
+        void clear() {
+            count = 0;
+            next = 0;
+        }
+    }
+}
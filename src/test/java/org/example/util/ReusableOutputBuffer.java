@@ -0,0 +1,105 @@
+package org.example.util;
+
+import com.google.protobuf.CodedOutputStream;
+
+import java.io.BufferedWriter;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+/**
+ * Growable byte buffer that is reused across serializer calls instead of allocating a new
+ * result per call, like a pooled network or file buffer.
+ * <p>
+ * Use {@link #forCurrentThread()} to get the calling thread's buffer, already reset.
+ * The buffer is not thread-safe; each thread gets its own instance.
+ */
+public class ReusableOutputBuffer extends OutputStream {
+
+    private static final int DEFAULT_CAPACITY = 64 * 1024;
+
+    private static final ThreadLocal<ReusableOutputBuffer> THREAD_BUFFER =
+        ThreadLocal.withInitial(() -> new ReusableOutputBuffer(DEFAULT_CAPACITY));
+
+    private byte[] buffer;
+    private int count;
+    private Writer utf8Writer;
+
+    public ReusableOutputBuffer(int initialCapacity) {
+        this.buffer = new byte[initialCapacity];
+    }
+
+    /**
+     * Returns the calling thread's buffer, reset to empty.
+     */
+    public static ReusableOutputBuffer forCurrentThread() {
+        final ReusableOutputBuffer buffer = THREAD_BUFFER.get();
+        buffer.reset();
+        return buffer;
+    }
+
+    @Override
+    public void write(int b) {
+        ensureCapacity(count + 1);
+        buffer[count++] = (byte) b;
+    }
+
+    @Override
+    public void write(byte[] b, int off, int len) {
+        ensureCapacity(count + len);
+        System.arraycopy(b, off, buffer, count, len);
+        count += len;
+    }
+
+    /**
+     * UTF-8 writer appending to this buffer. Created once per buffer and kept, so its
+     * encoder and internal buffers are reused too; callers must flush it.
+     * <p>
+     * The {@link BufferedWriter} matters: {@code OutputStreamWriter.write(String)} copies
+     * every string into a new {@code char[]}, which would dominate the allocation figures.
+     */
+    public Writer utf8Writer() {
+        if (utf8Writer == null) {
+            utf8Writer = new BufferedWriter(new OutputStreamWriter(this, StandardCharsets.UTF_8));
+        }
+        return utf8Writer;
+    }
+
+    /**
+     * Reserves {@code length} bytes at the start of the buffer and returns a Protobuf
+     * stream writing into them. The caller must write exactly {@code length} bytes.
+     */
+    public CodedOutputStream codedOutputStream(int length) {
+        reset();
+        ensureCapacity(length);
+        count = length;
+        return CodedOutputStream.newInstance(buffer, 0, length);
+    }
+
+    public void reset() {
+        count = 0;
+    }
+
+    public int size() {
+        return count;
+    }
+
+    /**
+     * Backing array; only the first {@link #size()} bytes are valid.
+     */
+    public byte[] array() {
+        return buffer;
+    }
+
+    public byte[] toByteArray() {
+        return Arrays.copyOf(buffer, count);
+    }
+
+    private void ensureCapacity(int minCapacity) {
+        if (minCapacity > buffer.length) {
+            buffer = Arrays.copyOf(buffer, Math.max(minCapacity, buffer.length * 2));
+        }
+    }
+}
@@ -0,0 +1,293 @@
+package org.example.util;
+
+import java.io.IOException;
+import java.lang.ref.ReferenceQueue;
+import java.lang.ref.WeakReference;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Caches the serialized bytes of objects that are sent again unchanged, such as one record fanned out to many
+ * subscribers, so only the first send pays for serialization.
+ * <p>
+ * Entries are keyed by object identity, never by {@code equals}, so a lookup costs one identity hash and no
+ * field walk. {@link #get(Object)} assumes a cached object is not mutated; callers that do mutate pass a
+ * version stamp to {@link #get(Object, long)}, and an entry with a different stamp counts as a miss and is
+ * replaced.
+ * <p>
+ * Memory is bounded by a byte budget that counts the serialized length plus {@value #ENTRY_OVERHEAD} bytes
+ * per entry. Keys are held weakly, so the cache never keeps a record's object graph alive: once the caller
+ * drops an object and it is collected, its entry is removed on the next access to its segment. The budget
+ * therefore only covers the bytes the cache itself owns. The cache is split into independently locked segments, each with an equal share of the budget
+ * and its own LRU order, so threads only contend when their objects hash to the same segment. A value larger
+ * than a segment's share is returned without being cached.
+ * <p>
+ * Returned arrays are shared between callers and must not be modified.
+ */
+public class SerializedBytesCache<T> {
+
+    /** Approximate heap cost of an entry besides its bytes: map node, weak key, entry and array header. */
+    public static final int ENTRY_OVERHEAD = 112;
+
+    private static final long NO_VERSION = Long.MIN_VALUE;
+    private static final int MAX_SEGMENTS = 1 << 16;
+
+    private final Serializer<T> serializer;
+    private final Segment[] segments;
+    private final int segmentMask;
+    private final long segmentBudget;
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+
+    /**
+     * Uses four segments per available processor.
+     */
+    public SerializedBytesCache(Serializer<T> serializer, long maxBytes) {
+        this(serializer, maxBytes, Runtime.getRuntime().availableProcessors() * 4);
+    }
+
+    /**
+     * @param segments rounded up to a power of two, at most {@value #MAX_SEGMENTS}
+     * @throws IllegalArgumentException if {@code maxBytes} or {@code segments} is not positive
+     */
+    public SerializedBytesCache(Serializer<T> serializer, long maxBytes, int segments) {
+        if (maxBytes <= 0 || segments <= 0) {
+            throw new IllegalArgumentException("maxBytes and segments must be positive: " + maxBytes + ", " + segments);
+        }
+        final int segmentCount = segments == 1 ? 1 : Integer.highestOneBit(Math.min(segments, MAX_SEGMENTS) - 1) << 1;
+        this.serializer = serializer;
+        this.segments = new Segment[segmentCount];
+        for (int i = 0; i < segmentCount; i++) {
+            this.segments[i] = new Segment();
+        }
+        this.segmentMask = segmentCount - 1;
+        this.segmentBudget = maxBytes / segmentCount;
+    }
+
+    /**
+     * Returns the cached bytes of {@code value}, serializing and caching them on a miss.
+     */
+    public byte[] get(T value) throws IOException {
+        return get(value, NO_VERSION);
+    }
+
+    /**
+     * Like {@link #get(Object)}, but a cached entry is only used if it was stored with the same {@code version}.
+     */
+    public byte[] get(T value, long version) throws IOException {
+        final int hash = spread(System.identityHashCode(value));
+        final Segment segment = segments[(hash >>> 16) & segmentMask];
+        final LookupKey key = new LookupKey(value, hash);
+
+        synchronized (segment) {
+            segment.removeCollected();
+            final Entry entry = segment.entries.get(key);
+            if (entry != null && entry.version == version) {
+                hits.increment();
+                return entry.bytes;
+            }
+        }
+
+        // Serialize outside the lock; two threads missing on the same object both serialize it, and the later
+        // put replaces the earlier one
+        misses.increment();
+        final byte[] bytes = serializer.serialize(value);
+        final long weight = bytes.length + (long) ENTRY_OVERHEAD;
+        if (weight > segmentBudget) {
+            return bytes;
+        }
+
+        synchronized (segment) {
+            segment.removeCollected();
+            final Entry previous = segment.entries.put(new WeakKey(value, hash, segment.collected),
+                new Entry(bytes, version, weight));
+            segment.weight += weight - (previous == null ? 0 : previous.weight);
+            final Iterator<Entry> lru = segment.entries.values().iterator();
+            while (segment.weight > segmentBudget) {
+                final Entry eldest = lru.next();
+                lru.remove();
+                segment.weight -= eldest.weight;
+                evictions.increment();
+            }
+        }
+        return bytes;
+    }
+
+    /**
+     * Removes every entry; the counters are kept.
+     */
+    public void clear() {
+        for (Segment segment : segments) {
+            synchronized (segment) {
+                segment.entries.clear();
+                segment.weight = 0;
+                while (segment.collected.poll() != null) {
+                    // Keys of entries cleared above
+                }
+            }
+        }
+    }
+
+    public long getHitCount() {
+        return hits.sum();
+    }
+
+    public long getMissCount() {
+        return misses.sum();
+    }
+
+    public long getEvictionCount() {
+        return evictions.sum();
+    }
+
+    /**
+     * Bytes charged against the budget by the current entries, after removing those whose key was collected.
+     */
+    public long getWeight() {
+        long weight = 0;
+        for (Segment segment : segments) {
+            synchronized (segment) {
+                segment.removeCollected();
+                weight += segment.weight;
+            }
+        }
+        return weight;
+    }
+
+    public int size() {
+        int size = 0;
+        for (Segment segment : segments) {
+            synchronized (segment) {
+                segment.removeCollected();
+                size += segment.entries.size();
+            }
+        }
+        return size;
+    }
+
+    public void resetCounters() {
+        hits.reset();
+        misses.reset();
+        evictions.reset();
+    }
+
+    /**
+     * Identity hashes are poorly mixed; the high half picks the segment and the low half the map bucket.
+     */
+    private static int spread(int hash) {
+        final int h = hash * 0x9E3779B9;
+        return h ^ (h >>> 16);
+    }
+
+    @FunctionalInterface
+    public interface Serializer<T> {
+        byte[] serialize(T value) throws IOException;
+    }
+
+    private static final class Segment {
+        // Access order, so iteration starts at the least recently used entry
+        private final Map<Key, Entry> entries = new LinkedHashMap<>(16, 0.75f, true);
+        private final ReferenceQueue<Object> collected = new ReferenceQueue<>();
+        private long weight;
+
+        /**
+         * Drops the entries whose object was collected; callers hold the segment's lock.
+         */
+        void removeCollected() {
+            Object key;
+            while ((key = collected.poll()) != null) {
+                final Entry entry = entries.remove(key);
+                if (entry != null) {
+                    weight -= entry.weight;
+                }
+            }
+        }
+    }
+
+    private static final class Entry {
+        private final byte[] bytes;
+        private final long version;
+        private final long weight;
+
+        Entry(byte[] bytes, long version, long weight) {
+            this.bytes = bytes;
+            this.version = version;
+            this.weight = weight;
+        }
+    }
+
+    /**
+     * Map key comparing referents by identity. A stored key whose referent was collected only equals itself,
+     * which is how {@link Segment#removeCollected()} finds it.
+     */
+    private interface Key {
+        Object referent();
+
+        static boolean equal(Key key, Object other) {
+            if (key == other) {
+                return true;
+            }
+            final Object referent = key.referent();
+            return referent != null && other instanceof Key && ((Key) other).referent() == referent;
+        }
+    }
+
+    /**
+     * Stored key; does not keep the cached object alive.
+     */
+    private static final class WeakKey extends WeakReference<Object> implements Key {
+        private final int hash;
+
+        WeakKey(Object value, int hash, ReferenceQueue<Object> queue) {
+            super(value, queue);
+            this.hash = hash;
+        }
+
+        @Override
+        public Object referent() {
+            return get();
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            return Key.equal(this, other);
+        }
+
+        @Override
+        public int hashCode() {
+            return hash;
+        }
+    }
+
+    /**
+     * Short-lived key for a lookup, holding the object strongly for the duration of the call.
+     */
+    private static final class LookupKey implements Key {
+        private final Object value;
+        private final int hash;
+
+        LookupKey(Object value, int hash) {
+            this.value = value;
+            this.hash = hash;
+        }
+
+        @Override
+        public Object referent() {
+            return value;
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            return Key.equal(this, other);
+        }
+
+        @Override
+        public int hashCode() {
+            return hash;
+        }
+    }
+}
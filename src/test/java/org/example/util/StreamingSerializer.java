@@ -0,0 +1,153 @@
+package org.example.util;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.MappingIterator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.google.protobuf.CodedInputStream;
+import com.google.protobuf.CodedOutputStream;
+import org.example.LargePojo;
+import org.example.proto.LargePojoProto;
+import org.msgpack.core.MessagePack;
+import org.msgpack.core.MessagePacker;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+/**
+ * Streams {@link LargePojo} sequences to and from an {@link OutputStream}/{@link InputStream} one element
+ * at a time, so memory use stays flat no matter how many elements pass through.
+ * <p>
+ * Each format keeps the shape of its whole-list counterpart: JSON and MessagePack write a single top-level
+ * array, and Protobuf writes the length-delimited frames produced by {@code writeDelimitedTo}. Streams are
+ * flushed but never closed; the caller owns them. Pass {@code stream.iterator()} to write a
+ * {@code Stream<LargePojo>}.
+ */
+public class StreamingSerializer {
+
+    /**
+     * Writes the elements as one JSON array through a single {@link JsonGenerator}.
+     *
+     * @return the number of elements written
+     */
+    public static long writeJsonArray(ObjectMapper mapper, Iterator<LargePojo> pojos, OutputStream out)
+            throws IOException {
+        final ObjectWriter writer = elementWriter(mapper);
+        long count = 0;
+        try (JsonGenerator generator = mapper.getFactory().createGenerator(out)) {
+            generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+            generator.writeStartArray();
+            while (pojos.hasNext()) {
+                writer.writeValue(generator, pojos.next());
+                count++;
+            }
+            generator.writeEndArray();
+        }
+        return count;
+    }
+
+    /**
+     * Writes a MessagePack array header for {@code count} elements followed by the elements.
+     * <p>
+     * The msgpack generator buffers a top-level array until it is closed so that it can emit the header,
+     * which would hold the whole output in memory. Writing the header up front and each element as its own
+     * root value avoids that, at the cost of knowing the element count in advance.
+     *
+     * @return the number of elements written
+     * @throws IllegalArgumentException if the iterator does not yield exactly {@code count} elements
+     */
+    public static long writeMessagePackArray(ObjectMapper mapper, Iterator<LargePojo> pojos, int count,
+                                             OutputStream out) throws IOException {
+        final MessagePacker packer = MessagePack.newDefaultPacker(out);
+        packer.packArrayHeader(count);
+        packer.flush();
+
+        // One generator per element: a shared msgpack generator does not flush its last root value when
+        // it is closed without closing the target
+        final ObjectWriter writer = elementWriter(mapper).without(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+        long written = 0;
+        while (pojos.hasNext()) {
+            if (written == count) {
+                throw new IllegalArgumentException("Iterator yields more than the declared " + count + " elements");
+            }
+            writer.writeValue(out, pojos.next());
+            written++;
+        }
+        if (written != count) {
+            throw new IllegalArgumentException("Declared " + count + " elements but the iterator yielded " + written);
+        }
+        return written;
+    }
+
+    /**
+     * Writes each element as a varint length followed by the message bytes, the framing of
+     * {@code MessageLite.writeDelimitedTo}. Elements go through {@link ProtobufDirectWriter}, so no
+     * message objects are built and one {@link CodedOutputStream} buffer serves the whole sequence.
+     *
+     * @return the number of elements written
+     */
+    public static long writeProtobufDelimited(Iterator<LargePojo> pojos, OutputStream out) throws IOException {
+        final CodedOutputStream output = CodedOutputStream.newInstance(out);
+        long count = 0;
+        while (pojos.hasNext()) {
+            final LargePojo pojo = pojos.next();
+            ProtobufDirectWriter.writeDelimited(pojo, output);
+            count++;
+        }
+        output.flush();
+        return count;
+    }
+
+    /**
+     * Reads a top-level JSON or MessagePack array lazily, binding one element per {@code next()} call.
+     * The format follows the mapper's factory.
+     */
+    public static MappingIterator<LargePojo> readArray(ObjectMapper mapper, InputStream in) throws IOException {
+        return mapper.readerFor(LargePojo.class).readValues(in);
+    }
+
+    /**
+     * Reads length-delimited Protobuf frames lazily, as written by {@link #writeProtobufDelimited} or
+     * {@code writeDelimitedTo}, converting each frame back to a {@link LargePojo}.
+     */
+    public static Iterator<LargePojo> readProtobufDelimited(InputStream in) {
+        final CodedInputStream input = CodedInputStream.newInstance(in);
+        return new Iterator<>() {
+            @Override
+            public boolean hasNext() {
+                try {
+                    return !input.isAtEnd();
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            }
+
+            @Override
+            public LargePojo next() {
+                if (!hasNext()) {
+                    throw new NoSuchElementException();
+                }
+                try {
+                    // The size limit counts every byte read so far, so reset it per frame
+                    input.resetSizeCounter();
+                    final int limit = input.pushLimit(input.readRawVarint32());
+                    final LargePojoProto.LargePojo message = LargePojoProto.LargePojo.parseFrom(input);
+                    input.popLimit(limit);
+                    return ProtobufConverter.convertFromProto(message);
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            }
+        };
+    }
+
+    private static ObjectWriter elementWriter(ObjectMapper mapper) {
+        // Flushing after every element would push each one down to the OutputStream separately
+        return mapper.writerFor(LargePojo.class).without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+    }
+}
@@ -4,18 +4,89 @@ import org.example.DeepNestedPojo;
 import org.example.LargePojo;
 import org.example.NestedPojo;
 
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.OutputStream;
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.lang.reflect.ParameterizedType;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
 import java.util.ArrayList;
 import java.util.Arrays;
-import java.util.Collections;
+import java.util.Comparator;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.UUID;
+import java.util.zip.CRC32;
 
+/**
+ * Test data for the benchmarks.
+ * <p>
+ * By default every list holds the same fixed ~30-field shape, so results stay comparable with earlier runs.
+ * Run with {@code -Dtestdata.profile=seeded} to switch every benchmark to seeded random data shaped by
+ * {@link DataProfile#fromSystemProperties()}. Seeded lists are cached under {@code target/testdata-cache}
+ * (override with {@code -Dtestdata.cacheDir}, disable with {@code -Dtestdata.cache=false}).
+ */
 public class TestDataFactory {
 
+    // Bump when the seeded generator changes so stale cached datasets are not reused
+    private static final int GENERATOR_VERSION = 1;
+
+    private static final List<Field> POJO_FIELDS = declaredFields(LargePojo.class);
+    private static final List<Field> NESTED_FIELDS = declaredFields(NestedPojo.class);
+
+    /**
+     * Returns {@code size} distinct instances, either the fixed shape or, with
+     * {@code -Dtestdata.profile=seeded}, seeded data from the system property profile.
+     */
     public static List<LargePojo> createPojoList(int size) {
-        LargePojo pojo = createPojo();
-        return new ArrayList<>(Collections.nCopies(size, pojo));
+        final String profile = System.getProperty("testdata.profile", "fixed");
+        if ("seeded".equalsIgnoreCase(profile)) {
+            return createPojoList(size, DataProfile.fromSystemProperties());
+        }
+        if (!"fixed".equalsIgnoreCase(profile)) {
+            throw new IllegalArgumentException("Unknown testdata.profile: " + profile + " (expected fixed or seeded)");
+        }
+
+        final List<LargePojo> pojos = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            pojos.add(createPojo());
+        }
+        return pojos;
+    }
+
+    /**
+     * Returns {@code size} distinct seeded instances shaped by {@code profile}, loading them from the
+     * on-disk cache when an identical dataset was generated before.
+     */
+    public static List<LargePojo> createPojoList(int size, DataProfile profile) {
+        if (!Boolean.parseBoolean(System.getProperty("testdata.cache", "true"))) {
+            return generatePojoList(size, profile);
+        }
+
+        final Path cacheFile = cacheFile(size, profile);
+        if (Files.isRegularFile(cacheFile)) {
+            try (InputStream in = Files.newInputStream(cacheFile);
+                 ObjectInputStream objects = new ObjectInputStream(in)) {
+                @SuppressWarnings("unchecked")
+                final List<LargePojo> cached = (List<LargePojo>) objects.readObject();
+                return cached;
+            } catch (IOException | ClassNotFoundException | ClassCastException e) {
+                // Unreadable or stale cache entry: regenerate and overwrite it below
+            }
+        }
+
+        final List<LargePojo> pojos = generatePojoList(size, profile);
+        writeCache(cacheFile, pojos);
+        return pojos;
     }
 
     public static LargePojo createPojo() {
@@ -106,4 +177,183 @@ public class TestDataFactory {
 
         return np;
     }
+
+    // ==================== Seeded generation ====================
+
+    private static List<LargePojo> generatePojoList(int size, DataProfile profile) {
+        final SplittableRandom random = new SplittableRandom(profile.getSeed());
+        final List<LargePojo> pojos = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            pojos.add(generatePojo(profile, random.split()));
+        }
+        return pojos;
+    }
+
+    /**
+     * Each field draws from its own split stream, so skipping a field or changing its shape never shifts
+     * the values of the others.
+     */
+    private static LargePojo generatePojo(DataProfile profile, SplittableRandom random) {
+        final LargePojo pojo = new LargePojo();
+        for (Field field : POJO_FIELDS) {
+            final boolean filled = random.nextDouble() < profile.getFillRatio();
+            final SplittableRandom fieldRandom = random.split();
+            if (filled) {
+                setField(field, pojo, generateValue(field, profile, fieldRandom));
+            }
+        }
+        return pojo;
+    }
+
+    /**
+     * Nested objects use the fill ratio for their scalar fields but always carry a
+     * {@link DeepNestedPojo}, which holds the blob payload.
+     */
+    private static NestedPojo generateNestedPojo(DataProfile profile, SplittableRandom random) {
+        final NestedPojo nested = new NestedPojo();
+        for (Field field : NESTED_FIELDS) {
+            final boolean filled = random.nextDouble() < profile.getFillRatio();
+            final SplittableRandom fieldRandom = random.split();
+            if (filled && field.getType() != DeepNestedPojo.class) {
+                setField(field, nested, generateValue(field, profile, fieldRandom));
+            }
+        }
+
+        final DeepNestedPojo deep = new DeepNestedPojo();
+        deep.setData(randomString(profile, random));
+        final int blobSize = profile.getBlobDistribution().sample(random, profile.getBlobMeanSize());
+        if (blobSize > 0) {
+            final byte[] blob = new byte[blobSize];
+            random.nextBytes(blob);
+            deep.setBlob(blob);
+        }
+        nested.setDeepNested(deep);
+        return nested;
+    }
+
+    /**
+     * Random value for a field, or null when the profile leaves it out (empty collections).
+     * <p>
+     * Numbers are never zero and boxed booleans are always true: Protobuf cannot tell those proto3
+     * defaults from unset, so they would not survive a round trip.
+     */
+    private static Object generateValue(Field field, DataProfile profile, SplittableRandom random) {
+        final Class<?> type = field.getType();
+        if (type == NestedPojo.class) {
+            return generateNestedPojo(profile, random);
+        } else if (type == String.class) {
+            return randomString(profile, random);
+        } else if (type == int.class || type == Integer.class) {
+            return nonZero(random.nextInt());
+        } else if (type == long.class || type == Long.class) {
+            final long value = random.nextLong();
+            return value != 0L ? value : 1L;
+        } else if (type == double.class || type == Double.class) {
+            return (random.nextDouble() - 0.5) * 2_000_000 + 0.5;
+        } else if (type == float.class) {
+            return (float) (random.nextDouble() * 10_000) + 0.5f;
+        } else if (type == short.class) {
+            return (short) nonZero(random.nextInt(Short.MIN_VALUE, Short.MAX_VALUE + 1));
+        } else if (type == byte.class) {
+            return (byte) nonZero(random.nextInt(Byte.MIN_VALUE, Byte.MAX_VALUE + 1));
+        } else if (type == char.class) {
+            final StringBuilder builder = new StringBuilder(1);
+            profile.getCharset().appendCodePoint(builder, random, true);
+            return builder.charAt(0);
+        } else if (type == boolean.class || type == Boolean.class) {
+            return Boolean.TRUE;
+        } else if (type == List.class) {
+            return generateList(field, profile, random);
+        } else if (type == Map.class) {
+            return generateMap(profile, random);
+        }
+        throw new IllegalStateException("No generator for field " + field.getName() + " of type " + type);
+    }
+
+    private static List<?> generateList(Field field, DataProfile profile, SplittableRandom random) {
+        final Class<?> elementType = (Class<?>) ((ParameterizedType) field.getGenericType()).getActualTypeArguments()[0];
+        if (elementType == String.class) {
+            final List<String> strings = new ArrayList<>(profile.getStringListSize());
+            for (int i = 0; i < profile.getStringListSize(); i++) {
+                strings.add(randomString(profile, random));
+            }
+            return strings.isEmpty() ? null : strings;
+        } else if (elementType == Integer.class) {
+            final List<Integer> ints = new ArrayList<>(profile.getIntListSize());
+            for (int i = 0; i < profile.getIntListSize(); i++) {
+                ints.add(random.nextInt(0, 1_000_000));
+            }
+            return ints.isEmpty() ? null : ints;
+        }
+        throw new IllegalStateException("No generator for list field " + field.getName());
+    }
+
+    private static Map<String, String> generateMap(DataProfile profile, SplittableRandom random) {
+        final Map<String, String> map = new HashMap<>();
+        while (map.size() < profile.getMapSize()) {
+            map.put(randomString(profile, random), randomString(profile, random));
+        }
+        return map.isEmpty() ? null : map;
+    }
+
+    private static String randomString(DataProfile profile, SplittableRandom random) {
+        // At least one code point: Protobuf reads an empty string back as null
+        final int min = Math.max(1, profile.getStringMinLength());
+        final int length = random.nextInt(min, Math.max(min, profile.getStringMaxLength()) + 1);
+        final StringBuilder builder = new StringBuilder(length);
+        for (int i = 0; i < length; i++) {
+            profile.getCharset().appendCodePoint(builder, random, false);
+        }
+        return builder.toString();
+    }
+
+    private static int nonZero(int value) {
+        return value != 0 ? value : 1;
+    }
+
+    private static List<Field> declaredFields(Class<?> type) {
+        final List<Field> fields = new ArrayList<>();
+        for (Field field : type.getDeclaredFields()) {
+            if (!Modifier.isStatic(field.getModifiers())) {
+                field.setAccessible(true);
+                fields.add(field);
+            }
+        }
+        // Reflection order is unspecified, so sort to keep generation deterministic
+        fields.sort(Comparator.comparing(Field::getName));
+        return fields;
+    }
+
+    private static void setField(Field field, Object target, Object value) {
+        try {
+            field.set(target, value);
+        } catch (IllegalAccessException e) {
+            throw new IllegalStateException("Cannot set " + field.getName(), e);
+        }
+    }
+
+    // ==================== Dataset cache ====================
+
+    private static Path cacheFile(int size, DataProfile profile) {
+        final CRC32 checksum = new CRC32();
+        checksum.update((GENERATOR_VERSION + ":" + profile).getBytes(StandardCharsets.UTF_8));
+        final Path directory = Paths.get(System.getProperty("testdata.cacheDir", "target/testdata-cache"));
+        return directory.resolve(String.format("pojos-%d-%08x.ser", size, checksum.getValue()));
+    }
+
+    private static void writeCache(Path cacheFile, List<LargePojo> pojos) {
+        try {
+            Files.createDirectories(cacheFile.getParent());
+            // Write to a unique temp file and move it into place, so concurrent runs never see a partial file
+            final Path temp = cacheFile.resolveSibling(cacheFile.getFileName() + "." + UUID.randomUUID() + ".tmp");
+            try (OutputStream out = Files.newOutputStream(temp);
+                 ObjectOutputStream objects = new ObjectOutputStream(out)) {
+                objects.writeObject(new ArrayList<>(pojos));
+            }
+            Files.move(temp, cacheFile, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException e) {
+            // The cache only saves setup time; the generated data is still usable
+            System.err.println("Could not cache test data at " + cacheFile + ": " + e.getMessage());
+        }
+    }
 }
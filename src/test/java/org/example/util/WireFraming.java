@@ -0,0 +1,118 @@
+package org.example.util;
+
+import org.example.codec.Codec;
+
+import java.io.IOException;
+import java.nio.BufferOverflowException;
+import java.nio.ByteBuffer;
+
+/**
+ * How messages are delimited on a byte stream such as a socket.
+ * <p>
+ * {@link #LENGTH_PREFIXED} puts a 4-byte big-endian payload length in front of each message, for binary
+ * formats whose payload may contain any byte. {@link #NEWLINE_DELIMITED} ends each message with {@code '\n'}
+ * (NDJSON), which works for compact JSON because newlines inside strings are escaped.
+ */
+public enum WireFraming {
+    LENGTH_PREFIXED("length-prefixed", Integer.BYTES, 0),
+    NEWLINE_DELIMITED("newline", 0, 1);
+
+    private static final byte NEWLINE = '\n';
+
+    private final String label;
+    private final int headerBytes;
+    private final int trailerBytes;
+
+    WireFraming(String label, int headerBytes, int trailerBytes) {
+        this.label = label;
+        this.headerBytes = headerBytes;
+        this.trailerBytes = trailerBytes;
+    }
+
+    public String getLabel() {
+        return label;
+    }
+
+    /**
+     * Bytes in front of the payload.
+     */
+    public int getHeaderBytes() {
+        return headerBytes;
+    }
+
+    /**
+     * Bytes after the payload.
+     */
+    public int getTrailerBytes() {
+        return trailerBytes;
+    }
+
+    /**
+     * Appends one framed message at the buffer's position.
+     *
+     * @return {@code out}, or a buffer of twice the capacity holding the same bytes if the frame did not fit
+     */
+    public <T> ByteBuffer write(Codec<T> codec, T value, ByteBuffer out) throws IOException {
+        final int start = out.position();
+        while (true) {
+            try {
+                out.position(start + headerBytes);
+                codec.encode(value, out);
+                switch (this) {
+                    case LENGTH_PREFIXED:
+                        out.putInt(start, out.position() - start - headerBytes);
+                        break;
+                    case NEWLINE_DELIMITED:
+                        out.put(NEWLINE);
+                        break;
+                    default:
+                        throw new IllegalStateException("Unknown framing " + this);
+                }
+                return out;
+            } catch (BufferOverflowException e) {
+                out = grow(out, start);
+            }
+        }
+    }
+
+    /**
+     * Finds the end of the frame starting at {@code in}'s position, looking only at bytes up to its limit.
+     *
+     * @param scanned bytes after the position already searched by an earlier call; lets a newline search
+     *                resume where it stopped instead of rescanning a partial frame on every read
+     * @return index just past the frame, or -1 if it is not complete yet
+     */
+    public int frameEnd(ByteBuffer in, int scanned) {
+        switch (this) {
+            case LENGTH_PREFIXED: {
+                if (in.remaining() < headerBytes) {
+                    return -1;
+                }
+                final int end = in.position() + headerBytes + in.getInt(in.position());
+                return end <= in.limit() ? end : -1;
+            }
+            case NEWLINE_DELIMITED: {
+                for (int i = in.position() + scanned; i < in.limit(); i++) {
+                    if (in.get(i) == NEWLINE) {
+                        return i + 1;
+                    }
+                }
+                return -1;
+            }
+            default:
+                throw new IllegalStateException("Unknown framing " + this);
+        }
+    }
+
+    /**
+     * Copies the first {@code length} bytes of {@code buffer} into a buffer of the same kind with twice the
+     * capacity, positioned after them.
+     */
+    static ByteBuffer grow(ByteBuffer buffer, int length) {
+        final int capacity = buffer.capacity() * 2;
+        final ByteBuffer grown = buffer.isDirect() ? ByteBuffer.allocateDirect(capacity) : ByteBuffer.allocate(capacity);
+        final ByteBuffer written = buffer.duplicate();
+        written.clear().limit(length);
+        return grown.put(written);
+    }
+}